@@ -2,6 +2,8 @@ package ai.prophetizo.wavelet;
 
 import ai.prophetizo.wavelet.internal.ScalarOps;
 
+import java.util.Objects;
+
 /**
  * Public facade for wavelet transform operations.
  * 
@@ -47,7 +49,308 @@ public final class WaveletOperations {
     public static void symmetricConvolveMODWT(double[] signal, double[] filter, double[] output) {
         ScalarOps.symmetricConvolveMODWT(signal, filter, output);
     }
-    
+
+    /**
+     * Performs circular convolution for MODWT with a dilated (à trous) filter.
+     *
+     * <p>Equivalent to convolving with the filter upsampled by {@code dilation}
+     * (zeros inserted between taps), but only the non-zero taps are visited.</p>
+     *
+     * @param signal input signal
+     * @param filter base wavelet filter coefficients (not upsampled)
+     * @param output pre-allocated output array (same length as signal)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void circularConvolveMODWTDilated(double[] signal, double[] filter,
+                                                    double[] output, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.circularConvolveMODWTDilated(signal, filter, output, dilation);
+    }
+
+    /**
+     * Performs zero-padding convolution for MODWT with a dilated (à trous) filter.
+     *
+     * @param signal input signal
+     * @param filter base wavelet filter coefficients (not upsampled)
+     * @param output pre-allocated output array (same length as signal)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void zeroPaddingConvolveMODWTDilated(double[] signal, double[] filter,
+                                                       double[] output, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.zeroPaddingConvolveMODWTDilated(signal, filter, output, dilation);
+    }
+
+    /**
+     * Performs symmetric-extension convolution for MODWT with a dilated (à trous) filter.
+     *
+     * @param signal input signal
+     * @param filter base wavelet filter coefficients (not upsampled)
+     * @param output pre-allocated output array (same length as signal)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void symmetricConvolveMODWTDilated(double[] signal, double[] filter,
+                                                     double[] output, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.symmetricConvolveMODWTDilated(signal, filter, output, dilation);
+    }
+
+    /**
+     * Performs dilated circular convolution for the output samples in [start, end) only.
+     *
+     * <p>Disjoint output ranges are independent, so a level can be split across threads.
+     * Each range reads its filter halo from the shared input signal.</p>
+     *
+     * @param signal input signal
+     * @param filter base wavelet filter coefficients (not upsampled)
+     * @param output pre-allocated output array (same length as signal); only [start, end) is written
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @param start first output index (inclusive)
+     * @param end last output index (exclusive)
+     * @throws IllegalArgumentException if dilation is not positive
+     * @throws IndexOutOfBoundsException if [start, end) is not within the output
+     */
+    public static void circularConvolveMODWTDilated(double[] signal, double[] filter,
+                                                    double[] output, int dilation,
+                                                    int start, int end) {
+        validateDilation(dilation);
+        Objects.checkFromToIndex(start, end, output.length);
+        ScalarOps.circularConvolveMODWTDilated(signal, filter, output, dilation, start, end);
+    }
+
+    /**
+     * Performs dilated zero-padding convolution for the output samples in [start, end) only.
+     *
+     * @param signal input signal
+     * @param filter base wavelet filter coefficients (not upsampled)
+     * @param output pre-allocated output array (same length as signal); only [start, end) is written
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @param start first output index (inclusive)
+     * @param end last output index (exclusive)
+     * @throws IllegalArgumentException if dilation is not positive
+     * @throws IndexOutOfBoundsException if [start, end) is not within the output
+     */
+    public static void zeroPaddingConvolveMODWTDilated(double[] signal, double[] filter,
+                                                       double[] output, int dilation,
+                                                       int start, int end) {
+        validateDilation(dilation);
+        Objects.checkFromToIndex(start, end, output.length);
+        ScalarOps.zeroPaddingConvolveMODWTDilated(signal, filter, output, dilation, start, end);
+    }
+
+    /**
+     * Performs dilated symmetric-extension convolution for the output samples in [start, end) only.
+     *
+     * @param signal input signal
+     * @param filter base wavelet filter coefficients (not upsampled)
+     * @param output pre-allocated output array (same length as signal); only [start, end) is written
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @param start first output index (inclusive)
+     * @param end last output index (exclusive)
+     * @throws IllegalArgumentException if dilation is not positive
+     * @throws IndexOutOfBoundsException if [start, end) is not within the output
+     */
+    public static void symmetricConvolveMODWTDilated(double[] signal, double[] filter,
+                                                     double[] output, int dilation,
+                                                     int start, int end) {
+        validateDilation(dilation);
+        Objects.checkFromToIndex(start, end, output.length);
+        ScalarOps.symmetricConvolveMODWTDilated(signal, filter, output, dilation, start, end);
+    }
+
+    /**
+     * Performs dilated periodic MODWT analysis with both filters in a single pass over the signal.
+     *
+     * <p>Equivalent to calling {@link #circularConvolveMODWTDilated(double[], double[], double[], int)}
+     * once per filter, but each input sample is loaded once for both outputs.</p>
+     *
+     * @param signal input signal
+     * @param lowPass base low-pass filter coefficients (not upsampled)
+     * @param highPass base high-pass filter coefficients (not upsampled)
+     * @param approxOut pre-allocated approximation output (same length as signal)
+     * @param detailOut pre-allocated detail output (same length as signal)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void circularConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                         double[] approxOut, double[] detailOut, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.circularConvolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation);
+    }
+
+    /**
+     * Performs dilated zero-padding MODWT analysis with both filters in a single pass over the signal.
+     *
+     * @param signal input signal
+     * @param lowPass base low-pass filter coefficients (not upsampled)
+     * @param highPass base high-pass filter coefficients (not upsampled)
+     * @param approxOut pre-allocated approximation output (same length as signal)
+     * @param detailOut pre-allocated detail output (same length as signal)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void zeroPaddingConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                            double[] approxOut, double[] detailOut, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.zeroPaddingConvolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation);
+    }
+
+    /**
+     * Performs dilated symmetric-extension MODWT analysis with both filters in a single pass over the signal.
+     *
+     * @param signal input signal
+     * @param lowPass base low-pass filter coefficients (not upsampled)
+     * @param highPass base high-pass filter coefficients (not upsampled)
+     * @param approxOut pre-allocated approximation output (same length as signal)
+     * @param detailOut pre-allocated detail output (same length as signal)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void symmetricConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                          double[] approxOut, double[] detailOut, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.symmetricConvolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation);
+    }
+
+    /**
+     * Performs fused dilated periodic MODWT analysis for the output samples in [start, end) only.
+     *
+     * @param signal input signal
+     * @param lowPass base low-pass filter coefficients (not upsampled)
+     * @param highPass base high-pass filter coefficients (not upsampled)
+     * @param approxOut pre-allocated approximation output; only [start, end) is written
+     * @param detailOut pre-allocated detail output; only [start, end) is written
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @param start first output index (inclusive)
+     * @param end last output index (exclusive)
+     * @throws IllegalArgumentException if dilation is not positive
+     * @throws IndexOutOfBoundsException if [start, end) is not within the outputs
+     */
+    public static void circularConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                         double[] approxOut, double[] detailOut, int dilation,
+                                                         int start, int end) {
+        validateFusedRange(dilation, approxOut, detailOut, start, end);
+        ScalarOps.circularConvolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut,
+            dilation, start, end);
+    }
+
+    /**
+     * Performs fused dilated zero-padding MODWT analysis for the output samples in [start, end) only.
+     *
+     * @param signal input signal
+     * @param lowPass base low-pass filter coefficients (not upsampled)
+     * @param highPass base high-pass filter coefficients (not upsampled)
+     * @param approxOut pre-allocated approximation output; only [start, end) is written
+     * @param detailOut pre-allocated detail output; only [start, end) is written
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @param start first output index (inclusive)
+     * @param end last output index (exclusive)
+     * @throws IllegalArgumentException if dilation is not positive
+     * @throws IndexOutOfBoundsException if [start, end) is not within the outputs
+     */
+    public static void zeroPaddingConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                            double[] approxOut, double[] detailOut, int dilation,
+                                                            int start, int end) {
+        validateFusedRange(dilation, approxOut, detailOut, start, end);
+        ScalarOps.zeroPaddingConvolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut,
+            dilation, start, end);
+    }
+
+    /**
+     * Performs fused dilated symmetric-extension MODWT analysis for the output samples in [start, end) only.
+     *
+     * @param signal input signal
+     * @param lowPass base low-pass filter coefficients (not upsampled)
+     * @param highPass base high-pass filter coefficients (not upsampled)
+     * @param approxOut pre-allocated approximation output; only [start, end) is written
+     * @param detailOut pre-allocated detail output; only [start, end) is written
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @param start first output index (inclusive)
+     * @param end last output index (exclusive)
+     * @throws IllegalArgumentException if dilation is not positive
+     * @throws IndexOutOfBoundsException if [start, end) is not within the outputs
+     */
+    public static void symmetricConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                          double[] approxOut, double[] detailOut, int dilation,
+                                                          int start, int end) {
+        validateFusedRange(dilation, approxOut, detailOut, start, end);
+        ScalarOps.symmetricConvolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut,
+            dilation, start, end);
+    }
+
+    /**
+     * Performs one inverse MODWT level with dilated reconstruction filters
+     * and periodic boundary handling.
+     *
+     * @param approx approximation coefficients
+     * @param details detail coefficients (same length as approx)
+     * @param lowRecon base low-pass reconstruction filter (not upsampled)
+     * @param highRecon base high-pass reconstruction filter (not upsampled)
+     * @param output pre-allocated output array (same length as approx)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void circularInverseMODWTDilated(double[] approx, double[] details,
+                                                   double[] lowRecon, double[] highRecon,
+                                                   double[] output, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.circularInverseMODWTDilated(approx, details, lowRecon, highRecon, output, dilation);
+    }
+
+    /**
+     * Performs one inverse MODWT level with dilated reconstruction filters
+     * and zero-padding boundary handling.
+     *
+     * @param approx approximation coefficients
+     * @param details detail coefficients (same length as approx)
+     * @param lowRecon base low-pass reconstruction filter (not upsampled)
+     * @param highRecon base high-pass reconstruction filter (not upsampled)
+     * @param output pre-allocated output array (same length as approx)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void zeroPaddingInverseMODWTDilated(double[] approx, double[] details,
+                                                      double[] lowRecon, double[] highRecon,
+                                                      double[] output, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.zeroPaddingInverseMODWTDilated(approx, details, lowRecon, highRecon, output, dilation);
+    }
+
+    /**
+     * Performs one inverse MODWT level with dilated reconstruction filters
+     * and symmetric boundary handling.
+     *
+     * @param approx approximation coefficients
+     * @param details detail coefficients (same length as approx)
+     * @param lowRecon base low-pass reconstruction filter (not upsampled)
+     * @param highRecon base high-pass reconstruction filter (not upsampled)
+     * @param output pre-allocated output array (same length as approx)
+     * @param dilation spacing between filter taps, 2^(j-1) at level j
+     * @throws IllegalArgumentException if dilation is not positive
+     */
+    public static void symmetricInverseMODWTDilated(double[] approx, double[] details,
+                                                    double[] lowRecon, double[] highRecon,
+                                                    double[] output, int dilation) {
+        validateDilation(dilation);
+        ScalarOps.symmetricInverseMODWTDilated(approx, details, lowRecon, highRecon, output, dilation);
+    }
+
+    private static void validateDilation(int dilation) {
+        if (dilation < 1) {
+            throw new IllegalArgumentException("Dilation must be positive");
+        }
+    }
+
+    private static void validateFusedRange(int dilation, double[] approxOut, double[] detailOut,
+                                           int start, int end) {
+        validateDilation(dilation);
+        Objects.checkFromToIndex(start, end, approxOut.length);
+        Objects.checkFromToIndex(start, end, detailOut.length);
+    }
+
     /**
      * Gets performance information about the current platform's capabilities.
      * 
@@ -120,6 +423,193 @@ public final class WaveletOperations {
         }
         return ScalarOps.hardThreshold(coefficients, threshold);
     }
+
+    /**
+     * Applies soft thresholding into a caller-supplied buffer.
+     *
+     * <p>The output may be the coefficient array itself, which thresholds in place
+     * without allocating.</p>
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value (must be non-negative)
+     * @param output receives the thresholded coefficients; at least as long as coefficients
+     * @throws IllegalArgumentException if an array is null or too short, or threshold is negative
+     */
+    public static void softThreshold(double[] coefficients, double threshold, double[] output) {
+        validateThreshold(coefficients, threshold, output);
+        ScalarOps.softThreshold(coefficients, threshold, output);
+    }
+
+    /**
+     * Applies hard thresholding into a caller-supplied buffer.
+     *
+     * <p>The output may be the coefficient array itself, which thresholds in place
+     * without allocating.</p>
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value (must be non-negative)
+     * @param output receives the thresholded coefficients; at least as long as coefficients
+     * @throws IllegalArgumentException if an array is null or too short, or threshold is negative
+     */
+    public static void hardThreshold(double[] coefficients, double threshold, double[] output) {
+        validateThreshold(coefficients, threshold, output);
+        ScalarOps.hardThreshold(coefficients, threshold, output);
+    }
+
+    /**
+     * Applies non-negative garrote thresholding to wavelet coefficients.
+     *
+     * <p>The garrote is continuous like soft thresholding but shrinks large
+     * coefficients less:
+     * <ul>
+     *   <li>If |x| ≤ threshold: result = 0</li>
+     *   <li>If |x| > threshold: result = x - threshold² / x</li>
+     * </ul>
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value (must be non-negative)
+     * @return new array with thresholded coefficients
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public static double[] garroteThreshold(double[] coefficients, double threshold) {
+        double[] result = new double[validateCoefficients(coefficients)];
+        garroteThreshold(coefficients, threshold, result);
+        return result;
+    }
+
+    /**
+     * Applies non-negative garrote thresholding into a caller-supplied buffer, which
+     * may be the coefficient array itself.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value (must be non-negative)
+     * @param output receives the thresholded coefficients; at least as long as coefficients
+     * @throws IllegalArgumentException if an array is null or too short, or threshold is negative
+     * @see #garroteThreshold(double[], double)
+     */
+    public static void garroteThreshold(double[] coefficients, double threshold, double[] output) {
+        validateThreshold(coefficients, threshold, output);
+        ScalarOps.garroteThreshold(coefficients, threshold, output);
+    }
+
+    /**
+     * Applies firm thresholding to wavelet coefficients.
+     *
+     * <p>Firm thresholding keeps large coefficients unchanged like hard thresholding
+     * while staying continuous like soft thresholding:
+     * <ul>
+     *   <li>If |x| ≤ lower: result = 0</li>
+     *   <li>If lower < |x| ≤ upper: result = sign(x) · upper · (|x| - lower) / (upper - lower)</li>
+     *   <li>If |x| > upper: result = x</li>
+     * </ul>
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param lower the lower threshold (must be non-negative)
+     * @param upper the upper threshold (must be greater than lower)
+     * @return new array with thresholded coefficients
+     * @throws IllegalArgumentException if lower is negative or upper is not greater than lower
+     */
+    public static double[] firmThreshold(double[] coefficients, double lower, double upper) {
+        double[] result = new double[validateCoefficients(coefficients)];
+        firmThreshold(coefficients, lower, upper, result);
+        return result;
+    }
+
+    /**
+     * Applies firm thresholding into a caller-supplied buffer, which may be the
+     * coefficient array itself.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param lower the lower threshold (must be non-negative)
+     * @param upper the upper threshold (must be greater than lower)
+     * @param output receives the thresholded coefficients; at least as long as coefficients
+     * @throws IllegalArgumentException if an array is null or too short, lower is negative
+     *         or upper is not greater than lower
+     * @see #firmThreshold(double[], double, double)
+     */
+    public static void firmThreshold(double[] coefficients, double lower, double upper, double[] output) {
+        validateThreshold(coefficients, lower, output);
+        if (!(upper > lower)) {
+            throw new IllegalArgumentException("Upper threshold must be greater than lower threshold");
+        }
+        ScalarOps.firmThreshold(coefficients, lower, upper, output);
+    }
+
+    /**
+     * Applies SCAD (smoothly clipped absolute deviation) thresholding to wavelet
+     * coefficients, with the customary shape parameter a = 3.7.
+     *
+     * <ul>
+     *   <li>If |x| ≤ 2·threshold: soft thresholding</li>
+     *   <li>If 2·threshold < |x| ≤ a·threshold: result = ((a - 1)·x - sign(x)·a·threshold) / (a - 2)</li>
+     *   <li>If |x| > a·threshold: result = x</li>
+     * </ul>
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value (must be non-negative)
+     * @return new array with thresholded coefficients
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public static double[] scadThreshold(double[] coefficients, double threshold) {
+        double[] result = new double[validateCoefficients(coefficients)];
+        scadThreshold(coefficients, threshold, result);
+        return result;
+    }
+
+    /**
+     * Applies SCAD thresholding into a caller-supplied buffer, which may be the
+     * coefficient array itself.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value (must be non-negative)
+     * @param output receives the thresholded coefficients; at least as long as coefficients
+     * @throws IllegalArgumentException if an array is null or too short, or threshold is negative
+     * @see #scadThreshold(double[], double)
+     */
+    public static void scadThreshold(double[] coefficients, double threshold, double[] output) {
+        validateThreshold(coefficients, threshold, output);
+        ScalarOps.scadThreshold(coefficients, threshold, output);
+    }
+
+    private static int validateCoefficients(double[] coefficients) {
+        if (coefficients == null) {
+            throw new IllegalArgumentException("Coefficients array cannot be null");
+        }
+        return coefficients.length;
+    }
+
+    /**
+     * Writes the absolute values of the first {@code length} elements of src to dst,
+     * using SIMD lanes where the Vector API is available. src and dst may be the same array.
+     *
+     * @param src the source values
+     * @param dst receives the absolute values
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null or shorter than length
+     */
+    public static void abs(double[] src, double[] dst, int length) {
+        if (src == null || dst == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        if (length < 0 || length > src.length || length > dst.length) {
+            throw new IllegalArgumentException(
+                String.format("length=%d exceeds array lengths %d and %d", length, src.length, dst.length));
+        }
+        ScalarOps.abs(src, dst, length);
+    }
+
+    private static void validateThreshold(double[] coefficients, double threshold, double[] output) {
+        validateCoefficients(coefficients);
+        if (output == null) {
+            throw new IllegalArgumentException("Output array cannot be null");
+        }
+        if (output.length < coefficients.length) {
+            throw new IllegalArgumentException("Output array is shorter than the coefficients");
+        }
+        if (!(threshold >= 0)) {
+            throw new IllegalArgumentException("Threshold must be non-negative");
+        }
+    }
     
     /**
      * Performance information about wavelet operations on this platform.
@@ -0,0 +1,34 @@
+package ai.prophetizo.wavelet.concurrent;
+
+/**
+ * What a bounded queue does with a new element when it is full.
+ *
+ * <p>Only {@link #BLOCK} ever makes the producer wait. The other policies keep
+ * {@link SPSCDoubleRing#offer(double)} wait-free, so a feed handler thread never stalls
+ * behind a slow consumer.</p>
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Discard the oldest queued element to make room for the new one. The consumer
+     * always sees the most recent data.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discard the new element. The consumer sees an uninterrupted prefix of the stream.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Wait until the consumer has made room. Nothing is lost, but the producer stalls
+     * while the consumer lags.
+     */
+    BLOCK,
+
+    /**
+     * Reject the new element and hand it to an overflow handler on the producer thread,
+     * which decides what to do with it.
+     */
+    SIGNAL
+}
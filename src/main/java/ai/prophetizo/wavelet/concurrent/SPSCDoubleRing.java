@@ -0,0 +1,247 @@
+package ai.prophetizo.wavelet.concurrent;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Bounded single-producer/single-consumer ring buffer of primitive doubles.
+ *
+ * <p>Exactly one thread may call {@link #offer(double)} and exactly one thread may call
+ * {@link #drain(double[], int, int)}. With that restriction no locks are needed: the
+ * producer publishes a slot by advancing the tail with an ordered store, and the
+ * consumer releases slots by advancing the head. The producer caches the last head it
+ * has seen, so it only touches the consumer's cache line when the ring looks full.</p>
+ *
+ * <p>When the ring is full, the {@link BackpressurePolicy} decides what happens to a new
+ * sample. For every policy except {@link BackpressurePolicy#BLOCK} an offer finishes in a
+ * bounded number of steps. With {@link BackpressurePolicy#DROP_OLDEST} the producer
+ * advances the head itself; the consumer then claims slots with a compare-and-set and
+ * copies them again if the producer got there first.</p>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * SPSCDoubleRing ring = new SPSCDoubleRing(1 << 16, BackpressurePolicy.DROP_OLDEST);
+ *
+ * // Feed handler thread
+ * ring.offer(price);
+ *
+ * // Processing thread
+ * double[] chunk = new double[256];
+ * int n = ring.drain(chunk, 0, chunk.length);
+ * }</pre>
+ */
+public final class SPSCDoubleRing {
+
+    /** Spins before a blocked producer starts parking. */
+    private static final int BLOCK_SPINS = 128;
+
+    /** Park time of a blocked producer, in nanoseconds. */
+    private static final long BLOCK_PARK_NANOS = 1_000;
+
+    private final double[] buffer;
+    private final int mask;
+    private final BackpressurePolicy policy;
+    private final DoubleConsumer overflowHandler;
+
+    // Next slot the consumer reads; written by the consumer, and by the producer when
+    // it drops the oldest sample
+    private final AtomicLong head = new AtomicLong();
+
+    // Next slot the producer writes; written by the producer only
+    private final AtomicLong tail = new AtomicLong();
+
+    // Producer-local copies
+    private long producerTail;
+    private long cachedHead;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a ring with the given policy. {@link BackpressurePolicy#SIGNAL} rings
+     * created this way only count rejected samples.
+     *
+     * @param capacity the minimum capacity; rounded up to a power of two
+     * @param policy   what to do with a new sample when the ring is full
+     * @throws InvalidArgumentException if capacity is not between 2 and 2^30 or policy is null
+     */
+    public SPSCDoubleRing(int capacity, BackpressurePolicy policy) {
+        this(capacity, policy, null);
+    }
+
+    /**
+     * Creates a ring with the given policy and overflow handler.
+     *
+     * @param capacity        the minimum capacity; rounded up to a power of two
+     * @param policy          what to do with a new sample when the ring is full
+     * @param overflowHandler receives samples rejected under {@link BackpressurePolicy#SIGNAL},
+     *                        on the producer thread; may be null
+     * @throws InvalidArgumentException if capacity is not between 2 and 2^30 or policy is null
+     */
+    public SPSCDoubleRing(int capacity, BackpressurePolicy policy, DoubleConsumer overflowHandler) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new InvalidArgumentException(
+                "Capacity must be between 2 and 2^30, got: " + capacity);
+        }
+        if (policy == null) {
+            throw new InvalidArgumentException("Backpressure policy cannot be null");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new double[size];
+        this.mask = size - 1;
+        this.policy = policy;
+        this.overflowHandler = overflowHandler;
+    }
+
+    /**
+     * Adds a sample. Producer thread only.
+     *
+     * @param value the sample
+     * @return true if the sample was queued; false if it was dropped or rejected
+     */
+    public boolean offer(double value) {
+        long t = producerTail;
+        if (t - cachedHead > mask) {
+            cachedHead = head.get();
+            if (t - cachedHead > mask && !makeRoom(value)) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = value;
+        producerTail = t + 1;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Handles a full ring according to the policy.
+     *
+     * @return true if the sample can now be written
+     */
+    private boolean makeRoom(double value) {
+        switch (policy) {
+            case DROP_OLDEST:
+                // Either the head moves past the oldest sample, or the consumer moved it
+                // first and there is room anyway
+                if (head.compareAndSet(cachedHead, cachedHead + 1)) {
+                    cachedHead++;
+                    countDropped();
+                } else {
+                    cachedHead = head.get();
+                }
+                return true;
+            case BLOCK:
+                long t = producerTail;
+                for (int spins = 0; t - cachedHead > mask; spins++) {
+                    if (spins < BLOCK_SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    }
+                    cachedHead = head.get();
+                }
+                return true;
+            case SIGNAL:
+                countDropped();
+                if (overflowHandler != null) {
+                    overflowHandler.accept(value);
+                }
+                return false;
+            case DROP_NEWEST:
+            default:
+                countDropped();
+                return false;
+        }
+    }
+
+    private void countDropped() {
+        // Single writer: an ordered store is enough
+        dropped.lazySet(dropped.get() + 1);
+    }
+
+    /**
+     * Moves up to {@code maxLength} queued samples into {@code target}. Consumer thread only.
+     *
+     * @param target    the destination array
+     * @param offset    index of the first sample in target
+     * @param maxLength the maximum number of samples to move
+     * @return the number of samples moved, 0 if the ring was empty
+     */
+    public int drain(double[] target, int offset, int maxLength) {
+        for (;;) {
+            long h = head.get();
+            // A producer dropping the oldest samples can leave h more than a lap behind
+            long available = Math.min(tail.get() - h, buffer.length);
+            int n = (int) Math.min(available, maxLength);
+            if (n <= 0) {
+                return 0;
+            }
+            int from = (int) h & mask;
+            int firstPart = Math.min(n, buffer.length - from);
+            System.arraycopy(buffer, from, target, offset, firstPart);
+            System.arraycopy(buffer, 0, target, offset + firstPart, n - firstPart);
+
+            if (policy != BackpressurePolicy.DROP_OLDEST) {
+                head.lazySet(h + n);
+                return n;
+            }
+            // The producer may have dropped (and overwritten) the oldest slots meanwhile
+            if (head.compareAndSet(h, h + n)) {
+                return n;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of queued samples. Exact only when called from the producer or
+     * consumer while the other side is idle.
+     *
+     * @return the number of queued samples
+     */
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(t - h, buffer.length));
+    }
+
+    /**
+     * Checks whether no samples are queued.
+     *
+     * @return true if the ring is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the capacity.
+     *
+     * @return the number of samples the ring holds
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Gets the backpressure policy.
+     *
+     * @return the policy
+     */
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets the number of samples that were dropped or rejected because the ring was full.
+     *
+     * @return the dropped sample count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
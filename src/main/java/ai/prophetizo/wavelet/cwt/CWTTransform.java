@@ -8,6 +8,7 @@ import ai.prophetizo.wavelet.util.OptimizedFFT;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Main engine for Continuous Wavelet Transform computation.
@@ -113,6 +114,49 @@ public final class CWTTransform {
         return analyze(signal, scaleSpace.getScales());
     }
     
+    /**
+     * Analyzes a signal that arrives in chunks.
+     * 
+     * <p>With {@link CWTConfig#isUseStreamGatherers()} set, chunks are analyzed lazily in
+     * a sliding window as they arrive and one result is emitted per chunk, see
+     * {@link ai.prophetizo.wavelet.streaming.WaveletStreams#cwt(Stream, CWTTransform, double[])}.
+     * Otherwise all chunks are collected and the whole signal is analyzed at once,
+     * emitting a single result.</p>
+     * 
+     * @param chunks the signal in chunks
+     * @param scales the scales to analyze
+     * @return stream of CWT results
+     */
+    public Stream<CWTResult> analyzeStream(Stream<double[]> chunks, double[] scales) {
+        if (chunks == null) {
+            throw new IllegalArgumentException("Chunks cannot be null");
+        }
+        if (config.isUseStreamGatherers()) {
+            return ai.prophetizo.wavelet.streaming.WaveletStreams.cwt(chunks, this, scales);
+        }
+        double[] signal = chunks.flatMapToDouble(java.util.Arrays::stream).toArray();
+        return Stream.of(analyze(signal, scales));
+    }
+    
+    /**
+     * Gets the largest number of samples the sampled wavelet spans at any of the scales.
+     * Coefficients more than this many samples from a signal boundary do not depend on
+     * the boundary handling.
+     * 
+     * @param scales the scales
+     * @return the maximum wavelet support in samples
+     */
+    public int getMaxWaveletSupport(double[] scales) {
+        if (scales == null || scales.length == 0) {
+            throw new IllegalArgumentException("Scales cannot be null or empty");
+        }
+        int support = 0;
+        for (double scale : scales) {
+            support = Math.max(support, getWaveletSupport(scale));
+        }
+        return support;
+    }
+    
     /**
      * Direct convolution implementation.
      */
@@ -2,16 +2,24 @@ package ai.prophetizo.wavelet.denoising;
 
 import ai.prophetizo.wavelet.modwt.MODWTResult;
 import ai.prophetizo.wavelet.modwt.MODWTTransform;
-import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
 import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import ai.prophetizo.wavelet.modwt.MutableMultiLevelMODWTResult;
 import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.Wavelet;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import ai.prophetizo.wavelet.exception.InvalidSignalException;
-import ai.prophetizo.wavelet.exception.InvalidStateException;
 import ai.prophetizo.wavelet.exception.ErrorCode;
 import ai.prophetizo.wavelet.exception.ErrorContext;
 import ai.prophetizo.wavelet.WaveletOperations;
+import ai.prophetizo.wavelet.util.MathUtils;
+import ai.prophetizo.wavelet.util.SlidingWindowMedian;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Wavelet-based signal denoising using various thresholding strategies.
@@ -30,6 +38,8 @@ import ai.prophetizo.wavelet.WaveletOperations;
  *   <li>Level-dependent thresholding</li>
  *   <li>Multi-level decomposition support</li>
  *   <li>SIMD-optimized thresholding operations</li>
+ *   <li>Batch denoising of many signals in parallel</li>
+ *   <li>Translation-invariant (cycle-spinning) denoising</li>
  * </ul>
  *
  * <p>Example usage:</p>
@@ -39,6 +49,9 @@ import ai.prophetizo.wavelet.WaveletOperations;
  * double[] denoised = denoiser.denoise(noisySignal, ThresholdMethod.UNIVERSAL);
  * }</pre>
  *
+ * <p>The transforms are created once per denoiser and are stateless, so one denoiser
+ * can be shared between threads.</p>
+ *
  */
 public class WaveletDenoiser {
     
@@ -54,6 +67,18 @@ public class WaveletDenoiser {
      * a large safety margin.</p>
      */
     private static final int MAX_SAFE_LEVEL_FOR_SCALING = 31;
+
+    /**
+     * Target number of samples per task in {@link #denoiseBatch}. Large enough that task
+     * overhead is negligible, small enough that a few thousand series spread over all cores.
+     */
+    private static final int BATCH_CHUNK_SAMPLES = 1 << 16;
+
+    /**
+     * Minimum signal length for thresholding the levels of one signal in parallel.
+     * Below it, forking costs more than thresholding a level.
+     */
+    private static final int PARALLEL_LEVEL_THRESHOLD = 1 << 15;
     
     /**
      * Small positive value added to prevent division by zero in BayesShrink calculation.
@@ -67,7 +92,8 @@ public class WaveletDenoiser {
 
     private final Wavelet wavelet;
     private final BoundaryMode boundaryMode;
-    private final boolean useVectorOps;
+    private final MODWTTransform transform;
+    private final MultiLevelMODWTTransform multiTransform;
 
     /**
      * Creates a wavelet denoiser with the specified wavelet and boundary mode.
@@ -86,7 +112,8 @@ public class WaveletDenoiser {
 
         this.wavelet = wavelet;
         this.boundaryMode = boundaryMode;
-        this.useVectorOps = WaveletOperations.getPerformanceInfo().vectorizationEnabled();
+        this.transform = new MODWTTransform(wavelet, boundaryMode);
+        this.multiTransform = new MultiLevelMODWTTransform(wavelet, boundaryMode);
     }
 
     /**
@@ -119,17 +146,14 @@ public class WaveletDenoiser {
      * @throws InvalidSignalException if signal is invalid
      */
     public double[] denoise(double[] signal, ThresholdMethod method, ThresholdType type) {
-        MODWTTransform transform = new MODWTTransform(wavelet, boundaryMode);
         MODWTResult result = transform.forward(signal);
 
-        // Estimate noise level from detail coefficients
-        double sigma = estimateNoiseSigma(result.detailCoeffs());
-
-        // Calculate threshold
-        double threshold = calculateThreshold(result.detailCoeffs(), sigma, method);
+        // Estimate noise level and calculate threshold from detail coefficients
+        double threshold = selectThreshold(result.detailCoeffs(), method);
 
-        // Apply thresholding to detail coefficients
-        double[] denoisedDetails = applyThreshold(result.detailCoeffs(), threshold, type);
+        // Threshold the detail coefficients in place; detailCoeffs() already returns a copy
+        double[] denoisedDetails = result.detailCoeffs();
+        type.apply(denoisedDetails, threshold, denoisedDetails);
 
         // Reconstruct with denoised coefficients
         MODWTResult denoisedResult = MODWTResult.create(
@@ -138,6 +162,46 @@ public class WaveletDenoiser {
         return transform.inverse(denoisedResult);
     }
 
+    /**
+     * Selects the threshold that {@link #denoise(double[], ThresholdMethod, ThresholdType)}
+     * applies to the given detail coefficients, with the noise level estimated from the
+     * coefficients themselves. Lets callers that already hold a decomposition threshold
+     * it without transforming the signal again.
+     *
+     * @param detailCoeffs the level-1 detail coefficients
+     * @param method       the threshold selection method (not FIXED)
+     * @return the threshold
+     * @throws InvalidArgumentException if method is FIXED
+     */
+    public double selectThreshold(double[] detailCoeffs, ThresholdMethod method) {
+        double sigma = estimateNoiseSigma(detailCoeffs);
+        return calculateThreshold(detailCoeffs, sigma, method);
+    }
+
+    /**
+     * Selects a threshold for the given detail coefficients with the noise level taken from
+     * a sliding window that spans earlier calls as well. The absolute coefficients are
+     * added to the window first, so consecutive blocks of a stream share one noise
+     * estimate without re-sorting it each time.
+     *
+     * @param detailCoeffs the level-1 detail coefficients
+     * @param method       the threshold selection method (not FIXED)
+     * @param noiseWindow  the window of recent absolute detail coefficients
+     * @return the threshold
+     * @throws InvalidArgumentException if method is FIXED or noiseWindow is null
+     */
+    public double selectThreshold(double[] detailCoeffs, ThresholdMethod method,
+                                  SlidingWindowMedian noiseWindow) {
+        if (noiseWindow == null) {
+            throw InvalidArgumentException.nullArgument("noiseWindow");
+        }
+        for (double coeff : detailCoeffs) {
+            noiseWindow.add(Math.abs(coeff));
+        }
+        double sigma = noiseWindow.median() / 0.6745;
+        return calculateThreshold(detailCoeffs, sigma, method);
+    }
+
     /**
      * Denoises a signal using multi-level wavelet transform with level-dependent thresholding.
      *
@@ -151,192 +215,249 @@ public class WaveletDenoiser {
      */
     public double[] denoiseMultiLevel(double[] signal, int levels,
                                       ThresholdMethod method, ThresholdType type) {
-        // Use proper multi-level MODWT decomposition
-        MultiLevelMODWTTransform multiTransform = new MultiLevelMODWTTransform(wavelet, boundaryMode);
-        MultiLevelMODWTResult multiResult = multiTransform.decompose(signal, levels);
-        
-        // Estimate noise from the finest scale (level 1) detail coefficients
-        double sigma = estimateNoiseSigma(multiResult.getDetailCoeffsAtLevel(1));
-        
-        // Create a wrapper that applies denoising on-the-fly
-        MultiLevelMODWTResult denoisedResult = new DenoisedMultiLevelResult(
-            multiResult, sigma, method, type);
-        
+        // Use proper multi-level MODWT decomposition; the details are thresholded in place
+        MutableMultiLevelMODWTResult multiResult = multiTransform.decomposeMutable(signal, levels);
+        thresholdLevels(multiResult, method, type, new double[multiResult.getSignalLength()], true);
+
         // Reconstruct the denoised signal
-        return multiTransform.reconstruct(denoisedResult);
+        return multiTransform.reconstruct(multiResult);
     }
-    
+
     /**
-     * Wrapper class that applies denoising to multi-level MODWT coefficients on-the-fly.
+     * Translation-invariant denoising (Coifman and Donoho's cycle spinning).
+     *
+     * <p>Cycle spinning denoises every circular shift of the signal with the decimated
+     * wavelet transform, shifts each result back and averages them, which removes the
+     * Gibbs-like artefacts that thresholding leaves around jumps. Done literally over all
+     * N shifts it costs N transforms. The MODWT computes the coefficients of every shift
+     * at once, and its inverse averages over the shifts, so thresholding the MODWT
+     * details and inverting costs O(N&middot;J&middot;L) for N samples, J levels and
+     * filter length L. Thresholds are selected on the MODWT details, whose noise level at
+     * level j is 2<sup>-j/2</sup> times that of the decimated details, so a universal
+     * threshold is the decimated one rescaled to the MODWT.</p>
+     *
+     * <p>With {@link BoundaryMode#PERIODIC} the result equals cycle spinning over all N
+     * circular shifts when every shift uses the same threshold per level, such as
+     * {@link ThresholdMethod#UNIVERSAL} from a shared noise estimate. Data-driven methods
+     * ({@link ThresholdMethod#SURE}, {@link ThresholdMethod#BAYES},
+     * {@link ThresholdMethod#MINIMAX}) choose one threshold per level from the pooled MODWT
+     * details rather than one per shift, so the result is still translation-invariant but
+     * differs from literal cycle spinning with per-shift thresholds. Other boundary modes
+     * are translation-invariant away from the edges. Levels are thresholded in parallel
+     * for long signals.</p>
+     *
+     * <pre>{@code
+     * WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+     * double[] clean = denoiser.denoiseTranslationInvariant(prices,
+     *     ThresholdMethod.UNIVERSAL, ThresholdType.SOFT);
+     * }</pre>
+     *
+     * @param signal the noisy signal to denoise
+     * @param method the threshold selection method
+     * @param type   the thresholding type
+     * @return the denoised signal
+     * @throws InvalidSignalException   if signal is invalid
+     * @throws InvalidArgumentException if method is FIXED
+     * @see #denoiseTranslationInvariant(double[], int, ThresholdMethod, ThresholdType)
      */
-    private class DenoisedMultiLevelResult implements MultiLevelMODWTResult {
-        private final MultiLevelMODWTResult original;
-        private final double sigma;
-        private final ThresholdMethod method;
-        private final ThresholdType type;
-        private final double[][] denoisedDetails;
-        
-        DenoisedMultiLevelResult(MultiLevelMODWTResult original, double sigma,
-                                ThresholdMethod method, ThresholdType type) {
-            this.original = original;
-            this.sigma = sigma;
-            this.method = method;
-            this.type = type;
-            this.denoisedDetails = new double[original.getLevels()][];
-            
-            // Validate maximum level before processing to prevent overflow
-            if (original.getLevels() > MAX_SAFE_LEVEL_FOR_SCALING) {
-                throw new InvalidArgumentException(
-                    ErrorCode.VAL_TOO_LARGE,
-                    ErrorContext.builder("Decomposition level exceeds safe limit for scale-dependent thresholds")
-                        .withContext("Operation", "Multi-level denoising")
-                        .withLevelInfo(original.getLevels(), MAX_SAFE_LEVEL_FOR_SCALING)
-                        .withContext("Threshold method", method.name())
-                        .withContext("Threshold type", type.name())
-                        .withSuggestion("Reduce decomposition levels to " + MAX_SAFE_LEVEL_FOR_SCALING + " or less")
-                        .withSuggestion("Use level-independent threshold methods")
-                        .build()
-                );
-            }
-            
-            // Pre-compute denoised details for all levels
-            for (int level = 1; level <= original.getLevels(); level++) {
-                double[] levelDetails = original.getDetailCoeffsAtLevel(level);
-                
-                // Calculate threshold with level-dependent scaling
-                // Use bit shift for efficient power of 2 calculation
-                // Safety guarantee: Constructor validation ensures original.getLevels() <= MAX_SAFE_LEVEL_FOR_SCALING (31)
-                // Therefore: level <= 31, so (level - 1) <= 30, making 1 << (level - 1) safe from overflow
-                if (level > MAX_SAFE_LEVEL_FOR_SCALING) {
-                    throw new InvalidStateException(
-                        ErrorCode.STATE_INVALID,
-                        ErrorContext.builder("Internal error: Level exceeds bit shift safety limit")
-                            .withContext("Operation", "Scale factor calculation")
-                            .withLevelInfo(level, MAX_SAFE_LEVEL_FOR_SCALING)
-                            .withContext("This should have been caught earlier", "Internal consistency check")
-                            .withSuggestion("This is an internal error - please report this as a bug")
-                            .build()
-                    );
-                }
-                double levelScale = Math.sqrt(1 << (level - 1));
-                double threshold = calculateThreshold(levelDetails, sigma / levelScale, method);
-                
-                // Apply thresholding and store
-                denoisedDetails[level - 1] = applyThreshold(levelDetails, threshold, type);
+    public double[] denoiseTranslationInvariant(double[] signal, ThresholdMethod method, ThresholdType type) {
+        if (signal == null) {
+            throw InvalidArgumentException.nullArgument("signal");
+        }
+        return denoiseTranslationInvariant(signal, Math.max(1, multiTransform.getMaximumLevels(signal.length)),
+            method, type);
+    }
+
+    /**
+     * Translation-invariant denoising over a given number of levels. See
+     * {@link #denoiseTranslationInvariant(double[], ThresholdMethod, ThresholdType)}; this
+     * is the same computation as
+     * {@link #denoiseMultiLevel(double[], int, ThresholdMethod, ThresholdType)}, which
+     * is translation-invariant for the same reason.
+     *
+     * @param signal the noisy signal to denoise
+     * @param levels the number of decomposition levels
+     * @param method the threshold selection method
+     * @param type   the thresholding type
+     * @return the denoised signal
+     * @throws InvalidSignalException   if signal is invalid
+     * @throws InvalidArgumentException if levels is invalid or method is FIXED
+     */
+    public double[] denoiseTranslationInvariant(double[] signal, int levels,
+                                                ThresholdMethod method, ThresholdType type) {
+        return denoiseMultiLevel(signal, levels, method, type);
+    }
+
+    /**
+     * Denoises a batch of signals with multi-level, level-dependent thresholding, using
+     * the common fork-join pool.
+     *
+     * @param signals the noisy signals
+     * @param levels  the number of decomposition levels, valid for every signal
+     * @param method  the threshold selection method
+     * @param type    the thresholding type
+     * @return the denoised signals, in the order of {@code signals}
+     * @throws InvalidSignalException   if any signal is invalid
+     * @throws InvalidArgumentException if levels is invalid or an argument is null
+     * @see #denoiseBatch(double[][], int, ThresholdMethod, ThresholdType, Executor)
+     */
+    public double[][] denoiseBatch(double[][] signals, int levels,
+                                   ThresholdMethod method, ThresholdType type) {
+        return denoiseBatch(signals, levels, method, type, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Denoises a batch of signals with multi-level, level-dependent thresholding.
+     *
+     * <p>Each signal gets the same result as
+     * {@link #denoiseMultiLevel(double[], int, ThresholdMethod, ThresholdType)}, with its
+     * own noise estimate and thresholds. The batch is split into chunks of about
+     * 65,536 samples, which run as separate tasks on the executor
+     * and share this denoiser's transforms. Within a chunk, signals of equal length are
+     * decomposed into one reused buffer, thresholded in place and reconstructed straight
+     * into their outputs.</p>
+     *
+     * <pre>{@code
+     * WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+     * double[][] denoised = denoiser.denoiseBatch(series, 4,
+     *     ThresholdMethod.UNIVERSAL, ThresholdType.SOFT, nightlyPool);
+     * }</pre>
+     *
+     * @param signals  the noisy signals
+     * @param levels   the number of decomposition levels, valid for every signal
+     * @param method   the threshold selection method
+     * @param type     the thresholding type
+     * @param executor runs the chunks; a batch of a single chunk runs on the caller
+     * @return the denoised signals, in the order of {@code signals}
+     * @throws InvalidSignalException   if any signal is invalid
+     * @throws InvalidArgumentException if levels is invalid or an argument is null
+     */
+    public double[][] denoiseBatch(double[][] signals, int levels, ThresholdMethod method,
+                                   ThresholdType type, Executor executor) {
+        if (signals == null) {
+            throw InvalidArgumentException.nullArgument("signals");
+        }
+        for (double[] signal : signals) {
+            if (signal == null) {
+                throw InvalidArgumentException.nullArgument("signal");
             }
         }
-        
-        @Override
-        public int getSignalLength() {
-            return original.getSignalLength();
+        if (method == null) {
+            throw InvalidArgumentException.nullArgument("method");
         }
-        
-        @Override
-        public int getLevels() {
-            return original.getLevels();
+        if (type == null) {
+            throw InvalidArgumentException.nullArgument("type");
         }
-        
-        @Override
-        public double[] getApproximationCoeffs() {
-            // Return original approximation coefficients (not denoised)
-            return original.getApproximationCoeffs();
+        if (executor == null) {
+            throw InvalidArgumentException.nullArgument("executor");
         }
-        
-        @Override
-        public double[] getDetailCoeffsAtLevel(int level) {
-            if (level < 1 || level > getLevels()) {
-                throw new InvalidArgumentException(
-                    ErrorCode.CFG_INVALID_DECOMPOSITION_LEVEL,
-                    ErrorContext.builder("Invalid level for detail coefficient access")
-                        .withContext("Operation", "getDetailCoeffsAtLevel")
-                        .withLevelInfo(level, getLevels())
-                        .withContext("Result type", "DenoisedMultiLevelResult")
-                        .withSuggestion("Level must be between 1 and " + getLevels())
-                        .build()
-                );
-            }
-            // Return denoised detail coefficients
-            return denoisedDetails[level - 1].clone();
+
+        double[][] denoised = new double[signals.length][];
+        int maxLength = 1;
+        for (double[] signal : signals) {
+            maxLength = Math.max(maxLength, signal.length);
         }
-        
-        @Override
-        public double getDetailEnergyAtLevel(int level) {
-            if (level < 1 || level > getLevels()) {
-                throw new InvalidArgumentException(
-                    ErrorCode.CFG_INVALID_DECOMPOSITION_LEVEL,
-                    ErrorContext.builder("Invalid level for detail energy calculation")
-                        .withContext("Operation", "getDetailEnergyAtLevel")
-                        .withLevelInfo(level, getLevels())
-                        .withContext("Result type", "DenoisedMultiLevelResult")
-                        .withSuggestion("Level must be between 1 and " + getLevels())
-                        .build()
-                );
-            }
-            double energy = 0.0;
-            double[] details = denoisedDetails[level - 1];
-            for (double val : details) {
-                energy += val * val;
-            }
-            return energy;
+        int chunkSize = Math.max(1, BATCH_CHUNK_SAMPLES / maxLength);
+        if (signals.length <= chunkSize) {
+            denoiseChunk(signals, 0, signals.length, levels, method, type, denoised);
+            return denoised;
         }
-        
-        @Override
-        public double getApproximationEnergy() {
-            double energy = 0.0;
-            double[] approx = getApproximationCoeffs();
-            for (double val : approx) {
-                energy += val * val;
-            }
-            return energy;
+
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[(signals.length + chunkSize - 1) / chunkSize];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c * chunkSize;
+            int to = Math.min(signals.length, from + chunkSize);
+            chunks[c] = CompletableFuture.runAsync(
+                () -> denoiseChunk(signals, from, to, levels, method, type, denoised), executor);
         }
-        
-        @Override
-        public double getTotalEnergy() {
-            // Recalculate based on denoised coefficients
-            double energy = getApproximationEnergy();
-            for (int level = 1; level <= getLevels(); level++) {
-                energy += getDetailEnergyAtLevel(level);
+        try {
+            CompletableFuture.allOf(chunks).join();
+        } catch (CompletionException e) {
+            // Surface validation failures from a chunk as they would be thrown inline
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-            return energy;
+            throw e;
         }
-        
-        @Override
-        public double[] getRelativeEnergyDistribution() {
-            // Recalculate based on denoised coefficients
-            double totalEnergy = getTotalEnergy();
-            double[] distribution = new double[getLevels() + 1];
-            
-            // Approximation energy
-            double[] approx = getApproximationCoeffs();
-            double approxEnergy = 0.0;
-            for (double val : approx) {
-                approxEnergy += val * val;
-            }
-            distribution[0] = approxEnergy / totalEnergy;
-            
-            // Detail energies
-            for (int level = 1; level <= getLevels(); level++) {
-                double[] details = denoisedDetails[level - 1];
-                double levelEnergy = 0.0;
-                for (double val : details) {
-                    levelEnergy += val * val;
-                }
-                distribution[level] = levelEnergy / totalEnergy;
+        return denoised;
+    }
+
+    /**
+     * Denoises signals {@code [from, to)} into the same positions of {@code denoised}.
+     * Consecutive signals of equal length reuse one decomposition and scratch buffer, so
+     * the only allocation per signal is its output.
+     */
+    private void denoiseChunk(double[][] signals, int from, int to, int levels,
+                              ThresholdMethod method, ThresholdType type, double[][] denoised) {
+        MutableMultiLevelMODWTResult buffer = null;
+        double[] scratch = null;
+        for (int b = from; b < to; b++) {
+            double[] signal = signals[b];
+            if (buffer == null || buffer.getSignalLength() != signal.length) {
+                buffer = multiTransform.decomposeMutable(signal, levels);
+                scratch = new double[signal.length];
+            } else {
+                multiTransform.decompose(signal, buffer);
             }
-            
-            return distribution;
+            // Chunks already run in parallel, so levels are thresholded sequentially
+            thresholdLevels(buffer, method, type, scratch, false);
+
+            denoised[b] = new double[signal.length];
+            multiTransform.reconstruct(buffer, denoised[b]);
         }
-        
-        @Override
-        public boolean isValid() {
-            return original.isValid();
+    }
+
+    /**
+     * Applies level-dependent thresholds to the details of a decomposition in place.
+     *
+     * <p>Once the noise level is known the levels are independent, so for long signals
+     * they are thresholded in parallel on the common pool when {@code parallel} is set.</p>
+     *
+     * @param multiResult the decomposition to threshold
+     * @param scratch     working space of at least the signal length
+     * @param parallel    whether levels may be thresholded in parallel
+     */
+    private void thresholdLevels(MutableMultiLevelMODWTResult multiResult, ThresholdMethod method,
+                                 ThresholdType type, double[] scratch, boolean parallel) {
+        // Validate maximum level before processing to prevent overflow
+        if (multiResult.getLevels() > MAX_SAFE_LEVEL_FOR_SCALING) {
+            throw new InvalidArgumentException(
+                ErrorCode.VAL_TOO_LARGE,
+                ErrorContext.builder("Decomposition level exceeds safe limit for scale-dependent thresholds")
+                    .withContext("Operation", "Multi-level denoising")
+                    .withLevelInfo(multiResult.getLevels(), MAX_SAFE_LEVEL_FOR_SCALING)
+                    .withContext("Threshold method", method.name())
+                    .withContext("Threshold type", type.name())
+                    .withSuggestion("Reduce decomposition levels to " + MAX_SAFE_LEVEL_FOR_SCALING + " or less")
+                    .withSuggestion("Use level-independent threshold methods")
+                    .build()
+            );
         }
-        
-        @Override
-        public MultiLevelMODWTResult copy() {
-            // Return a new wrapper with the same parameters
-            return new DenoisedMultiLevelResult(original.copy(), sigma, method, type);
+
+        // Estimate noise from the finest scale (level 1) detail coefficients before any are thresholded
+        double sigma = estimateNoiseSigma(multiResult.getMutableDetailCoeffs(1), scratch);
+
+        IntConsumer thresholdLevel = level -> {
+            double[] levelDetails = multiResult.getMutableDetailCoeffs(level);
+
+            // Calculate threshold with level-dependent scaling
+            // Use bit shift for efficient power of 2 calculation
+            // Safety guarantee: the check above ensures levels <= MAX_SAFE_LEVEL_FOR_SCALING (31)
+            // Therefore: level <= 31, so (level - 1) <= 30, making 1 << (level - 1) safe from overflow
+            double levelScale = Math.sqrt(1 << (level - 1));
+            double threshold = calculateThreshold(levelDetails, sigma / levelScale, method);
+
+            type.apply(levelDetails, threshold, levelDetails);
+        };
+        int levels = multiResult.getLevels();
+        if (parallel && levels > 1 && multiResult.getSignalLength() >= PARALLEL_LEVEL_THRESHOLD) {
+            IntStream.rangeClosed(1, levels).parallel().forEach(thresholdLevel);
+        } else {
+            for (int level = 1; level <= levels; level++) {
+                thresholdLevel.accept(level);
+            }
         }
+        multiResult.clearCaches();
     }
 
     /**
@@ -348,10 +469,10 @@ public class WaveletDenoiser {
      * @return the denoised signal
      */
     public double[] denoiseFixed(double[] signal, double threshold, ThresholdType type) {
-        MODWTTransform transform = new MODWTTransform(wavelet, boundaryMode);
         MODWTResult result = transform.forward(signal);
 
-        double[] denoisedDetails = applyThreshold(result.detailCoeffs(), threshold, type);
+        double[] denoisedDetails = result.detailCoeffs();
+        type.apply(denoisedDetails, threshold, denoisedDetails);
 
         MODWTResult denoisedResult = MODWTResult.create(
                 result.approximationCoeffs(), denoisedDetails);
@@ -367,13 +488,21 @@ public class WaveletDenoiser {
      * @return estimated noise standard deviation
      */
     private double estimateNoiseSigma(double[] detailCoeffs) {
-        // Calculate median absolute deviation
-        double[] absCoeffs = new double[detailCoeffs.length];
-        for (int i = 0; i < detailCoeffs.length; i++) {
-            absCoeffs[i] = Math.abs(detailCoeffs[i]);
-        }
+        // Median of the absolute coefficients, selected in place in one working copy
+        return estimateNoiseSigma(detailCoeffs, new double[detailCoeffs.length]);
+    }
 
-        double median = calculateMedian(absCoeffs);
+    /**
+     * Estimates the noise standard deviation using a caller-supplied working buffer.
+     *
+     * @param detailCoeffs the detail coefficients
+     * @param scratch      working space of at least {@code detailCoeffs.length}; overwritten
+     * @return estimated noise standard deviation
+     */
+    private double estimateNoiseSigma(double[] detailCoeffs, double[] scratch) {
+        WaveletOperations.abs(detailCoeffs, scratch, detailCoeffs.length);
+
+        double median = MathUtils.medianInPlace(scratch, 0, detailCoeffs.length);
 
         // Scale factor for Gaussian noise
         return median / 0.6745;
@@ -428,6 +557,15 @@ public class WaveletDenoiser {
 
     /**
      * Calculates SURE (Stein's Unbiased Risk Estimate) threshold.
+     *
+     * <p>The candidates are the sorted absolute coefficients. For a candidate t with m
+     * coefficients at or below it, the risk is</p>
+     * <pre>
+     * (-n&sigma;&sup2; + &Sigma;<sub>j&lt;m</sub> s<sub>j</sub>&sup2; + (n-m)&sigma;&sup2; + &Sigma;<sub>j&ge;m</sub> (s<sub>j</sub> - t)&sup2;) / n
+     * </pre>
+     * <p>so a prefix sum of squares and running tail sums of s and s&sup2; give every
+     * candidate's risk in one pass after the O(n log n) sort, instead of rescanning all
+     * coefficients per candidate.</p>
      */
     private double calculateSUREThreshold(double[] coeffs, double sigma) {
         int n = coeffs.length;
@@ -439,19 +577,7 @@ public class WaveletDenoiser {
         }
         java.util.Arrays.sort(sortedAbs);
 
-        // Calculate SURE for each possible threshold
-        double minRisk = Double.POSITIVE_INFINITY;
-        double bestThreshold = 0;
-
-        for (int k = 0; k < n; k++) {
-            double t = sortedAbs[k];
-            double risk = calculateSURERisk(coeffs, t, sigma);
-
-            if (risk < minRisk) {
-                minRisk = risk;
-                bestThreshold = t;
-            }
-        }
+        double bestThreshold = sureMinimizer(sortedAbs, sigma);
 
         // Compare with universal threshold
         double universalThreshold = sigma * Math.sqrt(2.0 * Math.log(n));
@@ -463,23 +589,49 @@ public class WaveletDenoiser {
     }
 
     /**
-     * Calculates SURE risk for a given threshold.
+     * Finds the candidate threshold with the lowest SURE risk; ties go to the smallest.
+     *
+     * @param sortedAbs the absolute coefficients in ascending order
+     * @param sigma     the noise standard deviation
+     * @return the minimizing threshold, or 0 if there are no coefficients
      */
-    private double calculateSURERisk(double[] coeffs, double threshold, double sigma) {
-        int n = coeffs.length;
+    static double sureMinimizer(double[] sortedAbs, double sigma) {
+        int n = sortedAbs.length;
         double sigma2 = sigma * sigma;
-        double risk = -n * sigma2;
 
-        for (double c : coeffs) {
-            double absC = Math.abs(c);
-            if (absC <= threshold) {
-                risk += c * c;
-            } else {
-                risk += sigma2 + (absC - threshold) * (absC - threshold);
+        // headSquares[m] = sum of the m smallest squared magnitudes
+        double[] headSquares = new double[n + 1];
+        for (int j = 0; j < n; j++) {
+            headSquares[j + 1] = headSquares[j] + sortedAbs[j] * sortedAbs[j];
+        }
+
+        double minRisk = Double.POSITIVE_INFINITY;
+        double bestThreshold = 0;
+        double tailSum = 0;
+        double tailSquares = 0;
+
+        // Walk candidates from the largest down, so the tail sums only grow
+        int k = n - 1;
+        while (k >= 0) {
+            double t = sortedAbs[k];
+            int tail = n - 1 - k;
+            double risk = (-n * sigma2 + headSquares[k + 1] + tail * sigma2
+                + tailSquares - 2.0 * t * tailSum + tail * t * t) / n;
+
+            if (risk <= minRisk) {
+                minRisk = risk;
+                bestThreshold = t;
+            }
+
+            // Equal magnitudes share one risk; move the whole run into the tail
+            while (k >= 0 && sortedAbs[k] == t) {
+                tailSum += t;
+                tailSquares += t * t;
+                k--;
             }
         }
 
-        return risk / n;
+        return bestThreshold;
     }
 
     /**
@@ -538,50 +690,6 @@ public class WaveletDenoiser {
         return sigma2 / sigmaX;
     }
 
-    /**
-     * Applies thresholding to coefficients.
-     */
-    private double[] applyThreshold(double[] coeffs, double threshold, ThresholdType type) {
-        if (useVectorOps) {
-            // Use SIMD-optimized thresholding
-            return type == ThresholdType.SOFT
-                    ? WaveletOperations.softThreshold(coeffs, threshold)
-                    : WaveletOperations.hardThreshold(coeffs, threshold);
-        } else {
-            // Scalar implementation
-            double[] result = new double[coeffs.length];
-
-            if (type == ThresholdType.SOFT) {
-                for (int i = 0; i < coeffs.length; i++) {
-                    double absCoeff = Math.abs(coeffs[i]);
-                    result[i] = absCoeff <= threshold ? 0.0
-                            : Math.signum(coeffs[i]) * (absCoeff - threshold);
-                }
-            } else { // HARD
-                for (int i = 0; i < coeffs.length; i++) {
-                    result[i] = Math.abs(coeffs[i]) <= threshold ? 0.0 : coeffs[i];
-                }
-            }
-
-            return result;
-        }
-    }
-
-    /**
-     * Calculates the median of an array.
-     */
-    private double calculateMedian(double[] values) {
-        double[] sorted = values.clone();
-        java.util.Arrays.sort(sorted);
-
-        int n = sorted.length;
-        if (n % 2 == 0) {
-            return (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
-        } else {
-            return sorted[n / 2];
-        }
-    }
-
     /**
      * Threshold selection methods.
      */
@@ -630,6 +738,50 @@ public class WaveletDenoiser {
          * Hard thresholding: keeps or kills coefficients.
          * Better preserves signal features but may introduce artifacts.
          */
-        HARD
+        HARD,
+
+        /**
+         * Non-negative garrote: x - t&sup2;/x above the threshold.
+         * Continuous like soft thresholding with less bias on large coefficients.
+         */
+        GARROTE,
+
+        /**
+         * Firm thresholding with the upper threshold at twice the threshold:
+         * kills below t, keeps above 2t and ramps linearly in between.
+         */
+        FIRM,
+
+        /**
+         * SCAD (smoothly clipped absolute deviation) with a = 3.7:
+         * soft up to 2t, unchanged above 3.7t and a linear blend in between.
+         */
+        SCAD;
+
+        /**
+         * Thresholds coefficients into output, which may be the coefficient array
+         * itself for in-place thresholding. Uses the SIMD kernels where beneficial.
+         *
+         * @param coefficients the coefficients to threshold
+         * @param threshold    the threshold (non-negative)
+         * @param output       receives the thresholded coefficients
+         * @throws IllegalArgumentException if an array is null or too short, or threshold is negative
+         */
+        public void apply(double[] coefficients, double threshold, double[] output) {
+            switch (this) {
+                case SOFT -> WaveletOperations.softThreshold(coefficients, threshold, output);
+                case HARD -> WaveletOperations.hardThreshold(coefficients, threshold, output);
+                case GARROTE -> WaveletOperations.garroteThreshold(coefficients, threshold, output);
+                case FIRM -> {
+                    if (threshold == 0) {
+                        // A zero-width ramp keeps every coefficient
+                        WaveletOperations.hardThreshold(coefficients, threshold, output);
+                    } else {
+                        WaveletOperations.firmThreshold(coefficients, threshold, 2.0 * threshold, output);
+                    }
+                }
+                case SCAD -> WaveletOperations.scadThreshold(coefficients, threshold, output);
+            }
+        }
     }
-}
\ No newline at end of file
+}
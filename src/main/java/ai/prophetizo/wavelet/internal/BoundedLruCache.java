@@ -0,0 +1,94 @@
+package ai.prophetizo.wavelet.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Thread-safe, size-bounded cache that evicts the least recently used entry.
+ *
+ * <p>Used for the global caches of precomputed filter data, which are small and read
+ * far more often than written. Entries are kept in access order; once the cache holds
+ * {@code maxSize} entries, inserting a new one drops the entry that was used least
+ * recently, so the cache keeps serving the working set instead of freezing on the
+ * first keys it saw.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class BoundedLruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize the maximum number of entries kept
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    public BoundedLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached value for a key and marks it as recently used.
+     *
+     * @param key the key
+     * @return the cached value, or null if absent
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Caches a value unless the key is already present, evicting the least recently
+     * used entry if the cache is full.
+     *
+     * @param key the key
+     * @param value the value to cache
+     * @return the value already cached for the key, or null if {@code value} was cached
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        V existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        entries.put(key, value);
+        if (entries.size() > maxSize) {
+            Map.Entry<K, V> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the current size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the maximum number of entries kept.
+     *
+     * @return the capacity
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,475 @@
+package ai.prophetizo.wavelet.internal;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.util.MathUtils;
+import ai.prophetizo.wavelet.util.OptimizedFFT;
+import ai.prophetizo.wavelet.util.ThreadLocalManager;
+
+/**
+ * FFT overlap-save convolution for MODWT levels with long filters.
+ *
+ * <p>The direct dilated kernels in {@link ScalarOps} cost O(N·L) per level for a base
+ * filter of L taps, independent of the dilation. This class computes the same level in
+ * O(N·log B) using radix-2 FFTs of block size B over the boundary-extended input, where
+ * B is chosen from the effective filter span (L-1)·2^(j-1)+1. It wins once L is large
+ * relative to log B, i.e. for the long Daubechies, Symlet and Coiflet filters.</p>
+ *
+ * <p>Both filters of a level are handled by one transform pair: the forward step
+ * multiplies by H_low + i·H_high so that the real and imaginary parts of one inverse FFT
+ * are the approximation and detail coefficients; the inverse step splits one FFT of
+ * A + i·D into the two coefficient spectra using Hermitian symmetry.</p>
+ *
+ * <p>The block size and filter spectra of a level depend only on the filters, the
+ * dilation, the signal length and the boundary mode. They are computed once into an
+ * immutable {@link LevelPlan}, which transforms keep per level, so the transform itself
+ * neither hashes filters nor takes a lock.</p>
+ *
+ * <p>Results match the direct kernels, including their boundary handling and the
+ * dropping of taps that reach beyond the signal at deep levels, to rounding error.</p>
+ */
+public final class FFTConvolution {
+
+    /**
+     * Shortest base filter the FFT path is considered for.
+     */
+    public static final int MIN_FFT_TAPS = 32;
+
+    /**
+     * Shortest signal the FFT path is considered for.
+     */
+    public static final int MIN_FFT_SIGNAL_LENGTH = 512;
+
+    /*
+     * Cost model in units of one vectorized direct multiply-add, measured by
+     * MODWTFFTCrossoverBenchmark. The symmetric kernel is scalar and mirrors every
+     * index, so each of its taps is several times more expensive.
+     */
+    private static final double SYMMETRIC_TAP_COST = 4.5;
+    private static final double FFT_STAGE_COST = 12.0;
+    private static final double FFT_SAMPLE_COST = 20.0;
+
+    private static final int MIN_BLOCK_SIZE = 256;
+    private static final int MAX_BLOCK_SIZE = 1 << 16;
+
+    private static final ThreadLocalManager.ManagedThreadLocal<Workspace> WORKSPACE =
+        ThreadLocalManager.withInitial(Workspace::new);
+
+    private FFTConvolution() {
+        // Utility class
+    }
+
+    /**
+     * Decides whether the FFT path is faster than the direct kernels for one level.
+     *
+     * <p>The direct cost per output is 2·L multiply-adds, more for the scalar symmetric
+     * kernel. The FFT cost per output is a forward and inverse FFT of B points spread over
+     * the B - span outputs each block produces, so it grows with the effective filter
+     * span (L-1)·2^(j-1)+1 at deep levels while the direct cost does not.</p>
+     *
+     * @param signalLength the signal length N
+     * @param filterLength the longer base filter length L
+     * @param dilation the tap spacing 2^(j-1)
+     * @param mode the boundary mode
+     * @return true if the FFT path should be used
+     */
+    public static boolean isBeneficial(int signalLength, int filterLength, int dilation,
+                                       BoundaryMode mode) {
+        if (signalLength < MIN_FFT_SIGNAL_LENGTH || filterLength < MIN_FFT_TAPS) {
+            return false;
+        }
+        int taps = ScalarOps.dilatedTapCount(filterLength, dilation, signalLength);
+        if (taps < MIN_FFT_TAPS) {
+            return false;
+        }
+        int span = (taps - 1) * dilation;
+        int block = blockSize(signalLength, span);
+        double directCost = 2.0 * taps * (mode == BoundaryMode.SYMMETRIC ? SYMMETRIC_TAP_COST : 1.0);
+        double fftCost = (FFT_STAGE_COST * 2.0 * log2(block) + FFT_SAMPLE_COST)
+            * block / (block - span);
+        return fftCost < directCost;
+    }
+
+    /**
+     * Plans one forward MODWT level: chooses the block size and computes the spectrum
+     * of H_low + i·H_high, so that the low and high outputs come back as the real and
+     * imaginary parts of one inverse FFT.
+     *
+     * @param lowPass the scaled base low-pass filter
+     * @param highPass the scaled base high-pass filter
+     * @param dilation the tap spacing d = 2^(j-1)
+     * @param signalLength the signal length N the plan is used for
+     * @param mode the boundary mode
+     * @return the forward plan
+     */
+    public static LevelPlan forwardPlan(double[] lowPass, double[] highPass, int dilation,
+                                        int signalLength, BoundaryMode mode) {
+        int lowTaps = ScalarOps.dilatedTapCount(lowPass.length, dilation, signalLength);
+        int highTaps = ScalarOps.dilatedTapCount(highPass.length, dilation, signalLength);
+        int span = (Math.max(lowTaps, highTaps) - 1) * dilation;
+        int block = blockSize(signalLength, span);
+
+        double[] spectrum = spectrum(lowPass, lowTaps, highPass, highTaps, dilation,
+                                     block, span, false, true);
+        return new LevelPlan(signalLength, mode, false, block, span, false, spectrum, null);
+    }
+
+    /**
+     * Plans one inverse MODWT level: chooses the block size and computes the spectra of
+     * both reconstruction filters.
+     *
+     * @param lowRecon the scaled base low-pass reconstruction filter
+     * @param highRecon the scaled base high-pass reconstruction filter
+     * @param dilation the tap spacing d = 2^(j-1)
+     * @param signalLength the signal length N the plan is used for
+     * @param mode the boundary mode
+     * @return the inverse plan
+     */
+    public static LevelPlan inversePlan(double[] lowRecon, double[] highRecon, int dilation,
+                                        int signalLength, BoundaryMode mode) {
+        int lowTaps = ScalarOps.dilatedTapCount(lowRecon.length, dilation, signalLength);
+        int highTaps = ScalarOps.dilatedTapCount(highRecon.length, dilation, signalLength);
+        int span = (Math.max(lowTaps, highTaps) - 1) * dilation;
+        int block = blockSize(signalLength, span);
+
+        // (t + k·d) indexing is a convolution with the reversed filters over a suffix extension
+        boolean reversed = mode != BoundaryMode.SYMMETRIC;
+        double[] lowSpectrum = spectrum(lowRecon, lowTaps, null, 0, dilation,
+                                        block, span, reversed, false);
+        double[] highSpectrum = spectrum(highRecon, highTaps, null, 0, dilation,
+                                         block, span, reversed, false);
+        return new LevelPlan(signalLength, mode, true, block, span, reversed, lowSpectrum, highSpectrum);
+    }
+
+    /**
+     * Computes one forward MODWT level for both filters.
+     *
+     * <p>Equivalent to the dilated kernels of {@link ScalarOps} for the boundary mode:
+     * W_t = Σ_k h_k · X_{ext(t - k·d)}. Plans the level on every call; transforms hold
+     * a {@link LevelPlan} and use {@link #forwardMODWT(double[], LevelPlan, double[], double[])}.</p>
+     *
+     * @param signal the input signal of length N
+     * @param lowPass the scaled base low-pass filter
+     * @param highPass the scaled base high-pass filter
+     * @param dilation the tap spacing d = 2^(j-1)
+     * @param mode the boundary mode
+     * @param approxOut the approximation output of length N
+     * @param detailOut the detail output of length N
+     */
+    public static void forwardMODWT(double[] signal, double[] lowPass, double[] highPass,
+                                    int dilation, BoundaryMode mode,
+                                    double[] approxOut, double[] detailOut) {
+        forwardMODWT(signal, forwardPlan(lowPass, highPass, dilation, signal.length, mode),
+            approxOut, detailOut);
+    }
+
+    /**
+     * Computes one forward MODWT level for both filters with a precomputed plan.
+     *
+     * @param signal the input signal of length N
+     * @param plan a forward plan for signal length N
+     * @param approxOut the approximation output of length N
+     * @param detailOut the detail output of length N
+     * @throws IllegalArgumentException if the plan is an inverse plan or was made for
+     *         another signal length
+     */
+    public static void forwardMODWT(double[] signal, LevelPlan plan,
+                                    double[] approxOut, double[] detailOut) {
+        int n = signal.length;
+        plan.check(n, false);
+        BoundaryMode mode = plan.mode;
+        int span = plan.span;
+        int block = plan.block;
+        int valid = block - span;
+        double[] spectrum = plan.spectrum;
+        double[] buffer = WORKSPACE.get().buffer(block);
+
+        for (int start = 0; start < n; start += valid) {
+            // Block input is X_ext[start - span .. start - span + block)
+            for (int j = 0; j < block; j++) {
+                int src = start - span + j;
+                buffer[2 * j] = src < n ? prefixExtended(signal, src, mode) : 0.0;
+                buffer[2 * j + 1] = 0.0;
+            }
+
+            OptimizedFFT.fftOptimized(buffer, block, false);
+            multiply(buffer, spectrum, block);
+            OptimizedFFT.fftOptimized(buffer, block, true);
+
+            // The first span outputs of each block are wrapped and discarded
+            int count = Math.min(valid, n - start);
+            for (int j = 0; j < count; j++) {
+                approxOut[start + j] = buffer[2 * (span + j)];
+                detailOut[start + j] = buffer[2 * (span + j) + 1];
+            }
+        }
+    }
+
+    /**
+     * Computes one inverse MODWT level from both coefficient sets.
+     *
+     * <p>Equivalent to the dilated inverse kernels of {@link ScalarOps}: periodic and
+     * zero-padding use X_t = Σ_k g_k·A_{t + k·d} + h_k·D_{t + k·d}, symmetric uses
+     * (t - k·d) with mirrored indices. Plans the level on every call; transforms hold
+     * a {@link LevelPlan} and use {@link #inverseMODWT(double[], double[], LevelPlan, double[])}.</p>
+     *
+     * @param approx the approximation coefficients of length N
+     * @param details the detail coefficients of length N
+     * @param lowRecon the scaled base low-pass reconstruction filter
+     * @param highRecon the scaled base high-pass reconstruction filter
+     * @param dilation the tap spacing d = 2^(j-1)
+     * @param mode the boundary mode
+     * @param output the reconstructed output of length N
+     */
+    public static void inverseMODWT(double[] approx, double[] details,
+                                    double[] lowRecon, double[] highRecon,
+                                    int dilation, BoundaryMode mode, double[] output) {
+        inverseMODWT(approx, details, inversePlan(lowRecon, highRecon, dilation, approx.length, mode),
+            output);
+    }
+
+    /**
+     * Computes one inverse MODWT level from both coefficient sets with a precomputed plan.
+     *
+     * @param approx the approximation coefficients of length N
+     * @param details the detail coefficients of length N
+     * @param plan an inverse plan for signal length N
+     * @param output the reconstructed output of length N
+     * @throws IllegalArgumentException if the plan is a forward plan or was made for
+     *         another signal length
+     */
+    public static void inverseMODWT(double[] approx, double[] details, LevelPlan plan,
+                                    double[] output) {
+        int n = approx.length;
+        plan.check(n, true);
+        BoundaryMode mode = plan.mode;
+        int span = plan.span;
+        int block = plan.block;
+        int valid = block - span;
+        boolean reversed = plan.reversed;
+        double[] lowSpectrum = plan.spectrum;
+        double[] highSpectrum = plan.highSpectrum;
+        Workspace workspace = WORKSPACE.get();
+        double[] buffer = workspace.buffer(block);
+        double[] combined = workspace.combined(block);
+
+        for (int start = 0; start < n; start += valid) {
+            for (int j = 0; j < block; j++) {
+                int src = start + j;
+                if (reversed) {
+                    // Block input is C_ext[start .. start + block), extended past the end
+                    buffer[2 * j] = src < n + span ? suffixExtended(approx, src, mode) : 0.0;
+                    buffer[2 * j + 1] = src < n + span ? suffixExtended(details, src, mode) : 0.0;
+                } else {
+                    src -= span;
+                    buffer[2 * j] = src < n ? prefixExtended(approx, src, mode) : 0.0;
+                    buffer[2 * j + 1] = src < n ? prefixExtended(details, src, mode) : 0.0;
+                }
+            }
+
+            OptimizedFFT.fftOptimized(buffer, block, false);
+            combineSpectra(buffer, lowSpectrum, highSpectrum, combined, block);
+            OptimizedFFT.fftOptimized(combined, block, true);
+
+            int count = Math.min(valid, n - start);
+            for (int j = 0; j < count; j++) {
+                output[start + j] = combined[2 * (span + j)];
+            }
+        }
+    }
+
+    /**
+     * Chooses the power-of-2 block size: about four times the span so that most of
+     * each block is valid output, but no larger than one block covering the signal.
+     */
+    static int blockSize(int signalLength, int span) {
+        int target = Math.max(MIN_BLOCK_SIZE, nextPowerOf2(4L * (span + 1)));
+        int whole = nextPowerOf2((long) signalLength + span);
+        int block = Math.min(Math.min(target, whole), MAX_BLOCK_SIZE);
+        // The block must hold the span plus at least one output
+        while (block <= span) {
+            block <<= 1;
+        }
+        return block;
+    }
+
+    private static int nextPowerOf2(long value) {
+        long power = 1;
+        while (power < value) {
+            power <<= 1;
+        }
+        return (int) Math.min(power, 1 << 30);
+    }
+
+    private static int log2(int powerOf2) {
+        return 31 - Integer.numberOfLeadingZeros(powerOf2);
+    }
+
+    /**
+     * Value of the signal extended before its start: X_ext(src) for src in [-span, N).
+     * The span never exceeds N - 1, so one wrap suffices for periodic extension.
+     */
+    private static double prefixExtended(double[] signal, int src, BoundaryMode mode) {
+        if (src >= 0) {
+            return signal[src];
+        }
+        if (mode == BoundaryMode.PERIODIC) {
+            return signal[src + signal.length];
+        }
+        if (mode == BoundaryMode.SYMMETRIC) {
+            return signal[MathUtils.symmetricBoundaryExtension(src, signal.length)];
+        }
+        return 0.0;
+    }
+
+    /**
+     * Value of the coefficients extended past their end: C_ext(src) for src in [0, N + span).
+     */
+    private static double suffixExtended(double[] coeffs, int src, BoundaryMode mode) {
+        if (src < coeffs.length) {
+            return coeffs[src];
+        }
+        return mode == BoundaryMode.PERIODIC ? coeffs[src - coeffs.length] : 0.0;
+    }
+
+    /**
+     * Multiplies interleaved complex data by a spectrum in place.
+     */
+    private static void multiply(double[] data, double[] spectrum, int block) {
+        for (int k = 0; k < 2 * block; k += 2) {
+            double re = data[k];
+            double im = data[k + 1];
+            double sr = spectrum[k];
+            double si = spectrum[k + 1];
+            data[k] = re * sr - im * si;
+            data[k + 1] = re * si + im * sr;
+        }
+    }
+
+    /**
+     * Splits Z = FFT(A + i·D) into FA and FD and writes FA·G + FD·H.
+     * FA[k] = (Z[k] + conj Z[-k]) / 2 and FD[k] = (Z[k] - conj Z[-k]) / 2i.
+     */
+    private static void combineSpectra(double[] z, double[] low, double[] high,
+                                       double[] out, int block) {
+        for (int k = 0; k < block; k++) {
+            int m = k == 0 ? 0 : block - k;
+            double zr = z[2 * k];
+            double zi = z[2 * k + 1];
+            double cr = z[2 * m];
+            double ci = -z[2 * m + 1];
+
+            double ar = 0.5 * (zr + cr);
+            double ai = 0.5 * (zi + ci);
+            // (Z - conj Z[-k]) / 2i = (im, -re) / 2
+            double dr = 0.5 * (zi - ci);
+            double di = -0.5 * (zr - cr);
+
+            int p = 2 * k;
+            out[p] = ar * low[p] - ai * low[p + 1] + dr * high[p] - di * high[p + 1];
+            out[p + 1] = ar * low[p + 1] + ai * low[p] + dr * high[p + 1] + di * high[p];
+        }
+    }
+
+    /**
+     * Computes the block spectrum of a dilated filter, or of first + i·second when a
+     * second filter is given. Reversed filters place tap k at span - k·d instead of k·d.
+     */
+    private static double[] spectrum(double[] first, int firstTaps, double[] second, int secondTaps,
+                                     int dilation, int block, int span, boolean reversed,
+                                     boolean combined) {
+        double[] spectrum = new double[2 * block];
+        for (int k = 0; k < firstTaps; k++) {
+            int pos = reversed ? span - k * dilation : k * dilation;
+            spectrum[2 * pos] = first[k];
+        }
+        if (combined) {
+            for (int k = 0; k < secondTaps; k++) {
+                int pos = reversed ? span - k * dilation : k * dilation;
+                spectrum[2 * pos + 1] = second[k];
+            }
+        }
+        OptimizedFFT.fftOptimized(spectrum, block, false);
+        return spectrum;
+    }
+
+    /**
+     * Block size and filter spectra of one MODWT level for one signal length and
+     * boundary mode.
+     *
+     * <p>Plans are immutable and hold only final fields, so a transform may cache them in
+     * plain fields or arrays and share them between threads without locking.</p>
+     */
+    public static final class LevelPlan {
+        private final int signalLength;
+        private final BoundaryMode mode;
+        private final boolean inverse;
+        private final int block;
+        private final int span;
+        private final boolean reversed;
+        private final double[] spectrum;
+        private final double[] highSpectrum;
+
+        private LevelPlan(int signalLength, BoundaryMode mode, boolean inverse, int block, int span,
+                          boolean reversed, double[] spectrum, double[] highSpectrum) {
+            this.signalLength = signalLength;
+            this.mode = mode;
+            this.inverse = inverse;
+            this.block = block;
+            this.span = span;
+            this.reversed = reversed;
+            this.spectrum = spectrum;
+            this.highSpectrum = highSpectrum;
+        }
+
+        /**
+         * Gets the signal length this plan was made for.
+         *
+         * @return the signal length N
+         */
+        public int signalLength() {
+            return signalLength;
+        }
+
+        /**
+         * Gets the FFT block size.
+         *
+         * @return the block size B
+         */
+        public int blockSize() {
+            return block;
+        }
+
+        private void check(int n, boolean inverseCall) {
+            if (inverse != inverseCall) {
+                throw new IllegalArgumentException(
+                    "Plan is for the " + (inverse ? "inverse" : "forward") + " transform");
+            }
+            if (n != signalLength) {
+                throw new IllegalArgumentException(
+                    "Plan is for signal length " + signalLength + ", got: " + n);
+            }
+        }
+    }
+
+    /**
+     * Per-thread complex work buffers, grown on demand.
+     */
+    private static final class Workspace {
+        private double[] buffer = new double[0];
+        private double[] combined = new double[0];
+
+        double[] buffer(int block) {
+            if (buffer.length < 2 * block) {
+                buffer = new double[2 * block];
+            }
+            return buffer;
+        }
+
+        double[] combined(int block) {
+            if (combined.length < 2 * block) {
+                combined = new double[2 * block];
+            }
+            return combined;
+        }
+    }
+}
@@ -695,32 +695,45 @@ public final class ScalarOps {
         int signalLen = signal.length;
         int filterLen = filter.length;
         
-        for (int t = 0; t < signalLen; t++) {
+        // Head: outputs t < L-1 read wrapped samples from the end of the signal
+        int interiorStart = Math.min(filterLen - 1, signalLen);
+        for (int t = 0; t < interiorStart; t++) {
             double sum = 0.0;
             
             for (int l = 0; l < filterLen; l++) {
                 // MODWT convolution: W_j,t = Σ h_j,l * X_{(t-l) mod N}
                 // The (t - l) indexing implements the time-reversed filter convolution
-                int idx = t - l;
-                
-                // Optimize modulo operation for common cases to avoid expensive double modulo
-                int signalIndex;
-                if (idx >= 0 && idx < signalLen) {
-                    // Most common case: index already in bounds
-                    signalIndex = idx;
-                } else if (idx < 0 && idx >= -signalLen) {
-                    // Common case for negative indices: only one wrap needed
-                    signalIndex = idx + signalLen;
-                } else {
-                    // Rare case for very negative or very positive indices
-                    signalIndex = ((idx % signalLen) + signalLen) % signalLen;
-                }
-                
-                sum += signal[signalIndex] * filter[l];
+                sum += signal[wrapPeriodic(t - l, signalLen)] * filter[l];
             }
             
             output[t] = sum;
         }
+        
+        // Interior: t - l stays within [0, N) for every tap, so no wrapping is needed
+        for (int t = interiorStart; t < signalLen; t++) {
+            double sum = 0.0;
+            
+            for (int l = 0; l < filterLen; l++) {
+                sum += signal[t - l] * filter[l];
+            }
+            
+            output[t] = sum;
+        }
+    }
+
+    /**
+     * Maps an index below the signal length onto one period, [0, N).
+     * Indices within one period before the start need a single add; only filters
+     * longer than the signal reach further and fall back to the modulo.
+     */
+    private static int wrapPeriodic(int idx, int signalLen) {
+        if (idx >= 0) {
+            return idx;
+        }
+        if (idx >= -signalLen) {
+            return idx + signalLen;
+        }
+        return Math.floorMod(idx, signalLen);
     }
 
     /**
@@ -760,28 +773,25 @@ public final class ScalarOps {
         
         int shift = 1 << (level - 1); // 2^(j-1) where j = level
         
-        for (int t = 0; t < signalLen; t++) {
+        // Outputs before the filter span (L-1)·2^(j-1) read wrapped samples
+        int interiorStart = (int) Math.min((long) (filterLen - 1) * shift, signalLen);
+        for (int t = 0; t < interiorStart; t++) {
             double sum = 0.0;
             
             for (int l = 0; l < filterLen; l++) {
                 // Multi-level MODWT: W_j,t = Σ h_l * X_{(t - 2^(j-1) * l) mod N}
                 // The shift factor 2^(j-1) implements the filter upsampling at level j
-                int idx = t - shift * l;
-                
-                // Optimize modulo operation for common cases to avoid expensive double modulo
-                int signalIndex;
-                if (idx >= 0 && idx < signalLen) {
-                    // Most common case: index already in bounds
-                    signalIndex = idx;
-                } else if (idx < 0 && idx >= -signalLen) {
-                    // Common case for negative indices: only one wrap needed
-                    signalIndex = idx + signalLen;
-                } else {
-                    // General case for very negative or very positive indices
-                    signalIndex = ((idx % signalLen) + signalLen) % signalLen;
-                }
-                
-                sum += signal[signalIndex] * filter[l];
+                sum += signal[wrapPeriodic(t - shift * l, signalLen)] * filter[l];
+            }
+            
+            output[t] = sum;
+        }
+        
+        for (int t = interiorStart; t < signalLen; t++) {
+            double sum = 0.0;
+            
+            for (int l = 0; l < filterLen; l++) {
+                sum += signal[t - shift * l] * filter[l];
             }
             
             output[t] = sum;
@@ -844,6 +854,606 @@ public final class ScalarOps {
         }
     }
 
+    // ==========================================
+    // Dilated (à trous) MODWT Operations
+    // ==========================================
+
+    /**
+     * Returns the number of taps of a dilated filter that fall within one signal period.
+     *
+     * <p>The zero-stuffed filter at dilation d has its non-zero taps at offsets k·d.
+     * Taps with k·d ≥ N lie beyond the signal length and are dropped, which matches
+     * truncating the equivalent upsampled filter to N samples.</p>
+     *
+     * @param filterLength the base filter length L
+     * @param dilation the spacing between taps (2^(j-1) at level j)
+     * @param signalLength the signal length N
+     * @return the number of taps to visit, at most L
+     */
+    static int dilatedTapCount(int filterLength, int dilation, int signalLength) {
+        long reach = (signalLength - 1L) / dilation + 1L;
+        return (int) Math.min(filterLength, reach);
+    }
+
+    /**
+     * Performs circular convolution with a dilated filter for multi-level MODWT.
+     *
+     * <p>At level j the MODWT filter is the base filter with 2^(j-1) - 1 zeros inserted
+     * between coefficients. Rather than convolving with that zero-stuffed filter, this
+     * kernel visits only the L non-zero taps, so the cost is O(N·L) at every level:</p>
+     * W_t = Σ_{k=0}^{L-1} h_k * X_{(t - k·d) mod N}
+     *
+     * @param signal The input signal of length N.
+     * @param filter The base (not upsampled) filter coefficients.
+     * @param output The output array of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void circularConvolveMODWTDilated(double[] signal, double[] filter,
+                                                    double[] output, int dilation) {
+        circularConvolveMODWTDilated(signal, filter, output, dilation, 0, signal.length);
+    }
+
+    /**
+     * Performs dilated circular convolution for the output samples in [start, end) only.
+     *
+     * <p>Each output sample depends only on the input, so disjoint ranges can be computed
+     * independently, e.g. by different threads. Input samples before {@code start}
+     * (the filter halo of (L-1)·d samples) are read from the shared signal.</p>
+     *
+     * @param signal The input signal of length N.
+     * @param filter The base (not upsampled) filter coefficients.
+     * @param output The output array of length N; only [start, end) is written.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @param start First output index (inclusive).
+     * @param end Last output index (exclusive).
+     */
+    public static void circularConvolveMODWTDilated(double[] signal, double[] filter,
+                                                    double[] output, int dilation,
+                                                    int start, int end) {
+        int taps = dilatedTapCount(filter.length, dilation, signal.length);
+        if (VECTORIZATION_ENABLED && shouldUseVectorization(end - start, taps)) {
+            VectorOps.circularConvolveMODWTDilatedVectorized(signal, filter, output, dilation, start, end);
+        } else {
+            circularConvolveMODWTDilatedScalar(signal, filter, output, dilation, start, end);
+        }
+    }
+
+    /**
+     * Scalar implementation of dilated circular convolution.
+     * Tap offsets never exceed one period, so a single wrap replaces the modulo.
+     */
+    static void circularConvolveMODWTDilatedScalar(double[] signal, double[] filter,
+                                                   double[] output, int dilation) {
+        circularConvolveMODWTDilatedScalar(signal, filter, output, dilation, 0, signal.length);
+    }
+
+    /**
+     * Scalar implementation of dilated circular convolution over [start, end).
+     */
+    static void circularConvolveMODWTDilatedScalar(double[] signal, double[] filter,
+                                                   double[] output, int dilation,
+                                                   int start, int end) {
+        int signalLen = signal.length;
+        int taps = dilatedTapCount(filter.length, dilation, signalLen);
+
+        // Outputs before the filter span (taps-1)·d wrap; (taps-1)·d < N, so one add suffices
+        int interiorStart = Math.min(Math.max((taps - 1) * dilation, start), end);
+        for (int t = start; t < interiorStart; t++) {
+            double sum = 0.0;
+
+            for (int k = 0; k < taps; k++) {
+                int idx = t - k * dilation;
+                if (idx < 0) {
+                    idx += signalLen;
+                }
+                sum += signal[idx] * filter[k];
+            }
+
+            output[t] = sum;
+        }
+
+        for (int t = interiorStart; t < end; t++) {
+            double sum = 0.0;
+
+            for (int k = 0; k < taps; k++) {
+                sum += signal[t - k * dilation] * filter[k];
+            }
+
+            output[t] = sum;
+        }
+    }
+
+    /**
+     * Performs zero-padding convolution with a dilated filter for multi-level MODWT.
+     * Values before the start of the signal are treated as zeros.
+     *
+     * @param signal The input signal of length N.
+     * @param filter The base (not upsampled) filter coefficients.
+     * @param output The output array of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void zeroPaddingConvolveMODWTDilated(double[] signal, double[] filter,
+                                                       double[] output, int dilation) {
+        zeroPaddingConvolveMODWTDilated(signal, filter, output, dilation, 0, signal.length);
+    }
+
+    /**
+     * Performs dilated zero-padding convolution for the output samples in [start, end) only.
+     *
+     * @param signal The input signal of length N.
+     * @param filter The base (not upsampled) filter coefficients.
+     * @param output The output array of length N; only [start, end) is written.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @param start First output index (inclusive).
+     * @param end Last output index (exclusive).
+     */
+    public static void zeroPaddingConvolveMODWTDilated(double[] signal, double[] filter,
+                                                       double[] output, int dilation,
+                                                       int start, int end) {
+        int taps = dilatedTapCount(filter.length, dilation, signal.length);
+        if (VECTORIZATION_ENABLED && shouldUseVectorization(end - start, taps)) {
+            VectorOps.zeroPaddingConvolveMODWTDilatedVectorized(signal, filter, output, dilation, start, end);
+            return;
+        }
+
+        for (int t = start; t < end; t++) {
+            double sum = 0.0;
+
+            // Only taps with t - k·d >= 0 touch the signal
+            int maxK = Math.min(taps, t / dilation + 1);
+            for (int k = 0; k < maxK; k++) {
+                sum += signal[t - k * dilation] * filter[k];
+            }
+
+            output[t] = sum;
+        }
+    }
+
+    /**
+     * Performs symmetric-extension convolution with a dilated filter for multi-level MODWT.
+     *
+     * @param signal The input signal of length N.
+     * @param filter The base (not upsampled) filter coefficients.
+     * @param output The output array of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void symmetricConvolveMODWTDilated(double[] signal, double[] filter,
+                                                     double[] output, int dilation) {
+        symmetricConvolveMODWTDilated(signal, filter, output, dilation, 0, signal.length);
+    }
+
+    /**
+     * Performs dilated symmetric-extension convolution for the output samples in [start, end) only.
+     *
+     * @param signal The input signal of length N.
+     * @param filter The base (not upsampled) filter coefficients.
+     * @param output The output array of length N; only [start, end) is written.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @param start First output index (inclusive).
+     * @param end Last output index (exclusive).
+     */
+    public static void symmetricConvolveMODWTDilated(double[] signal, double[] filter,
+                                                     double[] output, int dilation,
+                                                     int start, int end) {
+        int signalLen = signal.length;
+        int taps = dilatedTapCount(filter.length, dilation, signalLen);
+
+        for (int t = start; t < end; t++) {
+            double sum = 0.0;
+
+            for (int k = 0; k < taps; k++) {
+                int idx = MathUtils.symmetricBoundaryExtension(t - k * dilation, signalLen);
+                sum += signal[idx] * filter[k];
+            }
+
+            output[t] = sum;
+        }
+    }
+
+    /** Boundary extension codes shared by the fused kernels of ScalarOps and VectorOps. */
+    static final int EXTEND_PERIODIC = 0;
+    static final int EXTEND_ZERO = 1;
+    static final int EXTEND_SYMMETRIC = 2;
+
+    /**
+     * Performs periodic dilated MODWT analysis with both filters in a single pass.
+     *
+     * <p>Each input sample is loaded once and feeds both the low-pass and the high-pass
+     * accumulator, so the signal is streamed through the cache once instead of twice.
+     * The result equals two calls to {@link #circularConvolveMODWTDilated}.</p>
+     *
+     * @param signal The input signal of length N.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output of length N.
+     * @param detailOut The detail output of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void circularConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                         double[] approxOut, double[] detailOut, int dilation) {
+        convolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                  0, signal.length, EXTEND_PERIODIC);
+    }
+
+    /**
+     * Performs fused periodic dilated MODWT analysis for the output samples in [start, end) only.
+     *
+     * @param signal The input signal of length N.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output of length N; only [start, end) is written.
+     * @param detailOut The detail output of length N; only [start, end) is written.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @param start First output index (inclusive).
+     * @param end Last output index (exclusive).
+     */
+    public static void circularConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                         double[] approxOut, double[] detailOut, int dilation,
+                                                         int start, int end) {
+        convolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                  start, end, EXTEND_PERIODIC);
+    }
+
+    /**
+     * Performs zero-padding dilated MODWT analysis with both filters in a single pass.
+     *
+     * @param signal The input signal of length N.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output of length N.
+     * @param detailOut The detail output of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @see #circularConvolveMODWTDilatedFused(double[], double[], double[], double[], double[], int)
+     */
+    public static void zeroPaddingConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                            double[] approxOut, double[] detailOut, int dilation) {
+        convolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                  0, signal.length, EXTEND_ZERO);
+    }
+
+    /**
+     * Performs fused zero-padding dilated MODWT analysis for the output samples in [start, end) only.
+     *
+     * @param signal The input signal of length N.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output of length N; only [start, end) is written.
+     * @param detailOut The detail output of length N; only [start, end) is written.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @param start First output index (inclusive).
+     * @param end Last output index (exclusive).
+     */
+    public static void zeroPaddingConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                            double[] approxOut, double[] detailOut, int dilation,
+                                                            int start, int end) {
+        convolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                  start, end, EXTEND_ZERO);
+    }
+
+    /**
+     * Performs symmetric-extension dilated MODWT analysis with both filters in a single pass.
+     *
+     * @param signal The input signal of length N.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output of length N.
+     * @param detailOut The detail output of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @see #circularConvolveMODWTDilatedFused(double[], double[], double[], double[], double[], int)
+     */
+    public static void symmetricConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                          double[] approxOut, double[] detailOut, int dilation) {
+        convolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                  0, signal.length, EXTEND_SYMMETRIC);
+    }
+
+    /**
+     * Performs fused symmetric-extension dilated MODWT analysis for the output samples in [start, end) only.
+     *
+     * @param signal The input signal of length N.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output of length N; only [start, end) is written.
+     * @param detailOut The detail output of length N; only [start, end) is written.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     * @param start First output index (inclusive).
+     * @param end Last output index (exclusive).
+     */
+    public static void symmetricConvolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                          double[] approxOut, double[] detailOut, int dilation,
+                                                          int start, int end) {
+        convolveMODWTDilatedFused(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                  start, end, EXTEND_SYMMETRIC);
+    }
+
+    private static void convolveMODWTDilatedFused(double[] signal, double[] lowPass, double[] highPass,
+                                                  double[] approxOut, double[] detailOut, int dilation,
+                                                  int start, int end, int extension) {
+        int taps = dilatedTapCount(Math.max(lowPass.length, highPass.length), dilation, signal.length);
+        if (VECTORIZATION_ENABLED && shouldUseVectorization(end - start, taps)) {
+            VectorOps.convolveMODWTDilatedFusedVectorized(signal, lowPass, highPass, approxOut, detailOut,
+                                                          dilation, start, end, extension);
+            return;
+        }
+        convolveMODWTDilatedFusedScalar(signal, lowPass, highPass, approxOut, detailOut, dilation,
+                                        start, end, extension);
+    }
+
+    /**
+     * Scalar fused kernel. Outputs t ≥ (taps-1)·d read only in-range samples; the head
+     * before that resolves each index through the boundary extension.
+     */
+    static void convolveMODWTDilatedFusedScalar(double[] signal, double[] lowPass, double[] highPass,
+                                                double[] approxOut, double[] detailOut, int dilation,
+                                                int start, int end, int extension) {
+        int signalLen = signal.length;
+        int lowTaps = dilatedTapCount(lowPass.length, dilation, signalLen);
+        int highTaps = dilatedTapCount(highPass.length, dilation, signalLen);
+        int maxTaps = Math.max(lowTaps, highTaps);
+        int interiorStart = Math.min(Math.max((maxTaps - 1) * dilation, start), end);
+
+        for (int t = start; t < interiorStart; t++) {
+            double approxSum = 0.0;
+            double detailSum = 0.0;
+
+            for (int k = 0; k < maxTaps; k++) {
+                int idx = t - k * dilation;
+                if (idx < 0) {
+                    if (extension == EXTEND_ZERO) {
+                        break; // every further tap is also before the start
+                    }
+                    // (taps-1)·d < N, so one wrap or one reflection suffices
+                    idx = extension == EXTEND_PERIODIC ? idx + signalLen : -idx - 1;
+                }
+                double sample = signal[idx];
+                if (k < lowTaps) {
+                    approxSum += sample * lowPass[k];
+                }
+                if (k < highTaps) {
+                    detailSum += sample * highPass[k];
+                }
+            }
+
+            approxOut[t] = approxSum;
+            detailOut[t] = detailSum;
+        }
+
+        for (int t = interiorStart; t < end; t++) {
+            double approxSum = 0.0;
+            double detailSum = 0.0;
+
+            for (int k = 0; k < maxTaps; k++) {
+                double sample = signal[t - k * dilation];
+                if (k < lowTaps) {
+                    approxSum += sample * lowPass[k];
+                }
+                if (k < highTaps) {
+                    detailSum += sample * highPass[k];
+                }
+            }
+
+            approxOut[t] = approxSum;
+            detailOut[t] = detailSum;
+        }
+    }
+
+    /**
+     * Performs fused dilated MODWT analysis over a run whose taps are all in range,
+     * with independent input and output offsets.
+     *
+     * <p>Output i of the run is</p>
+     * approxOut[approxOffset + i] = Σ_k h_k * input[inputOffset + i - k·d]
+     * <p>and likewise for the detail. No boundary extension is applied, so the caller
+     * must ensure inputOffset ≥ (L-1)·d. This lets a cache-blocked cascade read a tile
+     * with its halo and write straight into the full-length coefficient arrays.</p>
+     *
+     * @param input The input samples, including the halo before inputOffset.
+     * @param inputOffset Index in input of the first output's current sample.
+     * @param lowPass The base low-pass filter.
+     * @param highPass The base high-pass filter.
+     * @param approxOut The approximation output.
+     * @param approxOffset Index in approxOut of the first output.
+     * @param detailOut The detail output.
+     * @param detailOffset Index in detailOut of the first output.
+     * @param length The number of outputs.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void convolveMODWTDilatedFusedInterior(double[] input, int inputOffset,
+                                                         double[] lowPass, double[] highPass,
+                                                         double[] approxOut, int approxOffset,
+                                                         double[] detailOut, int detailOffset,
+                                                         int length, int dilation) {
+        int maxTaps = Math.max(lowPass.length, highPass.length);
+        if (inputOffset < (maxTaps - 1) * dilation) {
+            throw new IllegalArgumentException("Input offset " + inputOffset +
+                " does not cover the filter span " + (maxTaps - 1) * dilation);
+        }
+        if (VECTORIZATION_ENABLED && shouldUseVectorization(length, maxTaps)) {
+            VectorOps.convolveMODWTDilatedFusedInteriorVectorized(input, inputOffset, lowPass, highPass,
+                approxOut, approxOffset, detailOut, detailOffset, length, dilation);
+            return;
+        }
+        convolveMODWTDilatedFusedInteriorScalar(input, inputOffset, lowPass, highPass,
+            approxOut, approxOffset, detailOut, detailOffset, 0, length, dilation);
+    }
+
+    /**
+     * Scalar interior fused kernel for outputs [from, to) of the run.
+     */
+    static void convolveMODWTDilatedFusedInteriorScalar(double[] input, int inputOffset,
+                                                        double[] lowPass, double[] highPass,
+                                                        double[] approxOut, int approxOffset,
+                                                        double[] detailOut, int detailOffset,
+                                                        int from, int to, int dilation) {
+        int lowTaps = lowPass.length;
+        int highTaps = highPass.length;
+        int maxTaps = Math.max(lowTaps, highTaps);
+
+        for (int i = from; i < to; i++) {
+            int t = inputOffset + i;
+            double approxSum = 0.0;
+            double detailSum = 0.0;
+
+            for (int k = 0; k < maxTaps; k++) {
+                double sample = input[t - k * dilation];
+                if (k < lowTaps) {
+                    approxSum += sample * lowPass[k];
+                }
+                if (k < highTaps) {
+                    detailSum += sample * highPass[k];
+                }
+            }
+
+            approxOut[approxOffset + i] = approxSum;
+            detailOut[detailOffset + i] = detailSum;
+        }
+    }
+
+    /**
+     * Performs the periodic inverse MODWT step with dilated reconstruction filters.
+     *
+     * <p>Combines approximation and detail coefficients of one level:</p>
+     * X_t = Σ_k g_k * A_{(t + k·d) mod N} + h_k * D_{(t + k·d) mod N}
+     *
+     * @param approx The approximation coefficients of length N.
+     * @param details The detail coefficients of length N.
+     * @param lowRecon The base low-pass reconstruction filter.
+     * @param highRecon The base high-pass reconstruction filter.
+     * @param output The output array of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void circularInverseMODWTDilated(double[] approx, double[] details,
+                                                   double[] lowRecon, double[] highRecon,
+                                                   double[] output, int dilation) {
+        int signalLen = approx.length;
+        int lowTaps = dilatedTapCount(lowRecon.length, dilation, signalLen);
+        int highTaps = dilatedTapCount(highRecon.length, dilation, signalLen);
+        if (VECTORIZATION_ENABLED && shouldUseVectorization(signalLen, Math.max(lowTaps, highTaps))) {
+            VectorOps.circularInverseMODWTDilatedVectorized(approx, details, lowRecon, highRecon,
+                                                            output, dilation);
+            return;
+        }
+
+        int maxTaps = Math.max(lowTaps, highTaps);
+
+        // Interior: t + k·d < N for every tap, so no wrapping is needed; (taps-1)·d < N
+        int interiorEnd = signalLen - (maxTaps - 1) * dilation;
+        for (int t = 0; t < interiorEnd; t++) {
+            double sum = 0.0;
+
+            for (int k = 0; k < maxTaps; k++) {
+                int idx = t + k * dilation;
+                if (k < lowTaps) {
+                    sum += lowRecon[k] * approx[idx];
+                }
+                if (k < highTaps) {
+                    sum += highRecon[k] * details[idx];
+                }
+            }
+
+            output[t] = sum;
+        }
+
+        // Tail: taps past the end wrap to the start with a single subtraction
+        for (int t = interiorEnd; t < signalLen; t++) {
+            double sum = 0.0;
+
+            for (int k = 0; k < maxTaps; k++) {
+                int idx = t + k * dilation;
+                if (idx >= signalLen) {
+                    idx -= signalLen;
+                }
+                if (k < lowTaps) {
+                    sum += lowRecon[k] * approx[idx];
+                }
+                if (k < highTaps) {
+                    sum += highRecon[k] * details[idx];
+                }
+            }
+
+            output[t] = sum;
+        }
+    }
+
+    /**
+     * Performs the zero-padding inverse MODWT step with dilated reconstruction filters.
+     * Coefficients past the end of the signal are treated as zeros.
+     *
+     * @param approx The approximation coefficients of length N.
+     * @param details The detail coefficients of length N.
+     * @param lowRecon The base low-pass reconstruction filter.
+     * @param highRecon The base high-pass reconstruction filter.
+     * @param output The output array of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void zeroPaddingInverseMODWTDilated(double[] approx, double[] details,
+                                                      double[] lowRecon, double[] highRecon,
+                                                      double[] output, int dilation) {
+        int signalLen = approx.length;
+        int lowTaps = dilatedTapCount(lowRecon.length, dilation, signalLen);
+        int highTaps = dilatedTapCount(highRecon.length, dilation, signalLen);
+        if (VECTORIZATION_ENABLED && shouldUseVectorization(signalLen, Math.max(lowTaps, highTaps))) {
+            VectorOps.zeroPaddingInverseMODWTDilatedVectorized(approx, details, lowRecon, highRecon,
+                                                               output, dilation);
+            return;
+        }
+
+        for (int t = 0; t < signalLen; t++) {
+            double sum = 0.0;
+
+            // Only taps with t + k·d < N touch the coefficients
+            int reach = (signalLen - 1 - t) / dilation + 1;
+            int maxTaps = Math.min(Math.max(lowTaps, highTaps), reach);
+            for (int k = 0; k < maxTaps; k++) {
+                int idx = t + k * dilation;
+                if (k < lowTaps) {
+                    sum += lowRecon[k] * approx[idx];
+                }
+                if (k < highTaps) {
+                    sum += highRecon[k] * details[idx];
+                }
+            }
+
+            output[t] = sum;
+        }
+    }
+
+    /**
+     * Performs the symmetric-extension inverse MODWT step with dilated reconstruction filters.
+     * Uses (t - k·d) indexing with time-reversed filters, mirrored at the boundaries.
+     *
+     * @param approx The approximation coefficients of length N.
+     * @param details The detail coefficients of length N.
+     * @param lowRecon The base low-pass reconstruction filter.
+     * @param highRecon The base high-pass reconstruction filter.
+     * @param output The output array of length N.
+     * @param dilation The spacing between filter taps, d = 2^(j-1) at level j.
+     */
+    public static void symmetricInverseMODWTDilated(double[] approx, double[] details,
+                                                    double[] lowRecon, double[] highRecon,
+                                                    double[] output, int dilation) {
+        int signalLen = approx.length;
+        int lowTaps = dilatedTapCount(lowRecon.length, dilation, signalLen);
+        int highTaps = dilatedTapCount(highRecon.length, dilation, signalLen);
+        int maxTaps = Math.max(lowTaps, highTaps);
+
+        for (int t = 0; t < signalLen; t++) {
+            double sum = 0.0;
+
+            for (int k = 0; k < maxTaps; k++) {
+                int idx = MathUtils.symmetricBoundaryExtension(t - k * dilation, signalLen);
+                if (k < lowTaps) {
+                    sum += lowRecon[k] * approx[idx];
+                }
+                if (k < highTaps) {
+                    sum += highRecon[k] * details[idx];
+                }
+            }
+
+            output[t] = sum;
+        }
+    }
+
     /**
      * Scales wavelet filter coefficients for MODWT at a specific level.
      * MODWT uses scaled filters: h_j,l = h_l / 2^(j/2) for level j.
@@ -907,6 +1517,25 @@ public final class ScalarOps {
         }
     }
     
+    /**
+     * Writes the absolute values of the first {@code length} elements of src to dst.
+     * Uses VectorOps for SIMD optimization when available and beneficial.
+     * src and dst may be the same array.
+     * 
+     * @param src the source values
+     * @param dst receives the absolute values
+     * @param length the number of elements
+     */
+    public static void abs(double[] src, double[] dst, int length) {
+        if (VECTORIZATION_ENABLED && length >= MIN_VECTORIZATION_LENGTH) {
+            VectorOps.absVectorized(src, dst, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst[i] = Math.abs(src[i]);
+            }
+        }
+    }
+    
     /**
      * Gets performance characteristics for the current system configuration.
      * Useful for monitoring and optimization decisions.
@@ -982,4 +1611,60 @@ public final class ScalarOps {
     public static double[] hardThreshold(double[] coefficients, double threshold) {
         return VectorOps.Denoising.hardThreshold(coefficients, threshold);
     }
+
+    /**
+     * Applies soft thresholding into a caller-supplied buffer, which may be the input.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value
+     * @param output receives the thresholded coefficients
+     */
+    public static void softThreshold(double[] coefficients, double threshold, double[] output) {
+        VectorOps.Denoising.softThreshold(coefficients, threshold, output);
+    }
+
+    /**
+     * Applies hard thresholding into a caller-supplied buffer, which may be the input.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value
+     * @param output receives the thresholded coefficients
+     */
+    public static void hardThreshold(double[] coefficients, double threshold, double[] output) {
+        VectorOps.Denoising.hardThreshold(coefficients, threshold, output);
+    }
+
+    /**
+     * Applies non-negative garrote thresholding into a caller-supplied buffer, which may be the input.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value
+     * @param output receives the thresholded coefficients
+     */
+    public static void garroteThreshold(double[] coefficients, double threshold, double[] output) {
+        VectorOps.Denoising.garroteThreshold(coefficients, threshold, output);
+    }
+
+    /**
+     * Applies firm thresholding into a caller-supplied buffer, which may be the input.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param lower the lower threshold
+     * @param upper the upper threshold
+     * @param output receives the thresholded coefficients
+     */
+    public static void firmThreshold(double[] coefficients, double lower, double upper, double[] output) {
+        VectorOps.Denoising.firmThreshold(coefficients, lower, upper, output);
+    }
+
+    /**
+     * Applies SCAD thresholding into a caller-supplied buffer, which may be the input.
+     *
+     * @param coefficients the wavelet coefficients to threshold
+     * @param threshold the threshold value
+     * @param output receives the thresholded coefficients
+     */
+    public static void scadThreshold(double[] coefficients, double threshold, double[] output) {
+        VectorOps.Denoising.scadThreshold(coefficients, threshold, output);
+    }
 }
\ No newline at end of file
@@ -4,8 +4,11 @@ import ai.prophetizo.wavelet.util.PlatformDetector;
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.VectorMask;
 import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
 import jdk.incubator.vector.VectorSpecies;
 
+import java.util.Arrays;
+
 /**
  * SIMD-optimized wavelet operations using Java Vector API.
  *
@@ -37,6 +40,8 @@ public final class VectorOps {
     private static final boolean IS_APPLE_SILICON = PlatformDetector.isAppleSilicon();
 
     private static final int VECTOR_LENGTH = SPECIES.length();
+    private static final VectorShuffle<Double> REVERSE =
+        VectorShuffle.iota(SPECIES, VECTOR_LENGTH - 1, -1, false);
     // Minimum signal length to use vectorization - adjusted for platform
     // ARM/Apple Silicon has smaller vectors (128-bit) so lower threshold
     private static final int MIN_VECTOR_LENGTH = IS_ARM ? VECTOR_LENGTH * 2 : VECTOR_LENGTH * 4;
@@ -435,9 +440,16 @@ public final class VectorOps {
 
     /**
      * Vectorized element-wise operations for wavelet denoising.
+     *
+     * <p>Every rule has an allocating form and an into-buffer form. The into-buffer form
+     * writes {@code output[i]} from {@code coefficients[i]} only, so output may be the
+     * coefficient array itself for in-place thresholding.</p>
      */
     public static class Denoising {
 
+        /** The SCAD shape parameter suggested by Fan and Li (2001). */
+        public static final double SCAD_A = 3.7;
+
         /**
          * Soft thresholding for wavelet coefficients.
          *
@@ -446,96 +458,234 @@ public final class VectorOps {
          * @return thresholded coefficients
          */
         public static double[] softThreshold(double[] coefficients, double threshold) {
-            int length = coefficients.length;
-            double[] result = new double[length];
-
-            if (!isVectorizedOperationBeneficial(length)) {
-                // Scalar fallback
-                for (int i = 0; i < length; i++) {
-                    double coeff = coefficients[i];
-                    double absCoeff = Math.abs(coeff);
-                    result[i] = absCoeff <= threshold ? 0.0 :
-                            Math.signum(coeff) * (absCoeff - threshold);
-                }
-                return result;
-            }
-
-            // Vectorized implementation
-            DoubleVector thresholdVec = DoubleVector.broadcast(SPECIES, threshold);
-            DoubleVector negThresholdVec = DoubleVector.broadcast(SPECIES, -threshold);
-            DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+            double[] result = new double[coefficients.length];
+            softThreshold(coefficients, threshold, result);
+            return result;
+        }
 
+        /**
+         * Soft thresholding into a caller-supplied buffer.
+         *
+         * @param coefficients wavelet coefficients to threshold
+         * @param threshold    threshold value
+         * @param output       receives the thresholded coefficients; may be coefficients
+         */
+        public static void softThreshold(double[] coefficients, double threshold, double[] output) {
+            int length = coefficients.length;
             int i = 0;
-            int vectorLoopBound = length - (length % VECTOR_LENGTH);
 
-            for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
-                DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
+            if (isVectorizedOperationBeneficial(length)) {
+                DoubleVector thresholdVec = DoubleVector.broadcast(SPECIES, threshold);
+                DoubleVector negThresholdVec = DoubleVector.broadcast(SPECIES, -threshold);
+                DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+                int vectorLoopBound = length - (length % VECTOR_LENGTH);
 
-                // Create masks for different cases
-                VectorMask<Double> positiveMask = coeff.compare(VectorOperators.GT, thresholdVec);
-                VectorMask<Double> negativeMask = coeff.compare(VectorOperators.LT, negThresholdVec);
-                VectorMask<Double> zeroMask = positiveMask.or(negativeMask).not();
+                for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+                    DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
 
-                // Apply soft thresholding
-                DoubleVector result_vec = zeroVec;
-                result_vec = coeff.sub(thresholdVec).blend(result_vec, positiveMask.not());
-                result_vec = coeff.add(thresholdVec).blend(result_vec, negativeMask.not());
-                result_vec = zeroVec.blend(result_vec, zeroMask.not());
+                    // Create masks for different cases
+                    VectorMask<Double> positiveMask = coeff.compare(VectorOperators.GT, thresholdVec);
+                    VectorMask<Double> negativeMask = coeff.compare(VectorOperators.LT, negThresholdVec);
 
-                result_vec.intoArray(result, i);
+                    // Apply soft thresholding
+                    DoubleVector result_vec = zeroVec;
+                    result_vec = result_vec.blend(coeff.sub(thresholdVec), positiveMask);
+                    result_vec = result_vec.blend(coeff.add(thresholdVec), negativeMask);
+                    result_vec.intoArray(output, i);
+                }
             }
 
-            // Handle remainder with scalar operations
+            // Scalar fallback and remainder
             for (; i < length; i++) {
                 double coeff = coefficients[i];
                 double absCoeff = Math.abs(coeff);
-                result[i] = absCoeff <= threshold ? 0.0 :
+                output[i] = absCoeff <= threshold ? 0.0 :
                         Math.signum(coeff) * (absCoeff - threshold);
             }
-
-            return result;
         }
 
         /**
          * Hard thresholding for wavelet coefficients.
          */
         public static double[] hardThreshold(double[] coefficients, double threshold) {
+            double[] result = new double[coefficients.length];
+            hardThreshold(coefficients, threshold, result);
+            return result;
+        }
+
+        /**
+         * Hard thresholding into a caller-supplied buffer.
+         *
+         * @param coefficients wavelet coefficients to threshold
+         * @param threshold    threshold value
+         * @param output       receives the thresholded coefficients; may be coefficients
+         */
+        public static void hardThreshold(double[] coefficients, double threshold, double[] output) {
             int length = coefficients.length;
-            double[] result = new double[length];
+            int i = 0;
 
-            if (!isVectorizedOperationBeneficial(length)) {
-                // Scalar fallback
-                for (int i = 0; i < length; i++) {
-                    result[i] = Math.abs(coefficients[i]) <= threshold ? 0.0 : coefficients[i];
+            if (isVectorizedOperationBeneficial(length)) {
+                DoubleVector thresholdVec = DoubleVector.broadcast(SPECIES, threshold);
+                DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+                int vectorLoopBound = length - (length % VECTOR_LENGTH);
+
+                for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+                    DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
+
+                    // Create mask for values to keep
+                    VectorMask<Double> keepMask = coeff.abs().compare(VectorOperators.GT, thresholdVec);
+
+                    // Apply hard thresholding
+                    zeroVec.blend(coeff, keepMask).intoArray(output, i);
                 }
-                return result;
             }
 
-            // Vectorized implementation
-            DoubleVector thresholdVec = DoubleVector.broadcast(SPECIES, threshold);
-            DoubleVector negThresholdVec = DoubleVector.broadcast(SPECIES, -threshold);
-            DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+            // Scalar fallback and remainder
+            for (; i < length; i++) {
+                output[i] = Math.abs(coefficients[i]) <= threshold ? 0.0 : coefficients[i];
+            }
+        }
 
+        /**
+         * Non-negative garrote thresholding into a caller-supplied buffer:
+         * x - t&sup2;/x for |x| &gt; t, else 0. Large coefficients are shrunk less than
+         * with soft thresholding, and unlike hard thresholding the rule is continuous.
+         *
+         * @param coefficients wavelet coefficients to threshold
+         * @param threshold    threshold value
+         * @param output       receives the thresholded coefficients; may be coefficients
+         */
+        public static void garroteThreshold(double[] coefficients, double threshold, double[] output) {
+            int length = coefficients.length;
+            double threshold2 = threshold * threshold;
             int i = 0;
-            int vectorLoopBound = length - (length % VECTOR_LENGTH);
 
-            for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
-                DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
+            if (isVectorizedOperationBeneficial(length)) {
+                DoubleVector thresholdVec = DoubleVector.broadcast(SPECIES, threshold);
+                DoubleVector threshold2Vec = DoubleVector.broadcast(SPECIES, threshold2);
+                DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+                int vectorLoopBound = length - (length % VECTOR_LENGTH);
 
-                // Create mask for values to keep
-                VectorMask<Double> keepMask = coeff.abs().compare(VectorOperators.GT, thresholdVec);
+                for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+                    DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
+                    VectorMask<Double> keepMask = coeff.abs().compare(VectorOperators.GT, thresholdVec);
 
-                // Apply hard thresholding
-                DoubleVector result_vec = coeff.blend(zeroVec, keepMask.not());
-                result_vec.intoArray(result, i);
+                    // Lanes at or below the threshold (including zeros) are blended away
+                    DoubleVector shrunk = coeff.sub(threshold2Vec.div(coeff));
+                    zeroVec.blend(shrunk, keepMask).intoArray(output, i);
+                }
             }
 
-            // Handle remainder
+            // Scalar fallback and remainder
             for (; i < length; i++) {
-                result[i] = Math.abs(coefficients[i]) <= threshold ? 0.0 : coefficients[i];
+                double coeff = coefficients[i];
+                output[i] = Math.abs(coeff) <= threshold ? 0.0 : coeff - threshold2 / coeff;
             }
+        }
 
-            return result;
+        /**
+         * Firm thresholding (Gao and Bruce) into a caller-supplied buffer: 0 for
+         * |x| &le; lower, x for |x| &gt; upper, and a linear ramp from 0 to upper in
+         * between. Approaches hard thresholding as upper approaches lower and soft
+         * thresholding as upper grows.
+         *
+         * @param coefficients wavelet coefficients to threshold
+         * @param lower        lower threshold
+         * @param upper        upper threshold, greater than lower
+         * @param output       receives the thresholded coefficients; may be coefficients
+         */
+        public static void firmThreshold(double[] coefficients, double lower, double upper, double[] output) {
+            int length = coefficients.length;
+            double slope = upper / (upper - lower);
+            int i = 0;
+
+            if (isVectorizedOperationBeneficial(length)) {
+                DoubleVector lowerVec = DoubleVector.broadcast(SPECIES, lower);
+                DoubleVector upperVec = DoubleVector.broadcast(SPECIES, upper);
+                DoubleVector slopeVec = DoubleVector.broadcast(SPECIES, slope);
+                DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+                int vectorLoopBound = length - (length % VECTOR_LENGTH);
+
+                for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+                    DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
+                    DoubleVector abs = coeff.abs();
+                    VectorMask<Double> rampMask = abs.compare(VectorOperators.GT, lowerVec);
+                    VectorMask<Double> keepMask = abs.compare(VectorOperators.GT, upperVec);
+
+                    // sign(x) * upper * (|x| - lower) / (upper - lower)
+                    DoubleVector ramp = abs.sub(lowerVec).mul(slopeVec)
+                        .lanewise(VectorOperators.NEG, coeff.compare(VectorOperators.LT, zeroVec));
+                    zeroVec.blend(ramp, rampMask).blend(coeff, keepMask).intoArray(output, i);
+                }
+            }
+
+            // Scalar fallback and remainder
+            for (; i < length; i++) {
+                double coeff = coefficients[i];
+                double absCoeff = Math.abs(coeff);
+                if (absCoeff <= lower) {
+                    output[i] = 0.0;
+                } else if (absCoeff <= upper) {
+                    output[i] = Math.copySign((absCoeff - lower) * slope, coeff);
+                } else {
+                    output[i] = coeff;
+                }
+            }
+        }
+
+        /**
+         * SCAD thresholding (Fan and Li) into a caller-supplied buffer, with
+         * a = {@link #SCAD_A}: soft thresholding up to 2t, x unchanged above a&middot;t,
+         * and a linear blend of the two in between.
+         *
+         * @param coefficients wavelet coefficients to threshold
+         * @param threshold    threshold value
+         * @param output       receives the thresholded coefficients; may be coefficients
+         */
+        public static void scadThreshold(double[] coefficients, double threshold, double[] output) {
+            int length = coefficients.length;
+            double softLimit = 2.0 * threshold;
+            double keepLimit = SCAD_A * threshold;
+            int i = 0;
+
+            if (isVectorizedOperationBeneficial(length)) {
+                DoubleVector thresholdVec = DoubleVector.broadcast(SPECIES, threshold);
+                DoubleVector softLimitVec = DoubleVector.broadcast(SPECIES, softLimit);
+                DoubleVector keepLimitVec = DoubleVector.broadcast(SPECIES, keepLimit);
+                DoubleVector zeroVec = DoubleVector.zero(SPECIES);
+                int vectorLoopBound = length - (length % VECTOR_LENGTH);
+
+                for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+                    DoubleVector coeff = DoubleVector.fromArray(SPECIES, coefficients, i);
+                    DoubleVector abs = coeff.abs();
+                    VectorMask<Double> negative = coeff.compare(VectorOperators.LT, zeroVec);
+                    VectorMask<Double> shrinkMask = abs.compare(VectorOperators.GT, thresholdVec);
+                    VectorMask<Double> blendMask = abs.compare(VectorOperators.GT, softLimitVec);
+                    VectorMask<Double> keepMask = abs.compare(VectorOperators.GT, keepLimitVec);
+
+                    // Soft part: sign(x) * (|x| - t); middle part: sign(x) * ((a-1)|x| - a t) / (a-2)
+                    DoubleVector soft = abs.sub(thresholdVec).lanewise(VectorOperators.NEG, negative);
+                    DoubleVector middle = abs.mul(SCAD_A - 1).sub(keepLimitVec).div(SCAD_A - 2)
+                        .lanewise(VectorOperators.NEG, negative);
+                    zeroVec.blend(soft, shrinkMask).blend(middle, blendMask).blend(coeff, keepMask)
+                        .intoArray(output, i);
+                }
+            }
+
+            // Scalar fallback and remainder
+            for (; i < length; i++) {
+                double coeff = coefficients[i];
+                double absCoeff = Math.abs(coeff);
+                if (absCoeff <= threshold) {
+                    output[i] = 0.0;
+                } else if (absCoeff <= softLimit) {
+                    output[i] = Math.copySign(absCoeff - threshold, coeff);
+                } else if (absCoeff <= keepLimit) {
+                    output[i] = Math.copySign(((SCAD_A - 1) * absCoeff - keepLimit) / (SCAD_A - 2), coeff);
+                } else {
+                    output[i] = coeff;
+                }
+            }
         }
     }
     
@@ -555,97 +705,16 @@ public final class VectorOps {
         int signalLen = signal.length;
         int filterLen = filter.length;
         
-        // For smaller arrays, fall back to scalar implementation
-        if (!isVectorizedOperationBeneficial(signalLen)) {
+        // For smaller arrays, or filters longer than the signal (taps wrapping more
+        // than once), fall back to scalar implementation
+        if (!isVectorizedOperationBeneficial(signalLen) || filterLen > signalLen) {
             circularConvolveMODWTScalar(signal, filter, output);
             return;
         }
         
-        // Clear output array
-        clearArrayVectorized(output);
-        
-        // Pre-allocate indices array for reuse
-        int[] indices = new int[VECTOR_LENGTH];
-        
-        // Calculate vector loop bound once, outside the filter loop
-        int vectorLoopBound = SPECIES.loopBound(signalLen);
-        
-        for (int l = 0; l < filterLen; l++) {
-            if (filter[l] == 0.0) continue; // Skip zero coefficients
-            
-            DoubleVector filterVec = DoubleVector.broadcast(SPECIES, filter[l]);
-            
-            // Check if we can use direct vectorization without circular indexing
-            // For MODWT with time-reversed indexing, we need t - l >= 0 for all t in [l, vectorLoopBound + l)
-            if (l == 0) {
-                // Special case: no shift needed
-                for (int t = 0; t < vectorLoopBound; t += VECTOR_LENGTH) {
-                    DoubleVector signalVec = DoubleVector.fromArray(SPECIES, signal, t);
-                    DoubleVector outputVec = DoubleVector.fromArray(SPECIES, output, t);
-                    DoubleVector result = outputVec.add(signalVec.mul(filterVec));
-                    result.intoArray(output, t);
-                }
-            } else {
-                // Complex case: need to handle circular indexing
-                // Most indices won't wrap, so we can optimize by checking boundaries
-                for (int t = 0; t < vectorLoopBound; t += VECTOR_LENGTH) {
-                    int startIdx = t - l;
-                    int endIdx = startIdx + VECTOR_LENGTH;
-                    
-                    if (startIdx >= 0 && endIdx <= signalLen) {
-                        // No wrapping needed for this vector
-                        DoubleVector signalVec = DoubleVector.fromArray(SPECIES, signal, startIdx);
-                        DoubleVector outputVec = DoubleVector.fromArray(SPECIES, output, t);
-                        DoubleVector result = outputVec.add(signalVec.mul(filterVec));
-                        result.intoArray(output, t);
-                    } else {
-                        // Complex wrapping case - use vector gather for wrapped indices
-                        // This is more efficient than falling back to scalar processing
-                        
-                        // Build index array for gather operation
-                        for (int i = 0; i < VECTOR_LENGTH && t + i < signalLen; i++) {
-                            int idx = t + i - l;
-                            // Use robust modulo operation that handles all negative values correctly
-                            if (idx >= 0 && idx < signalLen) {
-                                // Most common case: index already in bounds
-                                indices[i] = idx;
-                            } else if (idx < 0 && idx >= -signalLen) {
-                                // Common case for negative indices: only one wrap needed
-                                indices[i] = idx + signalLen;
-                            } else {
-                                // Rare case for very negative or very positive indices
-                                indices[i] = ((idx % signalLen) + signalLen) % signalLen;
-                            }
-                        }
-                        
-                        // Use vector gather to load wrapped values
-                        DoubleVector signalVec = DoubleVector.fromArray(SPECIES, signal, 0, indices, 0);
-                        DoubleVector outputVec = DoubleVector.fromArray(SPECIES, output, t);
-                        DoubleVector result = outputVec.add(signalVec.mul(filterVec));
-                        result.intoArray(output, t);
-                    }
-                }
-            }
-            
-            // Handle remainder
-            for (int t = vectorLoopBound; t < signalLen; t++) {
-                // Use robust modulo operation for circular indexing
-                int idx = t - l;
-                // Optimize for common cases to avoid expensive double modulo
-                int signalIndex;
-                if (idx >= 0 && idx < signalLen) {
-                    // Most common case: index already in bounds
-                    signalIndex = idx;
-                } else if (idx < 0 && idx >= -signalLen) {
-                    // Common case for negative indices: only one wrap needed
-                    signalIndex = idx + signalLen;
-                } else {
-                    // Rare case for very negative or very positive indices
-                    signalIndex = ((idx % signalLen) + signalLen) % signalLen;
-                }
-                output[t] += signal[signalIndex] * filter[l];
-            }
-        }
+        // Level 1 is the dilated kernel with unit spacing: each tap's circular shift
+        // splits into a wrapped head run and a straight interior run, both contiguous
+        circularConvolveMODWTDilatedVectorized(signal, filter, output, 1);
     }
     
     /**
@@ -661,28 +730,321 @@ public final class VectorOps {
             double sum = 0.0;
             
             for (int l = 0; l < filterLen; l++) {
-                // Use (t - l) indexing to match MODWT time-reversed filter convention
-                // Use robust modulo operation that handles all negative values correctly
-                int idx = t - l;
-                // Optimize for common cases to avoid expensive double modulo
-                int signalIndex;
-                if (idx >= 0 && idx < signalLen) {
-                    // Most common case: index already in bounds
-                    signalIndex = idx;
-                } else if (idx < 0 && idx >= -signalLen) {
-                    // Common case for negative indices: only one wrap needed
-                    signalIndex = idx + signalLen;
-                } else {
-                    // Rare case for very negative or very positive indices
-                    signalIndex = ((idx % signalLen) + signalLen) % signalLen;
-                }
-                sum += signal[signalIndex] * filter[l];
+                // Use (t - l) indexing to match MODWT time-reversed filter convention;
+                // only reached for short signals, where the modulo cost is negligible
+                sum += signal[Math.floorMod(t - l, signalLen)] * filter[l];
             }
             
             output[t] = sum;
         }
     }
-    
+
+    /**
+     * Vectorized circular convolution with a dilated (à trous) filter.
+     *
+     * <p>Each non-zero tap at offset s = k·d splits the circular shift into two
+     * contiguous runs, output[s..N) += h_k·signal[0..N-s) and output[0..s) += h_k·signal[N-s..N),
+     * so no gather or modulo is needed regardless of the dilation.</p>
+     *
+     * @param signal The input signal
+     * @param filter The base filter coefficients
+     * @param output The output array
+     * @param dilation The spacing between filter taps
+     * @see ScalarOps#circularConvolveMODWTDilated
+     */
+    public static void circularConvolveMODWTDilatedVectorized(double[] signal, double[] filter,
+                                                              double[] output, int dilation) {
+        circularConvolveMODWTDilatedVectorized(signal, filter, output, dilation, 0, signal.length);
+    }
+
+    /**
+     * Vectorized dilated circular convolution for the output samples in [start, end).
+     *
+     * <p>For a tap at offset s, outputs t &lt; s read the wrapped input signal[t - s + N]
+     * and outputs t &ge; s read signal[t - s]; each part is a contiguous run.</p>
+     *
+     * @param signal The input signal
+     * @param filter The base filter coefficients
+     * @param output The output array; only [start, end) is written
+     * @param dilation The spacing between filter taps
+     * @param start First output index (inclusive)
+     * @param end Last output index (exclusive)
+     */
+    public static void circularConvolveMODWTDilatedVectorized(double[] signal, double[] filter,
+                                                              double[] output, int dilation,
+                                                              int start, int end) {
+        int signalLen = signal.length;
+        if (!isVectorizedOperationBeneficial(end - start)) {
+            ScalarOps.circularConvolveMODWTDilatedScalar(signal, filter, output, dilation, start, end);
+            return;
+        }
+
+        int taps = ScalarOps.dilatedTapCount(filter.length, dilation, signalLen);
+        Arrays.fill(output, start, end, 0.0);
+
+        for (int k = 0; k < taps; k++) {
+            if (filter[k] == 0.0) continue; // Skip zero coefficients
+            int shift = k * dilation;
+            int split = Math.min(Math.max(shift, start), end);
+            accumulateScaled(signal, start - shift + signalLen, filter[k], output, start, split - start);
+            accumulateScaled(signal, split - shift, filter[k], output, split, end - split);
+        }
+    }
+
+    /**
+     * Vectorized dilated MODWT analysis with both filters for the outputs in [start, end).
+     *
+     * <p>Output-stationary: each output vector keeps its low-pass and high-pass sums in
+     * registers across all taps, so every input vector is loaded once for both filters
+     * and every output is stored once. A tap whose source run lies entirely before the
+     * signal start reads the wrapped run (periodic), skips (zero padding) or reads the
+     * mirrored run reversed (symmetric). Output vectors whose source run straddles the
+     * start for some tap are computed by the scalar kernel.</p>
+     *
+     * @param signal The input signal
+     * @param lowPass The base low-pass filter
+     * @param highPass The base high-pass filter
+     * @param approxOut The approximation output; only [start, end) is written
+     * @param detailOut The detail output; only [start, end) is written
+     * @param dilation The spacing between filter taps
+     * @param start First output index (inclusive)
+     * @param end Last output index (exclusive)
+     * @param extension One of the ScalarOps EXTEND_* boundary codes
+     * @see ScalarOps#circularConvolveMODWTDilatedFused
+     */
+    static void convolveMODWTDilatedFusedVectorized(double[] signal, double[] lowPass, double[] highPass,
+                                                    double[] approxOut, double[] detailOut, int dilation,
+                                                    int start, int end, int extension) {
+        int signalLen = signal.length;
+        int lowTaps = ScalarOps.dilatedTapCount(lowPass.length, dilation, signalLen);
+        int highTaps = ScalarOps.dilatedTapCount(highPass.length, dilation, signalLen);
+        int maxTaps = Math.max(lowTaps, highTaps);
+        // Past the span every tap reads in range and no straddle check is needed
+        int interiorStart = (maxTaps - 1) * dilation;
+
+        int t = start;
+        int vectorEnd = start + SPECIES.loopBound(end - start);
+        for (; t < vectorEnd; t += VECTOR_LENGTH) {
+            if (t < interiorStart && straddlesStart(t, dilation, maxTaps)) {
+                ScalarOps.convolveMODWTDilatedFusedScalar(signal, lowPass, highPass, approxOut, detailOut,
+                    dilation, t, t + VECTOR_LENGTH, extension);
+                continue;
+            }
+
+            DoubleVector approxSum = DoubleVector.zero(SPECIES);
+            DoubleVector detailSum = DoubleVector.zero(SPECIES);
+            for (int k = 0; k < maxTaps; k++) {
+                int src = t - k * dilation;
+                DoubleVector samples;
+                if (src >= 0) {
+                    samples = DoubleVector.fromArray(SPECIES, signal, src);
+                } else if (extension == ScalarOps.EXTEND_PERIODIC) {
+                    samples = DoubleVector.fromArray(SPECIES, signal, src + signalLen);
+                } else if (extension == ScalarOps.EXTEND_SYMMETRIC) {
+                    // Lanes read signal[-src-1-i]: the run [-src-V, -src) in reverse
+                    samples = DoubleVector.fromArray(SPECIES, signal, -src - VECTOR_LENGTH).rearrange(REVERSE);
+                } else {
+                    break; // zero padding: every further tap is also before the start
+                }
+                if (k < lowTaps) {
+                    approxSum = approxSum.add(samples.mul(lowPass[k]));
+                }
+                if (k < highTaps) {
+                    detailSum = detailSum.add(samples.mul(highPass[k]));
+                }
+            }
+            approxSum.intoArray(approxOut, t);
+            detailSum.intoArray(detailOut, t);
+        }
+
+        ScalarOps.convolveMODWTDilatedFusedScalar(signal, lowPass, highPass, approxOut, detailOut,
+            dilation, t, end, extension);
+    }
+
+    /**
+     * Vectorized fused dilated MODWT analysis over a run whose taps are all in range.
+     *
+     * @param input The input samples, including the halo before inputOffset
+     * @param inputOffset Index in input of the first output's current sample
+     * @param lowPass The base low-pass filter
+     * @param highPass The base high-pass filter
+     * @param approxOut The approximation output
+     * @param approxOffset Index in approxOut of the first output
+     * @param detailOut The detail output
+     * @param detailOffset Index in detailOut of the first output
+     * @param length The number of outputs
+     * @param dilation The spacing between filter taps
+     * @see ScalarOps#convolveMODWTDilatedFusedInterior
+     */
+    static void convolveMODWTDilatedFusedInteriorVectorized(double[] input, int inputOffset,
+                                                            double[] lowPass, double[] highPass,
+                                                            double[] approxOut, int approxOffset,
+                                                            double[] detailOut, int detailOffset,
+                                                            int length, int dilation) {
+        int lowTaps = lowPass.length;
+        int highTaps = highPass.length;
+        int maxTaps = Math.max(lowTaps, highTaps);
+
+        int i = 0;
+        int vectorEnd = SPECIES.loopBound(length);
+        for (; i < vectorEnd; i += VECTOR_LENGTH) {
+            int t = inputOffset + i;
+            DoubleVector approxSum = DoubleVector.zero(SPECIES);
+            DoubleVector detailSum = DoubleVector.zero(SPECIES);
+            for (int k = 0; k < maxTaps; k++) {
+                DoubleVector samples = DoubleVector.fromArray(SPECIES, input, t - k * dilation);
+                if (k < lowTaps) {
+                    approxSum = approxSum.add(samples.mul(lowPass[k]));
+                }
+                if (k < highTaps) {
+                    detailSum = detailSum.add(samples.mul(highPass[k]));
+                }
+            }
+            approxSum.intoArray(approxOut, approxOffset + i);
+            detailSum.intoArray(detailOut, detailOffset + i);
+        }
+
+        ScalarOps.convolveMODWTDilatedFusedInteriorScalar(input, inputOffset, lowPass, highPass,
+            approxOut, approxOffset, detailOut, detailOffset, i, length, dilation);
+    }
+
+    /**
+     * Checks whether some tap offset k·d falls strictly inside (t, t + V), so that the
+     * source run of the output vector at t crosses the signal start.
+     */
+    private static boolean straddlesStart(int t, int dilation, int taps) {
+        int k = t / dilation + 1; // first tap with k·d > t
+        return k < taps && (long) k * dilation < t + VECTOR_LENGTH;
+    }
+
+    /**
+     * Vectorized zero-padding convolution with a dilated (à trous) filter.
+     *
+     * @param signal The input signal
+     * @param filter The base filter coefficients
+     * @param output The output array
+     * @param dilation The spacing between filter taps
+     * @see ScalarOps#zeroPaddingConvolveMODWTDilated
+     */
+    public static void zeroPaddingConvolveMODWTDilatedVectorized(double[] signal, double[] filter,
+                                                                 double[] output, int dilation) {
+        zeroPaddingConvolveMODWTDilatedVectorized(signal, filter, output, dilation, 0, signal.length);
+    }
+
+    /**
+     * Vectorized dilated zero-padding convolution for the output samples in [start, end).
+     *
+     * @param signal The input signal
+     * @param filter The base filter coefficients
+     * @param output The output array; only [start, end) is written
+     * @param dilation The spacing between filter taps
+     * @param start First output index (inclusive)
+     * @param end Last output index (exclusive)
+     */
+    public static void zeroPaddingConvolveMODWTDilatedVectorized(double[] signal, double[] filter,
+                                                                 double[] output, int dilation,
+                                                                 int start, int end) {
+        int taps = ScalarOps.dilatedTapCount(filter.length, dilation, signal.length);
+        Arrays.fill(output, start, end, 0.0);
+
+        for (int k = 0; k < taps; k++) {
+            if (filter[k] == 0.0) continue;
+            int shift = k * dilation;
+            // Outputs before the shift only see the zero padding
+            int from = Math.max(shift, start);
+            if (from < end) {
+                accumulateScaled(signal, from - shift, filter[k], output, from, end - from);
+            }
+        }
+    }
+
+    /**
+     * Vectorized periodic inverse MODWT step with dilated reconstruction filters.
+     *
+     * @param approx The approximation coefficients
+     * @param details The detail coefficients
+     * @param lowRecon The base low-pass reconstruction filter
+     * @param highRecon The base high-pass reconstruction filter
+     * @param output The output array
+     * @param dilation The spacing between filter taps
+     * @see ScalarOps#circularInverseMODWTDilated
+     */
+    public static void circularInverseMODWTDilatedVectorized(double[] approx, double[] details,
+                                                             double[] lowRecon, double[] highRecon,
+                                                             double[] output, int dilation) {
+        clearArrayVectorized(output);
+        accumulateCircularInverse(approx, lowRecon, output, dilation);
+        accumulateCircularInverse(details, highRecon, output, dilation);
+    }
+
+    /**
+     * Vectorized zero-padding inverse MODWT step with dilated reconstruction filters.
+     *
+     * @param approx The approximation coefficients
+     * @param details The detail coefficients
+     * @param lowRecon The base low-pass reconstruction filter
+     * @param highRecon The base high-pass reconstruction filter
+     * @param output The output array
+     * @param dilation The spacing between filter taps
+     * @see ScalarOps#zeroPaddingInverseMODWTDilated
+     */
+    public static void zeroPaddingInverseMODWTDilatedVectorized(double[] approx, double[] details,
+                                                                double[] lowRecon, double[] highRecon,
+                                                                double[] output, int dilation) {
+        int signalLen = approx.length;
+        clearArrayVectorized(output);
+
+        int lowTaps = ScalarOps.dilatedTapCount(lowRecon.length, dilation, signalLen);
+        for (int k = 0; k < lowTaps; k++) {
+            if (lowRecon[k] == 0.0) continue;
+            int shift = k * dilation;
+            accumulateScaled(approx, shift, lowRecon[k], output, 0, signalLen - shift);
+        }
+
+        int highTaps = ScalarOps.dilatedTapCount(highRecon.length, dilation, signalLen);
+        for (int k = 0; k < highTaps; k++) {
+            if (highRecon[k] == 0.0) continue;
+            int shift = k * dilation;
+            accumulateScaled(details, shift, highRecon[k], output, 0, signalLen - shift);
+        }
+    }
+
+    /**
+     * Accumulates one dilated filter applied with (t + k·d) mod N indexing into the output.
+     */
+    private static void accumulateCircularInverse(double[] coeffs, double[] filter,
+                                                  double[] output, int dilation) {
+        int signalLen = coeffs.length;
+        int taps = ScalarOps.dilatedTapCount(filter.length, dilation, signalLen);
+
+        for (int k = 0; k < taps; k++) {
+            if (filter[k] == 0.0) continue;
+            int shift = k * dilation;
+            accumulateScaled(coeffs, shift, filter[k], output, 0, signalLen - shift);
+            accumulateScaled(coeffs, 0, filter[k], output, signalLen - shift, shift);
+        }
+    }
+
+    /**
+     * Computes dst[dstOffset + i] += coeff * src[srcOffset + i] for i in [0, length).
+     */
+    private static void accumulateScaled(double[] src, int srcOffset, double coeff,
+                                         double[] dst, int dstOffset, int length) {
+        DoubleVector coeffVec = DoubleVector.broadcast(SPECIES, coeff);
+        int vectorLoopBound = SPECIES.loopBound(length);
+
+        int i = 0;
+        for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+            DoubleVector srcVec = DoubleVector.fromArray(SPECIES, src, srcOffset + i);
+            DoubleVector dstVec = DoubleVector.fromArray(SPECIES, dst, dstOffset + i);
+            dstVec.add(srcVec.mul(coeffVec)).intoArray(dst, dstOffset + i);
+        }
+
+        for (; i < length; i++) {
+            dst[dstOffset + i] += src[srcOffset + i] * coeff;
+        }
+    }
+
     /**
      * Selects the optimal processing strategy based on signal characteristics.
      * 
@@ -749,6 +1111,29 @@ public final class VectorOps {
         }
     }
     
+    /**
+     * Writes the absolute values of the first {@code length} elements of src to dst
+     * using vectorized operations. src and dst may be the same array.
+     * 
+     * @param src the source values
+     * @param dst receives the absolute values
+     * @param length the number of elements
+     */
+    public static void absVectorized(double[] src, double[] dst, int length) {
+        int vectorLoopBound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < vectorLoopBound; i += VECTOR_LENGTH) {
+            DoubleVector.fromArray(SPECIES, src, i)
+                .lanewise(VectorOperators.ABS)
+                .intoArray(dst, i);
+        }
+        
+        // Remainder elements
+        for (; i < length; i++) {
+            dst[i] = Math.abs(src[i]);
+        }
+    }
+    
     /**
      * Gets information about the vector capabilities of the current system.
      * Useful for performance monitoring and optimization decisions.
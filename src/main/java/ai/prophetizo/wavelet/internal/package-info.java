@@ -14,6 +14,7 @@
  * <h2>Key Classes:</h2>
  * <ul>
  *   <li>{@link ai.prophetizo.wavelet.internal.ScalarOps} - Scalar implementation of core wavelet operations</li>
+ *   <li>{@link ai.prophetizo.wavelet.internal.FFTConvolution} - FFT overlap-save MODWT levels for long filters</li>
  * </ul>
  * 
  * <h2>Core Operations:</h2>
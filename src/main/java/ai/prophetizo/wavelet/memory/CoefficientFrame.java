@@ -0,0 +1,164 @@
+package ai.prophetizo.wavelet.memory;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reusable, reference-counted block of coefficient rows handed to streaming subscribers.
+ *
+ * <p>A frame holds a fixed number of rows of equal capacity, of which the first
+ * {@link #length()} entries are valid. The publisher defines what each row contains.
+ * Frames come from a {@link FramePool}; the publisher acquires one reference per
+ * subscriber, and every subscriber must call {@link #release()} exactly once when it no
+ * longer reads the frame. When the last reference is released the frame goes back to its
+ * pool and will be overwritten by a later block.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * transform.subscribeFrames(new Flow.Subscriber<CoefficientFrame>() {
+ *     public void onNext(CoefficientFrame frame) {
+ *         try {
+ *             double[] detail = frame.row(1);
+ *             for (int i = 0; i < frame.length(); i++) {
+ *                 consume(detail[i]);
+ *             }
+ *         } finally {
+ *             frame.release();
+ *         }
+ *     }
+ *     // onSubscribe, onError, onComplete...
+ * });
+ * }</pre>
+ *
+ * <p>Subscribers that need the data beyond {@code onNext} can hand the frame to another
+ * thread and release it there, or call {@link #retain()} first and release twice. A frame
+ * that is never released is simply garbage collected; the pool then allocates a new one.</p>
+ */
+public final class CoefficientFrame {
+
+    private final FramePool pool;
+    private final double[][] rows;
+    private final AtomicInteger references = new AtomicInteger();
+    private int length;
+    private long sequence;
+
+    CoefficientFrame(FramePool pool, int rowCount, int capacity) {
+        this.pool = pool;
+        this.rows = new double[rowCount][capacity];
+    }
+
+    /**
+     * Prepares a pooled frame for a new block. Called by the pool before handing it out.
+     */
+    void reset(int length, long sequence, int references) {
+        this.length = length;
+        this.sequence = sequence;
+        this.references.set(references);
+    }
+
+    /**
+     * Gets a row of coefficients. Only the first {@link #length()} entries are valid.
+     *
+     * @param index the row index
+     * @return the row array, owned by the frame
+     * @throws InvalidArgumentException if index is out of range
+     * @throws InvalidStateException if the frame has already been released
+     */
+    public double[] row(int index) {
+        if (index < 0 || index >= rows.length) {
+            throw new InvalidArgumentException(
+                "Row index must be between 0 and " + (rows.length - 1) + ", got: " + index);
+        }
+        if (references.get() <= 0) {
+            throw new InvalidStateException("Frame has already been released");
+        }
+        return rows[index];
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the row count
+     */
+    public int rowCount() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the number of valid entries in each row.
+     *
+     * @return the valid length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Gets the capacity of each row.
+     *
+     * @return the row capacity
+     */
+    public int capacity() {
+        return rows[0].length;
+    }
+
+    /**
+     * Gets the position of this block in its stream, counting from 0.
+     *
+     * @return the block sequence number
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the number of outstanding references.
+     *
+     * @return the reference count, 0 once the frame is back in its pool
+     */
+    public int referenceCount() {
+        return references.get();
+    }
+
+    /**
+     * Adds a reference, for a subscriber that passes the frame on to another consumer.
+     *
+     * @return this frame
+     * @throws InvalidStateException if the frame has already been released
+     */
+    public CoefficientFrame retain() {
+        for (;;) {
+            int current = references.get();
+            if (current <= 0) {
+                throw new InvalidStateException("Frame has already been released");
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return this;
+            }
+        }
+    }
+
+    /**
+     * Drops a reference. The last release returns the frame to its pool.
+     *
+     * @return true if this was the last reference
+     * @throws InvalidStateException if the frame has already been released
+     */
+    public boolean release() {
+        for (;;) {
+            int current = references.get();
+            if (current <= 0) {
+                throw new InvalidStateException("Frame has already been released");
+            }
+            if (references.compareAndSet(current, current - 1)) {
+                if (current == 1) {
+                    pool.recycle(this);
+                    return true;
+                }
+                return false;
+            }
+        }
+    }
+}
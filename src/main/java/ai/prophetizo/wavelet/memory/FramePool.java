@@ -0,0 +1,140 @@
+package ai.prophetizo.wavelet.memory;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of {@link CoefficientFrame}s of one shape, owned by a single stream.
+ *
+ * <p>Streaming publishers acquire a frame per block, fill it and submit it to their
+ * subscribers; the last subscriber to release it puts it back. Once the number of frames
+ * in flight stops growing, publishing allocates nothing. If every pooled frame is in use
+ * a new one is created, and frames returned to a full pool are dropped, so a slow
+ * subscriber costs allocations but never blocks the producer.</p>
+ *
+ * <p>Frames are not cleared when they return; the publisher overwrites the valid region
+ * of every row before handing a frame out again.</p>
+ */
+public final class FramePool {
+
+    private final int rowCount;
+    private final int capacity;
+    private final ArrayBlockingQueue<CoefficientFrame> pooled;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+
+    /**
+     * Creates a pool.
+     *
+     * @param rowCount  number of rows per frame
+     * @param capacity  capacity of each row
+     * @param maxPooled maximum number of idle frames kept for reuse
+     * @throws InvalidArgumentException if any argument is not positive
+     */
+    public FramePool(int rowCount, int capacity, int maxPooled) {
+        if (rowCount <= 0) {
+            throw new InvalidArgumentException("Row count must be positive, got: " + rowCount);
+        }
+        if (capacity <= 0) {
+            throw new InvalidArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        if (maxPooled <= 0) {
+            throw new InvalidArgumentException("Maximum pooled frames must be positive, got: " + maxPooled);
+        }
+        this.rowCount = rowCount;
+        this.capacity = capacity;
+        this.pooled = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * Takes a frame for the next block of the stream.
+     *
+     * @param length     number of valid entries the publisher will write to each row
+     * @param references number of releases that return the frame, one per subscriber
+     * @return a frame with the given length and reference count
+     * @throws InvalidArgumentException if length exceeds the capacity or references is not positive
+     */
+    public CoefficientFrame acquire(int length, int references) {
+        if (length < 0 || length > capacity) {
+            throw new InvalidArgumentException(
+                "Length must be between 0 and " + capacity + ", got: " + length);
+        }
+        if (references <= 0) {
+            throw new InvalidArgumentException("References must be positive, got: " + references);
+        }
+        CoefficientFrame frame = pooled.poll();
+        if (frame == null) {
+            frame = new CoefficientFrame(this, rowCount, capacity);
+            created.incrementAndGet();
+        }
+        acquired.incrementAndGet();
+        frame.reset(length, sequence.getAndIncrement(), references);
+        return frame;
+    }
+
+    /**
+     * Takes back a frame whose last reference was released.
+     */
+    void recycle(CoefficientFrame frame) {
+        // A full pool means more frames are in flight than we keep; let this one go
+        pooled.offer(frame);
+    }
+
+    /**
+     * Gets the number of rows per frame.
+     *
+     * @return the row count
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the capacity of each row.
+     *
+     * @return the row capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of idle frames ready for reuse.
+     *
+     * @return the pooled frame count
+     */
+    public int getPooledCount() {
+        return pooled.size();
+    }
+
+    /**
+     * Gets the number of frames handed out so far.
+     *
+     * @return the acquired frame count
+     */
+    public long getAcquiredCount() {
+        return acquired.get();
+    }
+
+    /**
+     * Gets the number of frames allocated so far.
+     *
+     * @return the created frame count
+     */
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Gets the ratio of acquisitions served from the pool.
+     *
+     * @return the hit rate between 0.0 and 1.0
+     */
+    public double getHitRate() {
+        long total = acquired.get();
+        return total > 0 ? (double) (total - created.get()) / total : 0.0;
+    }
+}
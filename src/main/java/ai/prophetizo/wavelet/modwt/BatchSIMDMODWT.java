@@ -1,8 +1,10 @@
 package ai.prophetizo.wavelet.modwt;
 
+import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.DiscreteWavelet;
 import ai.prophetizo.wavelet.api.Haar;
 import ai.prophetizo.wavelet.memory.BatchMemoryLayout;
+import ai.prophetizo.wavelet.util.MathUtils;
 import ai.prophetizo.wavelet.util.ThreadLocalManager;
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.VectorSpecies;
@@ -28,6 +30,11 @@ import jdk.incubator.vector.VectorMask;
  * 
  * <p>This layout allows loading all signals' values at position t into a single vector.</p>
  * 
+ * <p>{@link MODWTTransform#forwardBatch(double[][])}, {@link MODWTTransform#inverseBatch(MODWTResult[])}
+ * and the batch methods of {@link MultiLevelMODWTTransform} run on the boundary-aware SoA engine
+ * in this class. It transposes groups of {@link #GROUP_SIZE} signals into SoA blocks and applies
+ * the dilated MODWT filters of any level with PERIODIC, ZERO_PADDING or SYMMETRIC boundaries.</p>
+ * 
  */
 public final class BatchSIMDMODWT {
     
@@ -41,6 +48,16 @@ public final class BatchSIMDMODWT {
     private static final ThreadLocalManager.ManagedThreadLocal<MODWTWorkArrays> WORK_ARRAYS = 
         ThreadLocalManager.withInitial(() -> new MODWTWorkArrays(VECTOR_LENGTH));
     
+    /**
+     * Number of signals transformed together in one SoA block. A multiple of the
+     * vector length, so every block row is a whole number of vectors.
+     */
+    static final int GROUP_SIZE = VECTOR_LENGTH * 4;
+    
+    // Thread-local SoA blocks for the batch engine, grown on demand
+    private static final ThreadLocalManager.ManagedThreadLocal<SoAWorkspace> SOA_WORKSPACE =
+        ThreadLocalManager.withInitial(SoAWorkspace::new);
+    
     private static class MODWTWorkArrays {
         final double[] tempSum;
         final double[] samples;
@@ -326,4 +343,304 @@ public final class BatchSIMDMODWT {
             batchMODWTSoA(soaSignals, soaApprox, soaDetail, wavelet, batchSize, signalLength);
         }
     }
+
+    // ==========================================
+    // Boundary-aware SoA engine for the batch transforms
+    // ==========================================
+    
+    /**
+     * Forward MODWT of signals {@code [from, to)} at one level.
+     * 
+     * <p>Signals are transposed into an SoA block, convolved with the dilated filters
+     * for all signals at once, and transposed back into the output arrays.</p>
+     * 
+     * @param signals input signals, all of the same length
+     * @param from first signal of the group (inclusive)
+     * @param to last signal of the group (exclusive), at most {@link #GROUP_SIZE} after {@code from}
+     * @param approxOut approximation outputs, indexed like {@code signals}
+     * @param detailOut detail outputs, indexed like {@code signals}
+     * @param filters the MODWT decomposition filters of the level
+     * @param mode the boundary mode
+     */
+    static void forwardGroup(double[][] signals, int from, int to,
+                             double[][] approxOut, double[][] detailOut,
+                             MODWTFilterBank.LevelFilters filters, BoundaryMode mode) {
+        int signalLength = signals[from].length;
+        int stride = strideFor(to - from);
+        SoAWorkspace ws = SOA_WORKSPACE.get().ensure(stride * signalLength, filters.maxLength());
+        
+        toSoA(signals, from, to, ws.first, stride);
+        forwardSoA(ws.first, ws.approx, ws.detail, filters.lowPassDirect(), filters.highPassDirect(),
+                   filters.dilation(), mode, stride, signalLength, ws.rows);
+        fromSoA(ws.approx, approxOut, from, to, stride);
+        fromSoA(ws.detail, detailOut, from, to, stride);
+    }
+    
+    /**
+     * Inverse MODWT of coefficient sets {@code [from, to)} at one level.
+     * 
+     * @param approx approximation coefficients, all of the same length
+     * @param detail detail coefficients, indexed like {@code approx}
+     * @param from first set of the group (inclusive)
+     * @param to last set of the group (exclusive), at most {@link #GROUP_SIZE} after {@code from}
+     * @param output reconstructed outputs, indexed like {@code approx}
+     * @param filters the MODWT reconstruction filters of the level
+     * @param mode the boundary mode
+     */
+    static void inverseGroup(double[][] approx, double[][] detail, int from, int to,
+                             double[][] output, MODWTFilterBank.LevelFilters filters,
+                             BoundaryMode mode) {
+        int signalLength = approx[from].length;
+        int stride = strideFor(to - from);
+        SoAWorkspace ws = SOA_WORKSPACE.get().ensure(stride * signalLength, filters.maxLength());
+        
+        toSoA(approx, from, to, ws.approx, stride);
+        toSoA(detail, from, to, ws.detail, stride);
+        inverseSoA(ws.approx, ws.detail, ws.first, filters.lowPassDirect(), filters.highPassDirect(),
+                   filters.dilation(), mode, stride, signalLength, ws.rows);
+        fromSoA(ws.first, output, from, to, stride);
+    }
+    
+    /**
+     * Multi-level MODWT of signals {@code [from, to)}. The approximation stays in SoA
+     * layout between levels; only the details of each level are transposed back.
+     * 
+     * @param signals input signals, all of the same length
+     * @param from first signal of the group (inclusive)
+     * @param to last signal of the group (exclusive), at most {@link #GROUP_SIZE} after {@code from}
+     * @param bank the filter bank of the wavelet
+     * @param levels number of decomposition levels
+     * @param mode the boundary mode
+     * @param detailsOut detail outputs, {@code detailsOut[signal][level - 1]}
+     * @param approxOut coarsest approximation outputs, indexed like {@code signals}
+     */
+    static void decomposeGroup(double[][] signals, int from, int to, MODWTFilterBank bank,
+                               int levels, BoundaryMode mode,
+                               double[][][] detailsOut, double[][] approxOut) {
+        int signalLength = signals[from].length;
+        int stride = strideFor(to - from);
+        SoAWorkspace ws = SOA_WORKSPACE.get().ensure(stride * signalLength, bank.decomposition(1).maxLength());
+        
+        double[] current = ws.first;
+        double[] next = ws.approx;
+        toSoA(signals, from, to, current, stride);
+        for (int level = 1; level <= levels; level++) {
+            MODWTFilterBank.LevelFilters filters = bank.decomposition(level);
+            forwardSoA(current, next, ws.detail, filters.lowPassDirect(), filters.highPassDirect(),
+                       filters.dilation(), mode, stride, signalLength, ws.rows);
+            for (int b = from; b < to; b++) {
+                scatterLane(ws.detail, detailsOut[b][level - 1], b - from, stride);
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+        }
+        fromSoA(current, approxOut, from, to, stride);
+    }
+    
+    /**
+     * Multi-level inverse MODWT of coefficient sets {@code [from, to)}, from the coarsest
+     * level down to level 1.
+     * 
+     * @param approx coarsest approximation coefficients, all of the same length
+     * @param details detail coefficients, {@code details[set][level - 1]}
+     * @param from first set of the group (inclusive)
+     * @param to last set of the group (exclusive), at most {@link #GROUP_SIZE} after {@code from}
+     * @param bank the filter bank of the wavelet
+     * @param levels number of decomposition levels
+     * @param mode the boundary mode
+     * @param output reconstructed outputs, indexed like {@code approx}
+     */
+    static void reconstructGroup(double[][] approx, double[][][] details, int from, int to,
+                                 MODWTFilterBank bank, int levels, BoundaryMode mode,
+                                 double[][] output) {
+        int signalLength = approx[from].length;
+        int stride = strideFor(to - from);
+        SoAWorkspace ws = SOA_WORKSPACE.get().ensure(stride * signalLength, bank.reconstruction(1).maxLength());
+        
+        double[] current = ws.first;
+        double[] next = ws.approx;
+        toSoA(approx, from, to, current, stride);
+        for (int level = levels; level >= 1; level--) {
+            MODWTFilterBank.LevelFilters filters = bank.reconstruction(level);
+            for (int b = from; b < to; b++) {
+                gatherLane(details[b][level - 1], ws.detail, b - from, stride);
+            }
+            inverseSoA(current, ws.detail, next, filters.lowPassDirect(), filters.highPassDirect(),
+                       filters.dilation(), mode, stride, signalLength, ws.rows);
+            double[] swap = current;
+            current = next;
+            next = swap;
+        }
+        fromSoA(current, output, from, to, stride);
+    }
+    
+    /**
+     * Forward MODWT kernel on an SoA block: for every t and every vector of lanes,
+     * W_t = Σ_k h_k * X_{t - k·d} with the boundary mode applied to t - k·d.
+     * Taps that reach beyond the signal length are dropped, as in the dilated scalar kernels.
+     */
+    static void forwardSoA(double[] soaSignals, double[] soaApprox, double[] soaDetail,
+                           double[] lowPass, double[] highPass, int dilation,
+                           BoundaryMode mode, int stride, int signalLength, int[] rows) {
+        int lowTaps = tapCount(lowPass.length, dilation, signalLength);
+        int highTaps = tapCount(highPass.length, dilation, signalLength);
+        int maxTaps = Math.max(lowTaps, highTaps);
+        
+        for (int t = 0; t < signalLength; t++) {
+            // Source rows are shared by all lanes, so resolve the boundary once per t
+            int taps = 0;
+            for (; taps < maxTaps; taps++) {
+                int idx = t - taps * dilation;
+                if (idx < 0) {
+                    if (mode == BoundaryMode.ZERO_PADDING) {
+                        break; // every further tap is also before the start
+                    }
+                    idx = mode == BoundaryMode.PERIODIC
+                        ? idx + signalLength
+                        : MathUtils.symmetricBoundaryExtension(idx, signalLength);
+                }
+                rows[taps] = idx * stride;
+            }
+            
+            int out = t * stride;
+            for (int lane = 0; lane < stride; lane += VECTOR_LENGTH) {
+                DoubleVector approxSum = DoubleVector.zero(SPECIES);
+                DoubleVector detailSum = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < taps; k++) {
+                    DoubleVector samples = DoubleVector.fromArray(SPECIES, soaSignals, rows[k] + lane);
+                    if (k < lowTaps) {
+                        approxSum = approxSum.add(samples.mul(lowPass[k]));
+                    }
+                    if (k < highTaps) {
+                        detailSum = detailSum.add(samples.mul(highPass[k]));
+                    }
+                }
+                approxSum.intoArray(soaApprox, out + lane);
+                detailSum.intoArray(soaDetail, out + lane);
+            }
+        }
+    }
+    
+    /**
+     * Inverse MODWT kernel on an SoA block. PERIODIC and ZERO_PADDING use (t + k·d)
+     * indexing; SYMMETRIC uses (t - k·d) with mirrored boundaries, matching the
+     * single-signal inverse transforms.
+     */
+    static void inverseSoA(double[] soaApprox, double[] soaDetail, double[] soaOutput,
+                           double[] lowRecon, double[] highRecon, int dilation,
+                           BoundaryMode mode, int stride, int signalLength, int[] rows) {
+        int lowTaps = tapCount(lowRecon.length, dilation, signalLength);
+        int highTaps = tapCount(highRecon.length, dilation, signalLength);
+        int maxTaps = Math.max(lowTaps, highTaps);
+        
+        for (int t = 0; t < signalLength; t++) {
+            int taps = 0;
+            for (; taps < maxTaps; taps++) {
+                int idx;
+                if (mode == BoundaryMode.SYMMETRIC) {
+                    idx = MathUtils.symmetricBoundaryExtension(t - taps * dilation, signalLength);
+                } else {
+                    idx = t + taps * dilation;
+                    if (idx >= signalLength) {
+                        if (mode == BoundaryMode.ZERO_PADDING) {
+                            break; // every further tap is also past the end
+                        }
+                        idx -= signalLength;
+                    }
+                }
+                rows[taps] = idx * stride;
+            }
+            
+            int out = t * stride;
+            for (int lane = 0; lane < stride; lane += VECTOR_LENGTH) {
+                DoubleVector sum = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < taps; k++) {
+                    DoubleVector a = DoubleVector.fromArray(SPECIES, soaApprox, rows[k] + lane);
+                    DoubleVector d = DoubleVector.fromArray(SPECIES, soaDetail, rows[k] + lane);
+                    if (k < lowTaps && k < highTaps) {
+                        sum = sum.add(a.mul(lowRecon[k]).add(d.mul(highRecon[k])));
+                    } else if (k < lowTaps) {
+                        sum = sum.add(a.mul(lowRecon[k]));
+                    } else {
+                        sum = sum.add(d.mul(highRecon[k]));
+                    }
+                }
+                sum.intoArray(soaOutput, out + lane);
+            }
+        }
+    }
+    
+    /**
+     * Number of taps of a filter dilated by d that fall within one signal period.
+     */
+    private static int tapCount(int filterLength, int dilation, int signalLength) {
+        long reach = (signalLength - 1L) / dilation + 1L;
+        return (int) Math.min(filterLength, reach);
+    }
+    
+    /**
+     * SoA row width for a group: the group size rounded up to whole vectors.
+     */
+    private static int strideFor(int groupSize) {
+        return (groupSize + VECTOR_LENGTH - 1) / VECTOR_LENGTH * VECTOR_LENGTH;
+    }
+    
+    /**
+     * Transposes rows {@code [from, to)} into an SoA block, zeroing the padding lanes.
+     */
+    private static void toSoA(double[][] rows, int from, int to, double[] soa, int stride) {
+        int signalLength = rows[from].length;
+        for (int b = from; b < to; b++) {
+            gatherLane(rows[b], soa, b - from, stride);
+        }
+        for (int lane = to - from; lane < stride; lane++) {
+            for (int t = 0; t < signalLength; t++) {
+                soa[t * stride + lane] = 0.0;
+            }
+        }
+    }
+    
+    /**
+     * Transposes an SoA block back into rows {@code [from, to)}.
+     */
+    private static void fromSoA(double[] soa, double[][] rows, int from, int to, int stride) {
+        for (int b = from; b < to; b++) {
+            scatterLane(soa, rows[b], b - from, stride);
+        }
+    }
+    
+    private static void gatherLane(double[] row, double[] soa, int lane, int stride) {
+        for (int t = 0, idx = lane; t < row.length; t++, idx += stride) {
+            soa[idx] = row[t];
+        }
+    }
+    
+    private static void scatterLane(double[] soa, double[] row, int lane, int stride) {
+        for (int t = 0, idx = lane; t < row.length; t++, idx += stride) {
+            row[t] = soa[idx];
+        }
+    }
+    
+    /**
+     * Per-thread SoA blocks and tap offsets for the batch engine.
+     */
+    private static final class SoAWorkspace {
+        double[] first = new double[0];
+        double[] approx = new double[0];
+        double[] detail = new double[0];
+        int[] rows = new int[0];
+        
+        SoAWorkspace ensure(int blockLength, int maxTaps) {
+            if (first.length < blockLength) {
+                first = new double[blockLength];
+                approx = new double[blockLength];
+                detail = new double[blockLength];
+            }
+            if (rows.length < maxTaps) {
+                rows = new int[maxTaps];
+            }
+            return this;
+        }
+    }
 }
\ No newline at end of file
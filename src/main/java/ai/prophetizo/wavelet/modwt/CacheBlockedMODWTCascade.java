@@ -0,0 +1,236 @@
+package ai.prophetizo.wavelet.modwt;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.internal.FFTConvolution;
+import ai.prophetizo.wavelet.internal.ScalarOps;
+import ai.prophetizo.wavelet.util.ThreadLocalManager;
+
+import java.util.Arrays;
+
+/**
+ * Cache-blocked schedule for the multi-level MODWT analysis cascade.
+ *
+ * <p>The level-by-level schedule runs level 1 over the whole signal, then level 2, and so
+ * on. Once the signal no longer fits in the cache, every level streams its input
+ * approximation back from memory. This schedule instead cuts the signal into tiles and
+ * carries each tile through all J levels while it is cache resident.</p>
+ *
+ * <p>Level j reads its input at t - k·2^(j-1), so a tile needs only the preceding
+ * (L-1)·2^(j-1) input samples as a halo, and those are carried over from the previous
+ * tile. Intermediate approximations live in tile-sized buffers only; the details and
+ * the final approximation are the only full-length arrays written.</p>
+ *
+ * <p><strong>Boundaries:</strong> the halo of the first tile holds zeros (zero padding)
+ * or the mirrored tile start (symmetric). Periodic outputs near the start wrap to the
+ * end of the previous level's approximation, which is only known after the last tile.
+ * The first tile is therefore kept, and its wrap-affected prefix is recomputed at the end
+ * from the carried end halos. That prefix is at most Σ (L-1)·2^(j-1) samples.</p>
+ *
+ * <p>Tiles run {@link ScalarOps#convolveMODWTDilatedFusedInterior}, which reads the tile
+ * with its halo and writes straight into the result arrays. It sums the taps in the same
+ * order as the level-by-level kernels, so both schedules produce the same coefficients.</p>
+ *
+ * @see MultiLevelMODWTTransform
+ */
+final class CacheBlockedMODWTCascade {
+
+    /**
+     * Signals shorter than this fit a level's working set in the outer caches, so the
+     * level-by-level schedule is already cache resident.
+     */
+    static final int MIN_SIGNAL_LENGTH = 1 << 17;
+
+    /**
+     * Cache budget for the tile buffers of all levels. Sized for a per-core L2
+     * (see CacheAwareOps), leaving room for the filters and the streamed outputs.
+     */
+    private static final int TILE_BUDGET_BYTES = 256 * 1024;
+
+    /** Smallest tile; below this the per-tile kernel calls dominate. */
+    private static final int MIN_TILE_SIZE = 1024;
+
+    private static final ThreadLocalManager.ManagedThreadLocal<Workspace> WORKSPACE =
+        ThreadLocalManager.withInitial(Workspace::new);
+
+    private CacheBlockedMODWTCascade() {
+        // Utility class
+    }
+
+    /**
+     * Checks whether the blocked schedule applies and is expected to pay off.
+     *
+     * <p>It requires at least two levels and a signal of at least {@link #MIN_SIGNAL_LENGTH}
+     * samples spanning several tiles. No level may be routed through the FFT path, which
+     * works on whole signals.</p>
+     *
+     * @param signalLength the signal length N
+     * @param levels the number of levels J
+     * @param filterLength the longer base filter length L
+     * @param mode the boundary mode
+     * @return true if {@link #decompose} should be used
+     */
+    static boolean isApplicable(int signalLength, int levels, int filterLength, BoundaryMode mode) {
+        if (levels < 2 || signalLength < MIN_SIGNAL_LENGTH) {
+            return false;
+        }
+        long halo = (long) (filterLength - 1) << (levels - 1);
+        if (halo >= signalLength / 8) {
+            return false;
+        }
+        if (4L * tileSize(levels, (int) halo) > signalLength) {
+            return false;
+        }
+        for (int level = 1; level <= levels; level++) {
+            if (FFTConvolution.isBeneficial(signalLength, filterLength, 1 << (level - 1), mode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Chooses the tile length. Only two level buffers are live at a time (the level's
+     * input and output), so a tile is sized for two of them to fit the cache budget.
+     * A tile is at least twice the deepest halo so that the periodic start prefix lies
+     * within the first tile and the carried halos stay a small fraction of the work.
+     */
+    static int tileSize(int levels, int halo) {
+        int budget = TILE_BUDGET_BYTES / Double.BYTES / 2 - halo;
+        int tile = Math.max(Math.max(budget, MIN_TILE_SIZE), 2 * halo);
+        return (tile + 7) & ~7;
+    }
+
+    /**
+     * Runs the J-level analysis cascade tile by tile.
+     *
+     * @param signal the input signal (not modified)
+     * @param filterBank the MODWT filters
+     * @param mode the boundary mode
+     * @param levels the number of levels J
+     * @param details the detail outputs; {@code details[j - 1]} receives level j
+     * @param approximation the level-J approximation output
+     */
+    static void decompose(double[] signal, MODWTFilterBank filterBank, BoundaryMode mode,
+                          int levels, double[][] details, double[] approximation) {
+        int n = signal.length;
+        MODWTFilterBank.LevelFilters base = filterBank.decomposition(1);
+        double[] lowPass = base.lowPassDirect();
+        double[] highPass = base.highPassDirect();
+        int span = base.maxLength() - 1;
+        int tile = tileSize(levels, span << (levels - 1));
+        boolean periodic = mode == BoundaryMode.PERIODIC;
+
+        Workspace workspace = WORKSPACE.get();
+        workspace.prepare(levels, (span << (levels - 1)) + tile, periodic);
+        // inputs[j - 1] holds level j's input as [halo_j | tile] with halo_j = (L-1)·2^(j-1).
+        // Level 1 reads the signal directly after the first tile.
+        double[][] inputs = workspace.inputs;
+
+        for (int start = 0; start < n; start += tile) {
+            int length = Math.min(tile, n - start);
+
+            for (int level = 1; level <= levels; level++) {
+                int halo = span << (level - 1);
+                double[] input = inputs[level - 1];
+                int inputOffset = halo;
+                if (start > 0 && level == 1) {
+                    input = signal;
+                    inputOffset = start;
+                } else if (start == 0) {
+                    if (level == 1) {
+                        System.arraycopy(signal, 0, input, halo, length);
+                    }
+                    fillStartHalo(input, halo, mode);
+                }
+
+                if (level < levels) {
+                    ScalarOps.convolveMODWTDilatedFusedInterior(input, inputOffset, lowPass, highPass,
+                        inputs[level], span << level, details[level - 1], start, length, 1 << (level - 1));
+                } else {
+                    ScalarOps.convolveMODWTDilatedFusedInterior(input, inputOffset, lowPass, highPass,
+                        approximation, start, details[level - 1], start, length, 1 << (level - 1));
+                }
+            }
+
+            if (start == 0 && periodic) {
+                for (int level = 1; level <= levels; level++) {
+                    System.arraycopy(inputs[level - 1], 0, workspace.firstTile[level - 1], 0,
+                        (span << (level - 1)) + length);
+                }
+            }
+            // Carry the last halo_j input samples of each buffered level into the next tile
+            for (int level = 2; level <= levels; level++) {
+                int halo = span << (level - 1);
+                System.arraycopy(inputs[level - 1], length, inputs[level - 1], 0, halo);
+            }
+        }
+
+        if (periodic) {
+            fixPeriodicStart(signal, workspace, lowPass, highPass, span, levels, details, approximation);
+        }
+    }
+
+    /**
+     * Recomputes the periodic outputs whose taps wrap past the signal start. At level j
+     * these are the first Σ_{i≤j} (L-1)·2^(i-1) samples; later outputs never depended on
+     * the wrapped samples. After the last tile the carried halos hold the end of every
+     * level's input, which is exactly what the wrapped taps read.
+     */
+    private static void fixPeriodicStart(double[] signal, Workspace workspace,
+                                         double[] lowPass, double[] highPass, int span, int levels,
+                                         double[][] details, double[] approximation) {
+        double[][] firstTile = workspace.firstTile;
+        int prefix = 0;
+        for (int level = 1; level <= levels; level++) {
+            int halo = span << (level - 1);
+            double[] input = firstTile[level - 1];
+            if (level == 1) {
+                System.arraycopy(signal, signal.length - halo, input, 0, halo);
+            } else {
+                System.arraycopy(workspace.inputs[level - 1], 0, input, 0, halo);
+            }
+
+            prefix += halo;
+            if (level < levels) {
+                ScalarOps.convolveMODWTDilatedFusedInterior(input, halo, lowPass, highPass,
+                    firstTile[level], span << level, details[level - 1], 0, prefix, 1 << (level - 1));
+            } else {
+                ScalarOps.convolveMODWTDilatedFusedInterior(input, halo, lowPass, highPass,
+                    approximation, 0, details[level - 1], 0, prefix, 1 << (level - 1));
+            }
+        }
+    }
+
+    /**
+     * Fills the halo of a first-tile input buffer with the samples before the signal start.
+     * Periodic halos are recomputed afterwards and only need finite values.
+     */
+    private static void fillStartHalo(double[] input, int halo, BoundaryMode mode) {
+        if (mode == BoundaryMode.PERIODIC || mode == BoundaryMode.ZERO_PADDING) {
+            Arrays.fill(input, 0, halo, 0.0);
+            return;
+        }
+        // Symmetric: x[-m] = x[m - 1]; the tile is at least as long as the halo
+        for (int m = 1; m <= halo; m++) {
+            input[halo - m] = input[halo + m - 1];
+        }
+    }
+
+    /**
+     * Per-thread tile buffers, reused while the level count and tile shape are unchanged.
+     */
+    private static final class Workspace {
+        private double[][] inputs;
+        private double[][] firstTile;
+
+        void prepare(int levels, int bufferLength, boolean periodic) {
+            if (inputs == null || inputs.length != levels || inputs[0].length != bufferLength) {
+                inputs = new double[levels][bufferLength];
+                firstTile = null;
+            }
+            if (periodic && firstTile == null) {
+                firstTile = new double[levels][bufferLength];
+            }
+        }
+    }
+}
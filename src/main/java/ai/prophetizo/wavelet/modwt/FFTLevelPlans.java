@@ -0,0 +1,67 @@
+package ai.prophetizo.wavelet.modwt;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.internal.FFTConvolution;
+
+/**
+ * FFT convolution plans for the levels of one filter bank and boundary mode.
+ *
+ * <p>A transform holds one instance and asks it for the plan of a level whenever that
+ * level takes the FFT path. The plan for a level is kept until a signal of a different
+ * length arrives, so repeated transforms of equal-length signals reuse the same filter
+ * spectra without hashing filters, allocating or locking.</p>
+ *
+ * <p>Plans are immutable, so the unsynchronized slots are safe to share: a thread sees
+ * either a complete plan or none, and at worst plans a level that another thread has
+ * just planned.</p>
+ */
+final class FFTLevelPlans {
+
+    private final MODWTFilterBank filterBank;
+    private final BoundaryMode mode;
+    private final FFTConvolution.LevelPlan[] forward;
+    private final FFTConvolution.LevelPlan[] inverse;
+
+    FFTLevelPlans(MODWTFilterBank filterBank, BoundaryMode mode) {
+        this.filterBank = filterBank;
+        this.mode = mode;
+        this.forward = new FFTConvolution.LevelPlan[filterBank.maxLevel()];
+        this.inverse = new FFTConvolution.LevelPlan[filterBank.maxLevel()];
+    }
+
+    /**
+     * Gets the forward plan of a level for a signal length.
+     *
+     * @param level the decomposition level (1-based)
+     * @param signalLength the signal length N
+     * @return the forward plan
+     */
+    FFTConvolution.LevelPlan forward(int level, int signalLength) {
+        FFTConvolution.LevelPlan plan = forward[level - 1];
+        if (plan == null || plan.signalLength() != signalLength) {
+            MODWTFilterBank.LevelFilters filters = filterBank.decomposition(level);
+            plan = FFTConvolution.forwardPlan(filters.lowPassDirect(), filters.highPassDirect(),
+                filters.dilation(), signalLength, mode);
+            forward[level - 1] = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the inverse plan of a level for a signal length.
+     *
+     * @param level the decomposition level (1-based)
+     * @param signalLength the signal length N
+     * @return the inverse plan
+     */
+    FFTConvolution.LevelPlan inverse(int level, int signalLength) {
+        FFTConvolution.LevelPlan plan = inverse[level - 1];
+        if (plan == null || plan.signalLength() != signalLength) {
+            MODWTFilterBank.LevelFilters filters = filterBank.reconstruction(level);
+            plan = FFTConvolution.inversePlan(filters.lowPassDirect(), filters.highPassDirect(),
+                filters.dilation(), signalLength, mode);
+            inverse[level - 1] = plan;
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,309 @@
+package ai.prophetizo.wavelet.modwt;
+
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.ErrorCode;
+import ai.prophetizo.wavelet.exception.ErrorContext;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.internal.BoundedLruCache;
+
+import java.util.Objects;
+
+/**
+ * Precomputed, immutable MODWT filters for a single wavelet.
+ *
+ * <p>The MODWT scales every wavelet filter by 1/sqrt(2), and at level j applies it with
+ * a tap spacing of 2^(j-1) (the à trous algorithm). Both are fixed for a given wavelet,
+ * so this class computes them once and hands out the same filters for every call.
+ * Transforms hold a filter bank for their lifetime, so steady-state transforms
+ * allocate no filter arrays.</p>
+ *
+ * <p>Filters are keyed by wavelet, level and {@link Direction}. Banks for commonly used
+ * wavelets are shared through a bounded, least-recently-used global cache via
+ * {@link #of(Wavelet)}.</p>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * MODWTFilterBank bank = MODWTFilterBank.of(Daubechies.DB4);
+ * MODWTFilterBank.LevelFilters level3 = bank.filters(3, MODWTFilterBank.Direction.DECOMPOSITION);
+ *
+ * double[] h = level3.lowPass();   // scaled by 1/sqrt(2)
+ * int spacing = level3.dilation(); // 4 at level 3
+ * }</pre>
+ *
+ * @see MODWTTransform
+ * @see MultiLevelMODWTTransform
+ */
+public final class MODWTFilterBank {
+
+    /**
+     * Maximum number of filter banks kept in the global cache. Once full, the least
+     * recently used bank is evicted; transforms holding it keep using it.
+     */
+    private static final int MAX_CACHED_BANKS = 64;
+
+    /**
+     * Maximum safe bit shift amount for computing the dilation 2^(j-1).
+     */
+    private static final int MAX_SAFE_SHIFT_BITS = 31;
+
+    private static final BoundedLruCache<Wavelet, MODWTFilterBank> BANK_CACHE =
+        new BoundedLruCache<>(MAX_CACHED_BANKS);
+
+    /**
+     * Filter direction within the bank.
+     */
+    public enum Direction {
+        /** Analysis filters used by the forward transform. */
+        DECOMPOSITION,
+        /** Synthesis filters used by the inverse transform. */
+        RECONSTRUCTION
+    }
+
+    private final String waveletName;
+    private final LevelFilters[] decompositionLevels = new LevelFilters[MAX_SAFE_SHIFT_BITS];
+    private final LevelFilters[] reconstructionLevels = new LevelFilters[MAX_SAFE_SHIFT_BITS];
+
+    private MODWTFilterBank(Wavelet wavelet) {
+        this.waveletName = wavelet.name();
+
+        double[] lowDec = scale(wavelet.lowPassDecomposition());
+        double[] highDec = scale(wavelet.highPassDecomposition());
+        double[] lowRec = scale(wavelet.lowPassReconstruction());
+        double[] highRec = scale(wavelet.highPassReconstruction());
+
+        // Levels share the scaled base filters; only the dilation differs
+        for (int level = 1; level <= MAX_SAFE_SHIFT_BITS; level++) {
+            int dilation = 1 << (level - 1);
+            decompositionLevels[level - 1] =
+                new LevelFilters(lowDec, highDec, level, dilation, Direction.DECOMPOSITION);
+            reconstructionLevels[level - 1] =
+                new LevelFilters(lowRec, highRec, level, dilation, Direction.RECONSTRUCTION);
+        }
+    }
+
+    /**
+     * Returns the filter bank for a wavelet, shared through a bounded global cache.
+     *
+     * @param wavelet the wavelet
+     * @return the filter bank for this wavelet
+     * @throws NullPointerException if wavelet is null
+     */
+    public static MODWTFilterBank of(Wavelet wavelet) {
+        Objects.requireNonNull(wavelet, "wavelet cannot be null");
+
+        MODWTFilterBank bank = BANK_CACHE.get(wavelet);
+        if (bank != null) {
+            return bank;
+        }
+
+        bank = new MODWTFilterBank(wavelet);
+        MODWTFilterBank existing = BANK_CACHE.putIfAbsent(wavelet, bank);
+        return existing != null ? existing : bank;
+    }
+
+    /**
+     * Returns the filters for a decomposition level and direction.
+     *
+     * @param level the decomposition level (1-based)
+     * @param direction decomposition or reconstruction filters
+     * @return the immutable filters for that level
+     * @throws InvalidArgumentException if the level is not positive or the dilated
+     *         filter span (L-1)·2^(j-1)+1 would overflow
+     */
+    public LevelFilters filters(int level, Direction direction) {
+        Objects.requireNonNull(direction, "direction cannot be null");
+        if (level < 1) {
+            throw new InvalidArgumentException(
+                ErrorCode.CFG_INVALID_DECOMPOSITION_LEVEL,
+                ErrorContext.builder("Decomposition level must be positive")
+                    .withContext("Operation", "MODWT filter bank lookup")
+                    .withContext("Wavelet", waveletName)
+                    .withLevelInfo(level, MAX_SAFE_SHIFT_BITS)
+                    .withSuggestion("Levels are 1-based; level 1 is the finest scale")
+                    .build()
+            );
+        }
+        if (level - 1 >= MAX_SAFE_SHIFT_BITS) {
+            throw new InvalidArgumentException(
+                ErrorCode.VAL_TOO_LARGE,
+                ErrorContext.builder("Decomposition level would cause integer overflow")
+                    .withContext("Operation", "MODWT filter bank lookup")
+                    .withContext("Wavelet", waveletName)
+                    .withLevelInfo(level, MAX_SAFE_SHIFT_BITS)
+                    .withContext("Calculation", "2^(" + (level - 1) + ") filter dilation")
+                    .withSuggestion("Maximum safe decomposition level is " + MAX_SAFE_SHIFT_BITS)
+                    .build()
+            );
+        }
+
+        LevelFilters filters = direction == Direction.DECOMPOSITION
+            ? decompositionLevels[level - 1]
+            : reconstructionLevels[level - 1];
+
+        // Tap offsets k·2^(j-1) must stay representable as int
+        try {
+            Math.addExact(Math.multiplyExact(filters.maxLength() - 1, filters.dilation), 1);
+        } catch (ArithmeticException e) {
+            throw new InvalidArgumentException(
+                "Arithmetic overflow when dilating filters for level " + level +
+                ": " + e.getMessage());
+        }
+        return filters;
+    }
+
+    /**
+     * Returns the decomposition filters for a level.
+     *
+     * @param level the decomposition level (1-based)
+     * @return the immutable decomposition filters
+     */
+    public LevelFilters decomposition(int level) {
+        return filters(level, Direction.DECOMPOSITION);
+    }
+
+    /**
+     * Returns the reconstruction filters for a level.
+     *
+     * @param level the decomposition level (1-based)
+     * @return the immutable reconstruction filters
+     */
+    public LevelFilters reconstruction(int level) {
+        return filters(level, Direction.RECONSTRUCTION);
+    }
+
+    /**
+     * Gets the deepest level this bank holds precomputed filters for.
+     *
+     * @return the maximum decomposition level
+     */
+    public int maxLevel() {
+        return MAX_SAFE_SHIFT_BITS;
+    }
+
+    /**
+     * Gets the name of the wavelet this bank was built for.
+     *
+     * @return the wavelet name
+     */
+    public String getWaveletName() {
+        return waveletName;
+    }
+
+    /**
+     * Gets the number of filter banks currently held by the global cache.
+     *
+     * @return the number of cached banks
+     */
+    public static int getCacheSize() {
+        return BANK_CACHE.size();
+    }
+
+    /**
+     * Clears the global filter bank cache. Banks already held by transforms remain valid.
+     */
+    public static void clearCache() {
+        BANK_CACHE.clear();
+    }
+
+    private static double[] scale(double[] filter) {
+        double scale = 1.0 / Math.sqrt(2.0); // MODWT scaling
+        double[] scaled = new double[filter.length];
+        for (int i = 0; i < filter.length; i++) {
+            scaled[i] = filter[i] * scale;
+        }
+        return scaled;
+    }
+
+    /**
+     * MODWT filters for one level and direction.
+     *
+     * <p>The filters are the base wavelet filters scaled by 1/sqrt(2). They are applied
+     * with a tap spacing of {@link #dilation()} rather than being upsampled.</p>
+     */
+    public static final class LevelFilters {
+        private final double[] lowPass;
+        private final double[] highPass;
+        private final int level;
+        private final int dilation;
+        private final Direction direction;
+
+        private LevelFilters(double[] lowPass, double[] highPass, int level,
+                             int dilation, Direction direction) {
+            this.lowPass = lowPass;
+            this.highPass = highPass;
+            this.level = level;
+            this.dilation = dilation;
+            this.direction = direction;
+        }
+
+        /**
+         * Gets a copy of the scaled low-pass filter.
+         *
+         * @return the low-pass filter coefficients
+         */
+        public double[] lowPass() {
+            return lowPass.clone();
+        }
+
+        /**
+         * Gets a copy of the scaled high-pass filter.
+         *
+         * @return the high-pass filter coefficients
+         */
+        public double[] highPass() {
+            return highPass.clone();
+        }
+
+        /**
+         * Gets the decomposition level (1-based).
+         *
+         * @return the level
+         */
+        public int level() {
+            return level;
+        }
+
+        /**
+         * Gets the tap spacing 2^(j-1) for this level.
+         *
+         * @return the dilation
+         */
+        public int dilation() {
+            return dilation;
+        }
+
+        /**
+         * Gets the direction of these filters.
+         *
+         * @return decomposition or reconstruction
+         */
+        public Direction direction() {
+            return direction;
+        }
+
+        /**
+         * Gets the longer of the two filter lengths.
+         *
+         * @return the maximum base filter length
+         */
+        public int maxLength() {
+            return Math.max(lowPass.length, highPass.length);
+        }
+
+        /**
+         * Direct access to the shared low-pass filter without copying.
+         * Callers must not modify the returned array.
+         */
+        double[] lowPassDirect() {
+            return lowPass;
+        }
+
+        /**
+         * Direct access to the shared high-pass filter without copying.
+         * Callers must not modify the returned array.
+         */
+        double[] highPassDirect() {
+            return highPass;
+        }
+    }
+}
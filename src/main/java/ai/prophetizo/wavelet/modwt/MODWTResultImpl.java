@@ -53,6 +53,43 @@ final class MODWTResultImpl implements MODWTResult {
         this.signalLength = approximationCoeffs.length;
     }
     
+    private MODWTResultImpl(double[] approximationCoeffs, double[] detailCoeffs, int signalLength) {
+        this.approximationCoeffs = approximationCoeffs;
+        this.detailCoeffs = detailCoeffs;
+        this.signalLength = signalLength;
+    }
+    
+    /**
+     * Creates a result that takes ownership of the given arrays without copying them.
+     * The values are still validated. Callers must not retain or modify the arrays.
+     * 
+     * @param approximationCoeffs the approximation (low-pass) coefficients
+     * @param detailCoeffs        the detail (high-pass) coefficients, same length
+     * @return the result backed by the given arrays
+     * @throws IllegalArgumentException if the arrays contain invalid values
+     */
+    static MODWTResultImpl createDirect(double[] approximationCoeffs, double[] detailCoeffs) {
+        ValidationUtils.validateFiniteValues(approximationCoeffs, "approximationCoeffs");
+        ValidationUtils.validateFiniteValues(detailCoeffs, "detailCoeffs");
+        return new MODWTResultImpl(approximationCoeffs, detailCoeffs, approximationCoeffs.length);
+    }
+    
+    /**
+     * Direct access to the approximation coefficients without copying.
+     * Callers must not modify the returned array.
+     */
+    double[] approximationCoeffsDirect() {
+        return approximationCoeffs;
+    }
+    
+    /**
+     * Direct access to the detail coefficients without copying.
+     * Callers must not modify the returned array.
+     */
+    double[] detailCoeffsDirect() {
+        return detailCoeffs;
+    }
+    
     @Override
     public double[] approximationCoeffs() {
         return Arrays.copyOf(approximationCoeffs, approximationCoeffs.length);
@@ -8,12 +8,16 @@ import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import ai.prophetizo.wavelet.exception.ErrorCode;
 import ai.prophetizo.wavelet.exception.ErrorContext;
 import ai.prophetizo.wavelet.WaveletOperations;
+import ai.prophetizo.wavelet.internal.FFTConvolution;
 import ai.prophetizo.wavelet.util.MathUtils;
 import ai.prophetizo.wavelet.util.ValidationUtils;
 import ai.prophetizo.wavelet.performance.AdaptivePerformanceEstimator;
+import ai.prophetizo.wavelet.performance.PerformanceTelemetry;
 import ai.prophetizo.wavelet.performance.PredictionResult;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of the MODWT (Maximal Overlap Discrete Wavelet Transform) with Java 23 optimizations.
@@ -68,9 +72,26 @@ import java.util.Objects;
  */
 public class MODWTTransform {
     
+    /**
+     * Minimum number of samples (batch size × signal length) for a batch transform
+     * to spread its signal groups over the common fork-join pool.
+     */
+    static final int PARALLEL_BATCH_THRESHOLD = 1 << 16;
+    
     private final Wavelet wavelet;
     private final BoundaryMode boundaryMode;
     
+    /**
+     * Filters scaled by 1/sqrt(2), computed once and shared across calls.
+     */
+    private final MODWTFilterBank.LevelFilters decompositionFilters;
+    private final MODWTFilterBank.LevelFilters reconstructionFilters;
+    
+    /**
+     * FFT plans for level 1, kept for the last signal length that took the FFT path.
+     */
+    private final FFTLevelPlans fftPlans;
+    
     /**
      * Constructs a MODWT transformer with the specified wavelet and boundary mode.
      * Automatically configures performance optimizations based on system capabilities.
@@ -100,6 +121,11 @@ public class MODWTTransform {
                     .build()
             );
         }
+        
+        MODWTFilterBank filterBank = MODWTFilterBank.of(wavelet);
+        this.decompositionFilters = filterBank.decomposition(1);
+        this.reconstructionFilters = filterBank.reconstruction(1);
+        this.fftPlans = new FFTLevelPlans(filterBank, boundaryMode);
     }
     
     /**
@@ -111,11 +137,15 @@ public class MODWTTransform {
      * 
      * <p><strong>Performance:</strong> Automatically selects optimal implementation:</p>
      * <ul>
-     *   <li>FFT-based convolution for large Coiflet filters (≥128 taps)</li>
+     *   <li>FFT overlap-save convolution for long filters, where it beats the direct
+     *       kernels (see {@link FFTConvolution#isBeneficial})</li>
      *   <li>Vectorized SIMD implementation for medium filters</li>
      *   <li>Scalar implementation for small filters or when SIMD unavailable</li>
      * </ul>
      * 
+     * <p>When {@link PerformanceTelemetry} is enabled, a sample of calls is timed and fed
+     * to the adaptive performance estimator. It is disabled by default.</p>
+     * 
      * @param signal The input signal of any length ≥ 1
      * @return A MODWTResult containing same-length approximation and detail coefficients
      * @throws InvalidSignalException if signal is invalid
@@ -124,36 +154,86 @@ public class MODWTTransform {
         // Input validation with modern patterns
         validateInputSignal(signal);
         
-        // Get filter coefficients
-        double[] lowPassFilter = wavelet.lowPassDecomposition();
-        double[] highPassFilter = wavelet.highPassDecomposition();
-        
-        // Scale filters by 1/sqrt(2) for MODWT
-        // This is essential for shift-invariance property
-        double scale = 1.0 / Math.sqrt(2.0);
-        double[] scaledLowPass = new double[lowPassFilter.length];
-        double[] scaledHighPass = new double[highPassFilter.length];
-        
-        for (int i = 0; i < lowPassFilter.length; i++) {
-            scaledLowPass[i] = lowPassFilter[i] * scale;
-        }
-        for (int i = 0; i < highPassFilter.length; i++) {
-            scaledHighPass[i] = highPassFilter[i] * scale;
-        }
-        
         // Prepare output arrays (same length as input)
         int signalLength = signal.length;
         double[] approximationCoeffs = new double[signalLength];
         double[] detailCoeffs = new double[signalLength];
         
-        // Measure actual execution time for adaptive learning
-        long startTime = System.nanoTime();
+        // Time a sample of significant calls for adaptive learning; free while telemetry is off
+        if (signalLength >= 64 && PerformanceTelemetry.sample()) {
+            long startTime = System.nanoTime();
+            convolve(signal, approximationCoeffs, detailCoeffs);
+            long elapsedNanos = System.nanoTime() - startTime;
+            if (elapsedNanos > 10_000) {
+                PerformanceTelemetry.record("MODWT", signalLength, elapsedNanos,
+                    WaveletOperations.getPerformanceInfo().vectorizationEnabled());
+            }
+        } else {
+            convolve(signal, approximationCoeffs, detailCoeffs);
+        }
+        
+        return MODWTResult.create(approximationCoeffs, detailCoeffs);
+    }
+    
+    /**
+     * Performs a single-level forward MODWT into caller-supplied buffers.
+     * 
+     * <p>This variant allocates nothing, so it can be called repeatedly on a hot path
+     * with the same output buffers. Unlike {@link #forward(double[])}, it never
+     * records timing measurements, even when {@link PerformanceTelemetry} is enabled.</p>
+     * 
+     * @param signal The input signal of any length ≥ 1
+     * @param approxOut Output buffer for approximation coefficients (same length as signal)
+     * @param detailOut Output buffer for detail coefficients (same length as signal)
+     * @throws NullPointerException if any argument is null
+     * @throws InvalidSignalException if signal is invalid
+     * @throws InvalidArgumentException if a buffer has the wrong length or aliases another argument
+     */
+    public void forward(double[] signal, double[] approxOut, double[] detailOut) {
+        validateInputSignal(signal);
+        validateBuffer(approxOut, signal.length, "approxOut");
+        validateBuffer(detailOut, signal.length, "detailOut");
+        if (approxOut == detailOut || approxOut == signal || detailOut == signal) {
+            throw new InvalidArgumentException(
+                "Output buffers must be distinct from each other and from the input signal");
+        }
+        
+        convolve(signal, approxOut, detailOut);
+    }
+    
+    /**
+     * Applies the decomposition filters to the signal based on the boundary mode.
+     */
+    private void convolve(double[] signal, double[] approximationCoeffs, double[] detailCoeffs) {
+        // Filters scaled by 1/sqrt(2) for MODWT
+        // This is essential for shift-invariance property
+        double[] scaledLowPass = decompositionFilters.lowPassDirect();
+        double[] scaledHighPass = decompositionFilters.highPassDirect();
+        
+        if (FFTConvolution.isBeneficial(signal.length, decompositionFilters.maxLength(), 1, boundaryMode)) {
+            FFTConvolution.forwardMODWT(signal, fftPlans.forward(1, signal.length),
+                approximationCoeffs, detailCoeffs);
+            return;
+        }
+        
+        // Level 1 is the dilated kernel with unit spacing; the fused kernel streams the
+        // signal once for both filters
+        if (decompositionFilters.maxLength() <= signal.length) {
+            if (boundaryMode == BoundaryMode.PERIODIC) {
+                WaveletOperations.circularConvolveMODWTDilatedFused(signal, scaledLowPass, scaledHighPass,
+                    approximationCoeffs, detailCoeffs, 1);
+            } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
+                WaveletOperations.zeroPaddingConvolveMODWTDilatedFused(signal, scaledLowPass, scaledHighPass,
+                    approximationCoeffs, detailCoeffs, 1);
+            } else { // SYMMETRIC
+                WaveletOperations.symmetricConvolveMODWTDilatedFused(signal, scaledLowPass, scaledHighPass,
+                    approximationCoeffs, detailCoeffs, 1);
+            }
+            return;
+        }
         
-        // Perform convolution without downsampling based on boundary mode
-        // WaveletOperations methods internally use automatic SIMD optimization
+        // Filters longer than the signal wrap or reflect more than once; use the full-length kernels
         if (boundaryMode == BoundaryMode.PERIODIC) {
-            // WaveletOperations.circularConvolveMODWT internally delegates to vectorized
-            // implementation when beneficial, falling back to scalar otherwise
             WaveletOperations.circularConvolveMODWT(signal, scaledLowPass, approximationCoeffs);
             WaveletOperations.circularConvolveMODWT(signal, scaledHighPass, detailCoeffs);
         } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
@@ -163,22 +243,8 @@ public class MODWTTransform {
             WaveletOperations.symmetricConvolveMODWT(signal, scaledLowPass, approximationCoeffs);
             WaveletOperations.symmetricConvolveMODWT(signal, scaledHighPass, detailCoeffs);
         }
-        
-        long endTime = System.nanoTime();
-        double actualTimeMs = (endTime - startTime) / 1_000_000.0;
-        
-        // Record measurement for adaptive learning (only for significant operations)
-        if (signalLength >= 64 && actualTimeMs > 0.01) {
-            AdaptivePerformanceEstimator.getInstance().recordMeasurement(
-                "MODWT", signalLength, actualTimeMs, 
-                WaveletOperations.getPerformanceInfo().vectorizationEnabled()
-            );
-        }
-        
-        return MODWTResult.create(approximationCoeffs, detailCoeffs);
     }
     
-    
     /**
      * Performs a single-level inverse MODWT to reconstruct the signal.
      * 
@@ -192,59 +258,112 @@ public class MODWTTransform {
      */
     public double[] inverse(MODWTResult modwtResult) {
         Objects.requireNonNull(modwtResult, "modwtResult cannot be null");
-        
-        if (!modwtResult.isValid()) {
-            throw new InvalidSignalException(
-                ErrorCode.VAL_NON_FINITE_VALUES,
-                ErrorContext.builder("MODWTResult contains invalid coefficients")
-                    .withContext("Coefficient validity", "Contains NaN or Infinity values")
-                    .withWavelet(wavelet)
-                    .withBoundaryMode(boundaryMode)
-                    .withSuggestion("Check input signal for NaN or Infinity values")
-                    .withSuggestion("Verify wavelet filter coefficients are valid")
-                    .build()
-            );
-        }
+        validateResult(modwtResult);
         
         // Get coefficients (defensive copies)
         double[] approxCoeffs = modwtResult.approximationCoeffs();
         double[] detailCoeffs = modwtResult.detailCoeffs();
         int signalLength = modwtResult.getSignalLength();
         
-        // Get reconstruction filter coefficients
-        double[] lowPassRecon = wavelet.lowPassReconstruction();
-        double[] highPassRecon = wavelet.highPassReconstruction();
+        // Prepare output array
+        double[] reconstructed = new double[signalLength];
         
-        // Scale reconstruction filters by 1/sqrt(2) for MODWT
-        double scale = 1.0 / Math.sqrt(2.0);
-        double[] scaledLowPassRecon = new double[lowPassRecon.length];
-        double[] scaledHighPassRecon = new double[highPassRecon.length];
+        reconstruct(approxCoeffs, detailCoeffs, reconstructed);
         
-        for (int i = 0; i < lowPassRecon.length; i++) {
-            scaledLowPassRecon[i] = lowPassRecon[i] * scale;
+        return reconstructed;
+    }
+    
+    /**
+     * Performs a single-level inverse MODWT into a caller-supplied buffer.
+     * 
+     * <p>This variant allocates nothing, so it can be called repeatedly on a hot path
+     * with the same output buffer.</p>
+     * 
+     * @param approxCoeffs The approximation coefficients
+     * @param detailCoeffs The detail coefficients (same length as approxCoeffs)
+     * @param output Output buffer for the reconstructed signal (same length as approxCoeffs)
+     * @throws NullPointerException if any argument is null
+     * @throws InvalidSignalException if the coefficients are empty, have mismatched lengths,
+     *         or contain NaN or Infinity values
+     * @throws InvalidArgumentException if output has the wrong length or aliases a coefficient array
+     */
+    public void inverse(double[] approxCoeffs, double[] detailCoeffs, double[] output) {
+        validateNotNull(approxCoeffs);
+        Objects.requireNonNull(detailCoeffs, "detailCoeffs cannot be null");
+        if (approxCoeffs.length != detailCoeffs.length) {
+            throw InvalidSignalException.mismatchedCoefficients(approxCoeffs.length, detailCoeffs.length);
         }
-        for (int i = 0; i < highPassRecon.length; i++) {
-            scaledHighPassRecon[i] = highPassRecon[i] * scale;
+        validateNotEmpty(approxCoeffs);
+        ValidationUtils.validateFiniteValues(approxCoeffs, "approxCoeffs");
+        ValidationUtils.validateFiniteValues(detailCoeffs, "detailCoeffs");
+        validateBuffer(output, approxCoeffs.length, "output");
+        if (output == approxCoeffs || output == detailCoeffs) {
+            throw new InvalidArgumentException(
+                "Output buffer must be distinct from the coefficient arrays");
         }
         
-        // Prepare output array
-        double[] reconstructed = new double[signalLength];
+        reconstruct(approxCoeffs, detailCoeffs, output);
+    }
+    
+    /**
+     * Applies the reconstruction filters based on the boundary mode.
+     */
+    private void reconstruct(double[] approxCoeffs, double[] detailCoeffs, double[] output) {
+        int signalLength = output.length;
+        
+        // Reconstruction filters scaled by 1/sqrt(2) for MODWT
+        double[] scaledLowPassRecon = reconstructionFilters.lowPassDirect();
+        double[] scaledHighPassRecon = reconstructionFilters.highPassDirect();
+        
+        // The reconstruction loops below use the low-pass length for both filters,
+        // so only equal-length filter pairs can take the FFT path
+        if (scaledLowPassRecon.length == scaledHighPassRecon.length
+                && FFTConvolution.isBeneficial(signalLength, scaledLowPassRecon.length, 1, boundaryMode)) {
+            FFTConvolution.inverseMODWT(approxCoeffs, detailCoeffs,
+                fftPlans.inverse(1, signalLength), output);
+            return;
+        }
         
         // Direct reconstruction based on boundary mode
         if (boundaryMode == BoundaryMode.PERIODIC) {
-            // X_t = Σ(l=0 to L-1) [h_l * s_(t-l mod N) + g_l * d_(t-l mod N)]
-            for (int t = 0; t < signalLength; t++) {
+            int filterLength = scaledLowPassRecon.length;
+            if (filterLength == scaledHighPassRecon.length && filterLength <= signalLength) {
+                // Level-1 dilated kernel: wrap-free interior plus a wrapped tail, vectorized when beneficial
+                WaveletOperations.circularInverseMODWTDilated(approxCoeffs, detailCoeffs,
+                    scaledLowPassRecon, scaledHighPassRecon, output, 1);
+                return;
+            }
+            
+            // X_t = Σ(l=0 to L-1) [h_l * s_(t+l mod N) + g_l * d_(t+l mod N)]
+            // For MODWT reconstruction, we use (t + l) indexing since we used (t - l) in forward
+            int interiorEnd = Math.max(signalLength - filterLength + 1, 0);
+            for (int t = 0; t < interiorEnd; t++) {
                 double sum = 0.0;
 
-                // Sum over filter coefficients
-                // For MODWT reconstruction, we use (t + l) indexing since we used (t - l) in forward
-                for (int l = 0; l < scaledLowPassRecon.length; l++) {
-                    int coeffIndex = (t + l) % signalLength;
+                // t + l < N for every tap, so no wrapping is needed
+                for (int l = 0; l < filterLength; l++) {
+                    sum += scaledLowPassRecon[l] * approxCoeffs[t + l] +
+                           scaledHighPassRecon[l] * detailCoeffs[t + l];
+                }
+
+                output[t] = sum; // No additional normalization needed with scaled filters
+            }
+            for (int t = interiorEnd; t < signalLength; t++) {
+                double sum = 0.0;
+
+                for (int l = 0; l < filterLength; l++) {
+                    int coeffIndex = t + l;
+                    if (coeffIndex >= signalLength) {
+                        // Filters longer than the signal may wrap more than once
+                        coeffIndex = coeffIndex < 2 * signalLength
+                            ? coeffIndex - signalLength
+                            : coeffIndex % signalLength;
+                    }
                     sum += scaledLowPassRecon[l] * approxCoeffs[coeffIndex] +
                            scaledHighPassRecon[l] * detailCoeffs[coeffIndex];
                 }
 
-                reconstructed[t] = sum; // No additional normalization needed with scaled filters
+                output[t] = sum;
             }
         } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
             // X_t = Σ(l=0 to L-1) [h_l * s_(t+l) + g_l * d_(t+l)] with zero padding
@@ -260,7 +379,7 @@ public class MODWTTransform {
                     // else: treat as zero (no contribution to sum)
                 }
 
-                reconstructed[t] = sum;
+                output[t] = sum;
             }
         } else { // SYMMETRIC
             // Use symmetric extension for reconstruction
@@ -283,11 +402,10 @@ public class MODWTTransform {
                            scaledHighPassRecon[l] * detailCoeffs[idx];
                 }
 
-                reconstructed[t] = sum;
+                output[t] = sum;
             }
         }
         
-        return reconstructed;
     }
     
     /**
@@ -397,6 +515,50 @@ public class MODWTTransform {
         ValidationUtils.validateFiniteValues(signal, "signal");
     }
     
+    /**
+     * Validates that a MODWT result contains only finite coefficients.
+     * 
+     * @param result the result to validate
+     * @throws InvalidSignalException if the result contains invalid coefficients
+     */
+    private void validateResult(MODWTResult result) {
+        if (!result.isValid()) {
+            throw new InvalidSignalException(
+                ErrorCode.VAL_NON_FINITE_VALUES,
+                ErrorContext.builder("MODWTResult contains invalid coefficients")
+                    .withContext("Coefficient validity", "Contains NaN or Infinity values")
+                    .withWavelet(wavelet)
+                    .withBoundaryMode(boundaryMode)
+                    .withSuggestion("Check input signal for NaN or Infinity values")
+                    .withSuggestion("Verify wavelet filter coefficients are valid")
+                    .build()
+            );
+        }
+    }
+    
+    /**
+     * Validates that a caller-supplied output buffer is non-null and has the expected length.
+     * 
+     * @param buffer the buffer to validate
+     * @param expectedLength the required length
+     * @param name the parameter name used in error messages
+     * @throws NullPointerException if buffer is null
+     * @throws InvalidArgumentException if buffer has the wrong length
+     */
+    static void validateBuffer(double[] buffer, int expectedLength, String name) {
+        Objects.requireNonNull(buffer, name + " cannot be null");
+        if (buffer.length != expectedLength) {
+            throw new InvalidArgumentException(
+                ErrorCode.VAL_LENGTH_MISMATCH,
+                ErrorContext.builder("Output buffer has incorrect length")
+                    .withContext("Buffer", name)
+                    .withArrayDimensions("length = " + expectedLength, "length = " + buffer.length)
+                    .withSuggestion("Allocate " + name + " with exactly " + expectedLength + " elements")
+                    .build()
+            );
+        }
+    }
+    
     /**
      * Record representing processing time estimation with confidence bounds.
      * Uses Java 23 record pattern for clean data structure.
@@ -474,7 +636,8 @@ public class MODWTTransform {
         }
         
         // For large batches of same-length signals, use optimized processing
-        if (sameLengths && signals.length >= 4 && firstLength >= 64) {
+        if (sameLengths && signals.length >= 4 && firstLength >= 64
+                && firstLength >= decompositionFilters.maxLength()) {
             return forwardBatchOptimized(signals);
         }
         
@@ -519,7 +682,11 @@ public class MODWTTransform {
         }
         
         // For large batches of same-length results, use optimized processing
-        if (sameLengths && results.length >= 4 && firstLength >= 64) {
+        // The SoA engine applies each filter over its own length, which matches the
+        // single-signal inverse only for equal-length (orthogonal) filter pairs
+        if (sameLengths && results.length >= 4 && firstLength >= 64
+                && firstLength >= reconstructionFilters.maxLength()
+                && reconstructionFilters.lowPassDirect().length == reconstructionFilters.highPassDirect().length) {
             return inverseBatchOptimized(results);
         }
         
@@ -533,54 +700,30 @@ public class MODWTTransform {
     
     /**
      * Optimized batch forward transform for same-length signals.
+     * 
+     * <p>Groups of {@link BatchSIMDMODWT#GROUP_SIZE} signals are transformed together
+     * by the structure-of-arrays engine, one vector lane per signal. Large batches
+     * fan the groups out over the common fork-join pool.</p>
      */
     private MODWTResult[] forwardBatchOptimized(double[][] signals) {
         int batchSize = signals.length;
         int signalLength = signals[0].length;
-        
-        // Get filter coefficients
-        double[] lowPassFilter = wavelet.lowPassDecomposition();
-        double[] highPassFilter = wavelet.highPassDecomposition();
-        
-        // Scale filters by 1/sqrt(2) for MODWT
-        double scale = 1.0 / Math.sqrt(2.0);
-        double[] scaledLowPass = new double[lowPassFilter.length];
-        double[] scaledHighPass = new double[highPassFilter.length];
-        
-        for (int i = 0; i < lowPassFilter.length; i++) {
-            scaledLowPass[i] = lowPassFilter[i] * scale;
-        }
-        for (int i = 0; i < highPassFilter.length; i++) {
-            scaledHighPass[i] = highPassFilter[i] * scale;
+        for (double[] signal : signals) {
+            validateInputSignal(signal);
         }
         
-        // Prepare output arrays
+        // Prepare output arrays; the results take ownership of them
         double[][] approxCoeffs = new double[batchSize][signalLength];
         double[][] detailCoeffs = new double[batchSize][signalLength];
         
-        // Process in batches using optimized convolution
-        if (boundaryMode == BoundaryMode.PERIODIC) {
-            // For periodic mode, we can use more efficient batch processing
-            for (int b = 0; b < batchSize; b++) {
-                WaveletOperations.circularConvolveMODWT(signals[b], scaledLowPass, approxCoeffs[b]);
-                WaveletOperations.circularConvolveMODWT(signals[b], scaledHighPass, detailCoeffs[b]);
-            }
-        } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
-            for (int b = 0; b < batchSize; b++) {
-                WaveletOperations.zeroPaddingConvolveMODWT(signals[b], scaledLowPass, approxCoeffs[b]);
-                WaveletOperations.zeroPaddingConvolveMODWT(signals[b], scaledHighPass, detailCoeffs[b]);
-            }
-        } else {
-            for (int b = 0; b < batchSize; b++) {
-                WaveletOperations.symmetricConvolveMODWT(signals[b], scaledLowPass, approxCoeffs[b]);
-                WaveletOperations.symmetricConvolveMODWT(signals[b], scaledHighPass, detailCoeffs[b]);
-            }
-        }
+        forEachGroup(batchSize, signalLength, (from, to) ->
+            BatchSIMDMODWT.forwardGroup(signals, from, to, approxCoeffs, detailCoeffs,
+                decompositionFilters, boundaryMode));
         
         // Create results
         MODWTResult[] results = new MODWTResult[batchSize];
         for (int i = 0; i < batchSize; i++) {
-            results[i] = MODWTResult.create(approxCoeffs[i], detailCoeffs[i]);
+            results[i] = MODWTResultImpl.createDirect(approxCoeffs[i], detailCoeffs[i]);
         }
         
         return results;
@@ -588,76 +731,60 @@ public class MODWTTransform {
     
     /**
      * Optimized batch inverse transform for same-length results.
+     * Uses the same grouped structure-of-arrays engine as {@link #forwardBatchOptimized}.
      */
     private double[][] inverseBatchOptimized(MODWTResult[] results) {
         int batchSize = results.length;
         int signalLength = results[0].getSignalLength();
         
-        // Get reconstruction filter coefficients
-        double[] lowPassRecon = wavelet.lowPassReconstruction();
-        double[] highPassRecon = wavelet.highPassReconstruction();
-        
-        // Scale reconstruction filters by 1/sqrt(2) for MODWT
-        double scale = 1.0 / Math.sqrt(2.0);
-        double[] scaledLowPassRecon = new double[lowPassRecon.length];
-        double[] scaledHighPassRecon = new double[highPassRecon.length];
-        
-        for (int i = 0; i < lowPassRecon.length; i++) {
-            scaledLowPassRecon[i] = lowPassRecon[i] * scale;
-        }
-        for (int i = 0; i < highPassRecon.length; i++) {
-            scaledHighPassRecon[i] = highPassRecon[i] * scale;
+        double[][] approxCoeffs = new double[batchSize][];
+        double[][] detailCoeffs = new double[batchSize][];
+        for (int b = 0; b < batchSize; b++) {
+            MODWTResult result = results[b];
+            if (result instanceof MODWTResultImpl impl) {
+                // Validated at construction and immutable, so no copies or checks needed
+                approxCoeffs[b] = impl.approximationCoeffsDirect();
+                detailCoeffs[b] = impl.detailCoeffsDirect();
+            } else {
+                validateResult(result);
+                approxCoeffs[b] = result.approximationCoeffs();
+                detailCoeffs[b] = result.detailCoeffs();
+            }
         }
         
         // Prepare output arrays
         double[][] reconstructed = new double[batchSize][signalLength];
         
-        // Process each result
-        for (int b = 0; b < batchSize; b++) {
-            double[] approxCoeffs = results[b].approximationCoeffs();
-            double[] detailCoeffs = results[b].detailCoeffs();
-            
-            if (boundaryMode == BoundaryMode.PERIODIC) {
-                // Periodic reconstruction
-                for (int t = 0; t < signalLength; t++) {
-                    double sum = 0.0;
-                    for (int l = 0; l < scaledLowPassRecon.length; l++) {
-                        int coeffIndex = (t + l) % signalLength;
-                        sum += scaledLowPassRecon[l] * approxCoeffs[coeffIndex] +
-                               scaledHighPassRecon[l] * detailCoeffs[coeffIndex];
-                    }
-                    reconstructed[b][t] = sum;
-                }
-            } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
-                // Zero-padding reconstruction
-                for (int t = 0; t < signalLength; t++) {
-                    double sum = 0.0;
-                    for (int l = 0; l < scaledLowPassRecon.length; l++) {
-                        int coeffIndex = t + l;
-                        if (coeffIndex < signalLength) {
-                            sum += scaledLowPassRecon[l] * approxCoeffs[coeffIndex] +
-                                   scaledHighPassRecon[l] * detailCoeffs[coeffIndex];
-                        }
-                    }
-                    reconstructed[b][t] = sum;
-                }
-            } else {
-                // Symmetric reconstruction using adjoint operation
-                int period = signalLength << 1;
-                for (int t = 0; t < signalLength; t++) {
-                    double sum = 0.0;
-                    for (int l = 0; l < scaledLowPassRecon.length; l++) {
-                        int idx = t + l;
-                        int mod = idx % period;
-                        int coeffIndex = mod < signalLength ? mod : period - mod - 1;
-                        sum += scaledLowPassRecon[l] * approxCoeffs[coeffIndex] +
-                               scaledHighPassRecon[l] * detailCoeffs[coeffIndex];
-                    }
-                    reconstructed[b][t] = sum;
-                }
-            }
-        }
+        forEachGroup(batchSize, signalLength, (from, to) ->
+            BatchSIMDMODWT.inverseGroup(approxCoeffs, detailCoeffs, from, to, reconstructed,
+                reconstructionFilters, boundaryMode));
         
         return reconstructed;
     }
+    
+    /**
+     * Runs a task for each group of {@link BatchSIMDMODWT#GROUP_SIZE} consecutive batch entries,
+     * in parallel when the batch holds at least {@link #PARALLEL_BATCH_THRESHOLD} samples.
+     */
+    static void forEachGroup(int batchSize, int signalLength, GroupTask task) {
+        int groupSize = BatchSIMDMODWT.GROUP_SIZE;
+        int groups = (batchSize + groupSize - 1) / groupSize;
+        IntConsumer runGroup = g -> task.run(g * groupSize, Math.min(batchSize, (g + 1) * groupSize));
+        
+        if (groups > 1 && (long) batchSize * signalLength >= PARALLEL_BATCH_THRESHOLD) {
+            IntStream.range(0, groups).parallel().forEach(runGroup);
+        } else {
+            for (int g = 0; g < groups; g++) {
+                runGroup.accept(g);
+            }
+        }
+    }
+    
+    /**
+     * A unit of batch work over the batch entries {@code [from, to)}.
+     */
+    @FunctionalInterface
+    interface GroupTask {
+        void run(int from, int to);
+    }
 }
\ No newline at end of file
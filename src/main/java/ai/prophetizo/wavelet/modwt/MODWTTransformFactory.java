@@ -3,6 +3,8 @@ package ai.prophetizo.wavelet.modwt;
 import ai.prophetizo.wavelet.api.*;
 import ai.prophetizo.wavelet.padding.*;import ai.prophetizo.wavelet.config.TransformConfig;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
 
 import java.util.Objects;
 
@@ -37,6 +39,10 @@ import java.util.Objects;
  * MultiLevelMODWTTransform mlModwt = MODWTTransformFactory.createMultiLevel(
  *     new Haar(), BoundaryMode.PERIODIC);
  * 
+ * // Create a causal, sample-by-sample streaming MODWT for tick data
+ * CausalMODWTStreamingTransform stream = MODWTTransformFactory.createCausalStreaming(
+ *     Daubechies.DB4, 4);
+ * 
  * // Register with FactoryRegistry for global access
  * FactoryRegistry.getInstance().register(
  *     "modwt", new MODWTTransformFactory());
@@ -205,6 +211,33 @@ public class MODWTTransformFactory implements Factory<MODWTTransform, MODWTTrans
         return createMultiLevel(wavelet, boundaryMode);
     }
     
+    /**
+     * Creates a causal streaming MODWT transform that emits the coefficients of every
+     * level for each arriving sample in O(L·J) work and without allocating.
+     * 
+     * @param wavelet The wavelet to use
+     * @param levels The number of decomposition levels
+     * @return A new causal streaming MODWT transform
+     * @throws InvalidArgumentException if the parameters are invalid
+     * @see CausalMODWTStreamingTransform
+     */
+    public static CausalMODWTStreamingTransform createCausalStreaming(Wavelet wavelet, int levels) {
+        return MODWTStreamingTransform.createCausal(wavelet, levels);
+    }
+    
+    /**
+     * Creates a causal streaming MODWT transform using a wavelet name.
+     * 
+     * @param waveletName The wavelet name enum
+     * @param levels The number of decomposition levels
+     * @return A new causal streaming MODWT transform
+     * @throws InvalidArgumentException if wavelet name is not found or levels is invalid
+     */
+    public static CausalMODWTStreamingTransform createCausalStreaming(WaveletName waveletName, int levels) {
+        Wavelet wavelet = WaveletRegistry.getWavelet(waveletName);
+        return createCausalStreaming(wavelet, levels);
+    }
+    
     /**
      * Gets a singleton instance of this factory.
      * 
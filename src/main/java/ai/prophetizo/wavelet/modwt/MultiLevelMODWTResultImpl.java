@@ -60,6 +60,51 @@ class MultiLevelMODWTResultImpl implements MultiLevelMODWTResult {
         clearCache();
     }
     
+    /**
+     * Sets detail coefficients for a specific level without copying.
+     * The caller transfers ownership of the array.
+     */
+    void setDetailCoeffsAtLevelDirect(int level, double[] coeffs) {
+        validateLevel(level);
+        validateCoefficients(coeffs, "detail coefficients at level " + level);
+        this.detailCoeffs[level - 1] = coeffs;
+        clearCache();
+    }
+    
+    /**
+     * Sets the approximation coefficients without copying.
+     * The caller transfers ownership of the array.
+     */
+    void setApproximationCoeffsDirect(double[] coeffs) {
+        validateCoefficients(coeffs, "approximation coefficients");
+        this.approximationCoeffs = coeffs;
+        clearCache();
+    }
+    
+    /**
+     * Direct access to detail coefficients without copying.
+     * Callers must not modify the returned array.
+     */
+    double[] getDetailCoeffsAtLevelDirect(int level) {
+        validateLevel(level);
+        double[] coeffs = detailCoeffs[level - 1];
+        if (coeffs == null) {
+            throw new IllegalStateException("Detail coefficients not set for level " + level);
+        }
+        return coeffs;
+    }
+    
+    /**
+     * Direct access to approximation coefficients without copying.
+     * Callers must not modify the returned array.
+     */
+    double[] getApproximationCoeffsDirect() {
+        if (approximationCoeffs == null) {
+            throw new IllegalStateException("Approximation coefficients not set");
+        }
+        return approximationCoeffs;
+    }
+    
     @Override
     public int getLevels() {
         return levels;
@@ -7,12 +7,13 @@ import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import ai.prophetizo.wavelet.exception.InvalidSignalException;
 import ai.prophetizo.wavelet.exception.ErrorCode;
 import ai.prophetizo.wavelet.exception.ErrorContext;
-import ai.prophetizo.wavelet.util.MathUtils;
+import ai.prophetizo.wavelet.internal.FFTConvolution;
+import ai.prophetizo.wavelet.internal.ScalarOps;
+import ai.prophetizo.wavelet.util.ThreadLocalManager;
 import ai.prophetizo.wavelet.util.ValidationUtils;
 
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Performs multi-level MODWT (Maximal Overlap Discrete Wavelet Transform) decomposition and reconstruction.
@@ -113,67 +114,26 @@ public class MultiLevelMODWTTransform {
      */
     private static final int MAX_SAFE_SHIFT_BITS = 31;
     
-    private final Wavelet wavelet;
-    private final BoundaryMode boundaryMode;
-    private final MODWTTransform singleLevelTransform;
-    
     /**
-     * Cache for truncated filters to avoid repeated allocations.
-     * Uses a long key encoding both filter type and length to minimize allocations.
-     * 
-     * Key encoding: upper 32 bits = filter type ordinal, lower 32 bits = length
-     * This avoids object allocation on every cache lookup.
+     * Scratch buffers for the buffered (allocation-free) decomposition and reconstruction.
      */
-    private final Map<Long, double[]> truncatedFilterCache = new ConcurrentHashMap<>();
+    private static final ThreadLocalManager.ManagedThreadLocal<CascadeWorkspace> WORKSPACE =
+        ThreadLocalManager.withInitial(CascadeWorkspace::new);
     
-    /**
-     * Record to hold a pair of scaled filters for efficient computation.
-     * Avoids redundant calculations when scaling both low-pass and high-pass filters.
-     */
-    private record ScaledFilterPair(double[] lowPass, double[] highPass) {}
-    
-    /**
-     * Validates that a decomposition level is safe for bit shift operations.
-     * Prevents integer overflow in calculations like 1 << (level - 1).
-     * 
-     * @param level the decomposition level to validate (1-based)
-     * @param operationName descriptive name of the operation for error message
-     * @throws InvalidArgumentException if level would cause overflow
-     */
-    private static void validateLevelForBitShift(int level, String operationName) {
-        if (level - 1 >= MAX_SAFE_SHIFT_BITS) {
-            throw new InvalidArgumentException(
-                ErrorCode.VAL_TOO_LARGE,
-                ErrorContext.builder("Decomposition level would cause integer overflow")
-                    .withContext("Operation", operationName)
-                    .withLevelInfo(level, MAX_SAFE_SHIFT_BITS)
-                    .withContext("Calculation", "2^(" + (level-1) + ") filter upsampling")
-                    .withSuggestion("Maximum safe decomposition level is " + MAX_SAFE_SHIFT_BITS)
-                    .withSuggestion("For signals requiring extreme decomposition, consider alternative approaches")
-                    .build()
-            );
-        }
-    }
+    private final Wavelet wavelet;
+    private final BoundaryMode boundaryMode;
+    private final MODWTTransform singleLevelTransform;
     
     /**
-     * Filter types for cache key encoding.
+     * Precomputed MODWT filters. Multi-level filters are never upsampled;
+     * the dilated (à trous) kernels visit the base taps with spacing 2^(j-1) at level j.
      */
-    private enum FilterType {
-        LOW, HIGH, LOW_RECON, HIGH_RECON
-    }
+    private final MODWTFilterBank filterBank;
     
     /**
-     * Creates a cache key by encoding filter type and target length into a single long value.
-     * Upper 32 bits: filter type ordinal (0-3)
-     * Lower 32 bits: target length
-     * 
-     * @param filterType the type of filter (LOW, HIGH, LOW_RECON, HIGH_RECON)
-     * @param targetLength the target length for the truncated filter
-     * @return encoded cache key
+     * FFT plans per level, kept for the last signal length that took the FFT path.
      */
-    private static long createFilterCacheKey(FilterType filterType, int targetLength) {
-        return (((long) filterType.ordinal()) << 32) | (targetLength & 0xFFFFFFFFL);
-    }
+    private final FFTLevelPlans fftPlans;
     
     /**
      * Constructs a multi-level MODWT transformer.
@@ -187,6 +147,8 @@ public class MultiLevelMODWTTransform {
         this.wavelet = Objects.requireNonNull(wavelet, "wavelet cannot be null");
         this.boundaryMode = Objects.requireNonNull(boundaryMode, "boundaryMode cannot be null");
         this.singleLevelTransform = new MODWTTransform(wavelet, boundaryMode);
+        this.filterBank = MODWTFilterBank.of(wavelet);
+        this.fftPlans = new FFTLevelPlans(filterBank, boundaryMode);
     }
     
     /**
@@ -212,57 +174,38 @@ public class MultiLevelMODWTTransform {
      * @throws InvalidArgumentException if levels is invalid
      */
     public MultiLevelMODWTResult decompose(double[] signal, int levels) {
-        // Validate inputs
-        ValidationUtils.validateFiniteValues(signal, "signal");
-        if (signal.length == 0) {
-            throw new InvalidSignalException(
-                ErrorCode.VAL_EMPTY,
-                ErrorContext.builder("Signal cannot be empty for multi-level MODWT")
-                    .withContext("Transform type", "Multi-level MODWT")
-                    .withWavelet(wavelet)
-                    .withBoundaryMode(boundaryMode)
-                    .withContext("Requested levels", levels)
-                    .withSuggestion("Provide a signal with at least one sample")
-                    .build()
-            );
-        }
+        validateDecomposition(signal, levels, "Multi-level MODWT");
         
-        int maxLevels = calculateMaxLevels(signal.length);
-        if (levels < 1 || levels > maxLevels) {
-            throw new InvalidArgumentException(
-                ErrorCode.CFG_INVALID_DECOMPOSITION_LEVEL,
-                ErrorContext.builder("Invalid number of decomposition levels")
-                    .withLevelInfo(levels, maxLevels)
-                    .withSignalInfo(signal.length)
-                    .withWavelet(wavelet)
-                    .withContext("Filter length", wavelet instanceof Wavelet ? 
-                        wavelet.lowPassDecomposition().length : "unknown")
-                    .withSuggestion("Choose a level between 1 and " + maxLevels)
-                    .withSuggestion("Maximum level is floor(log2(signalLength/filterLength)) = " + maxLevels)
-                    .build()
-            );
+        // Perform multi-level decomposition; the result takes ownership of the arrays
+        MultiLevelMODWTResultImpl result = new MultiLevelMODWTResultImpl(signal.length, levels);
+        double[] approximation = new double[signal.length];
+        
+        if (useBlockedCascade(signal.length, levels)) {
+            double[][] details = new double[levels][signal.length];
+            CacheBlockedMODWTCascade.decompose(signal, filterBank, boundaryMode, levels, details, approximation);
+            for (int level = 1; level <= levels; level++) {
+                result.setDetailCoeffsAtLevelDirect(level, details[level - 1]);
+            }
+            result.setApproximationCoeffsDirect(approximation);
+            return result;
         }
         
-        // Perform multi-level decomposition
-        MultiLevelMODWTResultImpl result = new MultiLevelMODWTResultImpl(signal.length, levels);
+        double[] scratch = levels > 1 ? new double[signal.length] : null;
         
-        double[] currentApprox = signal.clone(); // Start with original signal
+        double[] currentApprox = signal; // Start with original signal (never written)
         
         for (int level = 1; level <= levels; level++) {
-            // Apply single-level MODWT with scaled filters
-            MODWTResult levelResult = transformAtLevel(currentApprox, level);
+            double[] details = new double[signal.length];
+            double[] nextApprox = approximationTarget(level, levels, approximation, scratch);
             
-            // Store detail coefficients
-            result.setDetailCoeffsAtLevel(level, levelResult.detailCoeffs());
+            // Apply single-level MODWT with scaled filters
+            transformAtLevel(currentApprox, level, nextApprox, details);
+            result.setDetailCoeffsAtLevelDirect(level, details);
             
             // Update approximation for next level
-            currentApprox = levelResult.approximationCoeffs();
-            
-            // Store final approximation if at last level
-            if (level == levels) {
-                result.setApproximationCoeffs(currentApprox);
-            }
+            currentApprox = nextApprox;
         }
+        result.setApproximationCoeffsDirect(approximation);
         
         return result;
     }
@@ -297,59 +240,115 @@ public class MultiLevelMODWTTransform {
      * @since 1.0
      */
     public MutableMultiLevelMODWTResult decomposeMutable(double[] signal, int levels) {
-        // Validate inputs
-        ValidationUtils.validateFiniteValues(signal, "signal");
-        if (signal.length == 0) {
-            throw new InvalidSignalException(
-                ErrorCode.VAL_EMPTY,
-                ErrorContext.builder("Signal cannot be empty for multi-level MODWT")
-                    .withContext("Transform type", "Multi-level MODWT (mutable)")
-                    .withWavelet(wavelet)
-                    .withBoundaryMode(boundaryMode)
-                    .withContext("Requested levels", levels)
-                    .withSuggestion("Provide a signal with at least one sample")
-                    .build()
-            );
-        }
+        validateDecomposition(signal, levels, "Multi-level MODWT (mutable)");
         
-        int maxLevels = calculateMaxLevels(signal.length);
-        if (levels < 1 || levels > maxLevels) {
+        // Perform multi-level decomposition with mutable result
+        MutableMultiLevelMODWTResultImpl result = new MutableMultiLevelMODWTResultImpl(signal.length, levels);
+        decomposeInto(signal, result, levels > 1 ? new double[signal.length] : null);
+        
+        return result;
+    }
+    
+    /**
+     * Performs multi-level MODWT decomposition into a caller-supplied result.
+     * 
+     * <p>The number of levels is taken from {@code result}, and the coefficients are written
+     * into its existing arrays (see {@link MutableMultiLevelMODWTResult#getMutableDetailCoeffs(int)}).
+     * A {@link MutableMultiLevelMODWTResultImpl} allocates its arrays on first use, so
+     * reusing the same result for a stream of equal-length signals allocates nothing in
+     * steady state. The intermediate approximation uses a per-thread scratch buffer.</p>
+     * 
+     * <pre>{@code
+     * MutableMultiLevelMODWTResult buffer = new MutableMultiLevelMODWTResultImpl(1024, 5);
+     * while (running) {
+     *     mwt.decompose(nextWindow(), buffer);
+     *     process(buffer);
+     * }
+     * }</pre>
+     * 
+     * @param signal The input signal (length must equal {@code result.getSignalLength()})
+     * @param result The result to overwrite with the decomposition
+     * @throws NullPointerException if signal or result is null
+     * @throws InvalidSignalException if signal is invalid
+     * @throws InvalidArgumentException if the signal length does not match the result,
+     *         the level count is invalid for the signal, or the signal aliases a result array
+     */
+    public void decompose(double[] signal, MutableMultiLevelMODWTResult result) {
+        Objects.requireNonNull(signal, "signal cannot be null");
+        Objects.requireNonNull(result, "result cannot be null");
+        int levels = result.getLevels();
+        validateDecomposition(signal, levels, "Multi-level MODWT (buffered)");
+        if (signal.length != result.getSignalLength()) {
             throw new InvalidArgumentException(
-                ErrorCode.CFG_INVALID_DECOMPOSITION_LEVEL,
-                ErrorContext.builder("Invalid number of decomposition levels")
-                    .withLevelInfo(levels, maxLevels)
-                    .withSignalInfo(signal.length)
-                    .withWavelet(wavelet)
-                    .withContext("Filter length", wavelet instanceof Wavelet ? 
-                        wavelet.lowPassDecomposition().length : "unknown")
-                    .withSuggestion("Choose a level between 1 and " + maxLevels)
-                    .withSuggestion("Maximum level is floor(log2(signalLength/filterLength)) = " + maxLevels)
+                ErrorCode.VAL_LENGTH_MISMATCH,
+                ErrorContext.builder("Signal length does not match the result buffer")
+                    .withArrayDimensions("length = " + result.getSignalLength(), "length = " + signal.length)
+                    .withSuggestion("Create the result with the same signal length as the input")
                     .build()
             );
         }
         
-        // Perform multi-level decomposition with mutable result
-        MutableMultiLevelMODWTResultImpl result = new MutableMultiLevelMODWTResultImpl(signal.length, levels);
+        double[] scratch = levels > 1 ? WORKSPACE.get().scratch(signal.length) : null;
+        decomposeInto(signal, result, scratch);
+    }
+    
+    /**
+     * Runs the level cascade, writing coefficients into the result's arrays.
+     * Intermediate approximations alternate between the final approximation
+     * array and {@code scratch} so the last level lands in the result.
+     */
+    private void decomposeInto(double[] signal, MutableMultiLevelMODWTResult result, double[] scratch) {
+        int levels = result.getLevels();
+        double[] approximation = approximationBuffer(result);
+        if (approximation == signal) {
+            throw new InvalidArgumentException("Signal must not alias the result's coefficient arrays");
+        }
         
-        double[] currentApprox = signal.clone(); // Start with original signal
+        if (useBlockedCascade(signal.length, levels)) {
+            double[][] details = WORKSPACE.get().detailArrays(levels);
+            for (int level = 1; level <= levels; level++) {
+                details[level - 1] = detailBuffer(result, level);
+                if (details[level - 1] == signal) {
+                    throw new InvalidArgumentException("Signal must not alias the result's coefficient arrays");
+                }
+            }
+            CacheBlockedMODWTCascade.decompose(signal, filterBank, boundaryMode, levels, details, approximation);
+            Arrays.fill(details, null);
+            result.clearCaches();
+            return;
+        }
         
+        double[] currentApprox = signal;
         for (int level = 1; level <= levels; level++) {
-            // Apply single-level MODWT with scaled filters
-            MODWTResult levelResult = transformAtLevel(currentApprox, level);
-            
-            // Store detail coefficients directly (avoiding unnecessary cloning)
-            result.setDetailCoeffsAtLevelDirect(level, levelResult.detailCoeffs().clone());
-            
-            // Update approximation for next level
-            currentApprox = levelResult.approximationCoeffs();
-            
-            // Store final approximation if at last level
-            if (level == levels) {
-                result.setApproximationCoeffsDirect(currentApprox.clone());
+            double[] details = detailBuffer(result, level);
+            if (details == signal) {
+                throw new InvalidArgumentException("Signal must not alias the result's coefficient arrays");
             }
+            double[] nextApprox = approximationTarget(level, levels, approximation, scratch);
+            
+            transformAtLevel(currentApprox, level, nextApprox, details);
+            currentApprox = nextApprox;
         }
-        
-        return result;
+        result.clearCaches();
+    }
+    
+    /**
+     * Checks whether the cascade should run tile by tile through all levels
+     * instead of level by level (see {@link CacheBlockedMODWTCascade}).
+     */
+    private boolean useBlockedCascade(int signalLength, int levels) {
+        return CacheBlockedMODWTCascade.isApplicable(signalLength, levels,
+            filterBank.decomposition(1).maxLength(), boundaryMode);
+    }
+    
+    /**
+     * Chooses where the approximation of a level is written. The level before the
+     * last always writes to {@code scratch}, so that the last level can read it while
+     * writing the final approximation.
+     */
+    private static double[] approximationTarget(int level, int levels,
+                                                double[] approximation, double[] scratch) {
+        return (levels - level) % 2 == 1 ? scratch : approximation;
     }
     
     /**
@@ -362,16 +361,168 @@ public class MultiLevelMODWTTransform {
     public double[] reconstruct(MultiLevelMODWTResult result) {
         Objects.requireNonNull(result, "result cannot be null");
         
+        double[] reconstruction = new double[result.getSignalLength()];
+        double[] scratch = result.getLevels() > 1 ? new double[result.getSignalLength()] : null;
+        reconstructInto(result, reconstruction, scratch);
+        
+        return reconstruction;
+    }
+    
+    /**
+     * Reconstructs the original signal from a multi-level MODWT result into a caller-supplied buffer.
+     * 
+     * <p>Coefficients are read without copying when {@code result} is a
+     * {@link MutableMultiLevelMODWTResult} or was produced by this transform, and the
+     * intermediate levels use a per-thread scratch buffer, so repeated calls with the
+     * same buffers allocate nothing in steady state.</p>
+     * 
+     * @param result The multi-level MODWT result
+     * @param output Output buffer for the reconstructed signal (length {@code result.getSignalLength()})
+     * @throws NullPointerException if result or output is null
+     * @throws InvalidArgumentException if output has the wrong length or aliases a result array
+     */
+    public void reconstruct(MultiLevelMODWTResult result, double[] output) {
+        Objects.requireNonNull(result, "result cannot be null");
+        MODWTTransform.validateBuffer(output, result.getSignalLength(), "output");
+        
+        double[] scratch = result.getLevels() > 1
+            ? WORKSPACE.get().scratch(result.getSignalLength()) : null;
+        reconstructInto(result, output, scratch);
+    }
+    
+    /**
+     * Reconstructs level by level (from coarsest to finest), alternating between
+     * {@code output} and {@code scratch} so that level 1 lands in {@code output}.
+     */
+    private void reconstructInto(MultiLevelMODWTResult result, double[] output, double[] scratch) {
+        int levels = result.getLevels();
+        
         // Start with approximation at coarsest level
-        double[] reconstruction = result.getApproximationCoeffs().clone();
+        double[] current = approximationDirect(result);
+        if (current == output) {
+            throw new InvalidArgumentException("Output buffer must not alias the result's coefficient arrays");
+        }
         
-        // Reconstruct level by level (from coarsest to finest)
-        for (int level = result.getLevels(); level >= 1; level--) {
-            double[] details = result.getDetailCoeffsAtLevel(level);
-            reconstruction = reconstructSingleLevel(reconstruction, details, level);
+        for (int level = levels; level >= 1; level--) {
+            double[] details = detailsDirect(result, level);
+            if (details == output) {
+                throw new InvalidArgumentException("Output buffer must not alias the result's coefficient arrays");
+            }
+            double[] target = (level - 1) % 2 == 0 ? output : scratch;
+            reconstructSingleLevel(current, details, level, target);
+            current = target;
+        }
+    }
+    
+    /**
+     * Performs multi-level MODWT decomposition of a batch of signals.
+     * 
+     * <p>Same-length signals are decomposed together by the structure-of-arrays SIMD
+     * engine of {@link BatchSIMDMODWT}, one vector lane per signal, with the
+     * approximation cascade kept in that layout across levels. Large batches are
+     * spread over the common fork-join pool. Signals of mixed lengths are decomposed
+     * one at a time.</p>
+     * 
+     * @param signals The input signals
+     * @param levels Number of decomposition levels, valid for every signal
+     * @return Decomposition results, in the order of {@code signals}
+     * @throws NullPointerException if signals or any signal is null
+     * @throws InvalidSignalException if any signal is invalid
+     * @throws InvalidArgumentException if levels is invalid for any signal
+     */
+    public MultiLevelMODWTResult[] decomposeBatch(double[][] signals, int levels) {
+        Objects.requireNonNull(signals, "signals array cannot be null");
+        for (double[] signal : signals) {
+            Objects.requireNonNull(signal, "signal cannot be null");
+            validateDecomposition(signal, levels, "Multi-level MODWT (batch)");
         }
         
-        return reconstruction;
+        int batchSize = signals.length;
+        MultiLevelMODWTResult[] results = new MultiLevelMODWTResult[batchSize];
+        if (batchSize == 0) {
+            return results;
+        }
+        if (!sameLength(signals)) {
+            for (int b = 0; b < batchSize; b++) {
+                results[b] = decompose(signals[b], levels);
+            }
+            return results;
+        }
+        
+        int signalLength = signals[0].length;
+        double[][][] details = new double[batchSize][levels][signalLength];
+        double[][] approximations = new double[batchSize][signalLength];
+        MODWTTransform.forEachGroup(batchSize, signalLength * levels, (from, to) ->
+            BatchSIMDMODWT.decomposeGroup(signals, from, to, filterBank, levels, boundaryMode,
+                details, approximations));
+        
+        // The results take ownership of the arrays
+        for (int b = 0; b < batchSize; b++) {
+            MultiLevelMODWTResultImpl result = new MultiLevelMODWTResultImpl(signalLength, levels);
+            for (int level = 1; level <= levels; level++) {
+                result.setDetailCoeffsAtLevelDirect(level, details[b][level - 1]);
+            }
+            result.setApproximationCoeffsDirect(approximations[b]);
+            results[b] = result;
+        }
+        return results;
+    }
+    
+    /**
+     * Reconstructs a batch of signals from multi-level MODWT results.
+     * 
+     * <p>Results with the same signal length and number of levels are reconstructed
+     * together by the structure-of-arrays SIMD engine; otherwise each result is
+     * reconstructed on its own.</p>
+     * 
+     * @param results The multi-level MODWT results
+     * @return Reconstructed signals, in the order of {@code results}
+     * @throws NullPointerException if results or any result is null
+     */
+    public double[][] reconstructBatch(MultiLevelMODWTResult[] results) {
+        Objects.requireNonNull(results, "results array cannot be null");
+        for (MultiLevelMODWTResult result : results) {
+            Objects.requireNonNull(result, "result cannot be null");
+        }
+        
+        int batchSize = results.length;
+        double[][] reconstructed = new double[batchSize][];
+        if (batchSize == 0) {
+            return reconstructed;
+        }
+        int signalLength = results[0].getSignalLength();
+        int levels = results[0].getLevels();
+        for (MultiLevelMODWTResult result : results) {
+            if (result.getSignalLength() != signalLength || result.getLevels() != levels) {
+                for (int b = 0; b < batchSize; b++) {
+                    reconstructed[b] = reconstruct(results[b]);
+                }
+                return reconstructed;
+            }
+        }
+        
+        double[][] approximations = new double[batchSize][];
+        double[][][] details = new double[batchSize][levels][];
+        for (int b = 0; b < batchSize; b++) {
+            approximations[b] = approximationDirect(results[b]);
+            for (int level = 1; level <= levels; level++) {
+                details[b][level - 1] = detailsDirect(results[b], level);
+            }
+            reconstructed[b] = new double[signalLength];
+        }
+        MODWTTransform.forEachGroup(batchSize, signalLength * levels, (from, to) ->
+            BatchSIMDMODWT.reconstructGroup(approximations, details, from, to, filterBank, levels,
+                boundaryMode, reconstructed));
+        return reconstructed;
+    }
+    
+    private static boolean sameLength(double[][] signals) {
+        for (int b = 1; b < signals.length; b++) {
+            if (signals[b].length != signals[0].length) {
+                return false;
+            }
+        }
+        return true;
     }
     
     /**
@@ -475,7 +626,8 @@ public class MultiLevelMODWTTransform {
      * by using direct calculation where possible.</p>
      */
     private int calculateMaxLevels(int signalLength) {
-        int filterLength = wavelet.lowPassDecomposition().length;
+        // Read the length from the shared filter bank; the wavelet getter clones the filter
+        int filterLength = filterBank.decomposition(1).lowPassDirect().length;
         
         // Quick check for edge cases
         if (signalLength <= filterLength) {
@@ -523,234 +675,114 @@ public class MultiLevelMODWTTransform {
     }
     
     /**
-     * Performs single-level MODWT with appropriately scaled filters.
+     * Performs single-level MODWT at the given level using the à trous filters.
      */
-    private MODWTResult transformAtLevel(double[] signal, int level) {
-        // For level j, scale both filters together to avoid redundant calculations
-        ScaledFilterPair scaledFilters = scaleFiltersForLevel(
-            wavelet.lowPassDecomposition(), 
-            wavelet.highPassDecomposition(), 
-            level
-        );
+    private void transformAtLevel(double[] signal, int level,
+                                  double[] approximationCoeffs, double[] detailCoeffs) {
+        MODWTFilterBank.LevelFilters filters = filterBank.decomposition(level);
         
-        // Apply MODWT with scaled filters directly
-        return applyScaledMODWT(signal, scaledFilters.lowPass(), scaledFilters.highPass());
+        // Apply MODWT with the base scaled filters spread by the level's dilation
+        applyScaledMODWT(signal, level, filters.lowPassDirect(), filters.highPassDirect(),
+            filters.dilation(), approximationCoeffs, detailCoeffs);
     }
     
     /**
      * Reconstructs single level by combining approximation and details.
      */
     private double[] reconstructSingleLevel(double[] approx, double[] details, int level) {
-        // For MODWT reconstruction, we need upsampled filters - process both together
-        ScaledFilterPair upsampledFilters = upsampleFiltersForLevel(
-            wavelet.lowPassReconstruction(), 
-            wavelet.highPassReconstruction(), 
-            level
-        );
-        
-        // Apply inverse MODWT with the upsampled and scaled filters
-        return applyScaledInverseMODWT(approx, details, upsampledFilters.lowPass(), upsampledFilters.highPass());
+        double[] reconstructed = new double[approx.length];
+        reconstructSingleLevel(approx, details, level, reconstructed);
+        return reconstructed;
     }
     
     /**
-     * Upsamples both low-pass and high-pass filters for MODWT at given level with scaling.
-     * This optimized method avoids redundant calculations by processing both filters together.
-     * At level j, insert 2^(j-1) - 1 zeros between coefficients and apply 1/sqrt(2) scaling.
+     * Reconstructs single level into the given output array.
      */
-    private ScaledFilterPair upsampleFiltersForLevel(double[] lowFilter, double[] highFilter, int level) {
-        if (level == 1) {
-            // Level 1: no upsampling, just scale by 1/sqrt(2)
-            double scale = 1.0 / Math.sqrt(2.0);
-            
-            double[] scaledLow = lowFilter.clone();
-            double[] scaledHigh = highFilter.clone();
-            
-            for (int i = 0; i < scaledLow.length; i++) {
-                scaledLow[i] *= scale;
-            }
-            for (int i = 0; i < scaledHigh.length; i++) {
-                scaledHigh[i] *= scale;
-            }
-            
-            return new ScaledFilterPair(scaledLow, scaledHigh);
-        }
-        
-        // Check for potential overflow in bit shift (once for both filters)
-        validateLevelForBitShift(level, "filter upsampling");
+    private void reconstructSingleLevel(double[] approx, double[] details, int level, double[] output) {
+        MODWTFilterBank.LevelFilters filters = filterBank.reconstruction(level);
         
-        try {
-            // Calculate shared values once
-            int upFactor = 1 << (level - 1);
-            double scale = 1.0 / Math.sqrt(2.0); // MODWT scaling
-            
-            // Process low-pass filter
-            int upsampledLowLength = Math.addExact(
-                Math.multiplyExact(lowFilter.length - 1, upFactor), 
-                1
-            );
-            double[] upsampledLow = new double[upsampledLowLength];
-            
-            for (int i = 0; i < lowFilter.length; i++) {
-                upsampledLow[i * upFactor] = lowFilter[i] * scale;
-            }
-            
-            // Process high-pass filter
-            int upsampledHighLength = Math.addExact(
-                Math.multiplyExact(highFilter.length - 1, upFactor), 
-                1
-            );
-            double[] upsampledHigh = new double[upsampledHighLength];
-            
-            for (int i = 0; i < highFilter.length; i++) {
-                upsampledHigh[i * upFactor] = highFilter[i] * scale;
-            }
-            
-            return new ScaledFilterPair(upsampledLow, upsampledHigh);
-            
-        } catch (ArithmeticException e) {
-            throw new InvalidArgumentException(
-                "Arithmetic overflow when upsampling filters for level " + level + 
-                ": " + e.getMessage());
-        }
+        // Apply inverse MODWT with the base scaled filters spread by the level's dilation
+        applyScaledInverseMODWT(approx, details, level, filters.lowPassDirect(),
+            filters.highPassDirect(), filters.dilation(), output);
     }
     
-    
     /**
-     * Applies inverse MODWT with scaled filters directly.
+     * Applies inverse MODWT with scaled base filters at the given dilation.
      */
-    private double[] applyScaledInverseMODWT(double[] approx, double[] details,
-                                            double[] scaledLowPassRecon, double[] scaledHighPassRecon) {
-        int signalLength = approx.length;
-        double[] reconstructed = new double[signalLength];
-        
-        // For MODWT reconstruction, we need to be careful with long filters
-        int maxFilterLength = Math.max(scaledLowPassRecon.length, scaledHighPassRecon.length);
-        if (maxFilterLength > signalLength) {
-            // Truncate filters if they exceed signal length
-            if (scaledLowPassRecon.length > signalLength) {
-                scaledLowPassRecon = getTruncatedFilter(scaledLowPassRecon, signalLength, FilterType.LOW_RECON);
-            }
-            if (scaledHighPassRecon.length > signalLength) {
-                scaledHighPassRecon = getTruncatedFilter(scaledHighPassRecon, signalLength, FilterType.HIGH_RECON);
-            }
+    private void applyScaledInverseMODWT(double[] approx, double[] details, int level,
+                                         double[] scaledLowPassRecon, double[] scaledHighPassRecon,
+                                         int dilation, double[] reconstructed) {
+        int filterLength = Math.max(scaledLowPassRecon.length, scaledHighPassRecon.length);
+        if (FFTConvolution.isBeneficial(approx.length, filterLength, dilation, boundaryMode)) {
+            FFTConvolution.inverseMODWT(approx, details, fftPlans.inverse(level, approx.length),
+                reconstructed);
+            return;
         }
         
         if (boundaryMode == BoundaryMode.PERIODIC) {
-            // MODWT reconstruction using circular indexing
-            for (int t = 0; t < signalLength; t++) {
-                double sum = 0.0;
-                for (int l = 0; l < scaledLowPassRecon.length; l++) {
-                    int idx = (t + l) % signalLength;
-                    sum += scaledLowPassRecon[l] * approx[idx] +
-                           scaledHighPassRecon[l] * details[idx];
-                }
-                reconstructed[t] = sum;
-            }
+            ScalarOps.circularInverseMODWTDilated(approx, details,
+                scaledLowPassRecon, scaledHighPassRecon, reconstructed, dilation);
         } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
-            for (int t = 0; t < signalLength; t++) {
-                double sum = 0.0;
-                for (int l = 0; l < scaledLowPassRecon.length; l++) {
-                    int idx = t + l;
-                    if (idx < signalLength) {
-                        sum += scaledLowPassRecon[l] * approx[idx] +
-                               scaledHighPassRecon[l] * details[idx];
-                    }
-                }
-                reconstructed[t] = sum;
-            }
+            ScalarOps.zeroPaddingInverseMODWTDilated(approx, details,
+                scaledLowPassRecon, scaledHighPassRecon, reconstructed, dilation);
         } else {
-            // Use symmetric extension for reconstruction
-            // For MODWT reconstruction with symmetric boundaries
-            for (int t = 0; t < signalLength; t++) {
-                double sum = 0.0;
-                
-                // Apply convolution with reconstruction filters
-                int maxLen = Math.max(scaledLowPassRecon.length, scaledHighPassRecon.length);
-                for (int l = 0; l < maxLen; l++) {
-                    // For reconstruction, we use (t - l) with time-reversed filters
-                    int idx = t - l;
-                    
-                    // Apply symmetric boundary extension using utility method
-                    idx = MathUtils.symmetricBoundaryExtension(idx, signalLength);
-                    
-                    // Add contributions from both filters
-                    if (l < scaledLowPassRecon.length) {
-                        sum += scaledLowPassRecon[l] * approx[idx];
-                    }
-                    if (l < scaledHighPassRecon.length) {
-                        sum += scaledHighPassRecon[l] * details[idx];
-                    }
-                }
-                reconstructed[t] = sum;
-            }
+            // Symmetric extension uses (t - l) with time-reversed filters
+            ScalarOps.symmetricInverseMODWTDilated(approx, details,
+                scaledLowPassRecon, scaledHighPassRecon, reconstructed, dilation);
         }
-        
-        return reconstructed;
     }
     
     /**
-     * Scales both low-pass and high-pass filters for MODWT at given level.
-     * This optimized method avoids redundant calculations by processing both filters together.
-     * At level j, insert 2^(j-1) - 1 zeros between coefficients.
-     * MODWT only uses 1/sqrt(2) scaling, regardless of level.
+     * Gets the detail coefficients of a result, without copying when the implementation allows it.
      */
-    private ScaledFilterPair scaleFiltersForLevel(double[] lowFilter, double[] highFilter, int level) {
-        if (level == 1) {
-            // Level 1: no upsampling, just scale by 1/sqrt(2)
-            double scale = 1.0 / Math.sqrt(2.0);
-            
-            double[] scaledLow = lowFilter.clone();
-            double[] scaledHigh = highFilter.clone();
-            
-            for (int i = 0; i < scaledLow.length; i++) {
-                scaledLow[i] *= scale;
-            }
-            for (int i = 0; i < scaledHigh.length; i++) {
-                scaledHigh[i] *= scale;
-            }
-            
-            return new ScaledFilterPair(scaledLow, scaledHigh);
+    private static double[] detailsDirect(MultiLevelMODWTResult result, int level) {
+        if (result instanceof MutableMultiLevelMODWTResult mutable) {
+            return mutable.getMutableDetailCoeffs(level);
         }
-        
-        // Check for potential overflow in bit shift (once for both filters)
-        validateLevelForBitShift(level, "filter scaling");
-        
-        try {
-            // Calculate shared values once
-            int upFactor = 1 << (level - 1); // Safer than Math.pow for integer powers of 2
-            double scale = 1.0 / Math.sqrt(2.0); // MODWT always uses 1/sqrt(2) scaling
-            
-            // Process low-pass filter
-            int scaledLowLength = Math.addExact(
-                Math.multiplyExact(lowFilter.length - 1, upFactor), 
-                1
-            );
-            double[] scaledLow = new double[scaledLowLength];
-            
-            for (int i = 0; i < lowFilter.length; i++) {
-                scaledLow[i * upFactor] = lowFilter[i] * scale;
-            }
-            
-            // Process high-pass filter
-            int scaledHighLength = Math.addExact(
-                Math.multiplyExact(highFilter.length - 1, upFactor), 
-                1
-            );
-            double[] scaledHigh = new double[scaledHighLength];
-            
-            for (int i = 0; i < highFilter.length; i++) {
-                scaledHigh[i * upFactor] = highFilter[i] * scale;
-            }
-            
-            return new ScaledFilterPair(scaledLow, scaledHigh);
-            
-        } catch (ArithmeticException e) {
-            throw new InvalidArgumentException(
-                "Arithmetic overflow when scaling filters for level " + level + 
-                ": " + e.getMessage());
+        if (result instanceof MultiLevelMODWTResultImpl impl) {
+            return impl.getDetailCoeffsAtLevelDirect(level);
+        }
+        return result.getDetailCoeffsAtLevel(level);
+    }
+    
+    /**
+     * Gets the approximation coefficients of a result, without copying when the implementation allows it.
+     */
+    private static double[] approximationDirect(MultiLevelMODWTResult result) {
+        if (result instanceof MutableMultiLevelMODWTResult mutable) {
+            return mutable.getMutableApproximationCoeffs();
         }
+        if (result instanceof MultiLevelMODWTResultImpl impl) {
+            return impl.getApproximationCoeffsDirect();
+        }
+        return result.getApproximationCoeffs();
     }
     
+    /**
+     * Gets the writable detail array of a result for decomposition into it.
+     */
+    private static double[] detailBuffer(MutableMultiLevelMODWTResult result, int level) {
+        double[] buffer = result instanceof MutableMultiLevelMODWTResultImpl impl
+            ? impl.detailBufferAtLevel(level)
+            : result.getMutableDetailCoeffs(level);
+        if (buffer == null || buffer.length != result.getSignalLength()) {
+            // Message is only built on failure to keep the hot path allocation-free
+            MODWTTransform.validateBuffer(buffer, result.getSignalLength(),
+                "detail coefficients at level " + level);
+        }
+        return buffer;
+    }
+    
+    /**
+     * Gets the writable approximation array of a result for decomposition into it.
+     */
+    private static double[] approximationBuffer(MutableMultiLevelMODWTResult result) {
+        double[] buffer = result instanceof MutableMultiLevelMODWTResultImpl impl
+            ? impl.approximationBuffer()
+            : result.getMutableApproximationCoeffs();
+        MODWTTransform.validateBuffer(buffer, result.getSignalLength(), "approximation coefficients");
+        return buffer;
+    }
     
     /**
      * Gets the wavelet used by this transform.
@@ -787,107 +819,88 @@ public class MultiLevelMODWTTransform {
     }
     
     /**
-     * Applies single-level MODWT with scaled filters directly.
+     * Applies single-level MODWT with scaled base filters at the given dilation.
      * This avoids the need to create a wavelet wrapper.
      */
-    private MODWTResult applyScaledMODWT(double[] signal, double[] scaledLowPass, 
-                                         double[] scaledHighPass) {
-        int signalLength = signal.length;
-        double[] approximationCoeffs = new double[signalLength];
-        double[] detailCoeffs = new double[signalLength];
-        
-        // For very long filters (at high decomposition levels), we may need to truncate
-        // to avoid issues with circular convolution
-        if (scaledLowPass.length > signalLength) {
-            scaledLowPass = getTruncatedFilter(scaledLowPass, signalLength, FilterType.LOW);
-        }
-        if (scaledHighPass.length > signalLength) {
-            scaledHighPass = getTruncatedFilter(scaledHighPass, signalLength, FilterType.HIGH);
+    private void applyScaledMODWT(double[] signal, int level, double[] scaledLowPass,
+                                  double[] scaledHighPass, int dilation,
+                                  double[] approximationCoeffs, double[] detailCoeffs) {
+        // Long filters go through the FFT when it beats the direct kernels at this level's span
+        int filterLength = Math.max(scaledLowPass.length, scaledHighPass.length);
+        if (FFTConvolution.isBeneficial(signal.length, filterLength, dilation, boundaryMode)) {
+            FFTConvolution.forwardMODWT(signal, fftPlans.forward(level, signal.length),
+                approximationCoeffs, detailCoeffs);
+            return;
         }
         
+        // Taps that reach beyond the signal length at high levels are dropped by the kernels;
+        // the fused kernels stream the signal once for both filters
         if (boundaryMode == BoundaryMode.PERIODIC) {
-            // Use ScalarOps circular convolution for MODWT
-            // For very short signals or long filters, use scalar implementation directly
-            if (signal.length < 64 || scaledLowPass.length > signal.length / 2) {
-                // Use scalar implementation directly
-                circularConvolveMODWTDirect(signal, scaledLowPass, approximationCoeffs);
-                circularConvolveMODWTDirect(signal, scaledHighPass, detailCoeffs);
-            } else {
-                ai.prophetizo.wavelet.internal.ScalarOps.circularConvolveMODWT(
-                    signal, scaledLowPass, approximationCoeffs);
-                ai.prophetizo.wavelet.internal.ScalarOps.circularConvolveMODWT(
-                    signal, scaledHighPass, detailCoeffs);
-            }
+            ScalarOps.circularConvolveMODWTDilatedFused(signal, scaledLowPass, scaledHighPass,
+                approximationCoeffs, detailCoeffs, dilation);
         } else if (boundaryMode == BoundaryMode.ZERO_PADDING) {
-            ai.prophetizo.wavelet.internal.ScalarOps.zeroPaddingConvolveMODWT(
-                signal, scaledLowPass, approximationCoeffs);
-            ai.prophetizo.wavelet.internal.ScalarOps.zeroPaddingConvolveMODWT(
-                signal, scaledHighPass, detailCoeffs);
+            ScalarOps.zeroPaddingConvolveMODWTDilatedFused(signal, scaledLowPass, scaledHighPass,
+                approximationCoeffs, detailCoeffs, dilation);
         } else {
-            ai.prophetizo.wavelet.internal.ScalarOps.symmetricConvolveMODWT(
-                signal, scaledLowPass, approximationCoeffs);
-            ai.prophetizo.wavelet.internal.ScalarOps.symmetricConvolveMODWT(
-                signal, scaledHighPass, detailCoeffs);
+            ScalarOps.symmetricConvolveMODWTDilatedFused(signal, scaledLowPass, scaledHighPass,
+                approximationCoeffs, detailCoeffs, dilation);
         }
-        
-        return MODWTResult.create(approximationCoeffs, detailCoeffs);
     }
     
     /**
-     * Direct circular convolution implementation for MODWT.
-     * Used for small signals or when filters are very long.
+     * Validates the signal and requested level count for a decomposition.
      */
-    private void circularConvolveMODWTDirect(double[] signal, double[] filter, double[] output) {
-        int signalLen = signal.length;
-        int filterLen = filter.length;
-        
-        // Ensure we don't go out of bounds with very long filters
-        int effectiveFilterLen = Math.min(filterLen, signalLen);
+    private void validateDecomposition(double[] signal, int levels, String transformType) {
+        ValidationUtils.validateFiniteValues(signal, "signal");
+        if (signal.length == 0) {
+            throw new InvalidSignalException(
+                ErrorCode.VAL_EMPTY,
+                ErrorContext.builder("Signal cannot be empty for multi-level MODWT")
+                    .withContext("Transform type", transformType)
+                    .withWavelet(wavelet)
+                    .withBoundaryMode(boundaryMode)
+                    .withContext("Requested levels", levels)
+                    .withSuggestion("Provide a signal with at least one sample")
+                    .build()
+            );
+        }
         
-        // Optimize for the common case where we don't need wrapping
-        for (int t = 0; t < signalLen; t++) {
-            double sum = 0.0;
-            
-            // Process coefficients that don't need wrapping
-            int maxK = Math.min(effectiveFilterLen, t + 1);
-            for (int k = 0; k < maxK; k++) {
-                sum += filter[k] * signal[t - k];
-            }
-            
-            // Process coefficients that need wrapping (circular convolution)
-            for (int k = maxK; k < effectiveFilterLen; k++) {
-                sum += filter[k] * signal[t - k + signalLen];
-            }
-            
-            output[t] = sum;
+        int maxLevels = calculateMaxLevels(signal.length);
+        if (levels < 1 || levels > maxLevels) {
+            throw new InvalidArgumentException(
+                ErrorCode.CFG_INVALID_DECOMPOSITION_LEVEL,
+                ErrorContext.builder("Invalid number of decomposition levels")
+                    .withLevelInfo(levels, maxLevels)
+                    .withSignalInfo(signal.length)
+                    .withWavelet(wavelet)
+                    .withContext("Filter length", wavelet instanceof Wavelet ? 
+                        wavelet.lowPassDecomposition().length : "unknown")
+                    .withSuggestion("Choose a level between 1 and " + maxLevels)
+                    .withSuggestion("Maximum level is floor(log2(signalLength/filterLength)) = " + maxLevels)
+                    .build()
+            );
         }
     }
     
     /**
-     * Gets a truncated version of a filter, using cache to avoid repeated allocations.
-     * 
-     * @param filter the original filter
-     * @param targetLength the desired length
-     * @param filterType the type of filter for caching
-     * @return truncated filter of the specified length
-     * @throws IllegalArgumentException if targetLength is invalid
+     * Per-thread scratch space for the buffered decomposition and reconstruction.
      */
-    private double[] getTruncatedFilter(double[] filter, int targetLength, FilterType filterType) {
-        if (targetLength <= 0) {
-            throw new IllegalArgumentException("Target length must be positive: " + targetLength);
-        }
-        if (targetLength > filter.length) {
-            throw new IllegalArgumentException(
-                "Target length (" + targetLength + ") exceeds filter length (" + filter.length + ")");
-        }
+    private static final class CascadeWorkspace {
+        private double[] scratch;
+        private double[][] detailArrays;
         
-        // Use primitive long key to avoid object allocation
-        long cacheKey = createFilterCacheKey(filterType, targetLength);
+        double[] scratch(int length) {
+            if (scratch == null || scratch.length != length) {
+                scratch = new double[length];
+            }
+            return scratch;
+        }
         
-        return truncatedFilterCache.computeIfAbsent(cacheKey, key -> {
-            double[] truncated = new double[targetLength];
-            System.arraycopy(filter, 0, truncated, 0, targetLength);
-            return truncated;
-        });
+        double[][] detailArrays(int levels) {
+            if (detailArrays == null || detailArrays.length != levels) {
+                detailArrays = new double[levels][];
+            }
+            return detailArrays;
+        }
     }
-}
\ No newline at end of file
+}
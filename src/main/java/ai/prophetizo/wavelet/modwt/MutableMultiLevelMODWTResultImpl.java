@@ -287,6 +287,31 @@ public class MutableMultiLevelMODWTResultImpl implements MutableMultiLevelMODWTR
         clearCaches();
     }
     
+    /**
+     * Returns the detail buffer for a level, allocating it on first use.
+     * Used by transforms that decompose into a caller-supplied result.
+     */
+    double[] detailBufferAtLevel(int level) {
+        validateLevel(level);
+        double[] coeffs = detailCoeffs[level - 1];
+        if (coeffs == null) {
+            coeffs = new double[signalLength];
+            detailCoeffs[level - 1] = coeffs;
+        }
+        return coeffs;
+    }
+    
+    /**
+     * Returns the approximation buffer, allocating it on first use.
+     * Used by transforms that decompose into a caller-supplied result.
+     */
+    double[] approximationBuffer() {
+        if (approximationCoeffs == null) {
+            approximationCoeffs = new double[signalLength];
+        }
+        return approximationCoeffs;
+    }
+    
     private void validateLevel(int level) {
         if (level < 1 || level > levels) {
             throw new IllegalArgumentException(
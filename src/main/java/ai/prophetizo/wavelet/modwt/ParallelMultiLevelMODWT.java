@@ -8,9 +8,11 @@ import ai.prophetizo.wavelet.exception.InvalidSignalException;
 import ai.prophetizo.wavelet.WaveletOperations;
 import ai.prophetizo.wavelet.util.ValidationUtils;
 
+import java.io.Serial;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Parallel implementation of multi-level MODWT with CompletableFuture chains.
@@ -18,18 +20,40 @@ import java.util.concurrent.ForkJoinPool;
  * <p>This class provides an optimized parallel version of multi-level MODWT that:</p>
  * <ul>
  *   <li>Uses CompletableFuture chains to handle level dependencies</li>
- *   <li>Parallelizes low-pass and high-pass filtering at each level</li>
+ *   <li>Splits each level into two halves, each filtered with a fused low-pass/high-pass kernel</li>
  *   <li>Pre-allocates memory to avoid contention</li>
- *   <li>Properly handles filter upsampling at each level</li>
+ *   <li>Applies level filters as dilated (à trous) kernels instead of zero-stuffed filters</li>
  * </ul>
  * 
+ * <p>{@link #decompose} runs at most two tasks per level (one per half of the signal).
+ * For long signals, {@link #decomposeChunked} additionally splits each level into
+ * time chunks with a fork/join splitter, so throughput scales with the core count.</p>
+ * 
+ * <pre>{@code
+ * ParallelMultiLevelMODWT parallel = new ParallelMultiLevelMODWT(new ForkJoinPool(8));
+ * MultiLevelMODWTResult result = parallel.decomposeChunked(
+ *     history, Daubechies.DB4, BoundaryMode.PERIODIC, 6);
+ * }</pre>
+ * 
  */
 public class ParallelMultiLevelMODWT {
     
     private static final int MAX_DECOMPOSITION_LEVELS = 10;
     private static final int MAX_SAFE_SHIFT_BITS = 31;
     
+    /**
+     * Default minimum number of output samples per chunk in {@link #decomposeChunked}.
+     * Smaller chunks cost more in task overhead than they gain in parallelism.
+     */
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 8192;
+    
+    /**
+     * Target number of chunks per worker thread, so that uneven thread speeds balance out.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+    
     private final Executor executor;
+    private final int minChunkSize;
     
     /**
      * Creates a parallel multi-level MODWT using the common ForkJoinPool.
@@ -44,7 +68,23 @@ public class ParallelMultiLevelMODWT {
      * @param executor The executor to use for parallel tasks
      */
     public ParallelMultiLevelMODWT(Executor executor) {
+        this(executor, DEFAULT_MIN_CHUNK_SIZE);
+    }
+    
+    /**
+     * Creates a parallel multi-level MODWT with a custom executor and chunk size.
+     * 
+     * @param executor The executor to use for parallel tasks; {@link #decomposeChunked}
+     *                 requires a {@link ForkJoinPool}
+     * @param minChunkSize Minimum number of output samples per chunk in {@link #decomposeChunked}
+     * @throws InvalidArgumentException if minChunkSize is not positive
+     */
+    public ParallelMultiLevelMODWT(Executor executor, int minChunkSize) {
+        if (minChunkSize < 1) {
+            throw new InvalidArgumentException("Minimum chunk size must be positive: " + minChunkSize);
+        }
         this.executor = executor;
+        this.minChunkSize = minChunkSize;
     }
     
     /**
@@ -58,22 +98,7 @@ public class ParallelMultiLevelMODWT {
      */
     public MultiLevelMODWTResult decompose(double[] signal, Wavelet wavelet, 
                                          BoundaryMode mode, int levels) {
-        // Validate inputs
-        ValidationUtils.validateFiniteValues(signal, "signal");
-        if (signal.length == 0) {
-            throw new InvalidSignalException("Signal cannot be empty");
-        }
-        
-        if (!(wavelet instanceof DiscreteWavelet dw)) {
-            throw new InvalidArgumentException("Multi-level MODWT requires a discrete wavelet");
-        }
-        
-        int maxLevels = calculateMaxLevels(signal.length, dw);
-        if (levels < 1 || levels > maxLevels) {
-            throw new InvalidArgumentException(
-                "Invalid number of levels: " + levels + 
-                ". Must be between 1 and " + maxLevels);
-        }
+        DiscreteWavelet dw = validateInputs(signal, wavelet, levels);
         
         // Initialize result structure
         MultiLevelMODWTResultImpl result = new MultiLevelMODWTResultImpl(signal.length, levels);
@@ -85,8 +110,8 @@ public class ParallelMultiLevelMODWT {
         // Copy input signal to first approximation
         System.arraycopy(signal, 0, approxArrays[0], 0, signal.length);
         
-        // Create filter arrays for all levels upfront
-        FilterSet[] filterSets = precomputeFilterSets(dw, levels);
+        // Look up shared filters for all levels upfront
+        MODWTFilterBank.LevelFilters[] filterSets = precomputeFilterSets(dw, levels);
         
         // Create CompletableFuture chain for level dependencies
         CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
@@ -94,48 +119,23 @@ public class ParallelMultiLevelMODWT {
         for (int level = 1; level <= levels; level++) {
             final int currentLevel = level;
             final int prevLevel = level - 1;
-            final FilterSet filters = filterSets[level - 1];
+            final MODWTFilterBank.LevelFilters filters = filterSets[level - 1];
             
             chain = chain.thenCompose(v -> {
-                // Parallelize low-pass and high-pass filtering
-                CompletableFuture<Void> lowPassFuture = CompletableFuture.runAsync(() -> {
-                    // Apply low-pass filter
-                    if (mode == BoundaryMode.PERIODIC) {
-                        WaveletOperations.circularConvolveMODWT(
-                            approxArrays[prevLevel], 
-                            filters.scaledLowPass, 
-                            approxArrays[currentLevel]
-                        );
-                    } else {
-                        // Zero-padding mode
-                        applyZeroPaddingMODWT(
-                            approxArrays[prevLevel],
-                            filters.scaledLowPass,
-                            approxArrays[currentLevel]
-                        );
-                    }
-                }, executor);
+                // Split the level's output range in two; each half computes both filters
+                // with the fused kernel, which streams its input once
+                int mid = signal.length >>> 1;
+                CompletableFuture<Void> firstHalf = CompletableFuture.runAsync(() ->
+                    convolveLevelRange(approxArrays[prevLevel], filters, mode,
+                        approxArrays[currentLevel], detailArrays[currentLevel - 1], 0, mid), executor);
                 
-                CompletableFuture<Void> highPassFuture = CompletableFuture.runAsync(() -> {
-                    // Apply high-pass filter
-                    if (mode == BoundaryMode.PERIODIC) {
-                        WaveletOperations.circularConvolveMODWT(
-                            approxArrays[prevLevel], 
-                            filters.scaledHighPass, 
-                            detailArrays[currentLevel - 1]
-                        );
-                    } else {
-                        // Zero-padding mode
-                        applyZeroPaddingMODWT(
-                            approxArrays[prevLevel],
-                            filters.scaledHighPass,
-                            detailArrays[currentLevel - 1]
-                        );
-                    }
-                }, executor);
+                CompletableFuture<Void> secondHalf = CompletableFuture.runAsync(() ->
+                    convolveLevelRange(approxArrays[prevLevel], filters, mode,
+                        approxArrays[currentLevel], detailArrays[currentLevel - 1], mid, signal.length),
+                    executor);
                 
-                // Wait for both filters to complete before proceeding to next level
-                return CompletableFuture.allOf(lowPassFuture, highPassFuture);
+                // Wait for both halves to complete before proceeding to next level
+                return CompletableFuture.allOf(firstHalf, secondHalf);
             });
         }
         
@@ -152,71 +152,122 @@ public class ParallelMultiLevelMODWT {
     }
     
     /**
-     * Pre-computes all filter sets for all levels.
+     * Performs multi-level MODWT decomposition with each level split into time chunks.
+     * 
+     * <p>Every output sample of a level depends only on that level's input, so the
+     * output range [0, N) is split recursively by a fork/join task until chunks reach the
+     * chunk size, and each chunk computes both the low-pass and high-pass outputs for its
+     * range. A chunk reads its filter halo of (L-1)·2^(j-1) samples before its start
+     * directly from the shared input, which is not written during the level, so no halo
+     * copies are made. Levels still run one after another.</p>
+     * 
+     * <p>Chunks are fork/join tasks, so the executor must be a {@link ForkJoinPool}.
+     * The chunk size is the larger of the configured minimum and
+     * N / (4 × parallelism).</p>
+     * 
+     * @param signal Input signal
+     * @param wavelet Wavelet to use
+     * @param mode Boundary mode (PERIODIC, ZERO_PADDING or SYMMETRIC)
+     * @param levels Number of decomposition levels
+     * @return Multi-level MODWT result, identical to {@link MultiLevelMODWTTransform#decompose(double[], int)}
+     * @throws InvalidArgumentException if the wavelet, level count or boundary mode is invalid,
+     *         or if this instance was not created with a {@link ForkJoinPool}
      */
-    private FilterSet[] precomputeFilterSets(DiscreteWavelet wavelet, int levels) {
-        FilterSet[] filterSets = new FilterSet[levels];
+    public MultiLevelMODWTResult decomposeChunked(double[] signal, Wavelet wavelet,
+                                                  BoundaryMode mode, int levels) {
+        DiscreteWavelet dw = validateInputs(signal, wavelet, levels);
+        if (mode != BoundaryMode.PERIODIC && mode != BoundaryMode.ZERO_PADDING
+                && mode != BoundaryMode.SYMMETRIC) {
+            throw new InvalidArgumentException(
+                "Chunked MODWT supports PERIODIC, ZERO_PADDING and SYMMETRIC boundary modes, got: " + mode);
+        }
+        
+        if (!(executor instanceof ForkJoinPool pool)) {
+            throw new InvalidArgumentException(
+                "Chunked MODWT requires a ForkJoinPool executor, got: " + executor.getClass().getName());
+        }
+        int chunkSize = Math.max(minChunkSize,
+            signal.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
         
-        double[] lowPass = wavelet.lowPassDecomposition();
-        double[] highPass = wavelet.highPassDecomposition();
+        MODWTFilterBank.LevelFilters[] filterSets = precomputeFilterSets(dw, levels);
         
+        MultiLevelMODWTResultImpl result = new MultiLevelMODWTResultImpl(signal.length, levels);
+        double[] approximation = new double[signal.length];
+        double[] scratch = levels > 1 ? new double[signal.length] : null;
+        
+        double[] input = signal;
         for (int level = 1; level <= levels; level++) {
-            filterSets[level - 1] = scaleFiltersForLevel(lowPass, highPass, level);
+            double[] details = new double[signal.length];
+            // The level before the last writes to scratch so the last level lands in the result
+            double[] output = (levels - level) % 2 == 1 ? scratch : approximation;
+            
+            pool.invoke(new ChunkedLevelTask(input, output, details, filterSets[level - 1],
+                mode, 0, signal.length, chunkSize));
+            
+            result.setDetailCoeffsAtLevelDirect(level, details);
+            input = output;
         }
+        result.setApproximationCoeffsDirect(approximation);
         
-        return filterSets;
+        return result;
     }
     
     /**
-     * Scales filters for a specific level.
+     * Validates the signal, wavelet and level count shared by both decomposition modes.
      */
-    private FilterSet scaleFiltersForLevel(double[] lowFilter, double[] highFilter, int level) {
-        double scale = 1.0 / Math.sqrt(2.0); // MODWT scaling factor
-        
-        if (level == 1) {
-            // Level 1: no upsampling, just scaling
-            double[] scaledLow = new double[lowFilter.length];
-            double[] scaledHigh = new double[highFilter.length];
-            
-            for (int i = 0; i < lowFilter.length; i++) {
-                scaledLow[i] = lowFilter[i] * scale;
-            }
-            for (int i = 0; i < highFilter.length; i++) {
-                scaledHigh[i] = highFilter[i] * scale;
-            }
-            
-            return new FilterSet(scaledLow, scaledHigh);
+    private DiscreteWavelet validateInputs(double[] signal, Wavelet wavelet, int levels) {
+        ValidationUtils.validateFiniteValues(signal, "signal");
+        if (signal.length == 0) {
+            throw new InvalidSignalException("Signal cannot be empty");
         }
         
-        // For levels > 1, insert zeros between coefficients
-        int upFactor = 1 << (level - 1);
-        
-        // Calculate new filter lengths
-        int scaledLowLength = (lowFilter.length - 1) * upFactor + 1;
-        int scaledHighLength = (highFilter.length - 1) * upFactor + 1;
-        
-        double[] scaledLow = new double[scaledLowLength];
-        double[] scaledHigh = new double[scaledHighLength];
+        if (!(wavelet instanceof DiscreteWavelet dw)) {
+            throw new InvalidArgumentException("Multi-level MODWT requires a discrete wavelet");
+        }
         
-        // Insert zeros and scale
-        for (int i = 0; i < lowFilter.length; i++) {
-            scaledLow[i * upFactor] = lowFilter[i] * scale;
+        int maxLevels = calculateMaxLevels(signal.length, dw);
+        if (levels < 1 || levels > maxLevels) {
+            throw new InvalidArgumentException(
+                "Invalid number of levels: " + levels + 
+                ". Must be between 1 and " + maxLevels);
         }
-        for (int i = 0; i < highFilter.length; i++) {
-            scaledHigh[i * upFactor] = highFilter[i] * scale;
+        return dw;
+    }
+    
+    /**
+     * Collects the precomputed filter sets for all levels from the shared filter bank.
+     */
+    private MODWTFilterBank.LevelFilters[] precomputeFilterSets(DiscreteWavelet wavelet, int levels) {
+        MODWTFilterBank filterBank = MODWTFilterBank.of(wavelet);
+        MODWTFilterBank.LevelFilters[] filterSets = new MODWTFilterBank.LevelFilters[levels];
+        
+        for (int level = 1; level <= levels; level++) {
+            filterSets[level - 1] = filterBank.decomposition(level);
         }
         
-        return new FilterSet(scaledLow, scaledHigh);
+        return filterSets;
     }
     
     /**
-     * Applies MODWT with zero-padding boundary handling.
-     *
-     * <p>This uses the dedicated zero-padding convolution routine which mirrors
-     * the behavior of the sequential {@code MultiLevelMODWTTransform}.</p>
+     * Computes the low-pass and high-pass outputs of one level over [start, end) in a
+     * single fused pass. Modes other than PERIODIC and SYMMETRIC use zero padding.
      */
-    private void applyZeroPaddingMODWT(double[] input, double[] filter, double[] output) {
-        WaveletOperations.zeroPaddingConvolveMODWT(input, filter, output);
+    private static void convolveLevelRange(double[] input, MODWTFilterBank.LevelFilters filters,
+                                           BoundaryMode mode, double[] approxOut, double[] detailOut,
+                                           int start, int end) {
+        double[] lowPass = filters.lowPassDirect();
+        double[] highPass = filters.highPassDirect();
+        int dilation = filters.dilation();
+        if (mode == BoundaryMode.PERIODIC) {
+            WaveletOperations.circularConvolveMODWTDilatedFused(input, lowPass, highPass,
+                approxOut, detailOut, dilation, start, end);
+        } else if (mode == BoundaryMode.SYMMETRIC) {
+            WaveletOperations.symmetricConvolveMODWTDilatedFused(input, lowPass, highPass,
+                approxOut, detailOut, dilation, start, end);
+        } else {
+            WaveletOperations.zeroPaddingConvolveMODWTDilatedFused(input, lowPass, highPass,
+                approxOut, detailOut, dilation, start, end);
+        }
     }
     
     /**
@@ -257,7 +308,46 @@ public class ParallelMultiLevelMODWT {
     }
     
     /**
-     * Holds a pair of scaled filters for a specific level.
+     * Fork/join task computing the low-pass and high-pass outputs of one level over [start, end).
      */
-    private record FilterSet(double[] scaledLowPass, double[] scaledHighPass) {}
-}
\ No newline at end of file
+    private static final class ChunkedLevelTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] input;
+        private final double[] approxOut;
+        private final double[] detailOut;
+        private final transient MODWTFilterBank.LevelFilters filters;
+        private final BoundaryMode mode;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        
+        ChunkedLevelTask(double[] input, double[] approxOut, double[] detailOut,
+                         MODWTFilterBank.LevelFilters filters, BoundaryMode mode,
+                         int start, int end, int chunkSize) {
+            this.input = input;
+            this.approxOut = approxOut;
+            this.detailOut = detailOut;
+            this.filters = filters;
+            this.mode = mode;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+        }
+        
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                convolveLevelRange(input, filters, mode, approxOut, detailOut, start, end);
+                return;
+            }
+            
+            int mid = (start + end) >>> 1;
+            invokeAll(
+                new ChunkedLevelTask(input, approxOut, detailOut, filters, mode, start, mid, chunkSize),
+                new ChunkedLevelTask(input, approxOut, detailOut, filters, mode, mid, end, chunkSize)
+            );
+        }
+    }
+}
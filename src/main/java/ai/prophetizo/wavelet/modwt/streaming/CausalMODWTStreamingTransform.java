@@ -0,0 +1,99 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+
+/**
+ * Causal, sample-by-sample multi-level MODWT for tick data.
+ *
+ * <p>The block-based streaming transforms buffer a window of samples and rerun a full
+ * MODWT every time the window fills. This transform instead keeps one delay line per
+ * level and updates the coefficients as each sample arrives:</p>
+ * <pre>
+ * W<sub>j,t</sub> = &Sigma;<sub>k</sub> h<sub>k</sub> V<sub>j-1,t-k&middot;2<sup>j-1</sup></sub>
+ * V<sub>j,t</sub> = &Sigma;<sub>k</sub> g<sub>k</sub> V<sub>j-1,t-k&middot;2<sup>j-1</sup></sub>
+ * </pre>
+ * <p>with V<sub>0</sub> the input. Each sample costs O(L&middot;J) operations for filter
+ * length L and J levels, and {@link #processSample(double, double[])} allocates nothing.</p>
+ *
+ * <p>The transform starts from an all-zero history, so its coefficients equal those of a
+ * {@code ZERO_PADDING} MODWT of the samples seen so far. Coefficients of samples from
+ * index {@link #getSettlingSamples()} on no longer depend on that initial history.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * CausalMODWTStreamingTransform transform =
+ *     MODWTStreamingTransform.createCausal(Daubechies.DB4, 4);
+ * double[] details = new double[transform.getLevels()];
+ *
+ * for (double tick : ticks) {
+ *     double approximation = transform.processSample(tick, details);
+ *     // details[j - 1] is the newest level-j detail coefficient
+ * }
+ * }</pre>
+ *
+ * <p>Subscribers receive the same coefficients in blocks: once a block of samples is
+ * complete, one {@link ai.prophetizo.wavelet.modwt.MODWTResult} per level is published
+ * holding that level's approximation and detail coefficients. Blocks are only collected
+ * while there are subscribers.</p>
+ */
+public interface CausalMODWTStreamingTransform extends MODWTStreamingTransform {
+
+    /**
+     * Process a single sample and return its coefficients without allocating.
+     *
+     * @param sample  the sample value
+     * @param details receives the newest detail coefficient of level j at index j - 1;
+     *                must have at least {@link #getLevels()} elements
+     * @return the newest approximation coefficient of the deepest level
+     * @throws InvalidArgumentException if details is null or too short
+     * @throws IllegalStateException    if the transform is closed
+     */
+    double processSample(double sample, double[] details);
+
+    /**
+     * Get the newest detail coefficient of a level.
+     *
+     * @param level the level (1-based)
+     * @return the detail coefficient for the last processed sample
+     * @throws InvalidArgumentException if level is out of range
+     */
+    double getDetail(int level);
+
+    /**
+     * Get the newest approximation coefficient of a level.
+     *
+     * @param level the level (1-based)
+     * @return the approximation coefficient for the last processed sample
+     * @throws InvalidArgumentException if level is out of range
+     */
+    double getApproximation(int level);
+
+    /**
+     * Get the newest approximation coefficient of the deepest level.
+     *
+     * @return the approximation coefficient for the last processed sample
+     */
+    double getApproximation();
+
+    /**
+     * Get the number of decomposition levels.
+     *
+     * @return the number of levels
+     */
+    int getLevels();
+
+    /**
+     * Get the number of samples processed since creation or the last reset.
+     *
+     * @return the sample count
+     */
+    long getSampleCount();
+
+    /**
+     * Get the index of the first sample whose coefficients no longer depend on the
+     * zero initial history: (L - 1)(2<sup>J</sup> - 1) for filter length L and J levels.
+     *
+     * @return the settling length in samples
+     */
+    long getSettlingSamples();
+}
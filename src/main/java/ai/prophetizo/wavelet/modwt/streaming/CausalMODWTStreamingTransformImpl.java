@@ -0,0 +1,440 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidSignalException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Causal streaming MODWT on top of a {@link MODWTPyramid}.
+ *
+ * <p>Single samples cascade through all levels at once; chunks passed to
+ * {@link #process(double[])} run level by level over the chunk, writing straight into
+ * the block that is being collected for subscribers. Nothing is copied and, while
+ * nobody is subscribed, nothing is allocated. Frame subscribers receive blocks in
+ * pooled frames, so they add no allocation once the stream is running.</p>
+ *
+ * <p>Instances are meant to be fed by a single producer thread. Subscribers are served
+ * asynchronously by the {@link SubmissionPublisher}; coefficient blocks are only
+ * collected if a subscriber is present when a block starts.</p>
+ */
+class CausalMODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
+        implements CausalMODWTStreamingTransform {
+
+    private final MODWTPyramid pyramid;
+    private final int levels;
+    private final int blockSize;
+
+    // Block collected for subscribers, null while nobody listens
+    private double[][] blockApproximations;
+    private double[][] blockDetails;
+    private int blockFill;
+
+    // Frame collected for frame subscribers, null while nobody listens, with its rows
+    // split into per-level views
+    private final FramePublisher frames;
+    private CoefficientFrame frame;
+    private final double[][] frameApproximations;
+    private final double[][] frameDetails;
+
+    // State management
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+    // Statistics
+    private final StreamingStatisticsImpl statistics;
+
+    /**
+     * Creates a new causal streaming MODWT transform.
+     *
+     * @param wavelet   the wavelet to use
+     * @param levels    number of decomposition levels
+     * @param blockSize number of samples per published block
+     * @throws InvalidArgumentException if parameters are invalid
+     */
+    CausalMODWTStreamingTransformImpl(Wavelet wavelet, int levels, int blockSize) {
+        this(wavelet, levels, blockSize, PublicationMode.commonPool());
+    }
+
+    /**
+     * Creates a new causal streaming MODWT transform with the given publication mode.
+     *
+     * @param wavelet   the wavelet to use
+     * @param levels    number of decomposition levels
+     * @param blockSize number of samples per published block
+     * @param mode      how blocks are delivered to subscribers
+     * @throws InvalidArgumentException if parameters are invalid
+     */
+    CausalMODWTStreamingTransformImpl(Wavelet wavelet, int levels, int blockSize, PublicationMode mode) {
+        super(mode.getExecutor(), mode.getMaxBufferCapacity());
+
+        if (blockSize <= 0) {
+            throw new InvalidArgumentException("Block size must be positive, got: " + blockSize);
+        }
+
+        this.pyramid = new MODWTPyramid(wavelet, levels);
+        this.levels = levels;
+        this.blockSize = blockSize;
+        this.statistics = new StreamingStatisticsImpl(pyramid);
+        this.frames = new FramePublisher(2 * levels, blockSize, mode);
+        this.frameApproximations = new double[levels][];
+        this.frameDetails = new double[levels][];
+    }
+
+    @Override
+    public void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        frames.subscribe(subscriber);
+    }
+
+    @Override
+    public void process(double[] data) {
+        if (isClosed.get()) {
+            throw InvalidStateException.closed("Transform");
+        }
+        if (data == null || data.length == 0) {
+            throw new InvalidSignalException("Data cannot be null or empty");
+        }
+
+        long startTime = System.nanoTime();
+        int offset = 0;
+        while (offset < data.length) {
+            startBlock();
+            int length = Math.min(data.length - offset, blockSize - blockFill);
+            if (blockDetails != null) {
+                pyramid.push(data, offset, length, blockApproximations, blockDetails, blockFill);
+                if (frame != null) {
+                    copyToFrame(blockFill, length);
+                }
+            } else if (frame != null) {
+                pyramid.push(data, offset, length, frameApproximations, frameDetails, blockFill);
+            } else {
+                pyramid.push(data, offset, length);
+            }
+            offset += length;
+            blockFill += length;
+            if (blockFill == blockSize) {
+                publishBlock();
+            }
+        }
+        statistics.addSamplesProcessed(data.length);
+        statistics.recordBlockProcessed(System.nanoTime() - startTime);
+    }
+
+    @Override
+    public void processSample(double sample) {
+        if (isClosed.get()) {
+            throw InvalidStateException.closed("Transform");
+        }
+
+        processSampleInternal(sample);
+        statistics.addSamplesProcessed(1);
+    }
+
+    @Override
+    public double processSample(double sample, double[] detailsOut) {
+        if (isClosed.get()) {
+            throw InvalidStateException.closed("Transform");
+        }
+        if (detailsOut == null || detailsOut.length < levels) {
+            throw new InvalidArgumentException(
+                "Details array must hold " + levels + " coefficients, got: " +
+                (detailsOut == null ? "null" : detailsOut.length));
+        }
+
+        processSampleInternal(sample);
+        statistics.addSamplesProcessed(1);
+        pyramid.copyDetails(detailsOut);
+        return pyramid.approximation(levels - 1);
+    }
+
+    private void processSampleInternal(double sample) {
+        pyramid.push(sample);
+
+        startBlock();
+        if (blockDetails != null) {
+            for (int j = 0; j < levels; j++) {
+                blockApproximations[j][blockFill] = pyramid.approximation(j);
+                blockDetails[j][blockFill] = pyramid.detail(j);
+            }
+        }
+        if (frame != null) {
+            for (int j = 0; j < levels; j++) {
+                frameApproximations[j][blockFill] = pyramid.approximation(j);
+                frameDetails[j][blockFill] = pyramid.detail(j);
+            }
+        }
+        if (++blockFill == blockSize) {
+            publishBlock();
+        }
+    }
+
+    /**
+     * Starts collecting a block if a new block begins and somebody is subscribed.
+     */
+    private void startBlock() {
+        if (blockFill != 0) {
+            return;
+        }
+        if (blockDetails == null && hasSubscribers()) {
+            blockApproximations = new double[levels][blockSize];
+            blockDetails = new double[levels][blockSize];
+        }
+        if (frame == null && frames.hasSubscribers()) {
+            frame = frames.acquire(blockSize);
+            for (int j = 0; j < levels; j++) {
+                frameApproximations[j] = frame.row(2 * j);
+                frameDetails[j] = frame.row(2 * j + 1);
+            }
+        }
+    }
+
+    /**
+     * Copies a range of the collected block into the frame, for when both kinds of
+     * subscriber are present.
+     */
+    private void copyToFrame(int from, int length) {
+        for (int j = 0; j < levels; j++) {
+            System.arraycopy(blockApproximations[j], from, frameApproximations[j], from, length);
+            System.arraycopy(blockDetails[j], from, frameDetails[j], from, length);
+        }
+    }
+
+    /**
+     * Publishes the collected block, one result per level, and starts a new block.
+     */
+    private void publishBlock() {
+        if (blockDetails != null) {
+            for (int j = 0; j < levels; j++) {
+                double[] approx = blockApproximations[j];
+                double[] detail = blockDetails[j];
+                if (blockFill < blockSize) {
+                    approx = Arrays.copyOf(approx, blockFill);
+                    detail = Arrays.copyOf(detail, blockFill);
+                }
+                submit(MODWTResult.create(approx, detail));
+            }
+            blockApproximations = null;
+            blockDetails = null;
+        }
+        if (frame != null) {
+            CoefficientFrame full = frame;
+            frame = null;
+            if (blockFill < blockSize) {
+                // Partial blocks only occur on flush and close; publish a trimmed copy
+                CoefficientFrame trimmed = frames.acquire(blockFill);
+                for (int row = 0; row < 2 * levels; row++) {
+                    System.arraycopy(full.row(row), 0, trimmed.row(row), 0, blockFill);
+                }
+                full.release();
+                full = trimmed;
+            }
+            frames.publish(full);
+        }
+        blockFill = 0;
+    }
+
+    @Override
+    public double getDetail(int level) {
+        checkLevel(level);
+        return pyramid.detail(level - 1);
+    }
+
+    @Override
+    public double getApproximation(int level) {
+        checkLevel(level);
+        return pyramid.approximation(level - 1);
+    }
+
+    @Override
+    public double getApproximation() {
+        return pyramid.approximation(levels - 1);
+    }
+
+    private void checkLevel(int level) {
+        if (level < 1 || level > levels) {
+            throw new InvalidArgumentException(
+                "Level must be between 1 and " + levels + ", got: " + level);
+        }
+    }
+
+    @Override
+    public int getLevels() {
+        return levels;
+    }
+
+    @Override
+    public long getSampleCount() {
+        return pyramid.sampleCount();
+    }
+
+    @Override
+    public long getSettlingSamples() {
+        return pyramid.settlingSamples();
+    }
+
+    @Override
+    public void flush() {
+        if (isClosed.get()) {
+            throw InvalidStateException.closed("Transform");
+        }
+
+        if (blockFill > 0) {
+            publishBlock();
+        }
+    }
+
+    @Override
+    public StreamingStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void reset() {
+        if (isClosed.get()) {
+            throw InvalidStateException.closed("Transform");
+        }
+
+        // Back to an all-zero history
+        pyramid.reset();
+        blockApproximations = null;
+        blockDetails = null;
+        if (frame != null) {
+            frame.release();
+            frame = null;
+        }
+        blockFill = 0;
+
+        // Reset statistics
+        statistics.reset();
+    }
+
+    @Override
+    public int getBufferLevel() {
+        return blockFill;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return isClosed.get();
+    }
+
+    @Override
+    public void close() {
+        if (isClosed.compareAndSet(false, true)) {
+            // Publish the partial block without checking closed state
+            if (blockFill > 0) {
+                publishBlock();
+            }
+
+            // Close the publishers
+            super.close();
+            frames.close();
+        }
+    }
+
+    /**
+     * Implementation of streaming statistics.
+     *
+     * <p>Blocks are the chunks passed to {@link #process(double[])}; single samples are
+     * counted but not timed, so the per-sample path stays free of clock reads. The
+     * per-level processing times therefore also cover chunks only. Counters are written
+     * by the single producer thread only.</p>
+     */
+    private static class StreamingStatisticsImpl implements StreamingStatistics {
+        private final MODWTPyramid pyramid;
+        private final AtomicLong samplesProcessed = new AtomicLong();
+        private final AtomicLong blocksProcessed = new AtomicLong();
+        private final LongAdder totalProcessingTime = new LongAdder();
+        private final AtomicLong maxProcessingTime = new AtomicLong();
+        private final AtomicLong minProcessingTime = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong startTime = new AtomicLong(System.nanoTime());
+
+        StreamingStatisticsImpl(MODWTPyramid pyramid) {
+            this.pyramid = pyramid;
+        }
+
+        void addSamplesProcessed(long count) {
+            // Single writer: an ordered store is enough and avoids a locked instruction
+            samplesProcessed.lazySet(samplesProcessed.get() + count);
+        }
+
+        void recordBlockProcessed(long processingTimeNanos) {
+            blocksProcessed.incrementAndGet();
+            totalProcessingTime.add(processingTimeNanos);
+            if (processingTimeNanos > maxProcessingTime.get()) {
+                maxProcessingTime.set(processingTimeNanos);
+            }
+            if (processingTimeNanos < minProcessingTime.get()) {
+                minProcessingTime.set(processingTimeNanos);
+            }
+        }
+
+        @Override
+        public long getSamplesProcessed() {
+            return samplesProcessed.get();
+        }
+
+        @Override
+        public long getBlocksProcessed() {
+            return blocksProcessed.get();
+        }
+
+        @Override
+        public long getAverageProcessingTimeNanos() {
+            long blocks = blocksProcessed.get();
+            return blocks > 0 ? totalProcessingTime.sum() / blocks : 0;
+        }
+
+        @Override
+        public long getMaxProcessingTimeNanos() {
+            return maxProcessingTime.get();
+        }
+
+        @Override
+        public long getMinProcessingTimeNanos() {
+            long min = minProcessingTime.get();
+            return min == Long.MAX_VALUE ? 0 : min;
+        }
+
+        @Override
+        public double getThroughputSamplesPerSecond() {
+            long elapsedNanos = System.nanoTime() - startTime.get();
+            double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+            return elapsedSeconds > 0 ? samplesProcessed.get() / elapsedSeconds : 0;
+        }
+
+        @Override
+        public void reset() {
+            samplesProcessed.set(0);
+            blocksProcessed.set(0);
+            totalProcessingTime.reset();
+            maxProcessingTime.set(0);
+            minProcessingTime.set(Long.MAX_VALUE);
+            startTime.set(System.nanoTime());
+            pyramid.resetTimings();
+        }
+
+        @Override
+        public int getLevelCount() {
+            return pyramid.levels();
+        }
+
+        @Override
+        public double getLevelLatencySamples(int level) {
+            return level >= 1 && level <= pyramid.levels() ? pyramid.latencySamples(level - 1) : 0.0;
+        }
+
+        @Override
+        public double getLevelProcessingTimeNanos(int level) {
+            return level >= 1 && level <= pyramid.levels() ? pyramid.processingTimeNanos(level - 1) : 0.0;
+        }
+    }
+}
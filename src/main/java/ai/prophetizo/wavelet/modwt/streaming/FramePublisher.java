@@ -0,0 +1,110 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.memory.FramePool;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Publishes pooled {@link CoefficientFrame}s, one reference per subscriber.
+ *
+ * <p>A streaming stage acquires a frame, fills its rows and hands it to
+ * {@link #publish(CoefficientFrame)}, which adds a reference for every current subscriber
+ * before submitting it and then drops the stage's own. Subscribing and publishing are
+ * serialized, so each subscriber that receives a frame holds exactly one reference and
+ * the frame returns to the pool after the last subscriber releases it.</p>
+ *
+ * <p>A subscriber has at most {@link #getMaxBufferCapacity()} frames queued before
+ * {@code submit} blocks, plus the one it is working on, so the pool keeps that many idle
+ * frames and a lagging subscriber does not force new allocations once its buffer has
+ * filled.</p>
+ *
+ * <p>The pool grows to the longest block seen: a block longer than the current frame
+ * capacity switches to a new, larger pool, and frames of the old pool are left to the
+ * garbage collector.</p>
+ */
+public final class FramePublisher extends SubmissionPublisher<CoefficientFrame> {
+
+    private final int rowCount;
+    private volatile FramePool pool;
+
+    /**
+     * Creates a publisher of frames with the given shape, delivering on the common pool.
+     *
+     * @param rowCount number of rows per frame
+     * @param capacity initial capacity of each row
+     * @throws InvalidArgumentException if rowCount or capacity is not positive
+     */
+    public FramePublisher(int rowCount, int capacity) {
+        this(rowCount, capacity, PublicationMode.commonPool());
+    }
+
+    /**
+     * Creates a publisher of frames with the given shape.
+     *
+     * @param rowCount number of rows per frame
+     * @param capacity initial capacity of each row
+     * @param mode     how frames are delivered to subscribers
+     * @throws InvalidArgumentException if rowCount or capacity is not positive
+     */
+    public FramePublisher(int rowCount, int capacity, PublicationMode mode) {
+        super(mode.getExecutor(), mode.getMaxBufferCapacity());
+        this.rowCount = rowCount;
+        this.pool = new FramePool(rowCount, capacity, maxPooledFrames());
+    }
+
+    private int maxPooledFrames() {
+        return getMaxBufferCapacity() + 2;
+    }
+
+    @Override
+    public synchronized void subscribe(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        super.subscribe(subscriber);
+    }
+
+    /**
+     * Takes a frame for the next block, holding one reference for the caller. Pass it to
+     * {@link #publish(CoefficientFrame)} once its rows are filled.
+     *
+     * @param length number of valid entries per row
+     * @return a frame of at least the given capacity
+     */
+    public CoefficientFrame acquire(int length) {
+        FramePool current = pool;
+        if (length > current.getCapacity()) {
+            current = new FramePool(rowCount, length, maxPooledFrames());
+            pool = current;
+        }
+        return current.acquire(length, 1);
+    }
+
+    /**
+     * Submits a filled frame to all current subscribers and drops the caller's reference.
+     * Blocks like {@link #submit(Object)} while a subscriber's buffer is full.
+     *
+     * @param frame a frame obtained from {@link #acquire(int)}
+     */
+    public void publish(CoefficientFrame frame) {
+        synchronized (this) {
+            int subscribers = getNumberOfSubscribers();
+            for (int i = 0; i < subscribers; i++) {
+                frame.retain();
+            }
+            if (subscribers > 0) {
+                submit(frame);
+            }
+        }
+        frame.release();
+    }
+
+    /**
+     * Gets the pool frames are currently taken from.
+     *
+     * @return the frame pool
+     */
+    public FramePool getPool() {
+        return pool;
+    }
+}
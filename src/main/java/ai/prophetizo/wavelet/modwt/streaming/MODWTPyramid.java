@@ -0,0 +1,354 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.internal.ScalarOps;
+import ai.prophetizo.wavelet.modwt.MODWTFilterBank;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Causal multi-level MODWT pyramid built from per-level dilated delay lines.
+ *
+ * <p>Level j keeps the last S<sub>j</sub> = (L - 1)&middot;2<sup>j-1</sup> values of its
+ * input V<sub>j-1</sub> as history in front of the values it is currently filtering.
+ * Each level consumes the approximation stream of the level above and evaluates both
+ * filters at the new positions only:</p>
+ * <pre>
+ * W<sub>j,t</sub> = &Sigma;<sub>k</sub> h<sub>k</sub> V<sub>j-1,t-k&middot;2<sup>j-1</sup></sub>
+ * V<sub>j,t</sub> = &Sigma;<sub>k</sub> g<sub>k</sub> V<sub>j-1,t-k&middot;2<sup>j-1</sup></sub>
+ * </pre>
+ *
+ * <p>Each delay line is a linear buffer of S<sub>j</sub> + max(512, S<sub>j</sub>) values.
+ * New values are appended after the history, so every tap is a plain backward index and
+ * a chunk is filtered by the wrap-free fused interior kernel, vectorized where that pays
+ * off. When a line is full, its last S<sub>j</sub> values are moved to the front, which
+ * costs at most one copy per value.</p>
+ *
+ * <p>Samples are pushed either one at a time, cascading through all levels, or as a
+ * chunk, which runs each level over the chunk before moving on to the next. Both give
+ * the same coefficients up to rounding. The chunk path times every level, and those
+ * timings are what the streaming statistics report per level.</p>
+ *
+ * <p>The history starts at zero, so the coefficients equal those of a
+ * {@code ZERO_PADDING} MODWT of the samples pushed so far. Not thread-safe: a pyramid
+ * is fed by one producer thread.</p>
+ */
+final class MODWTPyramid {
+
+    /** Upper bound for the delay line memory, matching the block-based transform. */
+    private static final long MAX_DELAY_LINE_BYTES = 100L * 1024 * 1024;
+
+    /** Samples per level pass; also the room a delay line has after compaction. */
+    private static final int CHUNK_SIZE = 512;
+
+    private final int levels;
+    private final double[] lowPass;
+    private final double[] highPass;
+    private final long settlingSamples;
+    private final double[] levelLatencySamples;
+
+    // Delay line of level j holds V_{j-1}: spans[j] history values before fills[j]
+    private final double[][] delayLines;
+    private final int[] spans;
+    private final int[] fills;
+    private long sampleCount;
+
+    // Newest coefficients per level
+    private final double[] approximations;
+    private final double[] details;
+
+    // Chunk outputs when the caller does not keep them, allocated on first use
+    private double[][] scratchApproximations;
+    private double[][] scratchDetails;
+
+    // Per-level time of the chunk path; written by the producer, read by any thread
+    private final AtomicLongArray levelNanos;
+    private final AtomicLong timedSamples = new AtomicLong();
+
+    /**
+     * Creates a pyramid with an all-zero history.
+     *
+     * @param wavelet the wavelet to use
+     * @param levels  number of decomposition levels
+     * @throws InvalidArgumentException if the parameters are invalid or the delay lines
+     *         would need more than 100MB
+     */
+    MODWTPyramid(Wavelet wavelet, int levels) {
+        if (wavelet == null) {
+            throw new InvalidArgumentException("Wavelet cannot be null");
+        }
+        if (levels < 1 || levels > 30) {
+            throw new InvalidArgumentException("Levels must be between 1 and 30, got: " + levels);
+        }
+
+        MODWTFilterBank.LevelFilters filters = MODWTFilterBank.of(wavelet).decomposition(1);
+        this.lowPass = filters.lowPass();
+        this.highPass = filters.highPass();
+        int filterLength = filters.maxLength();
+
+        long totalBytes = 0;
+        for (int level = 1; level <= levels; level++) {
+            long span = (long) (filterLength - 1) << (level - 1);
+            totalBytes += (span + Math.max(CHUNK_SIZE, span)) * 8;
+        }
+        if (totalBytes > MAX_DELAY_LINE_BYTES) {
+            throw new InvalidArgumentException(
+                "Delay lines would require " + (totalBytes / (1024 * 1024)) + "MB. " +
+                "Maximum allowed is " + (MAX_DELAY_LINE_BYTES / (1024 * 1024)) + "MB");
+        }
+
+        this.levels = levels;
+        this.settlingSamples = (long) (filterLength - 1) * ((1L << levels) - 1);
+        this.delayLines = new double[levels][];
+        this.spans = new int[levels];
+        this.fills = new int[levels];
+        for (int i = 0; i < levels; i++) {
+            spans[i] = (filterLength - 1) << i;
+            delayLines[i] = new double[spans[i] + Math.max(CHUNK_SIZE, spans[i])];
+            fills[i] = spans[i];
+        }
+        this.approximations = new double[levels];
+        this.details = new double[levels];
+        this.levelNanos = new AtomicLongArray(levels);
+        this.levelLatencySamples = new double[levels];
+        for (int level = 1; level <= levels; level++) {
+            levelLatencySamples[level - 1] = detailGroupDelay(lowPass, highPass, level);
+        }
+    }
+
+    /**
+     * Pushes one sample through all levels.
+     *
+     * @param sample the sample value
+     */
+    void push(double sample) {
+        double[] low = lowPass;
+        double[] high = highPass;
+        double input = sample;
+
+        for (int j = 0; j < levels; j++) {
+            if (fills[j] == delayLines[j].length) {
+                compact(j);
+            }
+            double[] line = delayLines[j];
+            int pos = fills[j]++;
+            int dilation = 1 << j;
+            line[pos] = input;
+
+            double approx = 0.0;
+            double detail = 0.0;
+            if (low.length == high.length) {
+                for (int k = 0, idx = pos; k < low.length; k++, idx -= dilation) {
+                    double v = line[idx];
+                    approx += low[k] * v;
+                    detail += high[k] * v;
+                }
+            } else {
+                for (int k = 0, idx = pos; k < low.length; k++, idx -= dilation) {
+                    approx += low[k] * line[idx];
+                }
+                for (int k = 0, idx = pos; k < high.length; k++, idx -= dilation) {
+                    detail += high[k] * line[idx];
+                }
+            }
+            approximations[j] = approx;
+            details[j] = detail;
+            input = approx;
+        }
+        sampleCount++;
+    }
+
+    /**
+     * Pushes a chunk of samples, running each level over up to {@link #CHUNK_SIZE}
+     * samples before moving on to the next level.
+     *
+     * @param input          the samples
+     * @param offset         index of the first sample in input
+     * @param length         number of samples
+     * @param approximations receives the approximation of level j at
+     *                       {@code approximations[j - 1][outOffset + i]}
+     * @param details        receives the detail of level j at
+     *                       {@code details[j - 1][outOffset + i]}
+     * @param outOffset      index of the first output in each level array
+     */
+    void push(double[] input, int offset, int length,
+              double[][] approximations, double[][] details, int outOffset) {
+        if (length == 0) {
+            return;
+        }
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int piece = Math.min(CHUNK_SIZE, length - done);
+            double[] levelInput = input;
+            int inputOffset = offset + done;
+            for (int j = 0; j < levels; j++) {
+                long start = System.nanoTime();
+                filterLevel(j, levelInput, inputOffset, piece, approximations[j], details[j], outOffset + done);
+                levelNanos.lazySet(j, levelNanos.get(j) + System.nanoTime() - start);
+                levelInput = approximations[j];
+                inputOffset = outOffset + done;
+            }
+        }
+        int last = outOffset + length - 1;
+        for (int j = 0; j < levels; j++) {
+            this.approximations[j] = approximations[j][last];
+            this.details[j] = details[j][last];
+        }
+        sampleCount += length;
+        timedSamples.lazySet(timedSamples.get() + length);
+    }
+
+    /**
+     * Pushes a chunk of samples whose coefficients the caller does not keep; only the
+     * newest coefficients remain available.
+     *
+     * @param input  the samples
+     * @param offset index of the first sample in input
+     * @param length number of samples
+     */
+    void push(double[] input, int offset, int length) {
+        if (scratchDetails == null) {
+            scratchApproximations = new double[levels][CHUNK_SIZE];
+            scratchDetails = new double[levels][CHUNK_SIZE];
+        }
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            push(input, offset + done, Math.min(CHUNK_SIZE, length - done),
+                scratchApproximations, scratchDetails, 0);
+        }
+    }
+
+    /**
+     * Runs one level over at most {@link #CHUNK_SIZE} values: appends them to the delay
+     * line behind the history and filters them with the wrap-free interior kernel.
+     */
+    private void filterLevel(int j, double[] input, int inputOffset, int length,
+                             double[] approxOut, double[] detailOut, int outOffset) {
+        if (fills[j] + length > delayLines[j].length) {
+            compact(j);
+        }
+        double[] line = delayLines[j];
+        int pos = fills[j];
+        System.arraycopy(input, inputOffset, line, pos, length);
+        ScalarOps.convolveMODWTDilatedFusedInterior(line, pos, lowPass, highPass,
+            approxOut, outOffset, detailOut, outOffset, length, 1 << j);
+        fills[j] = pos + length;
+    }
+
+    /**
+     * Moves the history of a level to the front of its delay line.
+     */
+    private void compact(int j) {
+        double[] line = delayLines[j];
+        int span = spans[j];
+        System.arraycopy(line, fills[j] - span, line, 0, span);
+        fills[j] = span;
+    }
+
+    /**
+     * Clears the history, the newest coefficients and the per-level timings.
+     */
+    void reset() {
+        for (double[] line : delayLines) {
+            Arrays.fill(line, 0.0);
+        }
+        Arrays.fill(approximations, 0.0);
+        Arrays.fill(details, 0.0);
+        System.arraycopy(spans, 0, fills, 0, levels);
+        sampleCount = 0;
+        resetTimings();
+    }
+
+    /**
+     * Clears the per-level timings only.
+     */
+    void resetTimings() {
+        for (int j = 0; j < levels; j++) {
+            levelNanos.set(j, 0);
+        }
+        timedSamples.set(0);
+    }
+
+    int levels() {
+        return levels;
+    }
+
+    long sampleCount() {
+        return sampleCount;
+    }
+
+    long settlingSamples() {
+        return settlingSamples;
+    }
+
+    /** Newest approximation of a 0-based level index. */
+    double approximation(int j) {
+        return approximations[j];
+    }
+
+    /** Newest detail of a 0-based level index. */
+    double detail(int j) {
+        return details[j];
+    }
+
+    /**
+     * Copies the newest detail coefficients of all levels.
+     *
+     * @param out receives level j at index j - 1
+     */
+    void copyDetails(double[] out) {
+        System.arraycopy(details, 0, out, 0, levels);
+    }
+
+    /** Group delay of a 0-based level index, in samples. */
+    double latencySamples(int j) {
+        return levelLatencySamples[j];
+    }
+
+    /** Average chunk-path time per sample of a 0-based level index, in nanoseconds. */
+    double processingTimeNanos(int j) {
+        long samples = timedSamples.get();
+        return samples > 0 ? (double) levelNanos.get(j) / samples : 0.0;
+    }
+
+    /**
+     * Computes the group delay of the level-j detail coefficients at the centre of their
+     * pass band, ω = 3π / 2<sup>j+1</sup>.
+     *
+     * <p>The level-j detail filter is the cascade of g upsampled by 1, 2, ..., 2<sup>j-2</sup>
+     * and h upsampled by 2<sup>j-1</sup>. Group delays of cascaded filters add, and a filter
+     * upsampled by m has group delay m&middot;τ(mω) at ω, so no equivalent filter needs to be
+     * built.</p>
+     */
+    static double detailGroupDelay(double[] lowPass, double[] highPass, int level) {
+        double omega = 3 * Math.PI / (1L << (level + 1));
+        double delay = 0.0;
+        for (int i = 1; i < level; i++) {
+            long m = 1L << (i - 1);
+            delay += m * groupDelay(lowPass, m * omega);
+        }
+        long m = 1L << (level - 1);
+        return delay + m * groupDelay(highPass, m * omega);
+    }
+
+    /**
+     * Group delay of an FIR filter at one frequency: Re(&Sigma; n h[n] e<sup>-iωn</sup> /
+     * &Sigma; h[n] e<sup>-iωn</sup>).
+     */
+    private static double groupDelay(double[] filter, double omega) {
+        double re = 0.0;
+        double im = 0.0;
+        double weightedRe = 0.0;
+        double weightedIm = 0.0;
+        for (int n = 0; n < filter.length; n++) {
+            double c = Math.cos(omega * n);
+            double s = -Math.sin(omega * n);
+            re += filter[n] * c;
+            im += filter[n] * s;
+            weightedRe += n * filter[n] * c;
+            weightedIm += n * filter[n] * s;
+        }
+        return (weightedRe * re + weightedIm * im) / (re * re + im * im);
+    }
+}
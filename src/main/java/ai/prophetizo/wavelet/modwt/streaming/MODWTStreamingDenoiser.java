@@ -1,5 +1,6 @@
 package ai.prophetizo.wavelet.modwt.streaming;
 
+import ai.prophetizo.wavelet.WaveletOperations;
 import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.Daubechies;
 import ai.prophetizo.wavelet.api.Wavelet;
@@ -7,9 +8,10 @@ import ai.prophetizo.wavelet.denoising.WaveletDenoiser;
 import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
 import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
-import ai.prophetizo.wavelet.modwt.MODWTResult;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
 import ai.prophetizo.wavelet.modwt.MODWTTransform;
 import ai.prophetizo.wavelet.util.MathUtils;
+import ai.prophetizo.wavelet.util.SlidingWindowMedian;
 
 import java.util.concurrent.Flow;
 import java.util.concurrent.SubmissionPublisher;
@@ -28,8 +30,14 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>Improved noise estimation accuracy</li>
  * </ul>
  * 
+ * <p>Each block runs through a single forward transform, noise estimation,
+ * thresholding and inverse transform over coefficient buffers that are reused from
+ * block to block.</p>
+ * 
  * <p>The denoiser processes data in blocks and can optionally publish results
- * to subscribers for further processing.</p>
+ * to subscribers for further processing. Subscribers registered with
+ * {@link #subscribeFrames(Flow.Subscriber)} receive each block in a pooled frame instead
+ * of a fresh copy.</p>
  * 
  */
 public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoCloseable {
@@ -44,10 +52,17 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
     private final int noiseWindowSize;
     
     private final SubmissionPublisher<double[]> publisher;
+    private final FramePublisher frames;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final AtomicLong samplesProcessed = new AtomicLong(0);
     
-    // Noise estimation
+    // Coefficient buffers shared by all stages of a block, sized for the last block length
+    private double[] approxBuffer = new double[0];
+    private double[] detailBuffer = new double[0];
+    private double[] scratchBuffer = new double[0];
+    
+    // Noise estimation: MAD keeps the window ordered incrementally, STD keeps a plain ring
+    private SlidingWindowMedian noiseMedian;
     private double[] noiseWindow;
     private int noiseWindowIndex = 0;
     private double estimatedNoiseLevel = 0.0;
@@ -75,9 +90,12 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         this.noiseEstimation = builder.noiseEstimation;
         this.noiseWindowSize = builder.noiseWindowSize;
         
-        this.publisher = new SubmissionPublisher<>();
+        this.publisher = builder.publicationMode.newPublisher();
+        this.frames = new FramePublisher(1, bufferSize, builder.publicationMode);
         
-        if (noiseEstimation != NoiseEstimation.FIXED) {
+        if (noiseEstimation == NoiseEstimation.MAD) {
+            this.noiseMedian = new SlidingWindowMedian(noiseWindowSize, builder.noiseWindowMode);
+        } else if (noiseEstimation == NoiseEstimation.STD) {
             this.noiseWindow = new double[noiseWindowSize];
         }
     }
@@ -97,51 +115,91 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         if (samples == null || samples.length == 0) {
             throw new InvalidArgumentException("Samples cannot be null or empty");
         }
+        double[] denoised = new double[samples.length];
+        denoise(samples, denoised);
+        return denoised;
+    }
+    
+    /**
+     * Process a block of samples into a caller-supplied buffer.
+     * 
+     * <p>The block is transformed once; the noise estimate, the threshold and the
+     * reconstruction all work on the same coefficients.</p>
+     * 
+     * @param samples the input samples
+     * @param output  receives the denoised samples; same length as samples, may be samples itself
+     * @throws IllegalStateException if the denoiser is closed
+     * @throws InvalidArgumentException if samples is null or empty, or output has the wrong length
+     */
+    public void denoise(double[] samples, double[] output) {
+        if (closed.get()) {
+            throw new IllegalStateException("Denoiser is closed");
+        }
+        if (samples == null || samples.length == 0) {
+            throw new InvalidArgumentException("Samples cannot be null or empty");
+        }
+        if (output == null || output.length != samples.length) {
+            throw new InvalidArgumentException(
+                "Output must have the same length as samples: " + samples.length);
+        }
+        
+        // Forward transform into the shared buffers
+        int n = samples.length;
+        ensureBuffers(n);
+        transform.forward(samples, approxBuffer, detailBuffer);
         
         // Update noise estimation if needed
         if (noiseEstimation != NoiseEstimation.FIXED) {
-            updateNoiseEstimation(samples);
+            updateNoiseEstimation(detailBuffer);
         }
         
-        // Denoise using WaveletDenoiser with threshold multiplier applied
-        double[] denoised;
+        // Threshold the detail coefficients with the multiplier applied
+        double threshold;
         if (Math.abs(thresholdMultiplier - 1.0) < 1e-10) {
-            // No multiplier adjustment needed - use standard denoising
-            denoised = denoiser.denoise(samples, thresholdMethod, thresholdType);
+            // No multiplier adjustment needed - use standard threshold selection
+            threshold = denoiser.selectThreshold(detailBuffer, thresholdMethod);
         } else {
             // Calculate threshold using the selected method, then apply multiplier
-            double baseThreshold = calculateThreshold(samples);
-            double adjustedThreshold = baseThreshold * thresholdMultiplier;
-            denoised = denoiser.denoiseFixed(samples, adjustedThreshold, thresholdType);
+            threshold = calculateThreshold(detailBuffer) * thresholdMultiplier;
         }
+        thresholdType.apply(detailBuffer, threshold, detailBuffer);
+        
+        // Reconstruct
+        transform.inverse(approxBuffer, detailBuffer, output);
         
         // Update statistics
-        samplesProcessed.addAndGet(samples.length);
+        samplesProcessed.addAndGet(n);
         
         // Publish to subscribers if any
         if (publisher.hasSubscribers()) {
-            publisher.submit(denoised.clone());
+            publisher.submit(output.clone());
+        }
+        if (frames.hasSubscribers()) {
+            CoefficientFrame frame = frames.acquire(n);
+            System.arraycopy(output, 0, frame.row(0), 0, n);
+            frames.publish(frame);
+        }
+    }
+    
+    private void ensureBuffers(int n) {
+        if (detailBuffer.length != n) {
+            approxBuffer = new double[n];
+            detailBuffer = new double[n];
+            scratchBuffer = new double[n];
         }
-        
-        return denoised;
     }
     
     /**
-     * Update noise estimation based on new samples.
+     * Update noise estimation based on the detail coefficients of a new block.
      */
-    private void updateNoiseEstimation(double[] samples) {
-        // Transform to get detail coefficients
-        MODWTResult result = transform.forward(samples);
-        double[] details = result.detailCoeffs();
-        
+    private void updateNoiseEstimation(double[] details) {
         // Update noise window with detail coefficients
         // Strategy: If we have more details than window size, use stratified sampling
         // to maintain temporal diversity in noise estimation
         if (details.length <= noiseWindowSize) {
             // Case 1: Fewer details than window size - add all
             for (double detail : details) {
-                noiseWindow[noiseWindowIndex] = Math.abs(detail);
-                noiseWindowIndex = (noiseWindowIndex + 1) % noiseWindowSize;
+                addNoiseSample(Math.abs(detail));
             }
         } else {
             // Case 2: More details than window size - use stratified sampling
@@ -170,8 +228,7 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
                     for (int i = 0; i < samplesToTake && sampleIndex < noiseWindowSize; i++) {
                         int idx = strataStart + (i * strataStep) % strataLength;
                         if (idx < details.length) {
-                            noiseWindow[noiseWindowIndex] = Math.abs(details[idx]);
-                            noiseWindowIndex = (noiseWindowIndex + 1) % noiseWindowSize;
+                            addNoiseSample(Math.abs(details[idx]));
                             sampleIndex++;
                         }
                     }
@@ -183,8 +240,7 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
             if (remaining > 0) {
                 int startIdx = Math.max(0, details.length - remaining);
                 for (int i = startIdx; i < details.length && sampleIndex < noiseWindowSize; i++) {
-                    noiseWindow[noiseWindowIndex] = Math.abs(details[i]);
-                    noiseWindowIndex = (noiseWindowIndex + 1) % noiseWindowSize;
+                    addNoiseSample(Math.abs(details[i]));
                     sampleIndex++;
                 }
             }
@@ -192,7 +248,7 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         
         // Calculate noise level based on method
         switch (noiseEstimation) {
-            case MAD -> estimatedNoiseLevel = calculateMAD(noiseWindow) / 0.6745;
+            case MAD -> estimatedNoiseLevel = noiseMedian.medianAbsoluteDeviation() / 0.6745;
             case STD -> estimatedNoiseLevel = calculateSTD(noiseWindow);
             default -> {
                 // Fixed noise level, no update needed
@@ -200,16 +256,42 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         }
     }
     
+    private void addNoiseSample(double value) {
+        if (noiseMedian != null) {
+            noiseMedian.add(value);
+        } else {
+            noiseWindow[noiseWindowIndex] = value;
+            noiseWindowIndex = (noiseWindowIndex + 1) % noiseWindowSize;
+        }
+    }
+    
     /**
      * Calculates the Median Absolute Deviation (MAD) of the given values.
      * MAD is a robust measure of variability based on the median of absolute deviations.
      * 
-     * @param values the array of values (must not be empty)
+     * @param values the array of values (must not be empty; overwritten)
      * @return the median absolute deviation, or 0 if all values are zero/invalid
      * @throws IllegalArgumentException if values array is empty
      */
     private double calculateMAD(double[] values) {
-        if (values == null || values.length == 0) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values array cannot be null or empty");
+        }
+        return calculateMAD(values, values.length);
+    }
+    
+    /**
+     * Calculates the Median Absolute Deviation (MAD) of the first {@code length} values,
+     * in place and without allocating. MAD is a robust measure of variability based on
+     * the median of absolute deviations.
+     * 
+     * @param values the scratch values (overwritten)
+     * @param length the number of values (must be positive)
+     * @return the median absolute deviation, or 0 if all values are zero/invalid
+     * @throws IllegalArgumentException if length is not positive
+     */
+    private double calculateMAD(double[] values, int length) {
+        if (values == null || length <= 0) {
             throw new IllegalArgumentException("Values array cannot be null or empty");
         }
         
@@ -217,7 +299,8 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         boolean hasValidData = false;
         int validCount = 0;
         
-        for (double value : values) {
+        for (int i = 0; i < length; i++) {
+            double value = values[i];
             if (Double.isFinite(value)) {
                 validCount++;
                 if (value != 0.0) {
@@ -236,7 +319,7 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
             return 0.0;
         }
         
-        return MathUtils.medianAbsoluteDeviation(values);
+        return MathUtils.medianAbsoluteDeviationInPlace(values, 0, length);
     }
     
     /**
@@ -270,29 +353,23 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
      * Calculates the base threshold using the selected method and current noise estimation.
      * This threshold can then be adjusted by the threshold multiplier.
      * 
-     * @param samples the input samples to analyze
+     * @param details the detail coefficients of the block
      * @return the calculated base threshold
      */
-    private double calculateThreshold(double[] samples) {
+    private double calculateThreshold(double[] details) {
         // Get current noise level estimate
         double sigma = estimatedNoiseLevel;
         
-        // If no noise estimation available yet, estimate from current samples
+        // If no noise estimation available yet, estimate from the block's coefficients
         if (sigma <= 0.0 || noiseEstimation == NoiseEstimation.FIXED) {
-            // Transform samples to get detail coefficients for noise estimation
-            MODWTResult result = transform.forward(samples);
-            double[] details = result.detailCoeffs();
-            
             // Estimate noise using MAD (consistent with default noise estimation)
-            double[] absDetails = new double[details.length];
-            for (int i = 0; i < details.length; i++) {
-                absDetails[i] = Math.abs(details[i]);
-            }
-            sigma = calculateMAD(absDetails) / 0.6745;
+            double[] absDetails = scratchBuffer;
+            WaveletOperations.abs(details, absDetails, details.length);
+            sigma = calculateMAD(absDetails, details.length) / 0.6745;
         }
         
         // Calculate threshold based on selected method
-        int n = samples.length;
+        int n = details.length;
         return switch (thresholdMethod) {
             case UNIVERSAL -> 
                 // Universal threshold (VisuShrink): sigma * sqrt(2 * log(n))
@@ -347,10 +424,21 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         publisher.subscribe(subscriber);
     }
     
+    /**
+     * Subscribe to denoised blocks delivered as pooled frames. Row 0 of each frame holds
+     * the denoised samples; the subscriber must release every frame it receives.
+     *
+     * @param subscriber the frame subscriber
+     */
+    public void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        frames.subscribe(subscriber);
+    }
+    
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
             publisher.close();
+            frames.close();
         }
     }
     
@@ -375,6 +463,8 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
         private double thresholdMultiplier = 1.0;
         private NoiseEstimation noiseEstimation = NoiseEstimation.MAD;
         private int noiseWindowSize = 1024;
+        private SlidingWindowMedian.Mode noiseWindowMode = SlidingWindowMedian.Mode.EXACT;
+        private PublicationMode publicationMode = PublicationMode.commonPool();
         
         /**
          * Set the wavelet to use for denoising.
@@ -495,6 +585,37 @@ public class MODWTStreamingDenoiser implements Flow.Publisher<double[]>, AutoClo
             return this;
         }
         
+        /**
+         * Set how the MAD noise window is maintained. {@link SlidingWindowMedian.Mode#EXACT}
+         * (the default) costs O(log W) per coefficient; {@link SlidingWindowMedian.Mode#APPROXIMATE}
+         * uses constant-memory P² estimates, for very large windows.
+         * 
+         * @param noiseWindowMode the window mode
+         * @return this builder
+         */
+        public Builder noiseWindowMode(SlidingWindowMedian.Mode noiseWindowMode) {
+            if (noiseWindowMode == null) {
+                throw new InvalidArgumentException("Noise window mode cannot be null");
+            }
+            this.noiseWindowMode = noiseWindowMode;
+            return this;
+        }
+        
+        /**
+         * Set how denoised blocks are delivered to subscribers. Defaults to
+         * {@link PublicationMode#commonPool()}.
+         * 
+         * @param publicationMode the publication mode
+         * @return this builder
+         */
+        public Builder publicationMode(PublicationMode publicationMode) {
+            if (publicationMode == null) {
+                throw new InvalidArgumentException("Publication mode cannot be null");
+            }
+            this.publicationMode = publicationMode;
+            return this;
+        }
+        
         /**
          * Build the streaming denoiser.
          * 
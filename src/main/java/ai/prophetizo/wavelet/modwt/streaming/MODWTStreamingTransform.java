@@ -4,6 +4,7 @@ import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.Wavelet;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import ai.prophetizo.wavelet.exception.InvalidSignalException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
 import ai.prophetizo.wavelet.modwt.MODWTResult;
 
 import java.util.concurrent.Flow;
@@ -80,11 +81,34 @@ public interface MODWTStreamingTransform extends Flow.Publisher<MODWTResult>, Au
         return new MODWTStreamingTransformImpl(wavelet, boundaryMode, bufferSize);
     }
 
+    /**
+     * Create a streaming MODWT transform that delivers results according to a
+     * publication mode.
+     *
+     * <p>The returned transform is thread-safe. Its coefficients are those of a causal,
+     * zero-history pyramid, so the boundary mode is checked for null but not applied.</p>
+     *
+     * @param wavelet      the wavelet to use
+     * @param boundaryMode the boundary handling mode; ignored, see above
+     * @param bufferSize   the processing buffer size (any positive value)
+     * @param mode         how results are delivered to subscribers
+     * @return a new streaming MODWT transform
+     * @throws InvalidArgumentException if bufferSize is not positive or mode is null
+     * @see PublicationMode
+     */
+    static MODWTStreamingTransform create(Wavelet wavelet, BoundaryMode boundaryMode, int bufferSize,
+                                          PublicationMode mode) {
+        return new MODWTStreamingTransformImpl(wavelet, boundaryMode, bufferSize, requireMode(mode));
+    }
+
     /**
      * Create a multi-level streaming MODWT transform.
      *
+     * <p>The returned transform is thread-safe. Its coefficients are those of a causal,
+     * zero-history pyramid, so the boundary mode is checked for null but not applied.</p>
+     *
      * @param wavelet      the wavelet to use
-     * @param boundaryMode the boundary handling mode
+     * @param boundaryMode the boundary handling mode; ignored, see above
      * @param bufferSize   the processing buffer size
      * @param levels       number of decomposition levels
      * @return a new multi-level streaming MODWT transform
@@ -94,6 +118,106 @@ public interface MODWTStreamingTransform extends Flow.Publisher<MODWTResult>, Au
         return new MultiLevelMODWTStreamingTransform(wavelet, boundaryMode, bufferSize, levels);
     }
 
+    /**
+     * Create a multi-level streaming MODWT transform that delivers results according to a
+     * publication mode.
+     *
+     * <p>The returned transform is thread-safe. Its coefficients are those of a causal,
+     * zero-history pyramid, so the boundary mode is checked for null but not applied.</p>
+     *
+     * @param wavelet      the wavelet to use
+     * @param boundaryMode the boundary handling mode; ignored, see above
+     * @param bufferSize   the processing buffer size
+     * @param levels       number of decomposition levels
+     * @param mode         how results are delivered to subscribers
+     * @return a new multi-level streaming MODWT transform
+     * @throws InvalidArgumentException if the parameters are invalid or mode is null
+     * @see PublicationMode
+     */
+    static MODWTStreamingTransform createMultiLevel(
+            Wavelet wavelet, BoundaryMode boundaryMode, int bufferSize, int levels, PublicationMode mode) {
+        return new MultiLevelMODWTStreamingTransform(wavelet, boundaryMode, bufferSize, levels, requireMode(mode));
+    }
+
+    /**
+     * Create a causal streaming MODWT transform that updates the coefficients of every
+     * level for each arriving sample, with the default block size for subscribers.
+     *
+     * <p>Unlike the transforms from {@link #create} and {@link #createMultiLevel}, the
+     * returned transform is not synchronized: it must be fed, flushed, reset and closed
+     * from a single thread, or guarded externally.</p>
+     *
+     * @param wavelet the wavelet to use
+     * @param levels  number of decomposition levels
+     * @return a new causal streaming MODWT transform
+     * @see CausalMODWTStreamingTransform
+     */
+    static CausalMODWTStreamingTransform createCausal(Wavelet wavelet, int levels) {
+        return createCausal(wavelet, levels, 256); // Default block size
+    }
+
+    /**
+     * Create a causal streaming MODWT transform that updates the coefficients of every
+     * level for each arriving sample. The returned transform is not synchronized; see
+     * {@link #createCausal(Wavelet, int)}.
+     *
+     * @param wavelet   the wavelet to use
+     * @param levels    number of decomposition levels
+     * @param blockSize number of samples per result published to subscribers
+     * @return a new causal streaming MODWT transform
+     * @throws InvalidArgumentException if the parameters are invalid
+     * @see CausalMODWTStreamingTransform
+     */
+    static CausalMODWTStreamingTransform createCausal(Wavelet wavelet, int levels, int blockSize) {
+        return new CausalMODWTStreamingTransformImpl(wavelet, levels, blockSize);
+    }
+
+    /**
+     * Create a causal streaming MODWT transform that delivers blocks according to a
+     * publication mode. The returned transform is not synchronized; see
+     * {@link #createCausal(Wavelet, int)}.
+     *
+     * @param wavelet   the wavelet to use
+     * @param levels    number of decomposition levels
+     * @param blockSize number of samples per result published to subscribers
+     * @param mode      how blocks are delivered to subscribers
+     * @return a new causal streaming MODWT transform
+     * @throws InvalidArgumentException if the parameters are invalid or mode is null
+     * @see PublicationMode
+     */
+    static CausalMODWTStreamingTransform createCausal(Wavelet wavelet, int levels, int blockSize,
+                                                      PublicationMode mode) {
+        return new CausalMODWTStreamingTransformImpl(wavelet, levels, blockSize, requireMode(mode));
+    }
+
+    private static PublicationMode requireMode(PublicationMode mode) {
+        if (mode == null) {
+            throw new InvalidArgumentException("Publication mode cannot be null");
+        }
+        return mode;
+    }
+
+    /**
+     * Subscribe to coefficient blocks delivered as pooled, reference-counted frames.
+     *
+     * <p>Each block that would be published as {@link MODWTResult}s is also delivered as one
+     * {@link CoefficientFrame}: row {@code 2(j-1)} holds the approximation and row
+     * {@code 2(j-1)+1} the detail coefficients of level {@code j}. The subscriber must
+     * {@link CoefficientFrame#release() release} every frame it receives; released frames
+     * are reused for later blocks, so once the stream is running nothing is allocated
+     * for frame subscribers.</p>
+     *
+     * <p>The default implementation throws; transforms that publish frames override it.
+     * All transforms created by the factory methods of this interface publish frames.</p>
+     *
+     * @param subscriber the frame subscriber
+     * @throws UnsupportedOperationException if this transform does not publish frames
+     */
+    default void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        throw new UnsupportedOperationException(
+            getClass().getName() + " does not publish coefficient frames; use subscribe instead");
+    }
+
     /**
      * Process a chunk of streaming data.
      *
@@ -185,5 +309,36 @@ public interface MODWTStreamingTransform extends Flow.Publisher<MODWTResult>, Au
          * Reset all statistics.
          */
         void reset();
+
+        /**
+         * Number of decomposition levels with per-level figures.
+         *
+         * @return the number of levels, or 0 if the transform does not report per-level figures
+         */
+        default int getLevelCount() {
+            return 0;
+        }
+
+        /**
+         * Latency of a level's detail coefficients in samples: the group delay of the
+         * level's equivalent filter at the centre of its pass band. A feature in the input
+         * shows up this many samples later in the level's coefficients.
+         *
+         * @param level the level (1-based)
+         * @return the latency in samples, or 0 if not reported
+         */
+        default double getLevelLatencySamples(int level) {
+            return 0.0;
+        }
+
+        /**
+         * Average time spent per sample at a level, in nanoseconds.
+         *
+         * @param level the level (1-based)
+         * @return the processing time per sample, or 0 if not reported
+         */
+        default double getLevelProcessingTimeNanos(int level) {
+            return 0.0;
+        }
     }
 }
\ No newline at end of file
@@ -5,11 +5,13 @@ import ai.prophetizo.wavelet.api.Wavelet;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import ai.prophetizo.wavelet.exception.InvalidSignalException;
 import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
 import ai.prophetizo.wavelet.modwt.MODWTResult;
 import ai.prophetizo.wavelet.modwt.MODWTTransform;
 import ai.prophetizo.wavelet.util.ValidationUtils;
 
 import java.util.Arrays;
+import java.util.concurrent.Flow;
 import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -40,6 +42,7 @@ import java.util.concurrent.atomic.LongAdder;
  *   <li>Overlap handling for filter continuity</li>
  *   <li>Thread-safe operation</li>
  *   <li>Flexible buffer size (not limited to powers of 2)</li>
+ *   <li>Allocation-free block processing for frame subscribers</li>
  * </ul>
  *
  */
@@ -58,6 +61,12 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
     private final double[] circularBuffer;
     private int writePosition = 0;
     private int samplesInBuffer = 0;
+
+    // Linearized window handed to the transform, reused for every block
+    private final double[] processingBuffer;
+
+    // Pooled frames for frame subscribers: row 0 approximation, row 1 detail
+    private final FramePublisher frames;
     
     // Overlap handling for filter continuity
     private final int filterLength;
@@ -78,7 +87,21 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
      * @throws InvalidArgumentException if parameters are invalid
      */
     public MODWTStreamingTransformImpl(Wavelet wavelet, BoundaryMode boundaryMode, int bufferSize) {
-        super();
+        this(wavelet, boundaryMode, bufferSize, PublicationMode.commonPool());
+    }
+
+    /**
+     * Creates a new streaming MODWT transform with the given publication mode.
+     *
+     * @param wavelet      the wavelet to use
+     * @param boundaryMode the boundary mode
+     * @param bufferSize   the buffer size (must be positive)
+     * @param mode         how results are delivered to subscribers
+     * @throws InvalidArgumentException if parameters are invalid
+     */
+    MODWTStreamingTransformImpl(Wavelet wavelet, BoundaryMode boundaryMode, int bufferSize,
+                                PublicationMode mode) {
+        super(mode.getExecutor(), mode.getMaxBufferCapacity());
 
         if (wavelet == null) {
             throw new InvalidArgumentException("Wavelet cannot be null");
@@ -136,11 +159,18 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
         
         // Initialize circular buffer with extra space for overlap
         this.circularBuffer = new double[bufferSize + overlapSize];
+        this.processingBuffer = new double[bufferSize];
+        this.frames = new FramePublisher(2, bufferSize, mode);
         
         // Create MODWT transform
         this.transform = new MODWTTransform(wavelet, boundaryMode);
     }
 
+    @Override
+    public void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        frames.subscribe(subscriber);
+    }
+
     @Override
     public synchronized void process(double[] data) {
         if (isClosed.get()) {
@@ -183,18 +213,14 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
         long startTime = System.nanoTime();
         
         // Extract buffer contents in correct order
-        double[] processingBuffer = new double[bufferSize];
         int readPos = (writePosition - bufferSize + circularBuffer.length) % circularBuffer.length;
         
         for (int i = 0; i < bufferSize; i++) {
             processingBuffer[i] = circularBuffer[(readPos + i) % circularBuffer.length];
         }
         
-        // Apply MODWT transform
-        MODWTResult result = transform.forward(processingBuffer);
-        
-        // Publish result to subscribers
-        submit(result);
+        // Apply MODWT transform and publish to subscribers
+        publish(processingBuffer);
         
         // Update statistics
         long processingTime = System.nanoTime() - startTime;
@@ -226,6 +252,37 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
         samplesInBuffer -= samplesConsumed;
     }
 
+    /**
+     * Transforms a window and publishes it to whoever is subscribed. Result subscribers
+     * get a new {@link MODWTResult}; frame subscribers get a pooled frame.
+     */
+    private void publish(double[] window) {
+        if (hasSubscribers()) {
+            submit(transform.forward(window));
+        }
+        if (frames.hasSubscribers()) {
+            CoefficientFrame frame = frames.acquire(bufferSize);
+            transform.forward(window, frame.row(0), frame.row(1));
+            frames.publish(frame);
+        }
+    }
+
+    /**
+     * Publishes the buffered samples, zero padded to a full window.
+     */
+    private void publishRemaining() {
+        int readPos = (writePosition - samplesInBuffer + circularBuffer.length) % circularBuffer.length;
+        
+        for (int i = 0; i < samplesInBuffer; i++) {
+            processingBuffer[i] = circularBuffer[(readPos + i) % circularBuffer.length];
+        }
+        
+        // Zero pad the rest
+        Arrays.fill(processingBuffer, samplesInBuffer, bufferSize, 0.0);
+        
+        publish(processingBuffer);
+    }
+
     @Override
     public synchronized void flush() {
         if (isClosed.get()) {
@@ -234,19 +291,7 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
         
         if (samplesInBuffer > 0) {
             // Process remaining samples with zero padding if needed
-            double[] finalBuffer = new double[bufferSize];
-            int readPos = (writePosition - samplesInBuffer + circularBuffer.length) % circularBuffer.length;
-            
-            for (int i = 0; i < samplesInBuffer; i++) {
-                finalBuffer[i] = circularBuffer[(readPos + i) % circularBuffer.length];
-            }
-            
-            // Zero pad the rest
-            Arrays.fill(finalBuffer, samplesInBuffer, bufferSize, 0.0);
-            
-            // Apply MODWT transform
-            MODWTResult result = transform.forward(finalBuffer);
-            submit(result);
+            publishRemaining();
             
             // Reset buffer
             samplesInBuffer = 0;
@@ -291,25 +336,14 @@ class MODWTStreamingTransformImpl extends SubmissionPublisher<MODWTResult>
             // Process any remaining samples without checking closed state
             if (samplesInBuffer > 0) {
                 // Process remaining samples with zero padding if needed
-                double[] finalBuffer = new double[bufferSize];
-                int readPos = (writePosition - samplesInBuffer + circularBuffer.length) % circularBuffer.length;
-                
-                for (int i = 0; i < samplesInBuffer; i++) {
-                    finalBuffer[i] = circularBuffer[(readPos + i) % circularBuffer.length];
-                }
-                
-                // Zero pad the rest
-                Arrays.fill(finalBuffer, samplesInBuffer, bufferSize, 0.0);
-                
-                // Apply final transform
-                MODWTResult result = transform.forward(finalBuffer);
-                submit(result);
+                publishRemaining();
                 
                 samplesInBuffer = 0;
             }
             
-            // Close the publisher
+            // Close the publishers
             super.close();
+            frames.close();
         }
     }
 
@@ -0,0 +1,519 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.modwt.MODWTFilterBank;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+
+/**
+ * Causal multi-level MODWT over many channels that advance in lockstep.
+ *
+ * <p>Running one {@link CausalMODWTStreamingTransform} per instrument costs a monitor,
+ * a set of delay lines and a few short scalar convolutions per tick and channel. This
+ * transform keeps the delay lines of all channels in Structure-of-Arrays layout, like
+ * {@link ai.prophetizo.wavelet.modwt.BatchSIMDMODWT}: slot t of a level holds the values
+ * of every channel at time t next to each other. A {@link #tick(double[]) tick} then
+ * evaluates each filter tap for a whole vector of channels at once:</p>
+ * <pre>
+ * W<sub>j,t</sub>[c] = &Sigma;<sub>k</sub> h<sub>k</sub> V<sub>j-1,t-k&middot;2<sup>j-1</sup></sub>[c]
+ * V<sub>j,t</sub>[c] = &Sigma;<sub>k</sub> g<sub>k</sub> V<sub>j-1,t-k&middot;2<sup>j-1</sup></sub>[c]
+ * </pre>
+ *
+ * <p>The coefficients of every channel equal those of a causal transform fed with that
+ * channel alone, up to rounding. Each level keeps a ring of 2<sup>n</sup> &ge;
+ * (L - 1)&middot;2<sup>j-1</sup> + 1 rows of {@code channels} values.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MultiChannelStreamingTransform transform =
+ *     new MultiChannelStreamingTransform(Daubechies.DB4, 3, symbols.size());
+ * double[] prices = new double[symbols.size()];
+ * double[] level1 = new double[symbols.size()];
+ *
+ * // On every tick, with the latest price of each symbol
+ * transform.tick(prices);
+ * transform.copyDetails(1, level1);
+ * }</pre>
+ *
+ * <p>Subscribers of a single channel receive its coefficients in pooled frames of
+ * {@code blockSize} ticks, laid out like
+ * {@link MODWTStreamingTransform#subscribeFrames(Flow.Subscriber)}. Channels without
+ * subscribers cost nothing beyond the transform itself.</p>
+ *
+ * <p>Instances are fed by a single producer thread; subscribing is thread-safe.</p>
+ */
+public final class MultiChannelStreamingTransform implements AutoCloseable {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final int channels;
+    private final int levels;
+    private final int blockSize;
+    private final double[] lowPass;
+    private final double[] highPass;
+    private final long settlingSamples;
+    private final PublicationMode publicationMode;
+
+    // Ring of input rows per level: slot s of level j starts at s * channels
+    private final double[][] delayLines;
+    private final int[] ringMasks;
+    private long sampleCount;
+
+    // Newest coefficient rows per level
+    private final double[][] approximations;
+    private final double[][] details;
+
+    // Per-channel frame publishers, created on first subscription
+    private final FramePublisher[] publishers;
+    private volatile int[] publishedChannels = new int[0];
+    private int[] blockChannels = new int[0];
+    private CoefficientFrame[] blockFrames = new CoefficientFrame[0];
+    private int blockFill;
+
+    private boolean closed;
+
+    /**
+     * Creates a transform publishing blocks of 256 ticks.
+     *
+     * @param wavelet  the wavelet to use
+     * @param levels   number of decomposition levels
+     * @param channels number of channels
+     * @throws InvalidArgumentException if the parameters are invalid
+     */
+    public MultiChannelStreamingTransform(Wavelet wavelet, int levels, int channels) {
+        this(wavelet, levels, channels, 256);
+    }
+
+    /**
+     * Creates a transform.
+     *
+     * @param wavelet   the wavelet to use
+     * @param levels    number of decomposition levels
+     * @param channels  number of channels
+     * @param blockSize number of ticks per frame published to channel subscribers
+     * @throws InvalidArgumentException if the parameters are invalid
+     */
+    public MultiChannelStreamingTransform(Wavelet wavelet, int levels, int channels, int blockSize) {
+        this(wavelet, levels, channels, blockSize, PublicationMode.commonPool());
+    }
+
+    /**
+     * Creates a transform with the given publication mode for channel subscribers.
+     *
+     * @param wavelet   the wavelet to use
+     * @param levels    number of decomposition levels
+     * @param channels  number of channels
+     * @param blockSize number of ticks per frame published to channel subscribers
+     * @param mode      how frames are delivered to channel subscribers
+     * @throws InvalidArgumentException if the parameters are invalid
+     */
+    public MultiChannelStreamingTransform(Wavelet wavelet, int levels, int channels, int blockSize,
+                                          PublicationMode mode) {
+        if (mode == null) {
+            throw new InvalidArgumentException("Publication mode cannot be null");
+        }
+        if (wavelet == null) {
+            throw new InvalidArgumentException("Wavelet cannot be null");
+        }
+        if (levels < 1 || levels > 20) {
+            throw new InvalidArgumentException("Levels must be between 1 and 20, got: " + levels);
+        }
+        if (channels <= 0) {
+            throw new InvalidArgumentException("Channel count must be positive, got: " + channels);
+        }
+        if (blockSize <= 0) {
+            throw new InvalidArgumentException("Block size must be positive, got: " + blockSize);
+        }
+
+        MODWTFilterBank.LevelFilters filters = MODWTFilterBank.of(wavelet).decomposition(1);
+        int filterLength = filters.maxLength();
+        // Pad the shorter filter of biorthogonal pairs, so both share one tap loop
+        this.lowPass = Arrays.copyOf(filters.lowPass(), filterLength);
+        this.highPass = Arrays.copyOf(filters.highPass(), filterLength);
+
+        long totalValues = 0;
+        this.ringMasks = new int[levels];
+        for (int j = 0; j < levels; j++) {
+            int span = (filterLength - 1) << j;
+            int rows = Integer.highestOneBit(span) << 1; // > span
+            ringMasks[j] = rows - 1;
+            totalValues += (long) rows * channels;
+        }
+        if (totalValues > Integer.MAX_VALUE / 2) {
+            throw new InvalidArgumentException(
+                "Delay lines for " + channels + " channels and " + levels + " levels are too large");
+        }
+
+        this.channels = channels;
+        this.levels = levels;
+        this.blockSize = blockSize;
+        this.publicationMode = mode;
+        this.settlingSamples = (long) (filterLength - 1) * ((1L << levels) - 1);
+        this.delayLines = new double[levels][];
+        for (int j = 0; j < levels; j++) {
+            delayLines[j] = new double[(ringMasks[j] + 1) * channels];
+        }
+        this.approximations = new double[levels][channels];
+        this.details = new double[levels][channels];
+        this.publishers = new FramePublisher[channels];
+    }
+
+    /**
+     * Advances all channels by one sample.
+     *
+     * @param samples the new sample of each channel; at least {@link #getChannelCount()} values
+     * @throws InvalidArgumentException if samples is null or too short
+     * @throws InvalidStateException    if the transform is closed
+     */
+    public void tick(double[] samples) {
+        if (samples == null || samples.length < channels) {
+            throw new InvalidArgumentException(
+                "Samples must hold " + channels + " values, got: " +
+                (samples == null ? "null" : samples.length));
+        }
+        tick(samples, 0);
+    }
+
+    /**
+     * Advances all channels by {@code ticks} samples given in Structure-of-Arrays layout:
+     * the sample of channel c at tick t is {@code samples[t * channels + c]}.
+     *
+     * @param samples the samples
+     * @param ticks   number of ticks
+     * @throws InvalidArgumentException if samples is null or shorter than ticks * channels
+     * @throws InvalidStateException    if the transform is closed
+     */
+    public void process(double[] samples, int ticks) {
+        if (samples == null || ticks < 0 || (long) ticks * channels > samples.length) {
+            throw new InvalidArgumentException(
+                "Samples must hold " + ticks + " ticks of " + channels + " channels");
+        }
+        for (int t = 0; t < ticks; t++) {
+            tick(samples, t * channels);
+        }
+    }
+
+    private void tick(double[] samples, int offset) {
+        if (closed) {
+            throw InvalidStateException.closed("Transform");
+        }
+        double[] input = samples;
+        int inputOffset = offset;
+        for (int j = 0; j < levels; j++) {
+            filterLevel(j, input, inputOffset);
+            input = approximations[j];
+            inputOffset = 0;
+        }
+        sampleCount++;
+        collect();
+    }
+
+    /**
+     * Appends one input row to a level's ring and filters it for all channels.
+     */
+    private void filterLevel(int j, double[] input, int inputOffset) {
+        double[] line = delayLines[j];
+        int mask = ringMasks[j];
+        int dilation = 1 << j;
+        int slot = (int) (sampleCount & mask);
+        System.arraycopy(input, inputOffset, line, slot * channels, channels);
+
+        double[] low = lowPass;
+        double[] high = highPass;
+        double[] approxOut = approximations[j];
+        double[] detailOut = details[j];
+        int taps = low.length;
+        int bound = SPECIES.loopBound(channels);
+
+        for (int c = 0; c < bound; c += SPECIES.length()) {
+            DoubleVector approx = DoubleVector.zero(SPECIES);
+            DoubleVector detail = DoubleVector.zero(SPECIES);
+            for (int k = 0; k < taps; k++) {
+                int row = ((slot - k * dilation) & mask) * channels;
+                DoubleVector v = DoubleVector.fromArray(SPECIES, line, row + c);
+                approx = approx.add(v.mul(low[k]));
+                detail = detail.add(v.mul(high[k]));
+            }
+            approx.intoArray(approxOut, c);
+            detail.intoArray(detailOut, c);
+        }
+        for (int c = bound; c < channels; c++) {
+            double approx = 0.0;
+            double detail = 0.0;
+            for (int k = 0; k < taps; k++) {
+                double v = line[((slot - k * dilation) & mask) * channels + c];
+                approx += low[k] * v;
+                detail += high[k] * v;
+            }
+            approxOut[c] = approx;
+            detailOut[c] = detail;
+        }
+    }
+
+    /**
+     * Writes the newest coefficients of subscribed channels into their frames and
+     * publishes the frames once a block is complete.
+     */
+    private void collect() {
+        if (blockFill == 0) {
+            startBlock();
+        }
+        CoefficientFrame[] frames = blockFrames;
+        int[] frameChannels = blockChannels;
+        for (int i = 0; i < frameChannels.length; i++) {
+            CoefficientFrame frame = frames[i];
+            if (frame == null) {
+                continue;
+            }
+            int c = frameChannels[i];
+            for (int j = 0; j < levels; j++) {
+                frame.row(2 * j)[blockFill] = approximations[j][c];
+                frame.row(2 * j + 1)[blockFill] = details[j][c];
+            }
+        }
+        if (++blockFill == blockSize) {
+            publishBlock();
+        }
+    }
+
+    private void startBlock() {
+        int[] subscribed = publishedChannels;
+        if (subscribed.length != blockChannels.length) {
+            blockChannels = subscribed;
+            blockFrames = new CoefficientFrame[subscribed.length];
+        }
+        for (int i = 0; i < blockChannels.length; i++) {
+            FramePublisher publisher = publishers[blockChannels[i]];
+            blockFrames[i] = publisher.hasSubscribers() ? publisher.acquire(blockSize) : null;
+        }
+    }
+
+    private void publishBlock() {
+        for (int i = 0; i < blockFrames.length; i++) {
+            CoefficientFrame full = blockFrames[i];
+            if (full == null) {
+                continue;
+            }
+            blockFrames[i] = null;
+            FramePublisher publisher = publishers[blockChannels[i]];
+            if (blockFill < blockSize) {
+                // Partial blocks only occur on flush and close; publish a trimmed copy
+                CoefficientFrame trimmed = publisher.acquire(blockFill);
+                for (int row = 0; row < 2 * levels; row++) {
+                    System.arraycopy(full.row(row), 0, trimmed.row(row), 0, blockFill);
+                }
+                full.release();
+                full = trimmed;
+            }
+            publisher.publish(full);
+        }
+        blockFill = 0;
+    }
+
+    /**
+     * Subscribes to the coefficients of one channel. Row {@code 2(j-1)} of each frame
+     * holds the approximation and row {@code 2(j-1)+1} the detail coefficients of level
+     * {@code j}; the subscriber must release every frame it receives. Subscriptions take
+     * effect at the next block.
+     *
+     * @param channel    the channel index
+     * @param subscriber the frame subscriber
+     * @throws InvalidArgumentException if channel is out of range
+     */
+    public synchronized void subscribe(int channel, Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        checkChannel(channel);
+        if (publishers[channel] == null) {
+            publishers[channel] = new FramePublisher(2 * levels, blockSize, publicationMode);
+            int[] subscribed = Arrays.copyOf(publishedChannels, publishedChannels.length + 1);
+            subscribed[subscribed.length - 1] = channel;
+            publishedChannels = subscribed;
+        }
+        publishers[channel].subscribe(subscriber);
+    }
+
+    /**
+     * Copies the newest detail coefficients of a level for all channels.
+     *
+     * @param level the level (1-based)
+     * @param out   receives channel c at index c
+     * @throws InvalidArgumentException if level is out of range or out is too short
+     */
+    public void copyDetails(int level, double[] out) {
+        checkLevel(level);
+        checkOutput(out);
+        System.arraycopy(details[level - 1], 0, out, 0, channels);
+    }
+
+    /**
+     * Copies the newest approximation coefficients of a level for all channels.
+     *
+     * @param level the level (1-based)
+     * @param out   receives channel c at index c
+     * @throws InvalidArgumentException if level is out of range or out is too short
+     */
+    public void copyApproximations(int level, double[] out) {
+        checkLevel(level);
+        checkOutput(out);
+        System.arraycopy(approximations[level - 1], 0, out, 0, channels);
+    }
+
+    /**
+     * Gets the newest detail coefficient of one channel.
+     *
+     * @param channel the channel index
+     * @param level   the level (1-based)
+     * @return the detail coefficient for the last tick
+     * @throws InvalidArgumentException if channel or level is out of range
+     */
+    public double getDetail(int channel, int level) {
+        checkChannel(channel);
+        checkLevel(level);
+        return details[level - 1][channel];
+    }
+
+    /**
+     * Gets the newest approximation coefficient of one channel.
+     *
+     * @param channel the channel index
+     * @param level   the level (1-based)
+     * @return the approximation coefficient for the last tick
+     * @throws InvalidArgumentException if channel or level is out of range
+     */
+    public double getApproximation(int channel, int level) {
+        checkChannel(channel);
+        checkLevel(level);
+        return approximations[level - 1][channel];
+    }
+
+    private void checkChannel(int channel) {
+        if (channel < 0 || channel >= channels) {
+            throw new InvalidArgumentException(
+                "Channel must be between 0 and " + (channels - 1) + ", got: " + channel);
+        }
+    }
+
+    private void checkLevel(int level) {
+        if (level < 1 || level > levels) {
+            throw new InvalidArgumentException(
+                "Level must be between 1 and " + levels + ", got: " + level);
+        }
+    }
+
+    private void checkOutput(double[] out) {
+        if (out == null || out.length < channels) {
+            throw new InvalidArgumentException(
+                "Output must hold " + channels + " values, got: " + (out == null ? "null" : out.length));
+        }
+    }
+
+    /**
+     * Gets the number of channels.
+     *
+     * @return the channel count
+     */
+    public int getChannelCount() {
+        return channels;
+    }
+
+    /**
+     * Gets the number of decomposition levels.
+     *
+     * @return the number of levels
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Gets the number of ticks processed since creation or the last reset.
+     *
+     * @return the tick count
+     */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Gets the index of the first tick whose coefficients no longer depend on the zero
+     * initial history: (L - 1)(2<sup>J</sup> - 1) for filter length L and J levels.
+     *
+     * @return the settling length in ticks
+     */
+    public long getSettlingSamples() {
+        return settlingSamples;
+    }
+
+    /**
+     * Publishes the partial block to channel subscribers.
+     *
+     * @throws InvalidStateException if the transform is closed
+     */
+    public void flush() {
+        if (closed) {
+            throw InvalidStateException.closed("Transform");
+        }
+        if (blockFill > 0) {
+            publishBlock();
+        }
+    }
+
+    /**
+     * Returns all channels to an all-zero history. A partially collected block is dropped.
+     *
+     * @throws InvalidStateException if the transform is closed
+     */
+    public void reset() {
+        if (closed) {
+            throw InvalidStateException.closed("Transform");
+        }
+        for (int j = 0; j < levels; j++) {
+            Arrays.fill(delayLines[j], 0.0);
+            Arrays.fill(approximations[j], 0.0);
+            Arrays.fill(details[j], 0.0);
+        }
+        for (int i = 0; i < blockFrames.length; i++) {
+            if (blockFrames[i] != null) {
+                blockFrames[i].release();
+                blockFrames[i] = null;
+            }
+        }
+        blockFill = 0;
+        sampleCount = 0;
+    }
+
+    /**
+     * Checks whether the transform is closed.
+     *
+     * @return true if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Publishes the partial block and completes all channel subscriptions.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (blockFill > 0) {
+            publishBlock();
+        }
+        closed = true;
+        synchronized (this) {
+            for (FramePublisher publisher : publishers) {
+                if (publisher != null) {
+                    publisher.close();
+                }
+            }
+        }
+    }
+}
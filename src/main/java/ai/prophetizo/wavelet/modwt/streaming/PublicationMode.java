@@ -0,0 +1,160 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * How the streaming transforms and denoisers deliver items to their subscribers.
+ *
+ * <p>All publishers in the streaming packages are {@link SubmissionPublisher}s, which hand
+ * every subscriber's items to an {@link Executor}. By default that is
+ * {@link ForkJoinPool#commonPool()}, shared with parallel streams and the library's own
+ * parallel transforms. A publication mode selects the executor instead:</p>
+ * <ul>
+ *   <li>{@link #commonPool()}: the default, asynchronous on the common pool.</li>
+ *   <li>{@link #executor(Executor)}: asynchronous on a caller-supplied executor, e.g. a
+ *       dedicated pool that keeps subscribers off the common pool.</li>
+ *   <li>{@link #virtualThreads()}: asynchronous, with each subscriber's delivery task
+ *       running in its own virtual thread, so blocking subscribers do not tie up
+ *       platform threads.</li>
+ *   <li>{@link #synchronous()}: subscribers run on the producer thread inside
+ *       {@code process}, before it returns. Lowest hop latency and no thread handoff, but
+ *       a slow subscriber slows the producer down. Subscribers should request unbounded
+ *       demand, since a full buffer cannot drain while the producer waits on it.</li>
+ * </ul>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(
+ *     Daubechies.DB4, 3, 256, PublicationMode.synchronous());
+ * }</pre>
+ */
+public final class PublicationMode {
+
+    private static final PublicationMode COMMON_POOL =
+        new PublicationMode("commonPool", ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+
+    private static final PublicationMode SYNCHRONOUS =
+        new PublicationMode("synchronous", Runnable::run, Flow.defaultBufferSize());
+
+    private static final ThreadFactory VIRTUAL_THREADS =
+        Thread.ofVirtual().name("streaming-subscriber-", 0).factory();
+
+    private static final PublicationMode VIRTUAL =
+        new PublicationMode("virtualThreads", task -> VIRTUAL_THREADS.newThread(task).start(),
+            Flow.defaultBufferSize());
+
+    private final String name;
+    private final Executor executor;
+    private final int maxBufferCapacity;
+
+    private PublicationMode(String name, Executor executor, int maxBufferCapacity) {
+        this.name = name;
+        this.executor = executor;
+        this.maxBufferCapacity = maxBufferCapacity;
+    }
+
+    /**
+     * Asynchronous delivery on {@link ForkJoinPool#commonPool()}; the default.
+     *
+     * @return the common-pool mode
+     */
+    public static PublicationMode commonPool() {
+        return COMMON_POOL;
+    }
+
+    /**
+     * Asynchronous delivery on the given executor, with the default buffer capacity.
+     *
+     * @param executor the executor running subscriber deliveries
+     * @return the mode
+     * @throws InvalidArgumentException if executor is null
+     */
+    public static PublicationMode executor(Executor executor) {
+        return executor(executor, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Asynchronous delivery on the given executor.
+     *
+     * @param executor          the executor running subscriber deliveries
+     * @param maxBufferCapacity items buffered per subscriber before {@code submit} blocks
+     * @return the mode
+     * @throws InvalidArgumentException if executor is null or maxBufferCapacity is not positive
+     */
+    public static PublicationMode executor(Executor executor, int maxBufferCapacity) {
+        if (executor == null) {
+            throw new InvalidArgumentException("Executor cannot be null");
+        }
+        if (maxBufferCapacity <= 0) {
+            throw new InvalidArgumentException(
+                "Buffer capacity must be positive, got: " + maxBufferCapacity);
+        }
+        return new PublicationMode("executor", executor, maxBufferCapacity);
+    }
+
+    /**
+     * Asynchronous delivery with a virtual thread per subscriber delivery task.
+     *
+     * @return the virtual-thread mode
+     */
+    public static PublicationMode virtualThreads() {
+        return VIRTUAL;
+    }
+
+    /**
+     * Delivery on the producer thread, before {@code process} returns.
+     *
+     * @return the synchronous mode
+     */
+    public static PublicationMode synchronous() {
+        return SYNCHRONOUS;
+    }
+
+    /**
+     * Creates a publisher that delivers according to this mode.
+     *
+     * @param <T> the item type
+     * @return a new publisher
+     */
+    public <T> SubmissionPublisher<T> newPublisher() {
+        return new SubmissionPublisher<>(executor, maxBufferCapacity);
+    }
+
+    /**
+     * Gets the executor running subscriber deliveries.
+     *
+     * @return the executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the number of items buffered per subscriber before {@code submit} blocks.
+     *
+     * @return the buffer capacity
+     */
+    public int getMaxBufferCapacity() {
+        return maxBufferCapacity;
+    }
+
+    /**
+     * Checks whether subscribers run on the producer thread.
+     *
+     * @return true for {@link #synchronous()}
+     */
+    public boolean isSynchronous() {
+        return this == SYNCHRONOUS;
+    }
+
+    @Override
+    public String toString() {
+        return "PublicationMode[" + name + ", buffer=" + maxBufferCapacity + "]";
+    }
+}
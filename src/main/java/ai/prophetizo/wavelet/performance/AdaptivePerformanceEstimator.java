@@ -16,6 +16,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * learning from actual measurements. It automatically recalibrates when
  * the model accuracy degrades.</p>
  * 
+ * <p>Transforms do not record into the estimator on every call. Measurements from
+ * library code arrive through {@link PerformanceTelemetry}, which is opt-in and sampled.</p>
+ * 
  */
 public class AdaptivePerformanceEstimator {
     
@@ -0,0 +1,271 @@
+package ai.prophetizo.wavelet.performance;
+
+import ai.prophetizo.wavelet.util.ThreadLocalManager;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in, sampled feed of measured execution times into the {@link AdaptivePerformanceEstimator}.
+ *
+ * <p>Recording every transform call would make every thread time the call and then update
+ * one shared model. This class keeps the hot path free of that cost:</p>
+ * <ul>
+ *   <li><strong>Off by default:</strong> while disabled, {@link #sample()} is a single
+ *       volatile read, and callers skip timing altogether. Enable it with {@link #enable()}
+ *       or the system property {@code vectorwave.telemetry.enabled=true}.</li>
+ *   <li><strong>Sampled:</strong> when enabled, each thread times only one call in every
+ *       {@link #getSamplingInterval()} calls.</li>
+ *   <li><strong>Thread-local buffering:</strong> sampled measurements go into a per-thread
+ *       buffer. Full buffers are handed to a background thread, which merges them into the
+ *       shared estimator, so callers never touch the shared model.</li>
+ * </ul>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * PerformanceTelemetry.enable(256);      // time 1 in 256 calls per thread
+ * runWorkload();
+ * PerformanceTelemetry.flush();           // merge what is still buffered
+ * System.out.println(AdaptivePerformanceEstimator.getInstance().getAccuracyReport());
+ * }</pre>
+ *
+ * <p>Instrumented call sites follow this pattern:</p>
+ * <pre>{@code
+ * if (PerformanceTelemetry.sample()) {
+ *     long start = System.nanoTime();
+ *     work();
+ *     PerformanceTelemetry.record("MODWT", n, System.nanoTime() - start, vectorized);
+ * } else {
+ *     work();
+ * }
+ * }</pre>
+ *
+ * <p>Buffered measurements of a thread that exits before its buffer fills, or before
+ * {@link #flush()}, are dropped. Batches are also dropped while the merge backlog is
+ * full; telemetry never blocks or slows down the caller.</p>
+ */
+public final class PerformanceTelemetry {
+
+    /** Default sampling interval: one timed call in 64 per thread. */
+    public static final int DEFAULT_SAMPLING_INTERVAL = 64;
+
+    /** Measurements buffered per thread before they are handed to the merger. */
+    private static final int BATCH_CAPACITY = 32;
+
+    /** Maximum number of full batches waiting for the merger. */
+    private static final int MAX_PENDING_BATCHES = 1024;
+
+    private static volatile boolean enabled =
+        Boolean.parseBoolean(System.getProperty("vectorwave.telemetry.enabled", "false"));
+
+    /** Sampling interval minus one; the interval is a power of two. */
+    private static volatile int samplingMask = DEFAULT_SAMPLING_INTERVAL - 1;
+
+    private static final ThreadLocalManager.ManagedThreadLocal<Recorder> RECORDERS =
+        ThreadLocalManager.withInitial(Recorder::new);
+
+    private static final ConcurrentLinkedQueue<Batch> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger PENDING_COUNT = new AtomicInteger();
+    private static final AtomicBoolean MERGE_SCHEDULED = new AtomicBoolean();
+    private static final LongAdder MERGED = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private static final ExecutorService MERGER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "PerformanceTelemetry");
+        t.setDaemon(true); // Daemon thread won't prevent JVM shutdown
+        return t;
+    });
+
+    private PerformanceTelemetry() {
+        // Utility class
+    }
+
+    /**
+     * Checks whether telemetry is enabled.
+     *
+     * @return true if sampled measurements are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables telemetry with the {@link #DEFAULT_SAMPLING_INTERVAL default sampling interval}.
+     */
+    public static void enable() {
+        enable(DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * Enables telemetry, timing one call in every {@code samplingInterval} calls per thread.
+     *
+     * @param samplingInterval the sampling interval; rounded up to a power of two.
+     *        1 records every call.
+     * @throws IllegalArgumentException if samplingInterval is not positive or exceeds 2^30
+     */
+    public static void enable(int samplingInterval) {
+        if (samplingInterval < 1 || samplingInterval > (1 << 30)) {
+            throw new IllegalArgumentException(
+                "Sampling interval must be between 1 and 2^30, got: " + samplingInterval);
+        }
+        int interval = Integer.highestOneBit(samplingInterval);
+        if (interval < samplingInterval) {
+            interval <<= 1;
+        }
+        samplingMask = interval - 1;
+        enabled = true;
+    }
+
+    /**
+     * Disables telemetry. Measurements already buffered stay buffered until {@link #flush()}.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Gets the effective sampling interval.
+     *
+     * @return the number of calls per thread for each timed call
+     */
+    public static int getSamplingInterval() {
+        return samplingMask + 1;
+    }
+
+    /**
+     * Decides whether the calling thread should time its current call.
+     * Returns false without touching any thread-local state while telemetry is disabled.
+     *
+     * @return true if the caller should time the call and {@link #record} the result
+     */
+    public static boolean sample() {
+        if (!enabled) {
+            return false;
+        }
+        return RECORDERS.get().tick(samplingMask);
+    }
+
+    /**
+     * Records a sampled measurement in the calling thread's buffer.
+     *
+     * @param operation the operation type, as used by
+     *        {@link AdaptivePerformanceEstimator#recordMeasurement}
+     * @param inputSize the input size
+     * @param elapsedNanos the measured execution time in nanoseconds
+     * @param vectorized whether the vectorized implementation was used
+     */
+    public static void record(String operation, int inputSize, long elapsedNanos, boolean vectorized) {
+        Recorder recorder = RECORDERS.get();
+        if (recorder.add(operation, inputSize, elapsedNanos / 1_000_000.0, vectorized)) {
+            publish(recorder.drain());
+        }
+    }
+
+    /**
+     * Publishes the calling thread's buffered measurements and merges every pending
+     * batch into the estimator before returning.
+     */
+    public static void flush() {
+        Recorder recorder = RECORDERS.get();
+        if (recorder.size > 0) {
+            publish(recorder.drain());
+        }
+        mergePending();
+    }
+
+    /**
+     * Gets the number of measurements merged into the estimator so far.
+     *
+     * @return the merged measurement count
+     */
+    public static long getMergedCount() {
+        return MERGED.sum();
+    }
+
+    /**
+     * Gets the number of measurements dropped because the merge backlog was full.
+     *
+     * @return the dropped measurement count
+     */
+    public static long getDroppedCount() {
+        return DROPPED.sum();
+    }
+
+    private static void publish(Batch batch) {
+        if (PENDING_COUNT.incrementAndGet() > MAX_PENDING_BATCHES) {
+            PENDING_COUNT.decrementAndGet();
+            DROPPED.add(batch.size);
+            return;
+        }
+        PENDING.offer(batch);
+        if (MERGE_SCHEDULED.compareAndSet(false, true)) {
+            MERGER.execute(() -> {
+                MERGE_SCHEDULED.set(false);
+                mergePending();
+            });
+        }
+    }
+
+    /**
+     * Merges every pending batch. Synchronized so that {@link #flush()} also waits for a
+     * batch the merger thread has already taken from the queue.
+     */
+    private static synchronized void mergePending() {
+        AdaptivePerformanceEstimator estimator = AdaptivePerformanceEstimator.getInstance();
+        Batch batch;
+        while ((batch = PENDING.poll()) != null) {
+            PENDING_COUNT.decrementAndGet();
+            for (int i = 0; i < batch.size; i++) {
+                estimator.recordMeasurement(batch.operations[i], batch.inputSizes[i],
+                    batch.timesMs[i], batch.vectorized[i]);
+            }
+            MERGED.add(batch.size);
+        }
+    }
+
+    /**
+     * Per-thread call counter and measurement buffer.
+     */
+    private static final class Recorder {
+        private long calls;
+        private Batch batch = new Batch();
+        private int size;
+
+        boolean tick(int mask) {
+            return (++calls & mask) == 0;
+        }
+
+        /** Adds a measurement and reports whether the buffer is now full. */
+        boolean add(String operation, int inputSize, double timeMs, boolean vectorized) {
+            batch.operations[size] = operation;
+            batch.inputSizes[size] = inputSize;
+            batch.timesMs[size] = timeMs;
+            batch.vectorized[size] = vectorized;
+            size++;
+            return size == BATCH_CAPACITY;
+        }
+
+        Batch drain() {
+            Batch full = batch;
+            full.size = size;
+            batch = new Batch();
+            size = 0;
+            return full;
+        }
+    }
+
+    /**
+     * A batch of measurements handed from a recording thread to the merger.
+     */
+    private static final class Batch {
+        final String[] operations = new String[BATCH_CAPACITY];
+        final int[] inputSizes = new int[BATCH_CAPACITY];
+        final double[] timesMs = new double[BATCH_CAPACITY];
+        final boolean[] vectorized = new boolean[BATCH_CAPACITY];
+        int size;
+    }
+}
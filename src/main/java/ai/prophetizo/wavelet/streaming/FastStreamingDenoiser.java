@@ -1,7 +1,9 @@
 package ai.prophetizo.wavelet.streaming;
 
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
 import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingDenoiser;
 import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import java.util.Arrays;
 import java.util.concurrent.Flow;
 import java.util.concurrent.SubmissionPublisher;
 
@@ -41,7 +43,7 @@ final class FastStreamingDenoiser implements StreamingDenoiserStrategy {
     
     FastStreamingDenoiser(StreamingDenoiserConfig config) {
         this.config = config;
-        this.publisher = new SubmissionPublisher<>();
+        this.publisher = config.getPublicationMode().newPublisher();
         
         // Create MODWT denoiser with fast settings
         this.denoiser = new MODWTStreamingDenoiser.Builder()
@@ -52,10 +54,11 @@ final class FastStreamingDenoiser implements StreamingDenoiserStrategy {
             .thresholdMultiplier(config.getThresholdMultiplier())
             .noiseEstimation(MODWTStreamingDenoiser.NoiseEstimation.MAD)
             .noiseWindowSize(calculateOptimalNoiseWindowSize(config))
+            .publicationMode(config.getPublicationMode())
             .build();
         
-        // Subscribe to denoiser output and forward to our subscribers
-        this.denoiser.subscribe(new Flow.Subscriber<double[]>() {
+        // Subscribe to denoiser frames and copy them out only for our array subscribers
+        this.denoiser.subscribeFrames(new Flow.Subscriber<CoefficientFrame>() {
             private Flow.Subscription subscription;
             
             @Override
@@ -65,8 +68,14 @@ final class FastStreamingDenoiser implements StreamingDenoiserStrategy {
             }
             
             @Override
-            public void onNext(double[] item) {
-                publisher.submit(item);
+            public void onNext(CoefficientFrame frame) {
+                try {
+                    if (publisher.hasSubscribers()) {
+                        publisher.submit(Arrays.copyOf(frame.row(0), frame.length()));
+                    }
+                } finally {
+                    frame.release();
+                }
             }
             
             @Override
@@ -157,6 +166,11 @@ final class FastStreamingDenoiser implements StreamingDenoiserStrategy {
         publisher.subscribe(subscriber);
     }
     
+    @Override
+    public void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        denoiser.subscribeFrames(subscriber);
+    }
+    
     @Override
     public void close() {
         denoiser.close();
@@ -1,8 +1,9 @@
 package ai.prophetizo.wavelet.streaming;
 
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.modwt.streaming.FramePublisher;
 import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingDenoiser;
 import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
-import ai.prophetizo.wavelet.exception.WaveletTransformException;
 import java.util.Arrays;
 import java.util.concurrent.Flow;
 import java.util.concurrent.SubmissionPublisher;
@@ -10,8 +11,20 @@ import java.util.concurrent.SubmissionPublisher;
 /**
  * Quality implementation of streaming denoiser optimized for SNR improvement.
  * 
- * <p>This implementation uses overlapping blocks and advanced processing
- * to achieve better denoising quality at the cost of higher latency.</p>
+ * <p>This implementation uses weighted overlap-add (WOLA) to achieve better
+ * denoising quality at the cost of higher latency and CPU.</p>
+ * 
+ * <p>Every {@link StreamingDenoiserConfig#getHopSize() hop} of new samples, the latest
+ * {@code blockSize} samples are denoised as one block. The denoised block is weighted by
+ * a precomputed Hann synthesis window and added into an accumulator ring; once no later
+ * block can contribute to the oldest hop, that hop is emitted. The window is normalized
+ * so that the overlapped weights sum to one for the configured hop, which tapers the
+ * boundary artifacts of each block instead of concatenating them.</p>
+ * 
+ * <p><strong>Cost:</strong> with hop {@code H} and block size {@code N}, each input sample
+ * is denoised {@code N / H} times (2× the transform work of the fast strategy at 50%
+ * overlap, 4× at 75%), and output lags input by {@code N - H} samples. Without overlap,
+ * each {@link #process(double[])} call is denoised directly as one block.</p>
  * 
  * <p>Suitable for:</p>
  * <ul>
@@ -24,28 +37,36 @@ import java.util.concurrent.SubmissionPublisher;
 final class QualityStreamingDenoiser implements StreamingDenoiserStrategy {
     
     private final MODWTStreamingDenoiser denoiser;
-    private final StreamingDenoiserConfig config;
     private final SubmissionPublisher<double[]> publisher;
+    private final FramePublisher frames;
     private final PerformanceProfile profile;
     
-    // Overlap processing buffers
+    // Weighted overlap-add state
     private final int blockSize;
-    private final int overlapSize;
-    private final double[] overlapBuffer;
-    private final double[] processBuffer;
-    private final double[] window;
-    private boolean hasOverlap = false;
+    private final int hopSize;
+    private final double[] blockBuffer;      // latest blockSize input samples
+    private final double[] denoisedBuffer;
+    private final double[] window;           // synthesis window, normalized for hopSize
+    private final double[] accumulator;      // ring of blockSize partial output sums
+    private int accumulatorStart;            // ring index of the oldest pending output
+    private int hopFill;                     // new samples in the current hop
+    private long pendingSkip;                // outputs that precede the stream
+    private long samplesIn;
+    private long samplesOut;
     
     QualityStreamingDenoiser(StreamingDenoiserConfig config) {
-        this.config = config;
-        this.publisher = new SubmissionPublisher<>();
+        this.publisher = config.getPublicationMode().newPublisher();
         this.blockSize = config.getBlockSize();
-        this.overlapSize = (int)(blockSize * config.getOverlapFactor());
+        this.hopSize = config.getHopSize();
+        this.frames = new FramePublisher(1, hopSize < blockSize ? hopSize : blockSize,
+            config.getPublicationMode());
         
         // Create buffers for overlap-add processing
-        this.overlapBuffer = new double[overlapSize];
-        this.processBuffer = new double[blockSize];
-        this.window = createWindow(blockSize);
+        this.blockBuffer = new double[blockSize];
+        this.denoisedBuffer = new double[blockSize];
+        this.accumulator = new double[blockSize];
+        this.window = createWindow(blockSize, hopSize);
+        this.pendingSkip = blockSize - hopSize;
         
         // Create MODWT denoiser with quality settings
         this.denoiser = new MODWTStreamingDenoiser.Builder()
@@ -58,129 +79,132 @@ final class QualityStreamingDenoiser implements StreamingDenoiserStrategy {
             .noiseWindowSize(config.getNoiseWindowSize())
             .build();
         
-        // Subscribe to denoiser output
-        this.denoiser.subscribe(new Flow.Subscriber<double[]>() {
-            private Flow.Subscription subscription;
-            
-            @Override
-            public void onSubscribe(Flow.Subscription subscription) {
-                this.subscription = subscription;
-                subscription.request(Long.MAX_VALUE);
-            }
-            
-            @Override
-            public void onNext(double[] item) {
-                processWithOverlap(item);
-            }
-            
-            @Override
-            public void onError(Throwable throwable) {
-                publisher.closeExceptionally(throwable);
-            }
-            
-            @Override
-            public void onComplete() {
-                // Flush any remaining overlap
-                if (hasOverlap && overlapSize > 0) {
-                    publisher.submit(Arrays.copyOf(overlapBuffer, overlapSize));
-                }
-                publisher.close();
-            }
-        });
-        
-        // Create performance profile
-        this.profile = PerformanceProfile.qualityProfile(blockSize, config.getOverlapFactor());
+        // Create performance profile from the effective overlap
+        this.profile = PerformanceProfile.qualityProfile(
+            blockSize, 1.0 - (double) hopSize / blockSize);
     }
     
     @Override
     public void process(double[] samples) {
-        // Process with overlap if configured
-        if (config.getOverlapFactor() > 0) {
-            processWithOverlapAdd(samples);
-        } else {
+        if (hopSize == blockSize) {
             // Direct processing without overlap
-            denoiser.denoise(samples);
+            samplesIn += samples.length;
+            double[] output = samples.length == blockSize ? denoisedBuffer : new double[samples.length];
+            denoiser.denoise(samples, output);
+            samplesOut += samples.length;
+            publish(output, 0, samples.length);
+            return;
         }
-    }
-    
-    private void processWithOverlapAdd(double[] samples) {
-        int pos = 0;
         
+        int pos = 0;
         while (pos < samples.length) {
-            int copySize = Math.min(blockSize, samples.length - pos);
-            
-            // Fill process buffer
-            if (hasOverlap && overlapSize > 0) {
-                // Copy overlap from previous block
-                System.arraycopy(overlapBuffer, 0, processBuffer, 0, overlapSize);
-                // Copy new samples
-                System.arraycopy(samples, pos, processBuffer, overlapSize, 
-                    Math.min(blockSize - overlapSize, copySize));
-            } else {
-                // First block - no overlap yet
-                System.arraycopy(samples, pos, processBuffer, 0, copySize);
-                if (copySize < blockSize) {
-                    Arrays.fill(processBuffer, copySize, blockSize, 0.0);
-                }
-            }
-            
-            // Process the block
-            denoiser.denoise(processBuffer);
-            
-            // Save overlap for next block
-            if (overlapSize > 0 && pos + copySize < samples.length) {
-                System.arraycopy(samples, pos + copySize - overlapSize, 
-                    overlapBuffer, 0, overlapSize);
-                hasOverlap = true;
+            int count = Math.min(hopSize - hopFill, samples.length - pos);
+            System.arraycopy(samples, pos, blockBuffer, blockSize - hopSize + hopFill, count);
+            hopFill += count;
+            samplesIn += count;
+            pos += count;
+            if (hopFill == hopSize) {
+                processBlock();
             }
-            
-            pos += (blockSize - overlapSize);
         }
     }
     
-    private void processWithOverlap(double[] denoisedBlock) {
-        if (config.getOverlapFactor() == 0) {
-            // No overlap - direct output
-            publisher.submit(denoisedBlock);
-            return;
+    /**
+     * Denoises the current block, adds it into the accumulator and emits the oldest hop.
+     */
+    private void processBlock() {
+        denoiser.denoise(blockBuffer, denoisedBuffer);
+        
+        // Overlap-add, in two runs around the end of the ring
+        int firstRun = blockSize - accumulatorStart;
+        for (int i = 0; i < firstRun; i++) {
+            accumulator[accumulatorStart + i] += denoisedBuffer[i] * window[i];
+        }
+        for (int i = firstRun; i < blockSize; i++) {
+            accumulator[i - firstRun] += denoisedBuffer[i] * window[i];
         }
         
-        // Apply window for smooth overlap-add
-        double[] windowed = new double[blockSize];
-        for (int i = 0; i < blockSize; i++) {
-            windowed[i] = denoisedBlock[i] * window[i];
+        // The oldest hop is complete: no later block covers it
+        int skip = (int) Math.min(pendingSkip, hopSize);
+        pendingSkip -= skip;
+        int count = (int) Math.min(hopSize - skip, samplesIn - samplesOut);
+        if (count > 0) {
+            publish(accumulator, (accumulatorStart + skip) % blockSize, count);
+            samplesOut += count;
         }
+        clearAccumulator(accumulatorStart, hopSize);
+        accumulatorStart = (accumulatorStart + hopSize) % blockSize;
         
-        // Output the non-overlapping portion
-        int outputSize = blockSize - overlapSize;
-        double[] output = Arrays.copyOfRange(windowed, 0, outputSize);
-        publisher.submit(output);
+        // Slide the block by one hop
+        System.arraycopy(blockBuffer, hopSize, blockBuffer, 0, blockSize - hopSize);
+        hopFill = 0;
+    }
+    
+    private void clearAccumulator(int from, int length) {
+        int firstRun = Math.min(length, blockSize - from);
+        Arrays.fill(accumulator, from, from + firstRun, 0.0);
+        Arrays.fill(accumulator, 0, length - firstRun, 0.0);
+    }
+    
+    /**
+     * Publishes {@code length} samples of {@code source}, starting at {@code from} and
+     * wrapping around its end. Array subscribers get their own copy; frame subscribers get
+     * a pooled frame.
+     */
+    private void publish(double[] source, int from, int length) {
+        if (publisher.hasSubscribers()) {
+            double[] output = new double[length];
+            copyWrapped(source, from, output, length);
+            publisher.submit(output);
+        }
+        if (frames.hasSubscribers()) {
+            CoefficientFrame frame = frames.acquire(length);
+            copyWrapped(source, from, frame.row(0), length);
+            frames.publish(frame);
+        }
     }
     
-    private double[] createWindow(int size) {
-        // Create a Hann window for overlap-add
+    private static void copyWrapped(double[] source, int from, double[] target, int length) {
+        int firstRun = Math.min(length, source.length - from);
+        System.arraycopy(source, from, target, 0, firstRun);
+        System.arraycopy(source, 0, target, firstRun, length - firstRun);
+    }
+    
+    /**
+     * Creates a periodic Hann synthesis window, scaled so that the windows of all blocks
+     * overlapping any output sample at the given hop sum to one.
+     */
+    private static double[] createWindow(int size, int hop) {
         double[] win = new double[size];
+        if (hop == size) {
+            Arrays.fill(win, 1.0);
+            return win;
+        }
+        for (int i = 0; i < size; i++) {
+            win[i] = 0.5 - 0.5 * Math.cos(2 * Math.PI * i / size);
+        }
+        // Sum of overlapping weights for each phase within a hop
+        double[] overlapSum = new double[hop];
+        for (int i = 0; i < size; i++) {
+            overlapSum[i % hop] += win[i];
+        }
         for (int i = 0; i < size; i++) {
-            win[i] = 0.5 - 0.5 * Math.cos(2 * Math.PI * i / (size - 1));
+            win[i] /= overlapSum[i % hop];
         }
         return win;
     }
     
     @Override
     public void flush() {
-        // Process any remaining overlap buffer
-        if (hasOverlap && overlapSize > 0) {
-            double[] lastBlock = new double[blockSize];
-            System.arraycopy(overlapBuffer, 0, lastBlock, 0, overlapSize);
-            Arrays.fill(lastBlock, overlapSize, blockSize, 0.0);
-            denoiser.denoise(lastBlock);
-        }
-        // Close the denoiser which will trigger onComplete on our subscriber
-        try {
-            denoiser.close();
-        } catch (Exception e) {
-            throw new WaveletTransformException("Failed to close denoiser during flush", e);
+        // Zero-pad until every sample has been emitted
+        if (hopSize < blockSize && !denoiser.isClosed()) {
+            while (samplesOut < samplesIn) {
+                Arrays.fill(blockBuffer, blockSize - hopSize + hopFill, blockSize, 0.0);
+                hopFill = hopSize;
+                processBlock();
+            }
         }
+        close();
     }
     
     @Override
@@ -190,8 +214,8 @@ final class QualityStreamingDenoiser implements StreamingDenoiserStrategy {
     
     @Override
     public MODWTStreamingTransform.StreamingStatistics getStatistics() {
-        // Return basic statistics based on denoiser state
-        final long samples = denoiser.getSamplesProcessed();
+        // Return basic statistics based on input consumed
+        final long samples = samplesIn;
         final long blocks = samples / blockSize;
         
         return new MODWTStreamingTransform.StreamingStatistics() {
@@ -241,9 +265,15 @@ final class QualityStreamingDenoiser implements StreamingDenoiserStrategy {
         publisher.subscribe(subscriber);
     }
     
+    @Override
+    public void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        frames.subscribe(subscriber);
+    }
+    
     @Override
     public void close() {
         denoiser.close();
         publisher.close();
+        frames.close();
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
 import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import ai.prophetizo.wavelet.exception.ErrorContext;
+import ai.prophetizo.wavelet.modwt.streaming.PublicationMode;
 
 /**
  * Configuration for streaming wavelet denoisers.
@@ -19,11 +20,13 @@ public final class StreamingDenoiserConfig {
     private final Wavelet wavelet;
     private final int blockSize;
     private final double overlapFactor;
+    private final int hopSize;
     private final BoundaryMode boundaryMode;
     private final ThresholdMethod thresholdMethod;
     private final ThresholdType thresholdType;
     private final boolean adaptiveThreshold;
     private final double thresholdMultiplier;
+    private final PublicationMode publicationMode;
     
     /**
      * Size of the window used for noise estimation.
@@ -42,24 +45,46 @@ public final class StreamingDenoiserConfig {
         this.wavelet = builder.wavelet;
         this.blockSize = builder.blockSize;
         this.overlapFactor = builder.overlapFactor;
+        this.hopSize = builder.hopSize > 0
+            ? builder.hopSize
+            : builder.blockSize - (int) (builder.blockSize * builder.overlapFactor);
         this.boundaryMode = builder.boundaryMode;
         this.thresholdMethod = builder.thresholdMethod;
         this.thresholdType = builder.thresholdType;
         this.adaptiveThreshold = builder.adaptiveThreshold;
         this.thresholdMultiplier = builder.thresholdMultiplier;
         this.noiseWindowSize = builder.noiseWindowSize;
+        this.publicationMode = builder.publicationMode;
     }
     
     // Getters
     public Wavelet getWavelet() { return wavelet; }
     public int getBlockSize() { return blockSize; }
     public double getOverlapFactor() { return overlapFactor; }
+    
+    /**
+     * Gets the number of new samples between consecutive overlapping blocks.
+     * 
+     * <p>Unless set explicitly, the hop is derived from the overlap factor as
+     * {@code blockSize - (int) (blockSize * overlapFactor)}. A hop equal to the
+     * block size means no overlap.</p>
+     * 
+     * @return the hop size in samples, between 1 and the block size
+     */
+    public int getHopSize() { return hopSize; }
     public BoundaryMode getBoundaryMode() { return boundaryMode; }
     public ThresholdMethod getThresholdMethod() { return thresholdMethod; }
     public ThresholdType getThresholdType() { return thresholdType; }
     public boolean isAdaptiveThreshold() { return adaptiveThreshold; }
     public double getThresholdMultiplier() { return thresholdMultiplier; }
     
+    /**
+     * Gets how denoised blocks are delivered to subscribers.
+     * 
+     * @return the publication mode, {@link PublicationMode#commonPool()} by default
+     */
+    public PublicationMode getPublicationMode() { return publicationMode; }
+    
     /**
      * Gets the size of the window used for noise estimation.
      * 
@@ -110,12 +135,14 @@ public final class StreamingDenoiserConfig {
         private Wavelet wavelet = ai.prophetizo.wavelet.api.Daubechies.DB4;
         private int blockSize = 256;
         private double overlapFactor = 0.5;
+        private int hopSize = 0; // 0 = derived from overlapFactor
         private BoundaryMode boundaryMode = BoundaryMode.PERIODIC;
         private ThresholdMethod thresholdMethod = ThresholdMethod.UNIVERSAL;
         private ThresholdType thresholdType = ThresholdType.SOFT;
         private boolean adaptiveThreshold = false;
         private double thresholdMultiplier = 1.0;
         private int noiseWindowSize = 128;
+        private PublicationMode publicationMode = PublicationMode.commonPool();
         
         public Builder wavelet(Wavelet wavelet) {
             if (wavelet == null) {
@@ -162,6 +189,31 @@ public final class StreamingDenoiserConfig {
             return this;
         }
         
+        /**
+         * Sets the hop size explicitly, overriding the hop derived from the overlap factor.
+         * 
+         * <p>Overlapping implementations denoise one block every {@code hopSize} new
+         * samples, so each sample is processed {@code blockSize / hopSize} times.</p>
+         * 
+         * @param hopSize the number of new samples per block (must be positive and
+         *                no larger than the block size)
+         * @return this builder
+         */
+        public Builder hopSize(int hopSize) {
+            if (hopSize <= 0) {
+                throw new InvalidArgumentException(
+                    ErrorContext.builder("Hop size must be positive")
+                        .withContext("field", "hopSize")
+                        .withContext("value", hopSize)
+                        .withContext("constraint", "positive")
+                        .withSuggestion("Use blockSize / 2 for 50% overlap")
+                        .build()
+                );
+            }
+            this.hopSize = hopSize;
+            return this;
+        }
+        
         public Builder boundaryMode(BoundaryMode boundaryMode) {
             if (boundaryMode == null) {
                 throw new InvalidArgumentException(
@@ -265,6 +317,29 @@ public final class StreamingDenoiserConfig {
             return this;
         }
         
+        /**
+         * Sets how denoised blocks are delivered to subscribers, for example
+         * {@link PublicationMode#synchronous()} to run subscribers on the thread calling
+         * {@code process}.
+         * 
+         * @param mode the publication mode
+         * @return this builder
+         */
+        public Builder publicationMode(PublicationMode mode) {
+            if (mode == null) {
+                throw new InvalidArgumentException(
+                    ErrorContext.builder("Publication mode cannot be null")
+                        .withContext("field", "publicationMode")
+                        .withContext("value", "null")
+                        .withContext("constraint", "non-null")
+                        .withSuggestion("Use PublicationMode.commonPool() for the default behavior")
+                        .build()
+                );
+            }
+            this.publicationMode = mode;
+            return this;
+        }
+        
         public StreamingDenoiserConfig build() {
             // Validate configuration
             if (overlapFactor > 0 && blockSize < 64) {
@@ -279,6 +354,29 @@ public final class StreamingDenoiserConfig {
                 );
             }
             
+            if (hopSize > blockSize) {
+                throw new InvalidArgumentException(
+                    ErrorContext.builder("Hop size cannot exceed block size")
+                        .withContext("field", "hopSize")
+                        .withContext("value", hopSize)
+                        .withContext("constraint", "≤ blockSize")
+                        .withContext("blockSize", blockSize)
+                        .withSuggestion("Use a hop size between 1 and the block size")
+                        .build()
+                );
+            }
+            if (hopSize > 0 && hopSize < blockSize && blockSize < 64) {
+                throw new InvalidArgumentException(
+                    ErrorContext.builder("Block size too small for overlap")
+                        .withContext("field", "blockSize")
+                        .withContext("value", blockSize)
+                        .withContext("constraint", "≥ 64 when using overlap")
+                        .withContext("hopSize", hopSize)
+                        .withSuggestion("Increase block size or disable overlap")
+                        .build()
+                );
+            }
+            
             // Note: No upper bound validation on noiseWindowSize (see noiseWindowSize() JavaDoc for details)
             
             return new StreamingDenoiserConfig(this);
@@ -288,9 +386,9 @@ public final class StreamingDenoiserConfig {
     @Override
     public String toString() {
         return String.format(
-            "StreamingDenoiserConfig[wavelet=%s, blockSize=%d, overlap=%.1f%%, " +
+            "StreamingDenoiserConfig[wavelet=%s, blockSize=%d, overlap=%.1f%%, hop=%d, " +
             "threshold=%s/%s, adaptive=%s, multiplier=%.2f]",
-            wavelet.name(), blockSize, overlapFactor * 100,
+            wavelet.name(), blockSize, overlapFactor * 100, hopSize,
             thresholdMethod, thresholdType, adaptiveThreshold, thresholdMultiplier
         );
     }
@@ -1,5 +1,6 @@
 package ai.prophetizo.wavelet.streaming;
 
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
 import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
 import java.util.concurrent.Flow;
 
@@ -30,6 +31,22 @@ public interface StreamingDenoiserStrategy extends Flow.Publisher<double[]>, Aut
      */
     void process(double[] samples);
     
+    /**
+     * Subscribes to denoised output delivered as pooled, reference-counted frames. Row 0
+     * of each frame holds the output samples. The subscriber must
+     * {@link CoefficientFrame#release() release} every frame it receives.
+     * 
+     * <p>The default implementation throws; the denoisers created by
+     * {@link StreamingDenoiserFactory} override it.</p>
+     * 
+     * @param subscriber the frame subscriber
+     * @throws UnsupportedOperationException if this denoiser does not publish frames
+     */
+    default void subscribeFrames(Flow.Subscriber<? super CoefficientFrame> subscriber) {
+        throw new UnsupportedOperationException(
+            getClass().getName() + " does not publish coefficient frames; use subscribe instead");
+    }
+    
     /**
      * Gets the performance profile of this implementation.
      * 
@@ -71,10 +88,12 @@ public interface StreamingDenoiserStrategy extends Flow.Publisher<double[]>, Aut
         }
         
         /**
-         * Creates a profile for quality processing.
+         * Creates a profile for quality processing. With overlap, every sample is
+         * denoised {@code 1 / (1 - overlap)} times: twice at 50% overlap, four times
+         * at 75%.
          */
         public static PerformanceProfile qualityProfile(int blockSize, double overlap) {
-            double processingFactor = 1.0 + overlap;
+            double processingFactor = 1.0 / (1.0 - overlap);
             return new PerformanceProfile(
                 0.3 * blockSize * processingFactor,  // Higher latency
                 9.0,              // ~9 dB SNR improvement
@@ -0,0 +1,356 @@
+package ai.prophetizo.wavelet.streaming;
+
+import ai.prophetizo.wavelet.concurrent.BackpressurePolicy;
+import ai.prophetizo.wavelet.concurrent.SPSCDoubleRing;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Non-blocking ingestion front for streaming transforms and streaming denoisers.
+ *
+ * <p>Streaming transforms process samples under a lock and publish results through a
+ * {@link java.util.concurrent.SubmissionPublisher}, whose {@code submit} blocks while a
+ * subscriber lags. A feed handler that calls them directly inherits those stalls. The
+ * ingestor puts an {@link SPSCDoubleRing} in between: the feed handler only
+ * {@link #offer(double) offers} samples to the ring, and a dedicated consumer thread
+ * drains it into the target in chunks.</p>
+ *
+ * <ul>
+ *   <li>{@link #offer(double)} is wait-free for every {@link BackpressurePolicy} except
+ *       {@link BackpressurePolicy#BLOCK}.</li>
+ *   <li>Transforms receive whatever has arrived, up to one chunk at a time.</li>
+ *   <li>Denoisers treat every {@code process} call as one block, so they receive
+ *       exactly {@code chunkSize} samples per call; set it to the denoiser's block size.
+ *       A partial chunk is only delivered on {@link #close()}.</li>
+ * </ul>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * MODWTStreamingTransform transform = MODWTStreamingTransform.create(Daubechies.DB4, BoundaryMode.PERIODIC);
+ * try (StreamingIngestor ingestor = StreamingIngestor.builder(transform)
+ *         .capacity(1 << 16)
+ *         .policy(BackpressurePolicy.DROP_OLDEST)
+ *         .build()) {
+ *     // Feed handler thread: never blocks
+ *     ingestor.offer(price);
+ * }
+ * }</pre>
+ *
+ * <p>Only one thread may offer samples. Closing the ingestor delivers everything still
+ * queued and stops the consumer thread; it does not close the target.</p>
+ */
+public final class StreamingIngestor implements AutoCloseable {
+
+    /** Empty polls spent spinning before the consumer starts yielding. */
+    private static final int IDLE_SPINS = 64;
+
+    /** Empty polls spent yielding before the consumer starts parking. */
+    private static final int IDLE_YIELDS = 16;
+
+    /**
+     * Receiver of drained chunks, called on the consumer thread.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Processes {@code samples[0, length)}. The array is reused for the next chunk,
+         * so it must not be retained.
+         *
+         * @param samples the chunk buffer
+         * @param length  the number of valid samples
+         */
+        void accept(double[] samples, int length);
+    }
+
+    private final SPSCDoubleRing ring;
+    private final Sink sink;
+    private final int chunkSize;
+    private final boolean fullChunksOnly;
+    private final long idleParkNanos;
+    private final Thread consumer;
+
+    private volatile boolean closed;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private StreamingIngestor(Builder builder) {
+        this.ring = new SPSCDoubleRing(builder.capacity, builder.policy, builder.overflowHandler);
+        this.sink = builder.sink;
+        this.chunkSize = builder.chunkSize;
+        this.fullChunksOnly = builder.fullChunksOnly;
+        this.idleParkNanos = builder.idleParkNanos;
+        this.consumer = new Thread(this::consume, "StreamingIngestor");
+        this.consumer.setDaemon(true); // Daemon thread won't prevent JVM shutdown
+        this.consumer.start();
+    }
+
+    /**
+     * Creates a builder feeding a streaming transform.
+     *
+     * @param transform the target transform
+     * @return a new builder
+     * @throws InvalidArgumentException if transform is null
+     */
+    public static Builder builder(MODWTStreamingTransform transform) {
+        if (transform == null) {
+            throw new InvalidArgumentException("Transform cannot be null");
+        }
+        return new Builder((samples, length) -> {
+            if (length == samples.length) {
+                transform.process(samples);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    transform.processSample(samples[i]);
+                }
+            }
+        }, false);
+    }
+
+    /**
+     * Creates a builder feeding a streaming denoiser. Set {@link Builder#chunkSize(int)}
+     * to the denoiser's block size.
+     *
+     * @param denoiser the target denoiser
+     * @return a new builder
+     * @throws InvalidArgumentException if denoiser is null
+     */
+    public static Builder builder(StreamingDenoiserStrategy denoiser) {
+        if (denoiser == null) {
+            throw new InvalidArgumentException("Denoiser cannot be null");
+        }
+        return new Builder((samples, length) ->
+            denoiser.process(length == samples.length ? samples : Arrays.copyOf(samples, length)), true);
+    }
+
+    /**
+     * Creates a builder feeding a custom sink.
+     *
+     * @param sink the target sink
+     * @return a new builder
+     * @throws InvalidArgumentException if sink is null
+     */
+    public static Builder builder(Sink sink) {
+        if (sink == null) {
+            throw new InvalidArgumentException("Sink cannot be null");
+        }
+        return new Builder(sink, false);
+    }
+
+    /**
+     * Offers a sample. Call from a single producer thread.
+     *
+     * @param sample the sample
+     * @return true if the sample was queued; false if the backpressure policy dropped
+     *         or rejected it
+     * @throws InvalidStateException if the ingestor is closed
+     */
+    public boolean offer(double sample) {
+        if (closed) {
+            throw InvalidStateException.closed("Ingestor");
+        }
+        return ring.offer(sample);
+    }
+
+    private void consume() {
+        double[] chunk = new double[chunkSize];
+        int fill = 0;
+        int idle = 0;
+        while (true) {
+            int n = ring.drain(chunk, fill, chunkSize - fill);
+            if (n > 0) {
+                fill += n;
+                idle = 0;
+                if (fill == chunkSize || !fullChunksOnly) {
+                    deliver(chunk, fill);
+                    fill = 0;
+                }
+            } else if (closed) {
+                // The producer has stopped; a last drain can still find late samples
+                if (ring.isEmpty()) {
+                    break;
+                }
+            } else if (idle < IDLE_SPINS) {
+                idle++;
+                Thread.onSpinWait();
+            } else if (idle < IDLE_SPINS + IDLE_YIELDS) {
+                idle++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, idleParkNanos);
+            }
+        }
+        if (fill > 0) {
+            deliver(chunk, fill);
+        }
+    }
+
+    private void deliver(double[] chunk, int length) {
+        try {
+            sink.accept(chunk, length);
+        } catch (RuntimeException e) {
+            // Keep draining so that a blocked producer can always make progress
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Gets the number of samples dropped or rejected because the ring was full.
+     *
+     * @return the dropped sample count
+     */
+    public long getDroppedCount() {
+        return ring.getDroppedCount();
+    }
+
+    /**
+     * Gets the number of samples waiting for the consumer thread.
+     *
+     * @return the queued sample count
+     */
+    public int getQueuedCount() {
+        return ring.size();
+    }
+
+    /**
+     * Gets the first exception thrown by the target, if any. Later chunks are still
+     * delivered after a failure.
+     *
+     * @return the first failure, or null
+     */
+    public RuntimeException getFailure() {
+        return failure.get();
+    }
+
+    /**
+     * Delivers all queued samples and stops the consumer thread. Call from the producer
+     * thread, after its last offer.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(consumer);
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Builder for {@link StreamingIngestor}.
+     */
+    public static final class Builder {
+        private final Sink sink;
+        private final boolean fullChunksOnly;
+        private int capacity = 1 << 16;
+        private int chunkSize = 256;
+        private BackpressurePolicy policy = BackpressurePolicy.DROP_OLDEST;
+        private DoubleConsumer overflowHandler;
+        private long idleParkNanos = 50_000;
+
+        private Builder(Sink sink, boolean fullChunksOnly) {
+            this.sink = sink;
+            this.fullChunksOnly = fullChunksOnly;
+        }
+
+        /**
+         * Sets the ring capacity in samples, rounded up to a power of two. Default 65536.
+         *
+         * @param capacity the capacity
+         * @return this builder
+         * @throws InvalidArgumentException if capacity is not between 2 and 2^30
+         */
+        public Builder capacity(int capacity) {
+            if (capacity < 2 || capacity > (1 << 30)) {
+                throw new InvalidArgumentException(
+                    "Capacity must be between 2 and 2^30, got: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of samples handed to the target at once. Default 256.
+         *
+         * @param chunkSize the chunk size
+         * @return this builder
+         * @throws InvalidArgumentException if chunkSize is not positive
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new InvalidArgumentException("Chunk size must be positive, got: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets what happens to a new sample when the ring is full. Default
+         * {@link BackpressurePolicy#DROP_OLDEST}.
+         *
+         * @param policy the backpressure policy
+         * @return this builder
+         * @throws InvalidArgumentException if policy is null
+         */
+        public Builder policy(BackpressurePolicy policy) {
+            if (policy == null) {
+                throw new InvalidArgumentException("Backpressure policy cannot be null");
+            }
+            this.policy = policy;
+            return this;
+        }
+
+        /**
+         * Sets the handler that receives samples rejected under
+         * {@link BackpressurePolicy#SIGNAL}. It runs on the producer thread.
+         *
+         * @param overflowHandler the handler, or null to only count rejected samples
+         * @return this builder
+         */
+        public Builder overflowHandler(DoubleConsumer overflowHandler) {
+            this.overflowHandler = overflowHandler;
+            return this;
+        }
+
+        /**
+         * Sets how long the idle consumer thread parks between polls, after spinning and
+         * yielding. Shorter times cut the latency after a quiet period at the cost of CPU.
+         * Default 50 µs.
+         *
+         * @param idleParkNanos the park time in nanoseconds
+         * @return this builder
+         * @throws InvalidArgumentException if idleParkNanos is not positive
+         */
+        public Builder idleParkNanos(long idleParkNanos) {
+            if (idleParkNanos <= 0) {
+                throw new InvalidArgumentException(
+                    "Idle park time must be positive, got: " + idleParkNanos);
+            }
+            this.idleParkNanos = idleParkNanos;
+            return this;
+        }
+
+        /**
+         * Creates the ingestor and starts its consumer thread.
+         *
+         * @return a new ingestor
+         */
+        public StreamingIngestor build() {
+            return new StreamingIngestor(this);
+        }
+    }
+}
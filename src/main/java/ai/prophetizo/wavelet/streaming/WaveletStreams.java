@@ -0,0 +1,456 @@
+package ai.prophetizo.wavelet.streaming;
+
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.cwt.CWTResult;
+import ai.prophetizo.wavelet.cwt.CWTTransform;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MutableMultiLevelMODWTResultImpl;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingDenoiser;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.PublicationMode;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy, chunk-by-chunk wavelet stages for {@link Stream} pipelines.
+ *
+ * <p>Each stage turns a stream of sample chunks into a stream of results, pulling one
+ * chunk at a time from its source and holding only the state it needs between chunks,
+ * so unbounded sources run in bounded memory:</p>
+ * <ul>
+ *   <li>{@link #modwt(Stream, Wavelet, int)}: causal multi-level MODWT, one result per
+ *       chunk, carrying the filter history across chunks.</li>
+ *   <li>{@link #denoise(Stream, MODWTStreamingDenoiser)}: MODWT denoising with the
+ *       denoiser's running noise estimate, one denoised block per chunk.</li>
+ *   <li>{@link #cwt(Stream, CWTTransform, double[])}: sliding-window CWT at selected
+ *       scales. A chunk is emitted once the samples the wavelet reaches past its end
+ *       have arrived, so output lags input by one wavelet half-support.</li>
+ * </ul>
+ * <p>These stages keep state, so they consume their source sequentially even inside a
+ * parallel pipeline. For a signal already in memory, {@link #modwt(double[], Wavelet, int, int)}
+ * and {@link #cwt(double[], CWTTransform, double[], int)} split the signal into chunks
+ * that are computed independently: every chunk reads the samples before it (and for
+ * the CWT, after it) as a halo, so results are the same sequentially and in parallel.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Stream<MultiLevelMODWTResult> results =
+ *     WaveletStreams.modwt(WaveletStreams.chunks(prices, 256), Daubechies.DB4, 3);
+ *
+ * double[] energy = WaveletStreams.modwt(signal, Daubechies.DB4, 3, 4096)
+ *     .parallel()
+ *     .mapToDouble(MultiLevelMODWTResult::getTotalEnergy)
+ *     .toArray();
+ * }</pre>
+ */
+public final class WaveletStreams {
+
+    /** Block size of the internal causal transforms, which have no subscribers. */
+    private static final int CAUSAL_BLOCK_SIZE = 256;
+
+    private WaveletStreams() {
+        // Utility class
+    }
+
+    /**
+     * Groups samples into chunks, lazily.
+     *
+     * @param samples   the samples
+     * @param chunkSize the number of samples per chunk; the last chunk may be shorter
+     * @return a sequential stream of chunks
+     * @throws InvalidArgumentException if samples is null or chunkSize is not positive
+     */
+    public static Stream<double[]> chunks(DoubleStream samples, int chunkSize) {
+        if (samples == null) {
+            throw new InvalidArgumentException("Samples cannot be null");
+        }
+        requirePositiveChunkSize(chunkSize);
+        Spliterator.OfDouble source = samples.spliterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<double[]>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super double[]> action) {
+                double[] chunk = new double[chunkSize];
+                int[] count = new int[1];
+                while (count[0] < chunkSize && source.tryAdvance((double sample) -> chunk[count[0]++] = sample)) {
+                    // Filled by the consumer
+                }
+                if (count[0] == 0) {
+                    return false;
+                }
+                action.accept(count[0] == chunkSize ? chunk : Arrays.copyOf(chunk, count[0]));
+                return true;
+            }
+        }, false).onClose(samples::close);
+    }
+
+    /**
+     * Causal multi-level MODWT of a chunked signal.
+     *
+     * <p>The coefficients are those of a {@link CausalMODWTStreamingTransform} fed the
+     * whole signal; each result holds the coefficients of one chunk's samples.</p>
+     *
+     * @param chunks  the signal in chunks
+     * @param wavelet the wavelet
+     * @param levels  the number of levels
+     * @return a stream with one result per non-empty chunk
+     * @throws InvalidArgumentException if an argument is null or levels is invalid
+     */
+    public static Stream<MultiLevelMODWTResult> modwt(Stream<double[]> chunks, Wavelet wavelet, int levels) {
+        requireChunks(chunks);
+        CausalMODWTStreamingTransform transform = createCausal(wavelet, levels);
+        return stage(chunks, new Stage<>() {
+            @Override
+            public void push(double[] chunk, Consumer<MultiLevelMODWTResult> downstream) {
+                if (chunk.length > 0) {
+                    downstream.accept(transformChunk(transform, chunk, 0, 0, chunk.length));
+                }
+            }
+
+            @Override
+            public void finish(Consumer<MultiLevelMODWTResult> downstream) {
+                transform.close();
+            }
+        });
+    }
+
+    /**
+     * Causal multi-level MODWT of an in-memory signal, computed chunk by chunk.
+     *
+     * <p>The stream is splittable: each chunk primes a fresh transform with the
+     * {@link CausalMODWTStreamingTransform#getSettlingSamples() settling samples} before
+     * it, which is exactly the history its coefficients depend on. Results equal those of
+     * {@link #modwt(Stream, Wavelet, int)} over the same chunks, in any execution mode.</p>
+     *
+     * @param signal    the signal
+     * @param wavelet   the wavelet
+     * @param levels    the number of levels
+     * @param chunkSize the number of samples per chunk; the last chunk may be shorter
+     * @return a sized stream with one result per chunk
+     * @throws InvalidArgumentException if an argument is null or invalid
+     */
+    public static Stream<MultiLevelMODWTResult> modwt(double[] signal, Wavelet wavelet, int levels, int chunkSize) {
+        requireSignal(signal);
+        requirePositiveChunkSize(chunkSize);
+        int halo;
+        try (CausalMODWTStreamingTransform probe = createCausal(wavelet, levels)) {
+            halo = (int) Math.min(probe.getSettlingSamples(), signal.length);
+        }
+        return chunked(signal.length, chunkSize, start -> {
+            int end = Math.min(start + chunkSize, signal.length);
+            try (CausalMODWTStreamingTransform transform = createCausal(wavelet, levels)) {
+                int from = Math.max(0, start - halo);
+                return transformChunk(transform, signal, from, start - from, end - from);
+            }
+        });
+    }
+
+    /**
+     * Denoises a chunked signal, one block per chunk.
+     *
+     * <p>Every chunk is passed to {@link MODWTStreamingDenoiser#denoise(double[])}, so the
+     * denoiser's noise estimate carries over from chunk to chunk. The denoiser is not
+     * closed when the stream ends.</p>
+     *
+     * @param chunks   the signal in chunks
+     * @param denoiser the denoiser
+     * @return a stream with one denoised block per non-empty chunk
+     * @throws InvalidArgumentException if an argument is null
+     */
+    public static Stream<double[]> denoise(Stream<double[]> chunks, MODWTStreamingDenoiser denoiser) {
+        requireChunks(chunks);
+        if (denoiser == null) {
+            throw new InvalidArgumentException("Denoiser cannot be null");
+        }
+        return stage(chunks, new Stage<>() {
+            @Override
+            public void push(double[] chunk, Consumer<double[]> downstream) {
+                if (chunk.length > 0) {
+                    downstream.accept(denoiser.denoise(chunk));
+                }
+            }
+
+            @Override
+            public void finish(Consumer<double[]> downstream) {
+                // Nothing buffered
+            }
+        });
+    }
+
+    /**
+     * Sliding-window CWT of a chunked signal at the given scales.
+     *
+     * <p>Each chunk is analyzed together with a halo of one
+     * {@link CWTTransform#getMaxWaveletSupport(double[]) wavelet support} on either side,
+     * and the halo columns are dropped. Coefficients therefore match
+     * {@link CWTTransform#analyze(double[], double[])} of the whole signal whenever the
+     * transform takes the same convolution path for windows as for the whole signal,
+     * e.g. with FFT disabled. The stage buffers at most two halos plus the chunks waiting
+     * for their trailing halo.</p>
+     *
+     * @param chunks    the signal in chunks
+     * @param transform the CWT transform
+     * @param scales    the scales to analyze
+     * @return a stream with one result per non-empty chunk
+     * @throws InvalidArgumentException if an argument is null or scales is empty
+     */
+    public static Stream<CWTResult> cwt(Stream<double[]> chunks, CWTTransform transform, double[] scales) {
+        requireChunks(chunks);
+        int halo = cwtHalo(transform, scales);
+        double[] scaleCopy = scales.clone();
+        return stage(chunks, new SlidingCWTStage(transform, scaleCopy, halo));
+    }
+
+    /**
+     * Sliding-window CWT of an in-memory signal, computed chunk by chunk.
+     *
+     * <p>The stream is splittable; each chunk reads its halo directly from the signal, so
+     * results equal those of {@link #cwt(Stream, CWTTransform, double[])} over the same
+     * chunks, in any execution mode.</p>
+     *
+     * @param signal    the signal
+     * @param transform the CWT transform
+     * @param scales    the scales to analyze
+     * @param chunkSize the number of samples per chunk; the last chunk may be shorter
+     * @return a sized stream with one result per chunk
+     * @throws InvalidArgumentException if an argument is null or invalid
+     */
+    public static Stream<CWTResult> cwt(double[] signal, CWTTransform transform, double[] scales, int chunkSize) {
+        requireSignal(signal);
+        requirePositiveChunkSize(chunkSize);
+        int halo = cwtHalo(transform, scales);
+        double[] scaleCopy = scales.clone();
+        return chunked(signal.length, chunkSize, start -> {
+            int end = Math.min(start + chunkSize, signal.length);
+            int from = Math.max(0, start - halo);
+            int to = Math.min(signal.length, end + halo);
+            return analyzeWindow(transform, scaleCopy, Arrays.copyOfRange(signal, from, to),
+                start - from, end - start);
+        });
+    }
+
+    /**
+     * A stateful step from chunks to results; the sequential counterpart of a stream
+     * gatherer's integrator and finisher.
+     */
+    private interface Stage<R> {
+        void push(double[] chunk, Consumer<R> downstream);
+
+        void finish(Consumer<R> downstream);
+    }
+
+    private static <R> Stream<R> stage(Stream<double[]> chunks, Stage<R> stage) {
+        Spliterator<double[]> source = chunks.spliterator();
+        ArrayDeque<R> pending = new ArrayDeque<>();
+        Spliterator<R> results = new Spliterators.AbstractSpliterator<R>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean finished;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                while (pending.isEmpty()) {
+                    if (finished) {
+                        return false;
+                    }
+                    if (!source.tryAdvance(chunk -> stage.push(chunk, pending::add))) {
+                        finished = true;
+                        stage.finish(pending::add);
+                    }
+                }
+                action.accept(pending.poll());
+                return true;
+            }
+        };
+        return StreamSupport.stream(results, chunks.isParallel()).onClose(chunks::close);
+    }
+
+    private static <R> Stream<R> chunked(int length, int chunkSize, IntFunction<R> chunk) {
+        int count = (length + chunkSize - 1) / chunkSize;
+        return StreamSupport.stream(new ChunkSpliterator<>(0, count, chunkSize, chunk), false);
+    }
+
+    /**
+     * Splits a range of chunk indices; every chunk is computed on its own.
+     */
+    private static final class ChunkSpliterator<R> implements Spliterator<R> {
+        private final int chunkSize;
+        private final IntFunction<R> chunk;
+        private int index;
+        private final int fence;
+
+        ChunkSpliterator(int index, int fence, int chunkSize, IntFunction<R> chunk) {
+            this.index = index;
+            this.fence = fence;
+            this.chunkSize = chunkSize;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(chunk.apply(index++ * chunkSize));
+            return true;
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<R> prefix = new ChunkSpliterator<>(index, mid, chunkSize, chunk);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Buffers the samples from one halo before the oldest pending chunk up to the newest
+     * sample, and emits the oldest chunk once a halo past its end has arrived.
+     */
+    private static final class SlidingCWTStage implements Stage<CWTResult> {
+        private final CWTTransform transform;
+        private final double[] scales;
+        private final int halo;
+        private final ArrayDeque<Integer> pendingLengths = new ArrayDeque<>();
+        private double[] buffer = new double[64];
+        private int buffered;
+        /** Absolute sample index of buffer[0]. */
+        private long bufferStart;
+        /** Absolute sample index of the first sample not yet emitted. */
+        private long emitted;
+
+        SlidingCWTStage(CWTTransform transform, double[] scales, int halo) {
+            this.transform = transform;
+            this.scales = scales;
+            this.halo = halo;
+        }
+
+        @Override
+        public void push(double[] chunk, Consumer<CWTResult> downstream) {
+            if (chunk.length == 0) {
+                return;
+            }
+            if (buffered + chunk.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, buffered + chunk.length));
+            }
+            System.arraycopy(chunk, 0, buffer, buffered, chunk.length);
+            buffered += chunk.length;
+            pendingLengths.add(chunk.length);
+
+            while (!pendingLengths.isEmpty()
+                    && bufferStart + buffered >= emitted + pendingLengths.peek() + halo) {
+                emit(pendingLengths.poll(), downstream);
+            }
+        }
+
+        @Override
+        public void finish(Consumer<CWTResult> downstream) {
+            while (!pendingLengths.isEmpty()) {
+                emit(pendingLengths.poll(), downstream);
+            }
+        }
+
+        private void emit(int length, Consumer<CWTResult> downstream) {
+            int offset = (int) (emitted - bufferStart);
+            int to = (int) Math.min(buffered, offset + length + (long) halo);
+            downstream.accept(analyzeWindow(transform, scales, Arrays.copyOf(buffer, to), offset, length));
+            emitted += length;
+
+            // Keep one halo before the next chunk
+            int discard = (int) Math.max(0, emitted - halo - bufferStart);
+            System.arraycopy(buffer, discard, buffer, 0, buffered - discard);
+            buffered -= discard;
+            bufferStart += discard;
+        }
+    }
+
+    private static CWTResult analyzeWindow(CWTTransform transform, double[] scales, double[] window,
+                                           int offset, int length) {
+        double[][] coefficients = transform.analyze(window, scales).getCoefficients();
+        double[][] cropped = new double[scales.length][];
+        for (int s = 0; s < scales.length; s++) {
+            cropped[s] = Arrays.copyOfRange(coefficients[s], offset, offset + length);
+        }
+        return new CWTResult(cropped, scales, transform.getWavelet());
+    }
+
+    private static MultiLevelMODWTResult transformChunk(CausalMODWTStreamingTransform transform,
+                                                        double[] samples, int from, int skip, int to) {
+        int levels = transform.getLevels();
+        double[] details = new double[levels];
+        for (int i = from; i < from + skip; i++) {
+            transform.processSample(samples[i], details);
+        }
+        int length = to - skip;
+        double[][] detailCoeffs = new double[levels][length];
+        double[] approximation = new double[length];
+        for (int i = 0; i < length; i++) {
+            approximation[i] = transform.processSample(samples[from + skip + i], details);
+            for (int level = 0; level < levels; level++) {
+                detailCoeffs[level][i] = details[level];
+            }
+        }
+        MutableMultiLevelMODWTResultImpl result = new MutableMultiLevelMODWTResultImpl(length, levels);
+        for (int level = 1; level <= levels; level++) {
+            result.setDetailCoeffs(level, detailCoeffs[level - 1]);
+        }
+        result.setApproximationCoeffs(approximation);
+        return result;
+    }
+
+    private static CausalMODWTStreamingTransform createCausal(Wavelet wavelet, int levels) {
+        return MODWTStreamingTransform.createCausal(wavelet, levels,
+            CAUSAL_BLOCK_SIZE, PublicationMode.synchronous());
+    }
+
+    private static int cwtHalo(CWTTransform transform, double[] scales) {
+        if (transform == null) {
+            throw new InvalidArgumentException("Transform cannot be null");
+        }
+        if (scales == null || scales.length == 0) {
+            throw new InvalidArgumentException("Scales cannot be null or empty");
+        }
+        return transform.getMaxWaveletSupport(scales) + 1;
+    }
+
+    private static void requireChunks(Stream<double[]> chunks) {
+        if (chunks == null) {
+            throw new InvalidArgumentException("Chunks cannot be null");
+        }
+    }
+
+    private static void requireSignal(double[] signal) {
+        if (signal == null || signal.length == 0) {
+            throw new InvalidArgumentException("Signal cannot be null or empty");
+        }
+    }
+
+    private static void requirePositiveChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new InvalidArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+    }
+}
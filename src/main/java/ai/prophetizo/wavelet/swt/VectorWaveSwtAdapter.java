@@ -1,10 +1,13 @@
 package ai.prophetizo.wavelet.swt;
 
+import ai.prophetizo.wavelet.WaveletOperations;
 import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.DiscreteWavelet;
 import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.modwt.MODWTFilterBank;
 import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
 import ai.prophetizo.wavelet.modwt.MutableMultiLevelMODWTResult;
+import ai.prophetizo.wavelet.util.MathUtils;
 
 import java.util.Map;
 import java.util.Objects;
@@ -66,52 +69,15 @@ public class VectorWaveSwtAdapter {
     
     // Internal optimizations - not exposed in public API
     private static final int PARALLEL_THRESHOLD = 4096;
-    private static final int MAX_CACHED_FILTERS = 10;
     
-    // Cache for precomputed upsampled filters (à trous algorithm)
-    private final Map<Integer, FilterCache> filterCaches = new ConcurrentHashMap<>();
+    // Shared MODWT filters for every level; levels apply them with à trous dilation
+    // instead of upsampling. Dropped by cleanup().
+    private volatile MODWTFilterBank filterBank;
     
     // Optional parallel executor for large signals
     private volatile ExecutorService parallelExecutor;
     private final Object executorLock = new Object();
     
-    /**
-     * Internal cache for precomputed à trous filters at different levels.
-     * This optimization avoids recomputing upsampled filters for each transform.
-     */
-    private static class FilterCache {
-        final double[] upsampledLowPass;
-        final double[] upsampledHighPass;
-        final double[] upsampledLowPassRecon;
-        final double[] upsampledHighPassRecon;
-        
-        FilterCache(DiscreteWavelet wavelet, int level) {
-            // Precompute upsampled filters for à trous algorithm
-            int spacing = 1 << level; // 2^level
-            
-            this.upsampledLowPass = upsample(wavelet.lowPassDecomposition(), spacing);
-            this.upsampledHighPass = upsample(wavelet.highPassDecomposition(), spacing);
-            this.upsampledLowPassRecon = upsample(wavelet.lowPassReconstruction(), spacing);
-            this.upsampledHighPassRecon = upsample(wavelet.highPassReconstruction(), spacing);
-        }
-        
-        private static double[] upsample(double[] filter, int spacing) {
-            if (spacing == 1) {
-                return filter.clone();
-            }
-            
-            int origLength = filter.length;
-            int newLength = (origLength - 1) * spacing + 1;
-            double[] upsampled = new double[newLength];
-            
-            for (int i = 0; i < origLength; i++) {
-                upsampled[i * spacing] = filter[i];
-            }
-            
-            return upsampled;
-        }
-    }
-    
     /**
      * Creates a new SWT adapter with specified wavelet and boundary handling.
      * 
@@ -124,20 +90,9 @@ public class VectorWaveSwtAdapter {
         this.boundaryMode = Objects.requireNonNull(boundaryMode, "Boundary mode cannot be null");
         this.modwtTransform = new MultiLevelMODWTTransform(wavelet, boundaryMode);
         
-        // Precompute filters for common levels (1-5) if using discrete wavelet
+        // Hold the precomputed filters if using discrete wavelet
         if (wavelet instanceof DiscreteWavelet) {
-            precomputeCommonFilters((DiscreteWavelet) wavelet);
-        }
-    }
-    
-    /**
-     * Precomputes upsampled filters for common decomposition levels.
-     * This internal optimization speeds up repeated transforms.
-     */
-    private void precomputeCommonFilters(DiscreteWavelet discreteWavelet) {
-        // Precompute for levels 0-4 (most common in practice)
-        for (int level = 0; level < 5 && filterCaches.size() < MAX_CACHED_FILTERS; level++) {
-            filterCaches.computeIfAbsent(level, l -> new FilterCache(discreteWavelet, l));
+            this.filterBank = MODWTFilterBank.of(wavelet);
         }
     }
     
@@ -375,20 +330,10 @@ public class VectorWaveSwtAdapter {
      * @return estimated noise standard deviation
      */
     private static double estimateNoiseSigma(double[] coeffs) {
-        // Calculate absolute values
+        // Median of the absolute values, selected in place in one working copy
         double[] absCoeffs = new double[coeffs.length];
-        for (int i = 0; i < coeffs.length; i++) {
-            absCoeffs[i] = Math.abs(coeffs[i]);
-        }
-        
-        // Find median
-        java.util.Arrays.sort(absCoeffs);
-        double median;
-        if (absCoeffs.length % 2 == 0) {
-            median = (absCoeffs[absCoeffs.length / 2 - 1] + absCoeffs[absCoeffs.length / 2]) / 2.0;
-        } else {
-            median = absCoeffs[absCoeffs.length / 2];
-        }
+        WaveletOperations.abs(coeffs, absCoeffs, coeffs.length);
+        double median = MathUtils.medianInPlace(absCoeffs, 0, absCoeffs.length);
         
         // MAD estimator for Gaussian noise
         return median / 0.6745;
@@ -400,8 +345,8 @@ public class VectorWaveSwtAdapter {
      * The adapter remains functional after cleanup but may be slower.
      */
     public void cleanup() {
-        // Clear filter cache
-        filterCaches.clear();
+        // Release the filter bank
+        filterBank = null;
         
         // Shutdown parallel executor if initialized
         if (parallelExecutor != null) {
@@ -422,7 +367,8 @@ public class VectorWaveSwtAdapter {
      */
     public Map<String, Object> getCacheStatistics() {
         Map<String, Object> stats = new ConcurrentHashMap<>();
-        stats.put("filterCacheSize", filterCaches.size());
+        MODWTFilterBank bank = filterBank;
+        stats.put("filterCacheSize", bank != null ? bank.maxLevel() : 0);
         stats.put("parallelExecutorActive", parallelExecutor != null);
         stats.put("parallelThreshold", PARALLEL_THRESHOLD);
         return stats;
@@ -1,5 +1,7 @@
 package ai.prophetizo.wavelet.util;
 
+import java.util.Arrays;
+
 /**
  * Utility class providing general-purpose mathematical algorithms.
  * 
@@ -10,6 +12,9 @@ package ai.prophetizo.wavelet.util;
  */
 public final class MathUtils {
     
+    /** Ranges shorter than this are finished with an insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
     // Private constructor to prevent instantiation
     private MathUtils() {
         throw new AssertionError("Utility class should not be instantiated");
@@ -52,13 +57,13 @@ public final class MathUtils {
     }
     
     /**
-     * Finds the kth smallest element in an array using the QuickSelect algorithm.
+     * Finds the kth smallest element in an array using introselect.
      * This is more efficient than full sorting when only a specific order statistic is needed.
      * 
      * <p>Time complexity:</p>
      * <ul>
      *   <li>Average case: O(n)</li>
-     *   <li>Worst case: O(n²)</li>
+     *   <li>Worst case: O(n log n)</li>
      * </ul>
      * 
      * <p>The algorithm modifies the input array. If the original array must be preserved,
@@ -81,11 +86,34 @@ public final class MathUtils {
                 String.format("k=%d is out of bounds [0, %d)", k, arr.length));
         }
         
-        return quickSelectInternal(arr, 0, arr.length - 1, k);
+        return introSelect(arr, 0, arr.length - 1, k);
+    }
+    
+    /**
+     * Finds the kth smallest element of a range in place, without allocating.
+     * 
+     * <p>On return, {@code values[k]} holds that element, everything in
+     * {@code [from, k)} is less than or equal to it and everything in {@code (k, to)}
+     * is greater than or equal to it.</p>
+     * 
+     * @param values the array (the range will be reordered)
+     * @param from the first index of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @param k the absolute index of the desired element, within [from, to)
+     * @return the kth smallest element of the range
+     * @throws IllegalArgumentException if the range or k is invalid
+     */
+    public static double select(double[] values, int from, int to, int k) {
+        validateRange(values, from, to);
+        if (k < from || k >= to) {
+            throw new IllegalArgumentException(
+                String.format("k=%d is out of bounds [%d, %d)", k, from, to));
+        }
+        return introSelect(values, from, to - 1, k);
     }
     
     /**
-     * Finds the median of an array using QuickSelect.
+     * Finds the median of an array using selection.
      * More efficient than sorting for just finding the median.
      * 
      * @param arr the array (will be modified)
@@ -96,19 +124,34 @@ public final class MathUtils {
         if (arr == null || arr.length == 0) {
             throw new IllegalArgumentException("Array cannot be null or empty");
         }
-        
-        int n = arr.length;
+        return medianInPlace(arr, 0, arr.length);
+    }
+    
+    /**
+     * Finds the median of a range in place, without allocating.
+     * 
+     * <p>For an even count the two middle elements are averaged: the upper one is
+     * selected, which leaves the lower one as the maximum of the lower half.</p>
+     * 
+     * @param values the array (the range will be reordered)
+     * @param from the first index of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @return the median of the range
+     * @throws IllegalArgumentException if the range is invalid or empty
+     */
+    public static double medianInPlace(double[] values, int from, int to) {
+        validateRange(values, from, to);
+        int n = to - from;
+        int mid = from + n / 2;
+        double upper = introSelect(values, from, to - 1, mid);
         if (n % 2 == 1) {
-            // Odd length: return middle element
-            return quickSelect(arr, n / 2);
-        } else {
-            // Even length: return average of two middle elements
-            // We need to find both (n/2 - 1) and (n/2) elements
-            double[] copy = arr.clone();
-            double lower = quickSelect(copy, n / 2 - 1);
-            double upper = quickSelect(arr, n / 2);
-            return (lower + upper) / 2.0;
+            return upper;
+        }
+        double lower = values[from];
+        for (int i = from + 1; i < mid; i++) {
+            lower = Math.max(lower, values[i]);
         }
+        return (lower + upper) / 2.0;
     }
     
     /**
@@ -124,89 +167,149 @@ public final class MathUtils {
             throw new IllegalArgumentException("Array cannot be null or empty");
         }
         
-        // First, find median (on a copy to preserve original)
-        double[] work = values.clone();
-        double median = median(work);
+        // Work on a copy to preserve the original
+        return medianAbsoluteDeviationInPlace(values.clone(), 0, values.length);
+    }
+    
+    /**
+     * Calculates the Median Absolute Deviation (MAD) of a range in place, without
+     * allocating. The range is overwritten with the absolute deviations.
+     * 
+     * @param values the array (the range will be overwritten)
+     * @param from the first index of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @return the median absolute deviation of the range
+     * @throws IllegalArgumentException if the range is invalid or empty
+     */
+    public static double medianAbsoluteDeviationInPlace(double[] values, int from, int to) {
+        double median = medianInPlace(values, from, to);
         
-        // Calculate absolute deviations
-        for (int i = 0; i < work.length; i++) {
-            work[i] = Math.abs(values[i] - median);
+        // Absolute deviations
+        for (int i = from; i < to; i++) {
+            values[i] = Math.abs(values[i] - median);
         }
         
-        // Return median of absolute deviations
-        return median(work);
+        return medianInPlace(values, from, to);
     }
     
     /**
-     * Internal QuickSelect implementation with explicit bounds.
+     * Writes the absolute values of the first {@code length} elements of src to dst.
+     * src and dst may be the same array. Hot paths use
+     * {@link ai.prophetizo.wavelet.WaveletOperations#abs(double[], double[], int)},
+     * which uses SIMD lanes where the Vector API is available.
      * 
-     * @param arr the array to select from (will be modified)
-     * @param left the left boundary of the search range (inclusive)
-     * @param right the right boundary of the search range (inclusive)
-     * @param k the index of the desired element (0-based, must be within [left, right])
-     * @return the kth smallest element in the range [left, right]
+     * @param src the source values
+     * @param dst receives the absolute values
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null or shorter than length
      */
-    private static double quickSelectInternal(double[] arr, int left, int right, int k) {
-        // Base case: single element
-        if (left == right) {
-            return arr[left];
+    public static void abs(double[] src, double[] dst, int length) {
+        if (src == null || dst == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
         }
-        
-        // Choose pivot and partition
-        int pivotIndex = partition(arr, left, right);
-        
-        // Recursively search the appropriate partition
-        if (k == pivotIndex) {
-            return arr[k];
-        } else if (k < pivotIndex) {
-            return quickSelectInternal(arr, left, pivotIndex - 1, k);
-        } else {
-            return quickSelectInternal(arr, pivotIndex + 1, right, k);
+        if (length < 0 || length > src.length || length > dst.length) {
+            throw new IllegalArgumentException(
+                String.format("length=%d exceeds array lengths %d and %d", length, src.length, dst.length));
+        }
+        for (int i = 0; i < length; i++) {
+            dst[i] = Math.abs(src[i]);
         }
     }
     
     /**
-     * Partitions the array around a pivot element.
-     * Uses the "median-of-three" strategy to choose a good pivot.
+     * Introselect over an inclusive range: quickselect with a median-of-three pivot and a
+     * three-way partition, so runs of equal values (common among absolute coefficients)
+     * end the search early. After about 2&middot;log<sub>2</sub> n partitions without
+     * convergence it falls back to sorting the remaining range, bounding the worst case
+     * at O(n log n).
      * 
-     * @param arr the array to partition
-     * @param left the left boundary (inclusive)
-     * @param right the right boundary (inclusive)
-     * @return the final position of the pivot
+     * @param arr the array to select from (will be modified)
+     * @param left the left boundary of the search range (inclusive)
+     * @param right the right boundary of the search range (inclusive)
+     * @param k the index of the desired element (0-based, must be within [left, right])
+     * @return the kth smallest element in the range [left, right]
      */
-    private static int partition(double[] arr, int left, int right) {
-        // Use median-of-three to choose pivot for better performance
-        int mid = left + (right - left) / 2;
+    private static double introSelect(double[] arr, int left, int right, int k) {
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(right - left + 1));
         
-        // Sort left, middle, and right elements
-        if (arr[left] > arr[mid]) {
-            swap(arr, left, mid);
-        }
-        if (arr[mid] > arr[right]) {
-            swap(arr, mid, right);
-            if (arr[left] > arr[mid]) {
-                swap(arr, left, mid);
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (budget-- == 0) {
+                Arrays.sort(arr, left, right + 1);
+                return arr[k];
+            }
+            
+            int mid = left + (right - left) / 2;
+            double pivot = medianOfThree(arr[left], arr[mid], arr[right]);
+            
+            // [left, lt) < pivot, [lt, gt] == pivot, (gt, right] > pivot, with NaN
+            // ordered above everything as in Arrays.sort
+            int lt = left;
+            int gt = right;
+            int i = left;
+            if (Double.isNaN(pivot)) {
+                while (i <= gt) {
+                    if (Double.isNaN(arr[i])) {
+                        i++;
+                    } else {
+                        swap(arr, lt++, i++);
+                    }
+                }
+            } else {
+                while (i <= gt) {
+                    double value = arr[i];
+                    if (value < pivot) {
+                        swap(arr, lt++, i++);
+                    } else if (value > pivot || Double.isNaN(value)) {
+                        swap(arr, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+            }
+            
+            if (k < lt) {
+                right = lt - 1;
+            } else if (k > gt) {
+                left = gt + 1;
+            } else {
+                return pivot;
             }
         }
         
-        // Use middle element as pivot
-        double pivot = arr[mid];
-        
-        // Move pivot to end
-        swap(arr, mid, right);
-        
-        // Partition around pivot
-        int storeIndex = left;
-        for (int i = left; i < right; i++) {
-            if (arr[i] < pivot) {
-                swap(arr, storeIndex, i);
-                storeIndex++;
+        // Insertion sort for the short remainder
+        for (int i = left + 1; i <= right; i++) {
+            double value = arr[i];
+            int j = i - 1;
+            while (j >= left && Double.compare(arr[j], value) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
             }
+            arr[j + 1] = value;
+        }
+        return arr[k];
+    }
+    
+    private static double medianOfThree(double a, double b, double c) {
+        // max(min(a, b), min(max(a, b), c)) in the total order of Double.compare
+        if (Double.compare(a, b) > 0) {
+            double t = a;
+            a = b;
+            b = t;
+        }
+        if (Double.compare(b, c) > 0) {
+            b = c;
+        }
+        return Double.compare(a, b) > 0 ? a : b;
+    }
+    
+    private static void validateRange(double[] values, int from, int to) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (from < 0 || to > values.length || from >= to) {
+            throw new IllegalArgumentException(
+                String.format("Range [%d, %d) is empty or outside [0, %d)", from, to, values.length));
         }
-        
-        // Move pivot to its final position
-        swap(arr, storeIndex, right);
-        return storeIndex;
     }
     
     /**
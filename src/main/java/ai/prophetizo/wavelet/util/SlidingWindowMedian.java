@@ -0,0 +1,546 @@
+package ai.prophetizo.wavelet.util;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+
+/**
+ * Median and median absolute deviation of the most recent values of a stream.
+ *
+ * <p>Recomputing the median of a window from scratch costs O(W) with selection or
+ * O(W log W) with sorting, plus a copy of the window, on every query. This class keeps
+ * the window ordered as values enter and leave it, so streaming noise estimators can add
+ * one coefficient at a time and query the robust statistics as often as they like.</p>
+ *
+ * <ul>
+ *   <li>{@link Mode#EXACT}: an indexable skip list over the window. Adding a value (and
+ *       evicting the oldest) costs O(log W) expected time, {@link #median()} O(log W) and
+ *       {@link #medianAbsoluteDeviation()} O(log² W). Results equal
+ *       {@link MathUtils#median(double[])} and {@link MathUtils#medianAbsoluteDeviation(double[])}
+ *       applied to the window contents.</li>
+ *   <li>{@link Mode#APPROXIMATE}: P² quantile estimators (Jain and Chlamtac), O(1) time and
+ *       memory per value regardless of the window size. The stream is cut into consecutive
+ *       windows of W values; queries use the current window once it holds W/2 values and
+ *       the last completed window before that. Until a window holds the five values the
+ *       estimators need, its statistics are computed exactly. After that the deviation
+ *       estimate is taken about the running median estimate, so it is coarser than the
+ *       median itself.</li>
+ * </ul>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * SlidingWindowMedian window = new SlidingWindowMedian(1024);
+ * for (double d : detailCoefficients) {
+ *     window.add(Math.abs(d));
+ * }
+ * double sigma = window.median() / 0.6745;
+ * }</pre>
+ *
+ * <p>NaN values are ignored and infinite values are clamped to ±{@link Double#MAX_VALUE}.
+ * Instances are not thread-safe.</p>
+ */
+public final class SlidingWindowMedian {
+
+    /**
+     * How the window statistics are maintained.
+     */
+    public enum Mode {
+        /** Exact order statistics of the last W values. */
+        EXACT,
+        /** Constant-memory P² estimates over the last W/2 to W values. */
+        APPROXIMATE
+    }
+
+    /** Values a P² estimator needs before it estimates rather than stores. */
+    private static final int P2_MARKERS = 5;
+
+    private static final int NIL = -1;
+    private static final int HEAD = 0;
+
+    private final int windowSize;
+    private final Mode mode;
+
+    // Values in arrival order, for eviction
+    private final double[] ring;
+    private int ringStart;
+    private int count;
+
+    // Indexable skip list (exact mode). Node 0 is the head; next[l][i] == NIL ends a level,
+    // and width[l][i] counts the positions skipped by that link, the end counting as one.
+    private final int maxLevel;
+    private double[] nodeValue;
+    private int[] nodeLevel;
+    private int[][] next;
+    private int[][] width;
+    private int[] freeNodes;
+    private int freeCount;
+    private int[] chain;
+    private int[] stepsAtLevel;
+    private long randomState = 0x9E3779B97F4A7C15L;
+
+    // P² estimators (approximate mode)
+    private P2Quantile currentMedian;
+    private P2Quantile currentDeviation;
+    private long currentCount;
+    // The first values of the current window, for exact statistics during warm-up
+    private double[] warmup;
+    private double[] warmupScratch;
+    private double lastMedian = Double.NaN;
+    private double lastDeviation = Double.NaN;
+
+    /**
+     * Creates an exact sliding window.
+     *
+     * @param windowSize the number of most recent values to keep
+     * @throws InvalidArgumentException if windowSize is not positive
+     */
+    public SlidingWindowMedian(int windowSize) {
+        this(windowSize, Mode.EXACT);
+    }
+
+    /**
+     * Creates a sliding window with the given mode.
+     *
+     * @param windowSize the number of most recent values to summarize
+     * @param mode       exact or approximate statistics
+     * @throws InvalidArgumentException if windowSize is not positive or mode is null
+     */
+    public SlidingWindowMedian(int windowSize, Mode mode) {
+        if (windowSize <= 0) {
+            throw new InvalidArgumentException("Window size must be positive, got: " + windowSize);
+        }
+        if (mode == null) {
+            throw new InvalidArgumentException("Mode cannot be null");
+        }
+        this.windowSize = windowSize;
+        this.mode = mode;
+        if (mode == Mode.EXACT) {
+            this.ring = new double[windowSize];
+            this.maxLevel = Math.max(1, 32 - Integer.numberOfLeadingZeros(windowSize));
+            initSkipList();
+        } else {
+            this.ring = null;
+            this.maxLevel = 0;
+            this.currentMedian = new P2Quantile(0.5);
+            this.currentDeviation = new P2Quantile(0.5);
+            this.warmup = new double[P2_MARKERS];
+            this.warmupScratch = new double[P2_MARKERS];
+        }
+    }
+
+    private void initSkipList() {
+        int nodes = windowSize + 1;
+        nodeValue = new double[nodes];
+        nodeLevel = new int[nodes];
+        next = new int[maxLevel][nodes];
+        width = new int[maxLevel][nodes];
+        freeNodes = new int[windowSize];
+        chain = new int[maxLevel];
+        stepsAtLevel = new int[maxLevel];
+        for (int level = 0; level < maxLevel; level++) {
+            next[level][HEAD] = NIL;
+            width[level][HEAD] = 1;
+        }
+        nodeLevel[HEAD] = maxLevel;
+        freeCount = 0;
+        for (int node = windowSize; node >= 1; node--) {
+            freeNodes[freeCount++] = node;
+        }
+    }
+
+    /**
+     * Adds a value, evicting the oldest one once the window is full.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (value == Double.POSITIVE_INFINITY) {
+            value = Double.MAX_VALUE;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            value = -Double.MAX_VALUE;
+        }
+        if (mode == Mode.APPROXIMATE) {
+            addApproximate(value);
+            return;
+        }
+        if (count == windowSize) {
+            remove(ring[ringStart]);
+            ring[ringStart] = value;
+            ringStart = ringStart + 1 == windowSize ? 0 : ringStart + 1;
+        } else {
+            int slot = ringStart + count;
+            ring[slot >= windowSize ? slot - windowSize : slot] = value;
+            count++;
+        }
+        insert(value);
+    }
+
+    /**
+     * Adds {@code values[from, from + length)} in order.
+     *
+     * @param values the source array
+     * @param from   index of the first value
+     * @param length number of values to add
+     */
+    public void add(double[] values, int from, int length) {
+        for (int i = from; i < from + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Gets the number of values the statistics are computed over.
+     *
+     * @return the current window fill, at most the window size
+     */
+    public int size() {
+        if (mode == Mode.APPROXIMATE) {
+            return (int) Math.min(windowSize, useCurrent() ? currentCount : windowSize);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the window size.
+     *
+     * @return the maximum number of values summarized
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Gets the mode.
+     *
+     * @return exact or approximate
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the median of the window; the mean of the two middle values for an even count.
+     *
+     * @return the median, or 0 if no value has been added
+     */
+    public double median() {
+        if (mode == Mode.APPROXIMATE) {
+            if (useCurrent()) {
+                return currentMedianEstimate();
+            }
+            return lastMedian;
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        if ((count & 1) == 1) {
+            return get(count / 2);
+        }
+        return (get(count / 2 - 1) + get(count / 2)) / 2.0;
+    }
+
+    /**
+     * Gets the median of the absolute deviations from the window median.
+     *
+     * @return the median absolute deviation, or 0 if no value has been added
+     */
+    public double medianAbsoluteDeviation() {
+        if (mode == Mode.APPROXIMATE) {
+            if (useCurrent()) {
+                return currentDeviationEstimate();
+            }
+            return lastDeviation;
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        double median = median();
+        int below = countLessThan(median);
+        if ((count & 1) == 1) {
+            return deviation(count / 2, median, below);
+        }
+        return (deviation(count / 2 - 1, median, below) + deviation(count / 2, median, below)) / 2.0;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        if (mode == Mode.APPROXIMATE) {
+            currentMedian.clear();
+            currentDeviation.clear();
+            currentCount = 0;
+            lastMedian = Double.NaN;
+            lastDeviation = Double.NaN;
+            return;
+        }
+        ringStart = 0;
+        count = 0;
+        initSkipList();
+    }
+
+    // ---- Exact mode ----
+
+    /**
+     * Gets the k-th smallest distance |x - median| for the sorted window, which is the
+     * k-th smallest element of two sorted runs: values below the median read downwards,
+     * and values from the median up read upwards.
+     */
+    private double deviation(int k, double median, int below) {
+        int above = count - below;
+        int lo = Math.max(0, k + 1 - above);
+        int hi = Math.min(below, k + 1);
+        while (lo < hi) {
+            int i = (lo + hi) >>> 1;
+            int j = k + 1 - i;
+            if (median - get(below - 1 - i) < get(below + j - 1) - median) {
+                lo = i + 1;
+            } else {
+                hi = i;
+            }
+        }
+        int j = k + 1 - lo;
+        double fromBelow = lo > 0 ? median - get(below - lo) : Double.NEGATIVE_INFINITY;
+        double fromAbove = j > 0 ? get(below + j - 1) - median : Double.NEGATIVE_INFINITY;
+        return Math.max(fromBelow, fromAbove);
+    }
+
+    /**
+     * Gets the value at the given sorted position.
+     */
+    private double get(int index) {
+        int node = HEAD;
+        int remaining = index + 1;
+        for (int level = maxLevel - 1; level >= 0; level--) {
+            while (next[level][node] != NIL && width[level][node] <= remaining) {
+                remaining -= width[level][node];
+                node = next[level][node];
+            }
+        }
+        return nodeValue[node];
+    }
+
+    private int countLessThan(double value) {
+        int node = HEAD;
+        int rank = 0;
+        for (int level = maxLevel - 1; level >= 0; level--) {
+            while (next[level][node] != NIL && nodeValue[next[level][node]] < value) {
+                rank += width[level][node];
+                node = next[level][node];
+            }
+        }
+        return rank;
+    }
+
+    private void insert(double value) {
+        int node = HEAD;
+        for (int level = maxLevel - 1; level >= 0; level--) {
+            stepsAtLevel[level] = 0;
+            while (next[level][node] != NIL && nodeValue[next[level][node]] <= value) {
+                stepsAtLevel[level] += width[level][node];
+                node = next[level][node];
+            }
+            chain[level] = node;
+        }
+
+        int newNode = freeNodes[--freeCount];
+        int levels = randomLevel();
+        nodeValue[newNode] = value;
+        nodeLevel[newNode] = levels;
+        int steps = 0;
+        for (int level = 0; level < levels; level++) {
+            int prev = chain[level];
+            next[level][newNode] = next[level][prev];
+            next[level][prev] = newNode;
+            width[level][newNode] = width[level][prev] - steps;
+            width[level][prev] = steps + 1;
+            steps += stepsAtLevel[level];
+        }
+        for (int level = levels; level < maxLevel; level++) {
+            width[level][chain[level]]++;
+        }
+    }
+
+    private void remove(double value) {
+        int node = HEAD;
+        for (int level = maxLevel - 1; level >= 0; level--) {
+            while (next[level][node] != NIL && nodeValue[next[level][node]] < value) {
+                node = next[level][node];
+            }
+            chain[level] = node;
+        }
+        int target = next[0][chain[0]];
+        int levels = nodeLevel[target];
+        for (int level = 0; level < levels; level++) {
+            int prev = chain[level];
+            width[level][prev] += width[level][target] - 1;
+            next[level][prev] = next[level][target];
+        }
+        for (int level = levels; level < maxLevel; level++) {
+            width[level][chain[level]]--;
+        }
+        freeNodes[freeCount++] = target;
+    }
+
+    private int randomLevel() {
+        // xorshift64; each further level with probability 1/2
+        long x = randomState;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        randomState = x;
+        return Math.min(maxLevel, 1 + Long.numberOfTrailingZeros(x | (1L << 62)));
+    }
+
+    // ---- Approximate mode ----
+
+    private void addApproximate(double value) {
+        if (currentCount == windowSize) {
+            lastMedian = currentMedianEstimate();
+            lastDeviation = currentDeviationEstimate();
+            currentMedian.clear();
+            currentDeviation.clear();
+            currentCount = 0;
+        }
+        currentMedian.add(value);
+        if (currentCount < P2_MARKERS) {
+            warmup[(int) currentCount] = value;
+            if (currentCount == P2_MARKERS - 1) {
+                // The median estimator now holds its markers; seed the deviation
+                // estimator with the exact deviations about the exact median of five
+                double median = currentMedian.estimate();
+                for (double v : warmup) {
+                    currentDeviation.add(Math.abs(v - median));
+                }
+            }
+        } else {
+            currentDeviation.add(Math.abs(value - currentMedian.estimate()));
+        }
+        currentCount++;
+    }
+
+    private double currentMedianEstimate() {
+        // Exact while fewer than five values are held: the estimator keeps them sorted
+        return currentCount == 0 ? 0.0 : currentMedian.estimate();
+    }
+
+    private double currentDeviationEstimate() {
+        if (currentCount == 0) {
+            return 0.0;
+        }
+        if (currentCount < P2_MARKERS) {
+            int n = (int) currentCount;
+            System.arraycopy(warmup, 0, warmupScratch, 0, n);
+            return MathUtils.medianAbsoluteDeviationInPlace(warmupScratch, 0, n);
+        }
+        return currentDeviation.estimate();
+    }
+
+    private boolean useCurrent() {
+        return Double.isNaN(lastMedian) || currentCount >= (windowSize + 1) / 2;
+    }
+
+    /**
+     * P² estimator of a single quantile, with five markers.
+     */
+    private static final class P2Quantile {
+        private final double p;
+        private final double[] heights = new double[5];
+        private final double[] positions = new double[5];
+        private final double[] desired = new double[5];
+        private final double[] increments;
+        private int count;
+
+        P2Quantile(double p) {
+            this.p = p;
+            this.increments = new double[] {0, p / 2, p, (1 + p) / 2, 1};
+        }
+
+        void clear() {
+            count = 0;
+        }
+
+        void add(double x) {
+            if (count < 5) {
+                // Insertion sort into the first markers
+                int i = count++;
+                while (i > 0 && heights[i - 1] > x) {
+                    heights[i] = heights[i - 1];
+                    i--;
+                }
+                heights[i] = x;
+                if (count == 5) {
+                    for (int m = 0; m < 5; m++) {
+                        positions[m] = m + 1;
+                    }
+                    desired[0] = 1;
+                    desired[1] = 1 + 2 * p;
+                    desired[2] = 1 + 4 * p;
+                    desired[3] = 3 + 2 * p;
+                    desired[4] = 5;
+                }
+                return;
+            }
+            count++;
+
+            int cell;
+            if (x < heights[0]) {
+                heights[0] = x;
+                cell = 0;
+            } else if (x >= heights[4]) {
+                heights[4] = Math.max(heights[4], x);
+                cell = 3;
+            } else {
+                cell = 0;
+                while (x >= heights[cell + 1]) {
+                    cell++;
+                }
+            }
+            for (int m = cell + 1; m < 5; m++) {
+                positions[m]++;
+            }
+            for (int m = 0; m < 5; m++) {
+                desired[m] += increments[m];
+            }
+
+            // Move the middle markers towards their desired positions
+            for (int m = 1; m <= 3; m++) {
+                double d = desired[m] - positions[m];
+                if ((d >= 1 && positions[m + 1] - positions[m] > 1)
+                        || (d <= -1 && positions[m - 1] - positions[m] < -1)) {
+                    int step = d > 0 ? 1 : -1;
+                    double candidate = parabolic(m, step);
+                    if (heights[m - 1] < candidate && candidate < heights[m + 1]) {
+                        heights[m] = candidate;
+                    } else {
+                        heights[m] += step * (heights[m + step] - heights[m])
+                            / (positions[m + step] - positions[m]);
+                    }
+                    positions[m] += step;
+                }
+            }
+        }
+
+        private double parabolic(int m, int step) {
+            double below = positions[m] - positions[m - 1];
+            double above = positions[m + 1] - positions[m];
+            return heights[m] + step / (positions[m + 1] - positions[m - 1])
+                * ((below + step) * (heights[m + 1] - heights[m]) / above
+                    + (above - step) * (heights[m] - heights[m - 1]) / below);
+        }
+
+        double estimate() {
+            if (count >= 5) {
+                return heights[2];
+            }
+            // Exact median of the first few values, which are kept sorted
+            if (count == 0) {
+                return 0.0;
+            }
+            return (count & 1) == 1
+                ? heights[count / 2]
+                : (heights[count / 2 - 1] + heights[count / 2]) / 2.0;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package ai.prophetizo.wavelet;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WaveletOperationsTest {
@@ -23,4 +26,103 @@ class WaveletOperationsTest {
                 new WaveletOperations.PerformanceInfo(false, "test", "N/A", "");
         assertThrows(IllegalArgumentException.class, () -> info.estimateSpeedup(-1));
     }
+
+    @Test
+    void thresholdKernelsMatchScalarRules() {
+        double t = 0.5;
+        // Odd length exercises both the vector loop and the scalar remainder
+        double[] coeffs = randomCoefficients(1001);
+        coeffs[0] = 0.0;
+        coeffs[1] = t;
+        coeffs[2] = -2 * t;
+        coeffs[3] = 3.7 * t;
+
+        double[] soft = WaveletOperations.softThreshold(coeffs, t);
+        double[] hard = WaveletOperations.hardThreshold(coeffs, t);
+        double[] garrote = WaveletOperations.garroteThreshold(coeffs, t);
+        double[] firm = WaveletOperations.firmThreshold(coeffs, t, 2 * t);
+        double[] scad = WaveletOperations.scadThreshold(coeffs, t);
+        for (int i = 0; i < coeffs.length; i++) {
+            double x = coeffs[i];
+            double abs = Math.abs(x);
+            assertEquals(abs <= t ? 0 : Math.signum(x) * (abs - t), soft[i], 1e-15);
+            assertEquals(abs <= t ? 0 : x, hard[i], 0.0);
+            assertEquals(abs <= t ? 0 : x - t * t / x, garrote[i], 1e-15);
+            assertEquals(abs <= t ? 0 : abs <= 2 * t ? Math.signum(x) * 2 * (abs - t) : x, firm[i], 1e-15);
+            double expectedScad = abs <= 2 * t ? (abs <= t ? 0 : Math.signum(x) * (abs - t))
+                : abs <= 3.7 * t ? (2.7 * x - Math.signum(x) * 3.7 * t) / 1.7 : x;
+            assertEquals(expectedScad, scad[i], 1e-14);
+        }
+    }
+
+    @Test
+    void thresholdIntoBufferMatchesAllocatingAndWorksInPlace() {
+        double[] coeffs = randomCoefficients(257);
+        double[] inPlace = coeffs.clone();
+        WaveletOperations.softThreshold(inPlace, 0.3, inPlace);
+        assertArrayEquals(WaveletOperations.softThreshold(coeffs, 0.3), inPlace, 0.0);
+
+        inPlace = coeffs.clone();
+        WaveletOperations.hardThreshold(inPlace, 0.3, inPlace);
+        assertArrayEquals(WaveletOperations.hardThreshold(coeffs, 0.3), inPlace, 0.0);
+
+        inPlace = coeffs.clone();
+        WaveletOperations.garroteThreshold(inPlace, 0.3, inPlace);
+        assertArrayEquals(WaveletOperations.garroteThreshold(coeffs, 0.3), inPlace, 0.0);
+
+        inPlace = coeffs.clone();
+        WaveletOperations.firmThreshold(inPlace, 0.3, 0.9, inPlace);
+        assertArrayEquals(WaveletOperations.firmThreshold(coeffs, 0.3, 0.9), inPlace, 0.0);
+
+        // A longer output buffer is allowed; only the leading elements are written
+        double[] longer = new double[coeffs.length + 3];
+        WaveletOperations.scadThreshold(coeffs, 0.3, longer);
+        double[] expected = WaveletOperations.scadThreshold(coeffs, 0.3);
+        for (int i = 0; i < coeffs.length; i++) {
+            assertEquals(expected[i], longer[i], 0.0);
+        }
+    }
+
+    @Test
+    void thresholdIntoBufferValidation() {
+        double[] coeffs = new double[8];
+        assertThrows(IllegalArgumentException.class,
+                () -> WaveletOperations.softThreshold(coeffs, 0.5, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> WaveletOperations.hardThreshold(coeffs, 0.5, new double[4]));
+        assertThrows(IllegalArgumentException.class,
+                () -> WaveletOperations.garroteThreshold(coeffs, -1.0, coeffs));
+        assertThrows(IllegalArgumentException.class,
+                () -> WaveletOperations.firmThreshold(coeffs, 1.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> WaveletOperations.scadThreshold(null, 0.5));
+    }
+
+    @Test
+    void absMatchesScalarOnVectorAndTailLanes() {
+        // Lengths around the vectorization cutoff exercise both paths and the remainder loop
+        for (int length : new int[]{7, 31, 32, 33, 257}) {
+            double[] coeffs = randomCoefficients(length);
+            double[] abs = new double[length];
+            WaveletOperations.abs(coeffs, abs, length);
+            for (int i = 0; i < length; i++) {
+                assertEquals(Math.abs(coeffs[i]), abs[i], 0.0);
+            }
+
+            // In place
+            WaveletOperations.abs(coeffs, coeffs, length);
+            assertArrayEquals(abs, coeffs, 0.0);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> WaveletOperations.abs(new double[4], new double[2], 3));
+    }
+
+    private static double[] randomCoefficients(int length) {
+        Random random = new Random(42);
+        double[] coeffs = new double[length];
+        for (int i = 0; i < length; i++) {
+            coeffs[i] = random.nextGaussian();
+        }
+        return coeffs;
+    }
 }
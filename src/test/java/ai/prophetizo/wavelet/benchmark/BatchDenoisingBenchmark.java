@@ -0,0 +1,72 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares batch denoising with denoising the same signals one at a time.
+ *
+ * <p>For each batch size, a loop of
+ * {@link WaveletDenoiser#denoiseMultiLevel(double[], int, ThresholdMethod, ThresholdType)}
+ * calls is measured against one
+ * {@link WaveletDenoiser#denoiseBatch(double[][], int, ThresholdMethod, ThresholdType)} call
+ * on the common pool. Both process the whole batch per operation, so the ratio of the
+ * scores is the batch speedup.</p>
+ * <pre>
+ * ./jmh-runner.sh BatchDenoisingBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchDenoisingBenchmark {
+
+    private static final int SIGNAL_LENGTH = 1024;
+    private static final int LEVELS = 4;
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    private int batchSize;
+
+    private WaveletDenoiser denoiser;
+    private double[][] signals;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        signals = generateSignals(batchSize);
+    }
+
+    @Benchmark
+    public void perSignal(Blackhole bh) {
+        for (double[] signal : signals) {
+            bh.consume(denoiser.denoiseMultiLevel(signal, LEVELS, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT));
+        }
+    }
+
+    @Benchmark
+    public double[][] batch() {
+        return denoiser.denoiseBatch(signals, LEVELS, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT);
+    }
+
+    private static double[][] generateSignals(int batchSize) {
+        Random random = new Random(42);
+        double[][] signals = new double[batchSize][SIGNAL_LENGTH];
+        for (int b = 0; b < batchSize; b++) {
+            for (int i = 0; i < SIGNAL_LENGTH; i++) {
+                signals[b][i] = Math.sin(2 * Math.PI * i / (32.0 + b % 64)) + 0.3 * random.nextGaussian();
+            }
+        }
+        return signals;
+    }
+}
@@ -49,6 +49,55 @@ public class BatchSIMDMODWTBenchmark {
             }
             System.out.println();
         }
+        
+        System.out.println("\nMODWTTransform.forwardBatch/inverseBatch (DB4, SoA engine)");
+        System.out.println("------------------------------------------------------------");
+        for (BoundaryMode mode : new BoundaryMode[]{
+                BoundaryMode.PERIODIC, BoundaryMode.ZERO_PADDING, BoundaryMode.SYMMETRIC}) {
+            for (int batchSize : new int[]{16, 64, 256}) {
+                benchmarkTransformBatch(mode, batchSize, 1024);
+            }
+            System.out.println();
+        }
+    }
+    
+    private static void benchmarkTransformBatch(BoundaryMode mode, int batchSize, int signalLength) {
+        double[][] signals = generateBatchSignals(batchSize, signalLength);
+        MODWTTransform transform = new MODWTTransform(Daubechies.DB4, mode);
+        MODWTResult[] results = new MODWTResult[batchSize];
+        int iterations = Math.max(10, MEASURE_ITERATIONS / batchSize * 16);
+        
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (int b = 0; b < batchSize; b++) {
+                results[b] = transform.forward(signals[b]);
+                transform.inverse(results[b]);
+            }
+            transform.inverseBatch(transform.forwardBatch(signals));
+        }
+        
+        // One signal at a time
+        long seqStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (int b = 0; b < batchSize; b++) {
+                results[b] = transform.forward(signals[b]);
+                transform.inverse(results[b]);
+            }
+        }
+        long seqTime = System.nanoTime() - seqStart;
+        
+        // Whole batch through the SoA engine
+        long batchStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            transform.inverseBatch(transform.forwardBatch(signals));
+        }
+        long batchTime = System.nanoTime() - batchStart;
+        
+        ThreadLocalManager.cleanupCurrentThread();
+        
+        double seqMs = seqTime / 1e6 / iterations;
+        double batchMs = batchTime / 1e6 / iterations;
+        System.out.printf("%-12s - Batch: %3d, Signal: %4d | Per-signal: %7.3f ms | Batch: %7.3f ms | Speedup: %5.2fx%n",
+            mode, batchSize, signalLength, seqMs, batchMs, seqMs / batchMs);
     }
     
     private static void benchmarkBatch(ai.prophetizo.wavelet.api.DiscreteWavelet wavelet, 
@@ -0,0 +1,87 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+
+import java.util.Random;
+
+/**
+ * Compares translation-invariant denoising with an explicit cycle-spinning loop.
+ *
+ * <p>The loop denoises K circular shifts of the signal, shifts each result back and
+ * averages, which costs K transforms. One call to
+ * {@link WaveletDenoiser#denoiseTranslationInvariant(double[], int, ThresholdMethod, ThresholdType)}
+ * gives the average over all N shifts at the cost of a single multi-level transform.</p>
+ */
+public class CycleSpinningBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int MEASURE_ITERATIONS = 5;
+
+    private static final int[] SIZES = {4096, 65536};
+    private static final int[] SHIFTS = {8, 32};
+    private static final int LEVELS = 5;
+
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        System.out.println("Cycle Spinning Benchmark");
+        System.out.println("========================");
+        System.out.printf("  %-8s %-22s %12s%n", "n", "method", "ms");
+
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        for (int n : SIZES) {
+            double[] signal = generateSignal(n);
+
+            long invariant = measure(() -> sink = denoiser.denoiseTranslationInvariant(signal, LEVELS,
+                ThresholdMethod.UNIVERSAL, ThresholdType.SOFT)[0]);
+            System.out.printf("  %-8d %-22s %12.3f%n", n, "all N shifts (MODWT)", invariant / 1e6);
+
+            for (int shifts : SHIFTS) {
+                long spun = measure(() -> sink = cycleSpin(denoiser, signal, shifts)[0]);
+                System.out.printf("  %-8d %-22s %12.3f%n", n, shifts + " explicit shifts", spun / 1e6);
+            }
+        }
+    }
+
+    private static double[] cycleSpin(WaveletDenoiser denoiser, double[] signal, int shifts) {
+        int n = signal.length;
+        double[] average = new double[n];
+        double[] shifted = new double[n];
+        for (int s = 0; s < shifts; s++) {
+            System.arraycopy(signal, s, shifted, 0, n - s);
+            System.arraycopy(signal, 0, shifted, n - s, s);
+            double[] denoised = denoiser.denoiseMultiLevel(shifted, LEVELS,
+                ThresholdMethod.UNIVERSAL, ThresholdType.SOFT);
+            for (int t = 0; t < n; t++) {
+                average[(t + s) % n] += denoised[t] / shifts;
+            }
+        }
+        return average;
+    }
+
+    private static long measure(Runnable run) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            run.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static double[] generateSignal(int n) {
+        Random random = new Random(42);
+        double[] signal = new double[n];
+        for (int t = 0; t < n; t++) {
+            signal[t] = ((t / 500) % 2 == 0 ? 1.0 : -1.0) + 0.3 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
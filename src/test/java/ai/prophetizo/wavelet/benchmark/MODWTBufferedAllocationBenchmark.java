@@ -0,0 +1,117 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import ai.prophetizo.wavelet.modwt.MODWTTransform;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import ai.prophetizo.wavelet.modwt.MutableMultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MutableMultiLevelMODWTResultImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares allocation rate and time of the allocating MODWT API against the
+ * caller-supplied-buffer variants.
+ *
+ * <p>Run with the GC profiler and compare {@code gc.alloc.rate.norm}, the bytes
+ * allocated per call:</p>
+ * <pre>
+ * ./jmh-runner.sh MODWTBufferedAllocationBenchmark -prof gc
+ * </pre>
+ * <p>The buffered forward, inverse, multi-level decompose and reconstruct calls should
+ * report 0 B/op; the allocating calls report the size of their result arrays.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MODWTBufferedAllocationBenchmark {
+
+    private static final int LEVELS = 5;
+
+    @Param({"256", "1024", "4096"})
+    private int signalLength;
+
+    private MODWTTransform transform;
+    private MultiLevelMODWTTransform multiLevel;
+    private double[] signal;
+    private double[] approx;
+    private double[] detail;
+    private double[] output;
+    private MODWTResult single;
+    private MutableMultiLevelMODWTResult buffer;
+    private MultiLevelMODWTResult decomposed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        transform = new MODWTTransform(Daubechies.DB4, BoundaryMode.PERIODIC);
+        multiLevel = new MultiLevelMODWTTransform(Daubechies.DB4, BoundaryMode.PERIODIC);
+        signal = generateSignal(signalLength);
+        approx = new double[signalLength];
+        detail = new double[signalLength];
+        output = new double[signalLength];
+        single = transform.forward(signal);
+        buffer = new MutableMultiLevelMODWTResultImpl(signalLength, LEVELS);
+        multiLevel.decompose(signal, buffer);
+        decomposed = multiLevel.decompose(signal, LEVELS);
+    }
+
+    @Benchmark
+    public MODWTResult forward() {
+        return transform.forward(signal);
+    }
+
+    @Benchmark
+    public double[] forwardBuffered() {
+        transform.forward(signal, approx, detail);
+        return detail;
+    }
+
+    @Benchmark
+    public double[] inverse() {
+        return transform.inverse(single);
+    }
+
+    @Benchmark
+    public double[] inverseBuffered() {
+        transform.inverse(approx, detail, output);
+        return output;
+    }
+
+    @Benchmark
+    public MultiLevelMODWTResult decompose() {
+        return multiLevel.decompose(signal, LEVELS);
+    }
+
+    @Benchmark
+    public MutableMultiLevelMODWTResult decomposeBuffered() {
+        multiLevel.decompose(signal, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public double[] reconstruct() {
+        return multiLevel.reconstruct(decomposed);
+    }
+
+    @Benchmark
+    public double[] reconstructBuffered() {
+        multiLevel.reconstruct(buffer, output);
+        return output;
+    }
+
+    private static double[] generateSignal(int length) {
+        Random random = new Random(42);
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 32.0) + 0.1 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
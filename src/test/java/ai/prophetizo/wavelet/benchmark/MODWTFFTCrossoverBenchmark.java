@@ -0,0 +1,96 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.internal.FFTConvolution;
+import ai.prophetizo.wavelet.internal.ScalarOps;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the crossover between direct dilated MODWT convolution and the FFT
+ * overlap-save path, per boundary mode, base filter length, signal length and level.
+ *
+ * <p>Each case times one forward level with both filters, through the direct kernels and
+ * through {@link FFTConvolution#forwardMODWT(double[], FFTConvolution.LevelPlan, double[], double[])}
+ * with a plan made in setup, as the transforms hold theirs. For a signal length and level,
+ * the crossover is the smallest filter length whose {@code fft} score beats its
+ * {@code direct} score. {@link FFTConvolution#isBeneficial} should pick the faster path
+ * wherever the two differ by more than about 10%. Taps that reach beyond the signal at
+ * deep levels are dropped by both paths, as in the transforms.</p>
+ * <pre>
+ * ./jmh-runner.sh MODWTFFTCrossoverBenchmark -p mode=SYMMETRIC -p level=1
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MODWTFFTCrossoverBenchmark {
+
+    @Param({"PERIODIC", "ZERO_PADDING", "SYMMETRIC"})
+    private BoundaryMode mode;
+
+    @Param({"1024", "4096", "16384", "65536"})
+    private int signalLength;
+
+    @Param({"8", "16", "24", "32", "48", "64", "76", "102", "128", "192"})
+    private int filterLength;
+
+    @Param({"1", "4", "7"})
+    private int level;
+
+    private int dilation;
+    private double[] signal;
+    private double[] low;
+    private double[] high;
+    private double[] approx;
+    private double[] detail;
+    private FFTConvolution.LevelPlan plan;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        dilation = 1 << (level - 1);
+        signal = new double[signalLength];
+        for (int i = 0; i < signalLength; i++) {
+            signal[i] = random.nextGaussian();
+        }
+        low = new double[filterLength];
+        high = new double[filterLength];
+        for (int k = 0; k < filterLength; k++) {
+            low[k] = random.nextGaussian() / filterLength;
+            high[k] = random.nextGaussian() / filterLength;
+        }
+        approx = new double[signalLength];
+        detail = new double[signalLength];
+        plan = FFTConvolution.forwardPlan(low, high, dilation, signalLength, mode);
+    }
+
+    @Benchmark
+    public void direct(Blackhole bh) {
+        if (mode == BoundaryMode.PERIODIC) {
+            ScalarOps.circularConvolveMODWTDilated(signal, low, approx, dilation);
+            ScalarOps.circularConvolveMODWTDilated(signal, high, detail, dilation);
+        } else if (mode == BoundaryMode.ZERO_PADDING) {
+            ScalarOps.zeroPaddingConvolveMODWTDilated(signal, low, approx, dilation);
+            ScalarOps.zeroPaddingConvolveMODWTDilated(signal, high, detail, dilation);
+        } else {
+            ScalarOps.symmetricConvolveMODWTDilated(signal, low, approx, dilation);
+            ScalarOps.symmetricConvolveMODWTDilated(signal, high, detail, dilation);
+        }
+        bh.consume(approx);
+        bh.consume(detail);
+    }
+
+    @Benchmark
+    public void fft(Blackhole bh) {
+        FFTConvolution.forwardMODWT(signal, plan, approx, detail);
+        bh.consume(approx);
+        bh.consume(detail);
+    }
+}
@@ -0,0 +1,96 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.api.WaveletName;
+import ai.prophetizo.wavelet.api.WaveletRegistry;
+import ai.prophetizo.wavelet.modwt.MODWTFilterBank;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filter allocation in steady state with the shared MODWT filter bank.
+ *
+ * <p>Compares the bytes allocated by filter preparation alone for six
+ * levels: scaling the wavelet filters on every call (the previous behaviour) versus
+ * looking them up in {@link MODWTFilterBank}. A full multi-level decomposition is
+ * included for scale. Run with the GC profiler and compare {@code gc.alloc.rate.norm}:</p>
+ * <pre>
+ * ./jmh-runner.sh MODWTFilterBankAllocationBenchmark -prof gc
+ * </pre>
+ * <p>The bank lookup should report 0 B/op. The decomposition should allocate only its
+ * coefficient arrays, about (2&middot;6 + 1)&middot;N doubles.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MODWTFilterBankAllocationBenchmark {
+
+    private static final int LEVELS = 6;
+    private static final int SIGNAL_LENGTH = 1024;
+
+    @Param({"HAAR", "DB4", "DB8"})
+    private WaveletName waveletName;
+
+    private Wavelet wavelet;
+    private MODWTFilterBank bank;
+    private MultiLevelMODWTTransform transform;
+    private double[] signal;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        wavelet = WaveletRegistry.getWavelet(waveletName);
+        bank = MODWTFilterBank.of(wavelet);
+        transform = new MultiLevelMODWTTransform(wavelet, BoundaryMode.PERIODIC);
+        signal = generateSignal(SIGNAL_LENGTH);
+    }
+
+    @Benchmark
+    public double scalePerCall() {
+        double scale = 1.0 / Math.sqrt(2.0);
+        double acc = 0;
+        for (int level = 1; level <= LEVELS; level++) {
+            double[] low = wavelet.lowPassDecomposition();
+            double[] high = wavelet.highPassDecomposition();
+            double[] scaledLow = new double[low.length];
+            double[] scaledHigh = new double[high.length];
+            for (int i = 0; i < low.length; i++) {
+                scaledLow[i] = low[i] * scale;
+                scaledHigh[i] = high[i] * scale;
+            }
+            acc += scaledLow[0] + scaledHigh[0];
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public int filterBankLookup() {
+        int acc = 0;
+        for (int level = 1; level <= LEVELS; level++) {
+            acc += bank.decomposition(level).dilation();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public MultiLevelMODWTResult decompose() {
+        return transform.decompose(signal, LEVELS);
+    }
+
+    private static double[] generateSignal(int length) {
+        Random random = new Random(42);
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 32.0) + 0.1 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -0,0 +1,123 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.WaveletOperations;
+import ai.prophetizo.wavelet.util.MathUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the sort-based noise estimate the denoisers used with in-place selection.
+ *
+ * <p>Both compute median(|d|) and the MAD of a coefficient vector. The sort-based code
+ * allocates an absolute-value copy, clones it again and sorts it; the selection code
+ * writes the absolute values into a reused scratch buffer with
+ * {@link WaveletOperations#abs(double[], double[], int)} and selects in place with
+ * {@link MathUtils#medianInPlace(double[], int, int)} and
+ * {@link MathUtils#medianAbsoluteDeviationInPlace(double[], int, int)}. Results are
+ * checked for equality.</p>
+ */
+public class MedianSelectionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 10;
+
+    private static final int[] SIZES = {256, 4096, 65536, 1 << 20};
+
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        System.out.println("Median / MAD Selection Benchmark");
+        System.out.println("================================");
+        System.out.printf("  %-10s %-12s %14s %14s %10s %10s%n",
+            "n", "statistic", "sort us", "select us", "speedup", "equal");
+
+        for (int n : SIZES) {
+            double[] coeffs = generateCoefficients(n);
+            double[] scratch = new double[n];
+            int reps = Math.max(1, (1 << 22) / n);
+
+            double sortedMedian = sortMedianOfAbs(coeffs);
+            double selectedMedian = selectMedianOfAbs(coeffs, scratch);
+            long sort = measure(reps, () -> sink = sortMedianOfAbs(coeffs));
+            long select = measure(reps, () -> sink = selectMedianOfAbs(coeffs, scratch));
+            report(n, "median|d|", sort, select, sortedMedian == selectedMedian);
+
+            double sortedMad = sortMad(coeffs);
+            double selectedMad = selectMad(coeffs, scratch);
+            sort = measure(reps, () -> sink = sortMad(coeffs));
+            select = measure(reps, () -> sink = selectMad(coeffs, scratch));
+            report(n, "MAD", sort, select, sortedMad == selectedMad);
+        }
+    }
+
+    private static void report(int n, String statistic, long sort, long select, boolean equal) {
+        System.out.printf("  %-10d %-12s %14.2f %14.2f %9.2fx %10s%n",
+            n, statistic, sort / 1e3, select / 1e3, (double) sort / select, equal ? "yes" : "NO");
+    }
+
+    /** The former WaveletDenoiser.estimateNoiseSigma median: abs copy, clone, sort. */
+    private static double sortMedianOfAbs(double[] coeffs) {
+        double[] abs = new double[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++) {
+            abs[i] = Math.abs(coeffs[i]);
+        }
+        double[] sorted = abs.clone();
+        Arrays.sort(sorted);
+        return sortedMedian(sorted);
+    }
+
+    private static double selectMedianOfAbs(double[] coeffs, double[] scratch) {
+        WaveletOperations.abs(coeffs, scratch, coeffs.length);
+        return MathUtils.medianInPlace(scratch, 0, coeffs.length);
+    }
+
+    private static double sortMad(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double median = sortedMedian(sorted);
+        double[] deviations = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            deviations[i] = Math.abs(values[i] - median);
+        }
+        Arrays.sort(deviations);
+        return sortedMedian(deviations);
+    }
+
+    private static double selectMad(double[] values, double[] scratch) {
+        System.arraycopy(values, 0, scratch, 0, values.length);
+        return MathUtils.medianAbsoluteDeviationInPlace(scratch, 0, values.length);
+    }
+
+    private static double sortedMedian(double[] sorted) {
+        int n = sorted.length;
+        return n % 2 == 0 ? (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0 : sorted[n / 2];
+    }
+
+    /** Best time of one call, in nanoseconds, over batches of reps calls. */
+    private static long measure(int reps, Runnable run) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (int r = 0; r < reps; r++) {
+                run.run();
+            }
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < reps; r++) {
+                run.run();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / reps);
+        }
+        return best;
+    }
+
+    private static double[] generateCoefficients(int n) {
+        Random random = new Random(42);
+        double[] coeffs = new double[n];
+        for (int i = 0; i < n; i++) {
+            coeffs[i] = 0.5 * random.nextGaussian() + (random.nextInt(20) == 0 ? 4 * random.nextGaussian() : 0);
+        }
+        return coeffs;
+    }
+}
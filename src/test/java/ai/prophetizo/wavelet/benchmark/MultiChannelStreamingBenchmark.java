@@ -0,0 +1,109 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MultiChannelStreamingTransform;
+import jdk.incubator.vector.DoubleVector;
+
+import java.util.Random;
+
+/**
+ * Compares one {@link CausalMODWTStreamingTransform} per channel against a single
+ * {@link MultiChannelStreamingTransform} advancing all channels per tick.
+ *
+ * <p>Both cases see the same ticks and read the level-1 detail of every channel after
+ * each tick. Reports nanoseconds per channel-sample and channel-samples per second
+ * for 1k and 10k channels.</p>
+ */
+public class MultiChannelStreamingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURE_ITERATIONS = 5;
+
+    private static final int LEVELS = 3;
+    private static final int[] CHANNEL_COUNTS = {1_000, 10_000};
+    private static final long SAMPLES_PER_RUN = 20_000_000L;
+
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        System.out.println("Multi-Channel Streaming MODWT Benchmark");
+        System.out.println("=======================================");
+        System.out.printf("DB4, %d levels, vector lanes: %d%n%n", LEVELS, DoubleVector.SPECIES_PREFERRED.length());
+        System.out.printf("  %-10s %-26s %12s %16s%n", "Channels", "Implementation", "ns/sample", "samples/s");
+
+        for (int channels : CHANNEL_COUNTS) {
+            int ticks = (int) (SAMPLES_PER_RUN / channels);
+            double[][] data = generateTicks(channels, 64);
+
+            double perChannel = measure(() -> runPerChannel(channels, ticks, data)) / ((double) ticks * channels);
+            double multi = measure(() -> runMultiChannel(channels, ticks, data)) / ((double) ticks * channels);
+
+            System.out.printf("  %-10d %-26s %12.2f %16.0f%n", channels, "Causal per channel",
+                perChannel, 1e9 / perChannel);
+            System.out.printf("  %-10d %-26s %12.2f %16.0f%n", channels, "Multi-channel SoA",
+                multi, 1e9 / multi);
+            System.out.printf("  %-10s speedup: %.2fx%n%n", "", perChannel / multi);
+        }
+    }
+
+    private static void runPerChannel(int channels, int ticks, double[][] data) {
+        CausalMODWTStreamingTransform[] transforms = new CausalMODWTStreamingTransform[channels];
+        for (int c = 0; c < channels; c++) {
+            transforms[c] = MODWTStreamingTransform.createCausal(Daubechies.DB4, LEVELS);
+        }
+        double[] details = new double[LEVELS];
+        double sum = 0;
+        for (int t = 0; t < ticks; t++) {
+            double[] tick = data[t % data.length];
+            for (int c = 0; c < channels; c++) {
+                transforms[c].processSample(tick[c], details);
+                sum += details[0];
+            }
+        }
+        sink = sum;
+        for (CausalMODWTStreamingTransform transform : transforms) {
+            transform.close();
+        }
+    }
+
+    private static void runMultiChannel(int channels, int ticks, double[][] data) {
+        MultiChannelStreamingTransform transform = new MultiChannelStreamingTransform(Daubechies.DB4, LEVELS, channels);
+        double[] details = new double[channels];
+        double sum = 0;
+        for (int t = 0; t < ticks; t++) {
+            transform.tick(data[t % data.length]);
+            transform.copyDetails(1, details);
+            for (int c = 0; c < channels; c++) {
+                sum += details[c];
+            }
+        }
+        sink = sum;
+        transform.close();
+    }
+
+    private static long measure(Runnable run) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            run.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static double[][] generateTicks(int channels, int count) {
+        Random random = new Random(42);
+        double[][] ticks = new double[count][channels];
+        for (int t = 0; t < count; t++) {
+            for (int c = 0; c < channels; c++) {
+                ticks[t][c] = 100 + c * 0.01 + random.nextGaussian();
+            }
+        }
+        return ticks;
+    }
+}
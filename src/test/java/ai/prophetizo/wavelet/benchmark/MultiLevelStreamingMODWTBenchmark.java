@@ -0,0 +1,151 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.api.Symlet;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+
+import java.util.Random;
+
+/**
+ * Feeds a 10M-sample stream through the multi-level streaming MODWT.
+ *
+ * <p>Compares three ways of producing coefficients for every level:</p>
+ * <ul>
+ *   <li><strong>Block recompute:</strong> collect {@code bufferSize} samples and run a full
+ *       multi-level decomposition on them, as the streaming transform did before it
+ *       became a pyramid.</li>
+ *   <li><strong>Pyramid, chunks:</strong> {@link MODWTStreamingTransform#process(double[])}
+ *       with 1024-sample chunks, one level at a time over each chunk.</li>
+ *   <li><strong>Pyramid, per sample:</strong>
+ *       {@link CausalMODWTStreamingTransform#processSample(double, double[])}, cascading every
+ *       sample through all levels.</li>
+ * </ul>
+ * <p>No subscribers are attached, so the timings cover the transform only. The per-level
+ * latency and processing time reported by the streaming statistics follow each case.</p>
+ */
+public class MultiLevelStreamingMODWTBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 1;
+    private static final int MEASURE_ITERATIONS = 3;
+
+    private static final int STREAM_LENGTH = 10_000_000;
+    private static final int BUFFER_SIZE = 1024;
+    private static final int CHUNK_SIZE = 1024;
+    private static final int[] LEVELS = {3, 6};
+    private static final Wavelet[] WAVELETS = {Haar.INSTANCE, Daubechies.DB4, Symlet.SYM8};
+
+    public static void main(String[] args) {
+        System.out.println("Multi-Level Streaming MODWT Benchmark");
+        System.out.println("=====================================");
+        System.out.printf("Stream length: %,d samples, buffer size: %d%n%n", STREAM_LENGTH, BUFFER_SIZE);
+
+        double[] stream = generateStream(STREAM_LENGTH);
+        for (Wavelet wavelet : WAVELETS) {
+            for (int levels : LEVELS) {
+                benchmarkCase(wavelet, levels, stream);
+            }
+        }
+    }
+
+    private static void benchmarkCase(Wavelet wavelet, int levels, double[] stream) {
+        System.out.printf("%s, %d levels%n", wavelet.name(), levels);
+
+        double blockMs = time(() -> blockRecompute(wavelet, levels, stream));
+        double chunkMs = time(() -> pyramidChunks(wavelet, levels, stream));
+        double sampleMs = time(() -> pyramidPerSample(wavelet, levels, stream));
+
+        report("Block recompute", blockMs, blockMs);
+        report("Pyramid, chunks", chunkMs, blockMs);
+        report("Pyramid, per sample", sampleMs, blockMs);
+
+        try (MODWTStreamingTransform transform = MODWTStreamingTransform.createMultiLevel(
+                wavelet, BoundaryMode.PERIODIC, BUFFER_SIZE, levels)) {
+            feedChunks(transform, stream);
+            MODWTStreamingTransform.StreamingStatistics stats = transform.getStatistics();
+            System.out.printf("  %-6s %16s %16s%n", "Level", "Latency (samp)", "ns/sample");
+            for (int level = 1; level <= stats.getLevelCount(); level++) {
+                System.out.printf("  %-6d %16.1f %16.2f%n", level,
+                    stats.getLevelLatencySamples(level), stats.getLevelProcessingTimeNanos(level));
+            }
+        }
+        System.out.println();
+    }
+
+    private static double blockRecompute(Wavelet wavelet, int levels, double[] stream) {
+        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(wavelet, BoundaryMode.PERIODIC);
+        double[] buffer = new double[BUFFER_SIZE];
+        double sink = 0.0;
+        for (int offset = 0; offset + BUFFER_SIZE <= stream.length; offset += BUFFER_SIZE) {
+            System.arraycopy(stream, offset, buffer, 0, BUFFER_SIZE);
+            MultiLevelMODWTResult result = transform.decompose(buffer, levels);
+            sink += result.getApproximationCoeffs()[BUFFER_SIZE - 1];
+        }
+        return sink;
+    }
+
+    private static double pyramidChunks(Wavelet wavelet, int levels, double[] stream) {
+        try (CausalMODWTStreamingTransform transform =
+                 MODWTStreamingTransform.createCausal(wavelet, levels, BUFFER_SIZE)) {
+            feedChunks(transform, stream);
+            return transform.getApproximation();
+        }
+    }
+
+    private static double pyramidPerSample(Wavelet wavelet, int levels, double[] stream) {
+        try (CausalMODWTStreamingTransform transform =
+                 MODWTStreamingTransform.createCausal(wavelet, levels, BUFFER_SIZE)) {
+            double[] details = new double[levels];
+            double sink = 0.0;
+            for (double sample : stream) {
+                sink += transform.processSample(sample, details);
+            }
+            return sink;
+        }
+    }
+
+    private static void feedChunks(MODWTStreamingTransform transform, double[] stream) {
+        double[] chunk = new double[CHUNK_SIZE];
+        for (int offset = 0; offset + CHUNK_SIZE <= stream.length; offset += CHUNK_SIZE) {
+            System.arraycopy(stream, offset, chunk, 0, CHUNK_SIZE);
+            transform.process(chunk);
+        }
+    }
+
+    private static double time(java.util.function.DoubleSupplier run) {
+        double sink = 0.0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += run.getAsDouble();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += run.getAsDouble();
+        }
+        double ms = (System.nanoTime() - start) / 1e6 / MEASURE_ITERATIONS;
+        if (Double.isNaN(sink)) {
+            System.out.println("(unexpected NaN)");
+        }
+        return ms;
+    }
+
+    private static void report(String name, double ms, double baselineMs) {
+        System.out.printf("  %-22s %10.1f ms %10.1f Msamples/s %7.2fx%n",
+            name, ms, STREAM_LENGTH / ms / 1000.0, baselineMs / ms);
+    }
+
+    private static double[] generateStream(int length) {
+        Random random = new Random(42);
+        double[] stream = new double[length];
+        double price = 100.0;
+        for (int i = 0; i < length; i++) {
+            price += 0.01 * random.nextGaussian();
+            stream[i] = price;
+        }
+        return stream;
+    }
+}
@@ -17,6 +17,10 @@ public class ParallelMultiLevelMODWTBenchmark {
     private static final int WARMUP_ITERATIONS = 100;
     private static final int MEASURE_ITERATIONS = 1000;
     
+    private static final int CHUNKED_SIGNAL_LENGTH = 1 << 21;
+    private static final int CHUNKED_WARMUP_ITERATIONS = 5;
+    private static final int CHUNKED_MEASURE_ITERATIONS = 10;
+    
     /**
      * Safety margin for maximum decomposition levels.
      * For MODWT, the theoretical maximum is approximately log2(N/(L-1)) where N is signal length
@@ -63,6 +67,20 @@ public class ParallelMultiLevelMODWTBenchmark {
         for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
             benchmarkWithThreadPool(largeSignal, 5, threads);
         }
+        
+        // Sweep thread counts for the chunked (intra-level) mode on a long series
+        System.out.println("\n\nChunked Thread Sweep (Signal: " + CHUNKED_SIGNAL_LENGTH + ", Levels: 6)");
+        System.out.println("====================================================");
+        double[] longSignal = generateRandomSignal(CHUNKED_SIGNAL_LENGTH);
+        double baselineMs = 0;
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads++) {
+            double ms = benchmarkChunked(longSignal, 6, threads);
+            if (threads == 1) {
+                baselineMs = ms;
+            }
+            System.out.printf("  Threads: %2d | Time: %8.3f ms | Speedup vs 1 thread: %.2fx%n",
+                threads, ms, baselineMs / ms);
+        }
     }
     
     private static void benchmarkDecomposition(double[] signal, int levels) {
@@ -130,6 +148,33 @@ public class ParallelMultiLevelMODWTBenchmark {
         }
     }
     
+    private static double benchmarkChunked(double[] signal, int levels, int threads) {
+        var wavelet = Daubechies.DB4;
+        var mode = BoundaryMode.PERIODIC;
+        
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            ParallelMultiLevelMODWT parallel = new ParallelMultiLevelMODWT(pool);
+            
+            // Warmup
+            for (int i = 0; i < CHUNKED_WARMUP_ITERATIONS; i++) {
+                parallel.decomposeChunked(signal, wavelet, mode, levels);
+            }
+            
+            // Measure
+            long start = System.nanoTime();
+            for (int i = 0; i < CHUNKED_MEASURE_ITERATIONS; i++) {
+                parallel.decomposeChunked(signal, wavelet, mode, levels);
+            }
+            long time = System.nanoTime() - start;
+            
+            return time / 1e6 / CHUNKED_MEASURE_ITERATIONS;
+            
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
     private static double[] generateRandomSignal(int length) {
         Random random = new Random(42); // Fixed seed for reproducibility
         double[] signal = new double[length];
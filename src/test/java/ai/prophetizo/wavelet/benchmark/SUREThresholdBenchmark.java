@@ -0,0 +1,108 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Measures SURE threshold selection against the quadratic per-candidate risk scan it
+ * replaced.
+ *
+ * <p>For each size the one-pass selection runs through
+ * {@link WaveletDenoiser#selectThreshold(double[], ThresholdMethod)}. The quadratic scan is
+ * reimplemented here and only run up to {@link #QUADRATIC_LIMIT} coefficients; where both
+ * run, the thresholds are compared bit for bit. The last column divides the time by
+ * n log2 n, which stays flat for linearithmic scaling.</p>
+ */
+public class SUREThresholdBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURE_ITERATIONS = 5;
+
+    private static final int[] SIZES = {1 << 10, 1 << 12, 1 << 14, 1 << 16, 1 << 18, 1 << 20};
+    private static final int QUADRATIC_LIMIT = 1 << 14;
+
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        System.out.println("SURE Threshold Selection Benchmark");
+        System.out.println("==================================");
+        System.out.printf("  %-10s %14s %14s %10s %16s%n",
+            "n", "one-pass ms", "quadratic ms", "identical", "ns / (n log n)");
+
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        for (int n : SIZES) {
+            double[] coeffs = generateCoefficients(n);
+
+            double threshold = denoiser.selectThreshold(coeffs, ThresholdMethod.SURE);
+            long fast = measure(() -> sink = denoiser.selectThreshold(coeffs, ThresholdMethod.SURE));
+
+            String quadratic = "-";
+            String identical = "-";
+            if (n <= QUADRATIC_LIMIT) {
+                double reference = quadraticThreshold(coeffs);
+                quadratic = String.format("%.3f", measure(() -> sink = quadraticThreshold(coeffs)) / 1e6);
+                identical = Double.doubleToRawLongBits(reference) == Double.doubleToRawLongBits(threshold)
+                    ? "yes" : "NO";
+            }
+
+            System.out.printf("  %-10d %14.3f %14s %10s %16.2f%n", n, fast / 1e6, quadratic, identical,
+                fast / (n * (Math.log(n) / Math.log(2))));
+        }
+    }
+
+    /** The quadratic selection, with the same noise estimate and universal cap. */
+    private static double quadraticThreshold(double[] coeffs) {
+        int n = coeffs.length;
+        double[] sortedAbs = new double[n];
+        for (int i = 0; i < n; i++) {
+            sortedAbs[i] = Math.abs(coeffs[i]);
+        }
+        Arrays.sort(sortedAbs);
+        double median = n % 2 == 0 ? (sortedAbs[n / 2 - 1] + sortedAbs[n / 2]) / 2.0 : sortedAbs[n / 2];
+        double sigma = median / 0.6745;
+        double sigma2 = sigma * sigma;
+
+        double minRisk = Double.POSITIVE_INFINITY;
+        double best = 0;
+        for (double t : sortedAbs) {
+            double risk = -n * sigma2;
+            for (double c : coeffs) {
+                double absC = Math.abs(c);
+                risk += absC <= t ? c * c : sigma2 + (absC - t) * (absC - t);
+            }
+            risk /= n;
+            if (risk < minRisk) {
+                minRisk = risk;
+                best = t;
+            }
+        }
+        return Math.min(best, sigma * Math.sqrt(2.0 * Math.log(n)));
+    }
+
+    private static long measure(Runnable run) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            run.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static double[] generateCoefficients(int n) {
+        Random random = new Random(42);
+        double[] coeffs = new double[n];
+        for (int i = 0; i < n; i++) {
+            coeffs[i] = 0.5 * random.nextGaussian() + (random.nextInt(20) == 0 ? 4 * random.nextGaussian() : 0);
+        }
+        return coeffs;
+    }
+}
@@ -0,0 +1,109 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+import ai.prophetizo.wavelet.modwt.MODWTTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingDenoiser;
+import ai.prophetizo.wavelet.util.MathUtils;
+
+import java.util.Random;
+
+/**
+ * Per-block cost of the streaming denoiser before and after it was restructured into a
+ * single forward, estimate, threshold, inverse pipeline.
+ *
+ * <ul>
+ *   <li><strong>Two transforms:</strong> the previous per-block work, a forward transform
+ *       whose details feed the noise window and its MAD, followed by
+ *       {@link WaveletDenoiser#denoise}, which builds its own {@link MODWTTransform} and
+ *       transforms the block again.</li>
+ *   <li><strong>Pipeline:</strong> {@link MODWTStreamingDenoiser#denoise(double[])}.</li>
+ *   <li><strong>Pipeline, into buffer:</strong>
+ *       {@link MODWTStreamingDenoiser#denoise(double[], double[])}.</li>
+ * </ul>
+ */
+public class StreamingDenoiserPipelineBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 20_000;
+    private static final int NOISE_WINDOW_SIZE = 1024;
+
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        System.out.println("Streaming Denoiser Pipeline Benchmark");
+        System.out.println("=====================================");
+        System.out.println();
+
+        for (int blockSize : new int[]{256, 1024, 4096}) {
+            for (ThresholdMethod method : new ThresholdMethod[]{ThresholdMethod.UNIVERSAL, ThresholdMethod.BAYES}) {
+                benchmarkCase(Daubechies.DB4, blockSize, method);
+            }
+        }
+    }
+
+    private static void benchmarkCase(Wavelet wavelet, int blockSize, ThresholdMethod method) {
+        System.out.printf("%s, block %d, %s%n", wavelet.name(), blockSize, method);
+        double[] samples = generateSignal(blockSize);
+        double[] output = new double[blockSize];
+
+        MODWTTransform transform = new MODWTTransform(wavelet, BoundaryMode.PERIODIC);
+        WaveletDenoiser waveletDenoiser = new WaveletDenoiser(wavelet, BoundaryMode.PERIODIC);
+        double[] noiseWindow = new double[NOISE_WINDOW_SIZE];
+        double baseline = time(() -> {
+            double[] details = transform.forward(samples).detailCoeffs();
+            for (int i = 0; i < noiseWindow.length; i++) {
+                noiseWindow[i] = Math.abs(details[i % details.length]);
+            }
+            sink = MathUtils.medianAbsoluteDeviation(noiseWindow);
+            sink = waveletDenoiser.denoise(samples, method, ThresholdType.SOFT)[0];
+        });
+
+        MODWTStreamingDenoiser denoiser = new MODWTStreamingDenoiser.Builder()
+            .wavelet(wavelet)
+            .bufferSize(blockSize)
+            .thresholdMethod(method)
+            .thresholdType(ThresholdType.SOFT)
+            .noiseWindowSize(NOISE_WINDOW_SIZE)
+            .build();
+        double pipeline = time(() -> sink = denoiser.denoise(samples)[0]);
+        double buffered = time(() -> {
+            denoiser.denoise(samples, output);
+            sink = output[0];
+        });
+        denoiser.close();
+
+        report("Two transforms", baseline, baseline);
+        report("Pipeline", pipeline, baseline);
+        report("Pipeline, into buffer", buffered, baseline);
+        System.out.println();
+    }
+
+    private static double time(Runnable block) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            block.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            block.run();
+        }
+        return (System.nanoTime() - start) / 1000.0 / MEASURE_ITERATIONS;
+    }
+
+    private static void report(String name, double micros, double baselineMicros) {
+        System.out.printf("  %-24s %10.2f us/block %7.2fx%n", name, micros, baselineMicros / micros);
+    }
+
+    private static double[] generateSignal(int length) {
+        Random random = new Random(42);
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 32.0) + 0.3 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -0,0 +1,161 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingDenoiser;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares allocation of array-based result publication against pooled
+ * {@link CoefficientFrame} publication in the streaming transforms and denoiser.
+ *
+ * <p>Each trial builds one publisher with one subscriber attached; every benchmark
+ * invocation pushes one block through it. Run with the GC profiler and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per block by all threads including
+ * the subscriber's executor:</p>
+ * <pre>
+ * ./jmh-runner.sh StreamingFramePoolBenchmark -prof gc
+ * </pre>
+ * <p>Frame subscribers should report close to 0 B per block for the transforms. The
+ * denoiser writes into a reused output buffer, so its figure is the publication cost
+ * plus what the denoising step itself allocates.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingFramePoolBenchmark {
+
+    private static final int BLOCK_SIZE = 1024;
+    private static final int LEVELS = 3;
+
+    /**
+     * Publisher under test.
+     */
+    public enum Source {
+        /** Block MODWT transform, one level. */
+        BLOCK,
+        /** Causal MODWT transform over three levels. */
+        CAUSAL,
+        /** Streaming denoiser. */
+        DENOISER
+    }
+
+    /**
+     * How the subscriber receives blocks.
+     */
+    public enum Delivery {
+        /** {@code subscribe}: a fresh result or array per block. */
+        ARRAYS,
+        /** {@code subscribeFrames}: pooled frames released by the subscriber. */
+        FRAMES
+    }
+
+    @Param({"BLOCK", "CAUSAL", "DENOISER"})
+    private Source source;
+
+    @Param({"ARRAYS", "FRAMES"})
+    private Delivery delivery;
+
+    private static volatile double sink;
+
+    private Runnable block;
+    private Runnable close;
+    private CountDownLatch done;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        double[] chunk = generateSignal(BLOCK_SIZE);
+        done = new CountDownLatch(1);
+
+        switch (source) {
+            case BLOCK, CAUSAL -> {
+                MODWTStreamingTransform transform = source == Source.BLOCK
+                    ? MODWTStreamingTransform.create(Daubechies.DB4, BoundaryMode.PERIODIC, BLOCK_SIZE)
+                    : MODWTStreamingTransform.createCausal(Daubechies.DB4, LEVELS, BLOCK_SIZE);
+                if (delivery == Delivery.FRAMES) {
+                    transform.subscribeFrames(subscriber(StreamingFramePoolBenchmark::consume));
+                } else {
+                    transform.subscribe(subscriber((MODWTResult result) -> sink = result.detailCoeffs()[0]));
+                }
+                block = () -> transform.process(chunk);
+                close = transform::close;
+            }
+            case DENOISER -> {
+                MODWTStreamingDenoiser denoiser = new MODWTStreamingDenoiser.Builder()
+                    .bufferSize(BLOCK_SIZE)
+                    .build();
+                if (delivery == Delivery.FRAMES) {
+                    denoiser.subscribeFrames(subscriber(StreamingFramePoolBenchmark::consume));
+                } else {
+                    denoiser.subscribe(subscriber((double[] samples) -> sink = samples[0]));
+                }
+                double[] output = new double[BLOCK_SIZE];
+                block = () -> denoiser.denoise(chunk, output);
+                close = denoiser::close;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        close.run();
+        if (!done.await(60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Subscriber did not complete");
+        }
+    }
+
+    @Benchmark
+    public void publishBlock() {
+        block.run();
+    }
+
+    private static void consume(CoefficientFrame frame) {
+        sink = frame.row(frame.rowCount() - 1)[0];
+        frame.release();
+    }
+
+    private <T> Flow.Subscriber<T> subscriber(Consumer<T> onItem) {
+        return new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                onItem.accept(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        };
+    }
+
+    private static double[] generateSignal(int length) {
+        Random random = new Random(42);
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 32.0) + 0.1 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -0,0 +1,112 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.PublicationMode;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures hop latency of the causal streaming transform under each {@link PublicationMode}.
+ *
+ * <p>Hop latency is the time from the {@code process} call for one hop until the
+ * subscriber's {@code onNext} sees the result. Each hop waits for the previous delivery,
+ * so the figures are per-hop handoff cost rather than throughput. Reports median, p99
+ * and max in microseconds.</p>
+ */
+public class StreamingHopLatencyBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 20_000;
+
+    private static final int HOP_SIZE = 64;
+    private static final int LEVELS = 1;
+
+    public static void main(String[] args) {
+        System.out.println("Streaming Hop Latency Benchmark");
+        System.out.println("===============================");
+        System.out.printf("Causal DB4, %d level, hop %d samples%n%n", LEVELS, HOP_SIZE);
+        System.out.printf("  %-18s %12s %12s %12s%n", "Mode", "median us", "p99 us", "max us");
+
+        ExecutorService dedicated = Executors.newSingleThreadExecutor();
+        try {
+            run("commonPool", PublicationMode.commonPool());
+            run("dedicated thread", PublicationMode.executor(dedicated));
+            run("virtualThreads", PublicationMode.virtualThreads());
+            run("synchronous", PublicationMode.synchronous());
+        } finally {
+            dedicated.shutdown();
+        }
+    }
+
+    private static void run(String name, PublicationMode mode) {
+        MODWTStreamingTransform transform =
+            MODWTStreamingTransform.createCausal(Daubechies.DB4, LEVELS, HOP_SIZE, mode);
+        LatencySubscriber subscriber = new LatencySubscriber();
+        transform.subscribe(subscriber);
+
+        double[] hop = new double[HOP_SIZE];
+        Random random = new Random(42);
+        for (int i = 0; i < hop.length; i++) {
+            hop[i] = random.nextGaussian();
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            hopOnce(transform, subscriber, hop);
+        }
+        long[] latencies = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            latencies[i] = hopOnce(transform, subscriber, hop);
+        }
+        transform.close();
+
+        Arrays.sort(latencies);
+        System.out.printf("  %-18s %12.2f %12.2f %12.2f%n", name,
+            latencies[latencies.length / 2] / 1e3,
+            latencies[(int) (latencies.length * 0.99)] / 1e3,
+            latencies[latencies.length - 1] / 1e3);
+    }
+
+    private static long hopOnce(MODWTStreamingTransform transform, LatencySubscriber subscriber, double[] hop) {
+        long expected = subscriber.received + 1;
+        long start = System.nanoTime();
+        transform.process(hop);
+        while (subscriber.received < expected) {
+            Thread.onSpinWait();
+            if (System.nanoTime() - start > 1_000_000) {
+                LockSupport.parkNanos(1_000);
+            }
+        }
+        return subscriber.deliveredAt - start;
+    }
+
+    private static final class LatencySubscriber implements Flow.Subscriber<MODWTResult> {
+        private volatile long received;
+        private volatile long deliveredAt;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(MODWTResult item) {
+            deliveredAt = System.nanoTime();
+            received++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
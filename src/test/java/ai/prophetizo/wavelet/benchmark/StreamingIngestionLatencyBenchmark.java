@@ -0,0 +1,150 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.concurrent.BackpressurePolicy;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import ai.prophetizo.wavelet.streaming.StreamingIngestor;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Latency histogram of streaming ingestion under a sustained 1M samples/s feed.
+ *
+ * <p>A producer thread paces samples at {@value #RATE_PER_SECOND} per second by spinning on
+ * {@link System#nanoTime()}, as a market data feed handler would. For every case the
+ * benchmark reports the time the producer spends inside its call (what the feed handler
+ * sees) and, for the ingestor, the time from offer until the transform has processed the
+ * sample.</p>
+ * <ul>
+ *   <li><strong>Direct:</strong> the producer calls {@code processSample} on a block-based
+ *       streaming transform, paying for every block recompute and publication inline.</li>
+ *   <li><strong>Ingestor:</strong> the producer offers to a {@link StreamingIngestor} that
+ *       feeds a causal transform on its own thread, once per backpressure policy.</li>
+ * </ul>
+ * <p>Percentiles are computed by sorting the recorded latencies.</p>
+ */
+public class StreamingIngestionLatencyBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 1;
+    private static final int MEASURE_ITERATIONS = 1;
+
+    private static final long RATE_PER_SECOND = 1_000_000;
+    private static final int SAMPLES = 5_000_000;
+    private static final int LEVELS = 4;
+    private static final int BUFFER_SIZE = 1024;
+
+    public static void main(String[] args) {
+        System.out.println("Streaming Ingestion Latency Benchmark");
+        System.out.println("=====================================");
+        System.out.printf("%,d samples at %,d samples/s, DB4, %d levels%n%n", SAMPLES, RATE_PER_SECOND, LEVELS);
+
+        double[] stream = generateStream(SAMPLES);
+        System.out.printf("%-36s %10s %10s %10s %10s %10s %10s%n",
+            "Case", "p50 (ns)", "p99", "p99.9", "p99.99", "max", "dropped");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runDirect(stream, false);
+            runIngestor(stream, BackpressurePolicy.DROP_OLDEST, false);
+        }
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            runDirect(stream, true);
+            for (BackpressurePolicy policy : BackpressurePolicy.values()) {
+                runIngestor(stream, policy, true);
+            }
+        }
+    }
+
+    private static void runDirect(double[] stream, boolean print) {
+        long[] callNanos = new long[stream.length];
+        try (MODWTStreamingTransform transform = MODWTStreamingTransform.createMultiLevel(
+                Daubechies.DB4, BoundaryMode.PERIODIC, BUFFER_SIZE, LEVELS)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < stream.length; i++) {
+                long due = start + i * 1_000_000_000L / RATE_PER_SECOND;
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+                long t0 = System.nanoTime();
+                transform.processSample(stream[i]);
+                callNanos[i] = System.nanoTime() - t0;
+            }
+        }
+        if (print) {
+            report("Direct processSample", callNanos, 0);
+        }
+    }
+
+    private static void runIngestor(double[] stream, BackpressurePolicy policy, boolean print) {
+        long[] offerNanos = new long[stream.length];
+        long[] offeredAt = new long[stream.length];
+        long[] endToEnd = new long[stream.length];
+        double[] values = new double[256];
+        int[] delivered = new int[1];
+        long dropped;
+
+        try (CausalMODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(
+                Daubechies.DB4, LEVELS, BUFFER_SIZE)) {
+            // The ring carries sequence numbers so the sink can look up the offer time
+            StreamingIngestor ingestor = StreamingIngestor.builder((samples, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        values[i] = stream[(int) samples[i]];
+                    }
+                    transform.process(length == values.length ? values : Arrays.copyOf(values, length));
+                    long now = System.nanoTime();
+                    for (int i = 0; i < length; i++) {
+                        endToEnd[delivered[0]++] = now - offeredAt[(int) samples[i]];
+                    }
+                })
+                .capacity(1 << 16)
+                .chunkSize(256)
+                .policy(policy)
+                .idleParkNanos(10_000)
+                .build();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < stream.length; i++) {
+                long due = start + i * 1_000_000_000L / RATE_PER_SECOND;
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+                long t0 = System.nanoTime();
+                offeredAt[i] = t0;
+                ingestor.offer(i);
+                offerNanos[i] = System.nanoTime() - t0;
+            }
+            ingestor.close();
+            dropped = ingestor.getDroppedCount();
+        }
+        if (print) {
+            report("Ingestor offer, " + policy, offerNanos, dropped);
+            report("Ingestor end-to-end, " + policy, Arrays.copyOf(endToEnd, delivered[0]), dropped);
+        }
+    }
+
+    private static void report(String name, long[] latencies, long dropped) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-36s %10d %10d %10d %10d %10d %10d%n", name,
+            percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+            percentile(sorted, 0.9999), sorted[sorted.length - 1], dropped);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double[] generateStream(int length) {
+        Random random = new Random(42);
+        double[] stream = new double[length];
+        double price = 100.0;
+        for (int i = 0; i < length; i++) {
+            price += 0.01 * random.nextGaussian();
+            stream[i] = price;
+        }
+        return stream;
+    }
+}
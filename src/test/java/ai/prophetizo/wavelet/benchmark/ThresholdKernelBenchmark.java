@@ -0,0 +1,77 @@
+package ai.prophetizo.wavelet.benchmark;
+
+import ai.prophetizo.wavelet.WaveletOperations;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+
+import java.util.Random;
+
+/**
+ * Compares the allocating thresholding calls with the into-buffer kernels.
+ *
+ * <p>For each size the allocating soft threshold, which returns a new array per call, is
+ * timed against in-place application of every {@link ThresholdType} through
+ * {@link ThresholdType#apply(double[], double, double[])}. The in-place runs threshold
+ * a reused buffer that is refilled from the source first, so the copy is included in
+ * their time.</p>
+ */
+public class ThresholdKernelBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 10;
+
+    private static final int[] SIZES = {1024, 16384, 1 << 20};
+    private static final double THRESHOLD = 0.8;
+
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        System.out.println("Threshold Kernel Benchmark");
+        System.out.println("==========================");
+        System.out.printf("  %-10s %-18s %12s%n", "n", "kernel", "ns / coeff");
+
+        for (int n : SIZES) {
+            double[] coeffs = generateCoefficients(n);
+            double[] buffer = new double[n];
+            int reps = Math.max(1, (1 << 22) / n);
+
+            long allocating = measure(reps, () -> sink = WaveletOperations.softThreshold(coeffs, THRESHOLD)[0]);
+            System.out.printf("  %-10d %-18s %12.3f%n", n, "SOFT (allocating)", (double) allocating / n);
+
+            for (ThresholdType type : ThresholdType.values()) {
+                long inPlace = measure(reps, () -> {
+                    System.arraycopy(coeffs, 0, buffer, 0, n);
+                    type.apply(buffer, THRESHOLD, buffer);
+                    sink = buffer[0];
+                });
+                System.out.printf("  %-10d %-18s %12.3f%n", n, type + " (in place)", (double) inPlace / n);
+            }
+        }
+    }
+
+    /** Best time of one call, in nanoseconds, over batches of reps calls. */
+    private static long measure(int reps, Runnable run) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (int r = 0; r < reps; r++) {
+                run.run();
+            }
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < reps; r++) {
+                run.run();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / reps);
+        }
+        return best;
+    }
+
+    private static double[] generateCoefficients(int n) {
+        Random random = new Random(42);
+        double[] coeffs = new double[n];
+        for (int i = 0; i < n; i++) {
+            coeffs[i] = 0.5 * random.nextGaussian() + (random.nextInt(20) == 0 ? 4 * random.nextGaussian() : 0);
+        }
+        return coeffs;
+    }
+}
@@ -0,0 +1,113 @@
+package ai.prophetizo.wavelet.concurrent;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SPSCDoubleRing}.
+ */
+class SPSCDoubleRingTest {
+
+    @Test
+    void testCapacityRoundedUpToPowerOfTwo() {
+        assertEquals(8, new SPSCDoubleRing(5, BackpressurePolicy.DROP_NEWEST).capacity());
+        assertEquals(16, new SPSCDoubleRing(16, BackpressurePolicy.DROP_NEWEST).capacity());
+        assertThrows(InvalidArgumentException.class, () -> new SPSCDoubleRing(1, BackpressurePolicy.BLOCK));
+        assertThrows(InvalidArgumentException.class, () -> new SPSCDoubleRing(8, null));
+    }
+
+    @Test
+    void testFifoOrderAcrossWrapAround() {
+        SPSCDoubleRing ring = new SPSCDoubleRing(8, BackpressurePolicy.DROP_NEWEST);
+        double[] target = new double[5];
+        double next = 0;
+        double expected = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 5; i++) {
+                assertTrue(ring.offer(next++));
+            }
+            assertEquals(5, ring.drain(target, 0, target.length));
+            for (double value : target) {
+                assertEquals(expected++, value);
+            }
+        }
+        assertTrue(ring.isEmpty());
+        assertEquals(0, ring.drain(target, 0, target.length));
+    }
+
+    @Test
+    void testDropNewestKeepsPrefix() {
+        SPSCDoubleRing ring = new SPSCDoubleRing(4, BackpressurePolicy.DROP_NEWEST);
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i < 4, ring.offer(i));
+        }
+        assertEquals(2, ring.getDroppedCount());
+        double[] target = new double[8];
+        assertEquals(4, ring.drain(target, 0, target.length));
+        assertArrayEquals(new double[]{0, 1, 2, 3}, java.util.Arrays.copyOf(target, 4));
+    }
+
+    @Test
+    void testDropOldestKeepsMostRecent() {
+        SPSCDoubleRing ring = new SPSCDoubleRing(4, BackpressurePolicy.DROP_OLDEST);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertEquals(6, ring.getDroppedCount());
+        assertEquals(4, ring.size());
+        double[] target = new double[8];
+        assertEquals(4, ring.drain(target, 0, target.length));
+        assertArrayEquals(new double[]{6, 7, 8, 9}, java.util.Arrays.copyOf(target, 4));
+    }
+
+    @Test
+    void testSignalHandsRejectedSamplesToHandler() {
+        List<Double> rejected = new ArrayList<>();
+        SPSCDoubleRing ring = new SPSCDoubleRing(2, BackpressurePolicy.SIGNAL, rejected::add);
+        assertTrue(ring.offer(1));
+        assertTrue(ring.offer(2));
+        assertFalse(ring.offer(3));
+        assertFalse(ring.offer(4));
+        assertEquals(List.of(3.0, 4.0), rejected);
+        assertEquals(2, ring.getDroppedCount());
+    }
+
+    @Test
+    void testConcurrentProducerConsumerLosesNothing() throws Exception {
+        for (BackpressurePolicy policy : new BackpressurePolicy[]{BackpressurePolicy.BLOCK, BackpressurePolicy.DROP_OLDEST}) {
+            SPSCDoubleRing ring = new SPSCDoubleRing(64, policy);
+            int count = 200_000;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    ring.offer(i);
+                }
+            });
+            producer.start();
+
+            double[] target = new double[37];
+            double last = -1;
+            long received = 0;
+            while (producer.isAlive() || !ring.isEmpty()) {
+                int n = ring.drain(target, 0, target.length);
+                for (int i = 0; i < n; i++) {
+                    // Samples arrive in order; drop-oldest may skip but never reorder
+                    assertTrue(target[i] > last, policy + ": out of order at " + target[i]);
+                    last = target[i];
+                }
+                received += n;
+            }
+            producer.join();
+
+            assertEquals(count - 1.0, last, policy.toString());
+            assertEquals(count, received + ring.getDroppedCount(), policy.toString());
+            if (policy == BackpressurePolicy.BLOCK) {
+                assertEquals(0, ring.getDroppedCount());
+            }
+        }
+    }
+}
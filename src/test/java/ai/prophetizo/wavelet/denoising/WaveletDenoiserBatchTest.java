@@ -0,0 +1,106 @@
+package ai.prophetizo.wavelet.denoising;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidSignalException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that batch denoising matches denoising each signal on its own.
+ */
+class WaveletDenoiserBatchTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    void testMatchesPerSignalDenoising() {
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        double[][] signals = noisySignals(37, 300);
+
+        for (ThresholdMethod method : new ThresholdMethod[]{ThresholdMethod.UNIVERSAL, ThresholdMethod.SURE}) {
+            double[][] denoised = denoiser.denoiseBatch(signals, 3, method, ThresholdType.SOFT);
+            assertEquals(signals.length, denoised.length);
+            for (int b = 0; b < signals.length; b++) {
+                assertArrayEquals(denoiser.denoiseMultiLevel(signals[b], 3, method, ThresholdType.SOFT),
+                    denoised[b], EPSILON, method + " signal " + b);
+            }
+        }
+    }
+
+    @Test
+    void testRunsChunksOnExecutor() {
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        // Long enough signals that the batch is split into several chunks, the last one partial
+        double[][] signals = noisySignals(100, 2048);
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            double[][] denoised = denoiser.denoiseBatch(signals, 2, ThresholdMethod.BAYES, ThresholdType.HARD,
+                task -> {
+                    tasks.incrementAndGet();
+                    pool.execute(task);
+                });
+            assertTrue(tasks.get() > 1);
+            for (int b = 0; b < signals.length; b++) {
+                assertArrayEquals(denoiser.denoiseMultiLevel(signals[b], 2, ThresholdMethod.BAYES, ThresholdType.HARD),
+                    denoised[b], EPSILON);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMixedLengthsAndEmptyBatch() {
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        double[][] signals = {noisySignals(1, 128)[0], noisySignals(1, 200)[0], noisySignals(1, 64)[0]};
+
+        double[][] denoised = denoiser.denoiseBatch(signals, 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT);
+        for (int b = 0; b < signals.length; b++) {
+            assertArrayEquals(denoiser.denoiseMultiLevel(signals[b], 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT),
+                denoised[b], EPSILON);
+        }
+        assertEquals(0, denoiser.denoiseBatch(new double[0][], 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT).length);
+    }
+
+    @Test
+    void testValidation() {
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        double[][] signals = noisySignals(40, 4096);
+
+        assertThrows(InvalidArgumentException.class,
+            () -> denoiser.denoiseBatch(null, 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT));
+        assertThrows(InvalidArgumentException.class,
+            () -> denoiser.denoiseBatch(new double[][]{null}, 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT));
+        assertThrows(InvalidArgumentException.class,
+            () -> denoiser.denoiseBatch(signals, 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT, null));
+        assertThrows(InvalidArgumentException.class,
+            () -> denoiser.denoiseBatch(signals, 2, ThresholdMethod.FIXED, ThresholdType.SOFT));
+
+        // A bad signal in a later chunk fails the call with the same exception as inline
+        signals[39][3] = Double.NaN;
+        assertThrows(InvalidSignalException.class,
+            () -> denoiser.denoiseBatch(signals, 2, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT));
+    }
+
+    private static double[][] noisySignals(int count, int length) {
+        Random random = new Random(count * 31L + length);
+        double[][] signals = new double[count][length];
+        for (int b = 0; b < count; b++) {
+            for (int i = 0; i < length; i++) {
+                signals[b][i] = Math.sin(2 * Math.PI * (b + 1) * i / length) + 0.3 * random.nextGaussian();
+            }
+        }
+        return signals;
+    }
+}
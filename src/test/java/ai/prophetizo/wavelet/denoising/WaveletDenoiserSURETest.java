@@ -0,0 +1,106 @@
+package ai.prophetizo.wavelet.denoising;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the one-pass SURE threshold selection picks the same threshold as
+ * evaluating the risk of every candidate directly.
+ */
+class WaveletDenoiserSURETest {
+
+    @Test
+    void testMatchesDirectRiskEvaluation() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 1 + random.nextInt(trial < 100 ? 64 : 2048);
+            double sigma = 0.1 + random.nextDouble();
+            double[] coeffs = new double[n];
+            for (int i = 0; i < n; i++) {
+                // Sparse signal plus noise, the case SURE is meant for
+                coeffs[i] = sigma * random.nextGaussian() + (random.nextInt(10) == 0 ? 5 * random.nextGaussian() : 0);
+            }
+            double[] sortedAbs = sortedAbs(coeffs);
+
+            assertEquals(directMinimizer(coeffs, sortedAbs, sigma),
+                WaveletDenoiser.sureMinimizer(sortedAbs, sigma), 0.0, "trial " + trial + ", n=" + n);
+        }
+    }
+
+    @Test
+    void testRepeatedMagnitudes() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 50; trial++) {
+            double[] coeffs = new double[100];
+            for (int i = 0; i < coeffs.length; i++) {
+                // Few distinct magnitudes with both signs
+                coeffs[i] = (random.nextInt(8) - 4) * 0.25;
+            }
+            double[] sortedAbs = sortedAbs(coeffs);
+
+            assertEquals(directMinimizer(coeffs, sortedAbs, 0.5),
+                WaveletDenoiser.sureMinimizer(sortedAbs, 0.5), 0.0);
+        }
+        assertEquals(0.0, WaveletDenoiser.sureMinimizer(new double[0], 1.0), 0.0);
+    }
+
+    @Test
+    void testMultiLevelDenoiseWithLargeLevel() {
+        // A level of 2^16 coefficients is instant now and was quadratic before
+        double[] signal = new double[1 << 16];
+        Random random = new Random(3);
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 512.0) + 0.2 * random.nextGaussian();
+        }
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+
+        double[] denoised = denoiser.denoiseMultiLevel(signal, 3,
+            WaveletDenoiser.ThresholdMethod.SURE, WaveletDenoiser.ThresholdType.SOFT);
+
+        assertEquals(signal.length, denoised.length);
+        double noisyError = 0;
+        double denoisedError = 0;
+        for (int i = 0; i < signal.length; i++) {
+            double clean = Math.sin(2 * Math.PI * i / 512.0);
+            noisyError += (signal[i] - clean) * (signal[i] - clean);
+            denoisedError += (denoised[i] - clean) * (denoised[i] - clean);
+        }
+        assertTrue(denoisedError < noisyError);
+    }
+
+    private static double[] sortedAbs(double[] coeffs) {
+        double[] sorted = new double[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++) {
+            sorted[i] = Math.abs(coeffs[i]);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /** The quadratic selection: every candidate's risk from a full pass over the coefficients. */
+    private static double directMinimizer(double[] coeffs, double[] sortedAbs, double sigma) {
+        int n = coeffs.length;
+        double sigma2 = sigma * sigma;
+        double minRisk = Double.POSITIVE_INFINITY;
+        double best = 0;
+        for (double t : sortedAbs) {
+            double risk = -n * sigma2;
+            for (double c : coeffs) {
+                double absC = Math.abs(c);
+                risk += absC <= t ? c * c : sigma2 + (absC - t) * (absC - t);
+            }
+            risk /= n;
+            if (risk < minRisk) {
+                minRisk = risk;
+                best = t;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,98 @@
+package ai.prophetizo.wavelet.denoising;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import ai.prophetizo.wavelet.modwt.MutableMultiLevelMODWTResultImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the in-place multi-level denoising path and the additional shrinkage rules.
+ */
+class WaveletDenoiserThresholdTypeTest {
+
+    @Test
+    void testMultiLevelMatchesCopyingReference() {
+        double[] signal = noisySignal(1000);
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(Daubechies.DB4, BoundaryMode.PERIODIC);
+
+        for (ThresholdType type : ThresholdType.values()) {
+            // Threshold copies of each level, as the denoiser did before thresholding in place
+            MultiLevelMODWTResult original = transform.decompose(signal, 4);
+            MutableMultiLevelMODWTResultImpl reference = new MutableMultiLevelMODWTResultImpl(original);
+            double sigma = median(original.getDetailCoeffsAtLevel(1)) / 0.6745;
+            for (int level = 1; level <= 4; level++) {
+                double[] details = original.getDetailCoeffsAtLevel(level);
+                double threshold = sigma / Math.sqrt(1 << (level - 1)) * Math.sqrt(2.0 * Math.log(details.length));
+                type.apply(details, threshold, reference.getMutableDetailCoeffs(level));
+            }
+            reference.clearCaches();
+
+            assertArrayEquals(transform.reconstruct(reference),
+                denoiser.denoiseMultiLevel(signal, 4, ThresholdMethod.UNIVERSAL, type), 1e-12, type.name());
+        }
+    }
+
+    @Test
+    void testEveryTypeReducesError() {
+        double[] signal = noisySignal(2048);
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        double noisyError = error(signal);
+
+        for (ThresholdType type : ThresholdType.values()) {
+            assertTrue(error(denoiser.denoise(signal, ThresholdMethod.UNIVERSAL, type)) < noisyError, type.name());
+            assertTrue(error(denoiser.denoiseMultiLevel(signal, 3, ThresholdMethod.SURE, type)) < noisyError,
+                type.name());
+        }
+    }
+
+    @Test
+    void testZeroThresholdKeepsCoefficients() {
+        double[] coeffs = {-2.0, -0.5, 0.0, 0.25, 3.0};
+        for (ThresholdType type : ThresholdType.values()) {
+            double[] output = new double[coeffs.length];
+            type.apply(coeffs, 0.0, output);
+            assertArrayEquals(coeffs, output, 0.0, type.name());
+        }
+    }
+
+    private static double error(double[] values) {
+        double error = 0;
+        for (int i = 0; i < values.length; i++) {
+            double diff = values[i] - clean(i);
+            error += diff * diff;
+        }
+        return error;
+    }
+
+    private static double clean(int i) {
+        return Math.sin(2 * Math.PI * i / 128.0) + (i % 256 < 32 ? 1.0 : 0.0);
+    }
+
+    private static double[] noisySignal(int length) {
+        Random random = new Random(5);
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = clean(i) + 0.3 * random.nextGaussian();
+        }
+        return signal;
+    }
+
+    private static double median(double[] coeffs) {
+        double[] abs = new double[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++) {
+            abs[i] = Math.abs(coeffs[i]);
+        }
+        java.util.Arrays.sort(abs);
+        int n = abs.length;
+        return n % 2 == 0 ? (abs[n / 2 - 1] + abs[n / 2]) / 2.0 : abs[n / 2];
+    }
+}
@@ -0,0 +1,162 @@
+package ai.prophetizo.wavelet.denoising;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that MODWT-based translation-invariant denoising equals literal cycle spinning
+ * with the decimated transform.
+ */
+class WaveletDenoiserTranslationInvariantTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    void testMatchesCycleSpinningOverAllShifts() {
+        int n = 64;
+        int levels = 3;
+        double[] signal = stepSignal(n, 1);
+        WaveletDenoiser denoiser = new WaveletDenoiser(Haar.INSTANCE, BoundaryMode.PERIODIC);
+
+        // Universal thresholds on the decimated scale, from the same noise estimate
+        double[] modwtDetails = new MultiLevelMODWTTransform(Haar.INSTANCE, BoundaryMode.PERIODIC)
+            .decompose(signal, levels).getDetailCoeffsAtLevel(1);
+        double sigma = medianAbs(modwtDetails) / 0.6745;
+        double[] lambdas = new double[levels];
+        for (int j = 1; j <= levels; j++) {
+            lambdas[j - 1] = Math.pow(2, j / 2.0) * sigma / Math.sqrt(1 << (j - 1)) * Math.sqrt(2.0 * Math.log(n));
+        }
+
+        for (ThresholdType type : new ThresholdType[]{ThresholdType.SOFT, ThresholdType.HARD}) {
+            assertArrayEquals(cycleSpin(signal, levels, lambdas, type),
+                denoiser.denoiseTranslationInvariant(signal, levels, ThresholdMethod.UNIVERSAL, type),
+                EPSILON, type.name());
+        }
+    }
+
+    @Test
+    void testReducesErrorAtJumpsComparedWithOneShift() {
+        int n = 256;
+        int levels = 4;
+        double[] signal = stepSignal(n, 2);
+        WaveletDenoiser denoiser = new WaveletDenoiser(Haar.INSTANCE, BoundaryMode.PERIODIC);
+        double[] invariant = denoiser.denoiseTranslationInvariant(signal, levels,
+            ThresholdMethod.UNIVERSAL, ThresholdType.HARD);
+
+        // The unshifted decimated denoise that cycle spinning averages away
+        double[] modwtDetails = new MultiLevelMODWTTransform(Haar.INSTANCE, BoundaryMode.PERIODIC)
+            .decompose(signal, levels).getDetailCoeffsAtLevel(1);
+        double[] lambdas = new double[levels];
+        Arrays.fill(lambdas, Math.sqrt(2) * medianAbs(modwtDetails) / 0.6745 * Math.sqrt(2.0 * Math.log(n)));
+        double[] single = dwtDenoise(signal, levels, lambdas, ThresholdType.HARD);
+
+        assertTrue(squaredError(invariant, n) < squaredError(single, n));
+    }
+
+    @Test
+    void testParallelLevelsMatchSequential() {
+        double[] signal = stepSignal(1 << 15, 3);
+        WaveletDenoiser denoiser = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+
+        double[] parallel = denoiser.denoiseTranslationInvariant(signal, 5, ThresholdMethod.SURE, ThresholdType.SOFT);
+        // A one-signal batch thresholds its levels sequentially
+        double[] sequential = denoiser.denoiseBatch(new double[][]{signal}, 5,
+            ThresholdMethod.SURE, ThresholdType.SOFT)[0];
+
+        assertArrayEquals(sequential, parallel, 0.0);
+        assertEquals(signal.length,
+            denoiser.denoiseTranslationInvariant(signal, ThresholdMethod.UNIVERSAL, ThresholdType.SOFT).length);
+    }
+
+    /** Denoises every circular shift with the decimated Haar transform and averages. */
+    private static double[] cycleSpin(double[] signal, int levels, double[] lambdas, ThresholdType type) {
+        int n = signal.length;
+        double[] average = new double[n];
+        double[] shifted = new double[n];
+        for (int s = 0; s < n; s++) {
+            for (int t = 0; t < n; t++) {
+                shifted[t] = signal[(t + s) % n];
+            }
+            double[] denoised = dwtDenoise(shifted, levels, lambdas, type);
+            for (int t = 0; t < n; t++) {
+                average[(t + s) % n] += denoised[t] / n;
+            }
+        }
+        return average;
+    }
+
+    /** Periodic orthonormal Haar DWT, thresholding of each level's details, and inverse. */
+    private static double[] dwtDenoise(double[] signal, int levels, double[] lambdas, ThresholdType type) {
+        double[] g = Haar.INSTANCE.lowPassDecomposition();
+        double[] h = Haar.INSTANCE.highPassDecomposition();
+        double[][] details = new double[levels][];
+        double[] approx = signal.clone();
+        for (int j = 0; j < levels; j++) {
+            int half = approx.length / 2;
+            double[] next = new double[half];
+            details[j] = new double[half];
+            for (int k = 0; k < half; k++) {
+                for (int l = 0; l < g.length; l++) {
+                    double v = approx[Math.floorMod(2 * k + 1 - l, approx.length)];
+                    next[k] += g[l] * v;
+                    details[j][k] += h[l] * v;
+                }
+            }
+            type.apply(details[j], lambdas[j], details[j]);
+            approx = next;
+        }
+        for (int j = levels - 1; j >= 0; j--) {
+            double[] previous = new double[approx.length * 2];
+            for (int k = 0; k < approx.length; k++) {
+                for (int l = 0; l < g.length; l++) {
+                    previous[Math.floorMod(2 * k + 1 - l, previous.length)] += g[l] * approx[k] + h[l] * details[j][k];
+                }
+            }
+            approx = previous;
+        }
+        return approx;
+    }
+
+    private static double[] stepSignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int t = 0; t < n; t++) {
+            signal[t] = clean(t, n) + 0.3 * random.nextGaussian();
+        }
+        return signal;
+    }
+
+    private static double clean(int t, int n) {
+        // Jumps at odd positions, which the unshifted decimated transform handles worst
+        return (t % (n / 4)) < n / 8 + 1 ? 2.0 : -1.0;
+    }
+
+    private static double squaredError(double[] denoised, int n) {
+        double error = 0;
+        for (int t = 0; t < n; t++) {
+            double diff = denoised[t] - clean(t, n);
+            error += diff * diff;
+        }
+        return error;
+    }
+
+    private static double medianAbs(double[] values) {
+        double[] abs = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            abs[i] = Math.abs(values[i]);
+        }
+        Arrays.sort(abs);
+        int n = abs.length;
+        return n % 2 == 0 ? (abs[n / 2 - 1] + abs[n / 2]) / 2.0 : abs[n / 2];
+    }
+}
@@ -0,0 +1,64 @@
+package ai.prophetizo.wavelet.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded least-recently-used cache.
+ */
+class BoundedLruCacheTest {
+
+    @Test
+    void testPutIfAbsentKeepsFirstValue() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(4);
+
+        assertNull(cache.putIfAbsent("a", "v1"));
+        assertEquals("v1", cache.putIfAbsent("a", "v2"));
+        assertEquals("v1", cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedWhenFull() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(2);
+        cache.putIfAbsent("a", "v1");
+        cache.putIfAbsent("b", "v2");
+
+        // Touch "a" so that "b" becomes the eldest entry
+        assertEquals("v1", cache.get("a"));
+        cache.putIfAbsent("c", "v3");
+
+        assertEquals(2, cache.size());
+        assertEquals("v1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("v3", cache.get("c"));
+    }
+
+    @Test
+    void testKeepsCachingAfterReachingCapacity() {
+        BoundedLruCache<Integer, String> cache = new BoundedLruCache<>(8);
+        for (int i = 0; i < 100; i++) {
+            cache.putIfAbsent(i, "v" + i);
+        }
+
+        assertEquals(8, cache.size());
+        assertEquals("v99", cache.get(99));
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    void testClear() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(2);
+        cache.putIfAbsent("a", "v1");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void testRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedLruCache<String, String>(0));
+    }
+}
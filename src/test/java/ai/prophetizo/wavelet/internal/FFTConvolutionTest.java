@@ -0,0 +1,228 @@
+package ai.prophetizo.wavelet.internal;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Coiflet;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.modwt.MODWTTransform;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the FFT overlap-save MODWT convolution path.
+ */
+@DisplayName("FFTConvolution Test Suite")
+class FFTConvolutionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @ParameterizedTest
+    @EnumSource(value = BoundaryMode.class, names = {"PERIODIC", "ZERO_PADDING", "SYMMETRIC"})
+    @DisplayName("FFT forward level matches the direct dilated kernels")
+    void testForwardMatchesDirectKernels(BoundaryMode mode) {
+        double[] low = scaled(Daubechies.DB38.lowPassDecomposition());
+        double[] high = scaled(Daubechies.DB38.highPassDecomposition());
+
+        // 777 exercises partial final blocks; dilation 16 truncates taps beyond the signal
+        for (int n : new int[]{100, 777, 4096}) {
+            double[] signal = randomSignal(n, n);
+            for (int dilation : new int[]{1, 2, 16}) {
+                double[] expectedApprox = new double[n];
+                double[] expectedDetail = new double[n];
+                directForward(mode, signal, low, high, dilation, expectedApprox, expectedDetail);
+
+                double[] approx = new double[n];
+                double[] detail = new double[n];
+                FFTConvolution.forwardMODWT(signal, low, high, dilation, mode, approx, detail);
+
+                assertArrayEquals(expectedApprox, approx, EPSILON,
+                    "approximation, n=" + n + ", dilation=" + dilation);
+                assertArrayEquals(expectedDetail, detail, EPSILON,
+                    "detail, n=" + n + ", dilation=" + dilation);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BoundaryMode.class, names = {"PERIODIC", "ZERO_PADDING", "SYMMETRIC"})
+    @DisplayName("FFT inverse level matches the direct dilated kernels")
+    void testInverseMatchesDirectKernels(BoundaryMode mode) {
+        double[] low = scaled(Coiflet.COIF17.lowPassReconstruction());
+        double[] high = scaled(Coiflet.COIF17.highPassReconstruction());
+
+        for (int n : new int[]{100, 777, 4096}) {
+            double[] approx = randomSignal(n, 2L * n);
+            double[] details = randomSignal(n, 3L * n);
+            for (int dilation : new int[]{1, 2, 16}) {
+                double[] expected = new double[n];
+                directInverse(mode, approx, details, low, high, dilation, expected);
+
+                double[] output = new double[n];
+                FFTConvolution.inverseMODWT(approx, details, low, high, dilation, mode, output);
+
+                assertArrayEquals(expected, output, EPSILON,
+                    "reconstruction, n=" + n + ", dilation=" + dilation);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Selection needs a long filter and grows stricter with the effective span")
+    void testSelection() {
+        assertFalse(FFTConvolution.isBeneficial(4096, 8, 1, BoundaryMode.SYMMETRIC),
+            "Short filters stay on the direct kernels");
+        assertFalse(FFTConvolution.isBeneficial(256, 76, 1, BoundaryMode.SYMMETRIC),
+            "Short signals stay on the direct kernels");
+        assertTrue(FFTConvolution.isBeneficial(16384, 76, 1, BoundaryMode.SYMMETRIC),
+            "Long filters on long signals use the FFT");
+
+        // At deep levels the span, and so the FFT block, grows while the direct cost does not
+        boolean previous = true;
+        for (int dilation = 1; dilation <= 512; dilation <<= 1) {
+            boolean selected = FFTConvolution.isBeneficial(16384, 76, dilation, BoundaryMode.SYMMETRIC);
+            assertTrue(previous || !selected, "Selection must not return at dilation " + dilation);
+            previous = selected;
+        }
+        assertFalse(previous, "The widest spans stay on the direct kernels");
+    }
+
+    @Test
+    @DisplayName("Precomputed plans match per-call planning and are checked on use")
+    void testLevelPlans() {
+        int n = 4096;
+        double[] signal = randomSignal(n, 11);
+        double[] low = scaled(Daubechies.DB38.lowPassDecomposition());
+        double[] high = scaled(Daubechies.DB38.highPassDecomposition());
+        double[] expectedApprox = new double[n];
+        double[] expectedDetail = new double[n];
+        FFTConvolution.forwardMODWT(signal, low, high, 2, BoundaryMode.PERIODIC,
+            expectedApprox, expectedDetail);
+
+        FFTConvolution.LevelPlan forward = FFTConvolution.forwardPlan(low, high, 2, n, BoundaryMode.PERIODIC);
+        assertEquals(n, forward.signalLength());
+        double[] approx = new double[n];
+        double[] detail = new double[n];
+        // A plan is reused across calls without replanning
+        for (int call = 0; call < 2; call++) {
+            FFTConvolution.forwardMODWT(signal, forward, approx, detail);
+            assertArrayEquals(expectedApprox, approx, 0.0);
+            assertArrayEquals(expectedDetail, detail, 0.0);
+        }
+
+        FFTConvolution.LevelPlan inverse = FFTConvolution.inversePlan(low, high, 2, n, BoundaryMode.PERIODIC);
+        double[] output = new double[n];
+        assertThrows(IllegalArgumentException.class,
+            () -> FFTConvolution.forwardMODWT(signal, inverse, approx, detail));
+        assertThrows(IllegalArgumentException.class,
+            () -> FFTConvolution.inverseMODWT(approx, detail, forward, output));
+        assertThrows(IllegalArgumentException.class,
+            () -> FFTConvolution.forwardMODWT(new double[n / 2], forward, new double[n / 2], new double[n / 2]));
+    }
+
+    @Test
+    @DisplayName("Transforms route long symmetric filters through the FFT path")
+    void testTransformsUseFFTPath() {
+        int n = 4096;
+        BoundaryMode mode = BoundaryMode.SYMMETRIC;
+        double[] signal = randomSignal(n, 7);
+        assertTrue(FFTConvolution.isBeneficial(n, Daubechies.DB38.lowPassDecomposition().length, 1, mode));
+
+        // Single level: forward and inverse against the direct kernels
+        MODWTTransform single = new MODWTTransform(Daubechies.DB38, mode);
+        double[] approx = new double[n];
+        double[] detail = new double[n];
+        single.forward(signal, approx, detail);
+
+        double[] expectedApprox = new double[n];
+        double[] expectedDetail = new double[n];
+        directForward(mode, signal, scaled(Daubechies.DB38.lowPassDecomposition()),
+            scaled(Daubechies.DB38.highPassDecomposition()), 1, expectedApprox, expectedDetail);
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+
+        double[] reconstructed = new double[n];
+        single.inverse(approx, detail, reconstructed);
+        double[] expectedReconstructed = new double[n];
+        directInverse(mode, approx, detail, scaled(Daubechies.DB38.lowPassReconstruction()),
+            scaled(Daubechies.DB38.highPassReconstruction()), 1, expectedReconstructed);
+        assertArrayEquals(expectedReconstructed, reconstructed, EPSILON);
+
+        // A new signal length replans the level instead of reusing the held plan
+        int m = 5000;
+        double[] longer = randomSignal(m, 9);
+        double[] longerApprox = new double[m];
+        double[] longerDetail = new double[m];
+        single.forward(longer, longerApprox, longerDetail);
+        double[] expectedLongerApprox = new double[m];
+        double[] expectedLongerDetail = new double[m];
+        directForward(mode, longer, scaled(Daubechies.DB38.lowPassDecomposition()),
+            scaled(Daubechies.DB38.highPassDecomposition()), 1, expectedLongerApprox, expectedLongerDetail);
+        assertArrayEquals(expectedLongerApprox, longerApprox, EPSILON);
+        assertArrayEquals(expectedLongerDetail, longerDetail, EPSILON);
+
+        // Multi-level: the cascade of direct kernels at dilations 1, 2, 4
+        MultiLevelMODWTTransform multi = new MultiLevelMODWTTransform(Coiflet.COIF17, mode);
+        MultiLevelMODWTResult result = multi.decompose(signal, 3);
+        double[] low = scaled(Coiflet.COIF17.lowPassDecomposition());
+        double[] high = scaled(Coiflet.COIF17.highPassDecomposition());
+        double[] current = signal;
+        for (int level = 1; level <= 3; level++) {
+            double[] nextApprox = new double[n];
+            double[] levelDetail = new double[n];
+            directForward(mode, current, low, high, 1 << (level - 1), nextApprox, levelDetail);
+            assertArrayEquals(levelDetail, result.getDetailCoeffsAtLevel(level), EPSILON,
+                "detail at level " + level);
+            current = nextApprox;
+        }
+        assertArrayEquals(current, result.getApproximationCoeffs(), EPSILON);
+    }
+
+    private static void directForward(BoundaryMode mode, double[] signal, double[] low, double[] high,
+                                      int dilation, double[] approx, double[] detail) {
+        if (mode == BoundaryMode.PERIODIC) {
+            ScalarOps.circularConvolveMODWTDilated(signal, low, approx, dilation);
+            ScalarOps.circularConvolveMODWTDilated(signal, high, detail, dilation);
+        } else if (mode == BoundaryMode.ZERO_PADDING) {
+            ScalarOps.zeroPaddingConvolveMODWTDilated(signal, low, approx, dilation);
+            ScalarOps.zeroPaddingConvolveMODWTDilated(signal, high, detail, dilation);
+        } else {
+            ScalarOps.symmetricConvolveMODWTDilated(signal, low, approx, dilation);
+            ScalarOps.symmetricConvolveMODWTDilated(signal, high, detail, dilation);
+        }
+    }
+
+    private static void directInverse(BoundaryMode mode, double[] approx, double[] details,
+                                      double[] low, double[] high, int dilation, double[] output) {
+        if (mode == BoundaryMode.PERIODIC) {
+            ScalarOps.circularInverseMODWTDilated(approx, details, low, high, output, dilation);
+        } else if (mode == BoundaryMode.ZERO_PADDING) {
+            ScalarOps.zeroPaddingInverseMODWTDilated(approx, details, low, high, output, dilation);
+        } else {
+            ScalarOps.symmetricInverseMODWTDilated(approx, details, low, high, output, dilation);
+        }
+    }
+
+    private static double[] scaled(double[] filter) {
+        double[] result = filter.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] /= Math.sqrt(2.0);
+        }
+        return result;
+    }
+
+    private static double[] randomSignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 64.0) + 0.5 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -782,4 +782,211 @@ class ScalarOpsTest {
             assertTrue(Double.isFinite(val));
         }
     }
-}
\ No newline at end of file
+    
+    // ==========================================
+    // Dilated (à trous) MODWT Tests
+    // ==========================================
+    
+    @ParameterizedTest
+    @CsvSource({"37, 1", "37, 4", "256, 2", "256, 8", "1000, 16"})
+    @DisplayName("Test dilated forward kernels match zero-stuffed filters")
+    void testDilatedForwardMatchesUpsampledFilter(int signalLength, int dilation) {
+        double[] signal = createTestSignal(signalLength);
+        double[] filter = {0.48296291314, 0.83651630374, 0.22414386804, -0.12940952255};
+        double[] upsampled = upsample(filter, dilation);
+        
+        double[] expected = new double[signalLength];
+        double[] actual = new double[signalLength];
+        
+        ScalarOps.circularConvolveMODWT(signal, upsampled, expected);
+        ScalarOps.circularConvolveMODWTDilated(signal, filter, actual, dilation);
+        assertArrayEquals(expected, actual, EPSILON);
+        
+        ScalarOps.zeroPaddingConvolveMODWT(signal, upsampled, expected);
+        ScalarOps.zeroPaddingConvolveMODWTDilated(signal, filter, actual, dilation);
+        assertArrayEquals(expected, actual, EPSILON);
+        
+        ScalarOps.symmetricConvolveMODWT(signal, upsampled, expected);
+        ScalarOps.symmetricConvolveMODWTDilated(signal, filter, actual, dilation);
+        assertArrayEquals(expected, actual, EPSILON);
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"37, 1", "37, 4", "256, 2", "256, 8", "1000, 16"})
+    @DisplayName("Test dilated inverse kernels match zero-stuffed filters")
+    void testDilatedInverseMatchesUpsampledFilter(int signalLength, int dilation) {
+        double[] approx = createTestSignal(signalLength);
+        double[] details = new double[signalLength];
+        for (int i = 0; i < signalLength; i++) {
+            details[i] = Math.cos(i * 0.3);
+        }
+        double[] low = {0.48296291314, 0.83651630374, 0.22414386804, -0.12940952255};
+        double[] high = {-0.12940952255, -0.22414386804, 0.83651630374, -0.48296291314};
+        double[] upLow = upsample(low, dilation);
+        double[] upHigh = upsample(high, dilation);
+        
+        double[] actual = new double[signalLength];
+        
+        ScalarOps.circularInverseMODWTDilated(approx, details, low, high, actual, dilation);
+        for (int t = 0; t < signalLength; t++) {
+            double sum = 0.0;
+            for (int l = 0; l < upLow.length; l++) {
+                int idx = (t + l) % signalLength;
+                sum += upLow[l] * approx[idx] + upHigh[l] * details[idx];
+            }
+            assertEquals(sum, actual[t], EPSILON);
+        }
+        
+        ScalarOps.zeroPaddingInverseMODWTDilated(approx, details, low, high, actual, dilation);
+        for (int t = 0; t < signalLength; t++) {
+            double sum = 0.0;
+            for (int l = 0; l < upLow.length && t + l < signalLength; l++) {
+                sum += upLow[l] * approx[t + l] + upHigh[l] * details[t + l];
+            }
+            assertEquals(sum, actual[t], EPSILON);
+        }
+        
+        ScalarOps.symmetricInverseMODWTDilated(approx, details, low, high, actual, dilation);
+        for (int t = 0; t < signalLength; t++) {
+            double sum = 0.0;
+            for (int l = 0; l < upLow.length; l++) {
+                int idx = ai.prophetizo.wavelet.util.MathUtils.symmetricBoundaryExtension(t - l, signalLength);
+                sum += upLow[l] * approx[idx] + upHigh[l] * details[idx];
+            }
+            assertEquals(sum, actual[t], EPSILON);
+        }
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"37, 1, 5", "256, 2, 100", "1000, 16, 64", "1000, 64, 333"})
+    @DisplayName("Test dilated forward kernels computed in output ranges match the full kernels")
+    void testDilatedForwardRangesMatchFullKernel(int signalLength, int dilation, int chunk) {
+        double[] signal = createTestSignal(signalLength);
+        double[] filter = {0.48296291314, 0.83651630374, 0.22414386804, -0.12940952255};
+        
+        double[] expected = new double[signalLength];
+        double[] actual = new double[signalLength];
+        
+        ScalarOps.circularConvolveMODWTDilated(signal, filter, expected, dilation);
+        for (int start = 0; start < signalLength; start += chunk) {
+            ScalarOps.circularConvolveMODWTDilated(signal, filter, actual, dilation,
+                start, Math.min(start + chunk, signalLength));
+        }
+        assertArrayEquals(expected, actual, EPSILON);
+        
+        ScalarOps.zeroPaddingConvolveMODWTDilated(signal, filter, expected, dilation);
+        for (int start = 0; start < signalLength; start += chunk) {
+            ScalarOps.zeroPaddingConvolveMODWTDilated(signal, filter, actual, dilation,
+                start, Math.min(start + chunk, signalLength));
+        }
+        assertArrayEquals(expected, actual, EPSILON);
+        
+        ScalarOps.symmetricConvolveMODWTDilated(signal, filter, expected, dilation);
+        for (int start = 0; start < signalLength; start += chunk) {
+            ScalarOps.symmetricConvolveMODWTDilated(signal, filter, actual, dilation,
+                start, Math.min(start + chunk, signalLength));
+        }
+        assertArrayEquals(expected, actual, EPSILON);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"37, 1, 37", "37, 4, 5", "100, 3, 17", "1000, 8, 333", "4096, 16, 1024"})
+    @DisplayName("Test fused low/high-pass kernels match two single-filter passes")
+    void testFusedForwardMatchesSeparateKernels(int signalLength, int dilation, int chunk) {
+        double[] signal = createTestSignal(signalLength);
+        // Unequal lengths so the fused tap loop has to handle the shorter filter
+        double[] low = {0.48296291314, 0.83651630374, 0.22414386804, -0.12940952255, 0.05, -0.01};
+        double[] high = {-0.12940952255, -0.22414386804, 0.83651630374, -0.48296291314};
+
+        double[] expectedApprox = new double[signalLength];
+        double[] expectedDetail = new double[signalLength];
+        double[] approx = new double[signalLength];
+        double[] detail = new double[signalLength];
+
+        ScalarOps.circularConvolveMODWTDilated(signal, low, expectedApprox, dilation);
+        ScalarOps.circularConvolveMODWTDilated(signal, high, expectedDetail, dilation);
+        ScalarOps.circularConvolveMODWTDilatedFused(signal, low, high, approx, detail, dilation);
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+        java.util.Arrays.fill(approx, 0.0);
+        java.util.Arrays.fill(detail, 0.0);
+        for (int start = 0; start < signalLength; start += chunk) {
+            ScalarOps.circularConvolveMODWTDilatedFused(signal, low, high, approx, detail, dilation,
+                start, Math.min(start + chunk, signalLength));
+        }
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+
+        ScalarOps.zeroPaddingConvolveMODWTDilated(signal, low, expectedApprox, dilation);
+        ScalarOps.zeroPaddingConvolveMODWTDilated(signal, high, expectedDetail, dilation);
+        ScalarOps.zeroPaddingConvolveMODWTDilatedFused(signal, low, high, approx, detail, dilation);
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+        java.util.Arrays.fill(approx, 0.0);
+        java.util.Arrays.fill(detail, 0.0);
+        for (int start = 0; start < signalLength; start += chunk) {
+            ScalarOps.zeroPaddingConvolveMODWTDilatedFused(signal, low, high, approx, detail, dilation,
+                start, Math.min(start + chunk, signalLength));
+        }
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+
+        ScalarOps.symmetricConvolveMODWTDilated(signal, low, expectedApprox, dilation);
+        ScalarOps.symmetricConvolveMODWTDilated(signal, high, expectedDetail, dilation);
+        ScalarOps.symmetricConvolveMODWTDilatedFused(signal, low, high, approx, detail, dilation);
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+        java.util.Arrays.fill(approx, 0.0);
+        java.util.Arrays.fill(detail, 0.0);
+        for (int start = 0; start < signalLength; start += chunk) {
+            ScalarOps.symmetricConvolveMODWTDilatedFused(signal, low, high, approx, detail, dilation,
+                start, Math.min(start + chunk, signalLength));
+        }
+        assertArrayEquals(expectedApprox, approx, EPSILON);
+        assertArrayEquals(expectedDetail, detail, EPSILON);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"37, 1", "100, 3", "1000, 8"})
+    @DisplayName("Test interior fused kernel with offsets matches the full fused kernel")
+    void testFusedInteriorMatchesFullKernel(int signalLength, int dilation) {
+        double[] signal = createTestSignal(signalLength);
+        double[] low = {0.48296291314, 0.83651630374, 0.22414386804, -0.12940952255, 0.05, -0.01};
+        double[] high = {-0.12940952255, -0.22414386804, 0.83651630374, -0.48296291314};
+        int span = (low.length - 1) * dilation;
+        int length = signalLength - span;
+
+        double[] expectedApprox = new double[signalLength];
+        double[] expectedDetail = new double[signalLength];
+        ScalarOps.circularConvolveMODWTDilatedFused(signal, low, high, expectedApprox, expectedDetail, dilation);
+
+        // Outputs land at different offsets than the input run
+        double[] approx = new double[length + 3];
+        double[] detail = new double[length + 5];
+        ScalarOps.convolveMODWTDilatedFusedInterior(signal, span, low, high,
+            approx, 3, detail, 5, length, dilation);
+        for (int i = 0; i < length; i++) {
+            assertEquals(expectedApprox[span + i], approx[3 + i], EPSILON);
+            assertEquals(expectedDetail[span + i], detail[5 + i], EPSILON);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> ScalarOps.convolveMODWTDilatedFusedInterior(
+            signal, span - 1, low, high, approx, 0, detail, 0, 1, dilation));
+    }
+
+    private static double[] createTestSignal(int length) {
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 32.0) + 0.1 * (i % 7);
+        }
+        return signal;
+    }
+    
+    private static double[] upsample(double[] filter, int dilation) {
+        double[] upsampled = new double[(filter.length - 1) * dilation + 1];
+        for (int i = 0; i < filter.length; i++) {
+            upsampled[i * dilation] = filter[i];
+        }
+        return upsampled;
+    }
+}
@@ -0,0 +1,90 @@
+package ai.prophetizo.wavelet.memory;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramePoolTest {
+
+    @Test
+    void testAcquireCreatesFrameOfRequestedShape() {
+        FramePool pool = new FramePool(3, 64, 4);
+        CoefficientFrame frame = pool.acquire(50, 1);
+
+        assertEquals(3, frame.rowCount());
+        assertEquals(64, frame.capacity());
+        assertEquals(50, frame.length());
+        assertEquals(1, frame.referenceCount());
+        assertEquals(64, frame.row(2).length);
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    void testLastReleaseReturnsFrameToPool() {
+        FramePool pool = new FramePool(1, 16, 4);
+        CoefficientFrame first = pool.acquire(16, 2);
+
+        assertFalse(first.release());
+        assertEquals(0, pool.getPooledCount());
+        assertTrue(first.release());
+        assertEquals(1, pool.getPooledCount());
+
+        CoefficientFrame second = pool.acquire(8, 1);
+        assertSame(first, second);
+        assertEquals(8, second.length());
+        assertEquals(1, second.sequence());
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(0.5, pool.getHitRate(), 1e-12);
+    }
+
+    @Test
+    void testRetainAddsReference() {
+        FramePool pool = new FramePool(1, 16, 4);
+        CoefficientFrame frame = pool.acquire(16, 1);
+
+        assertSame(frame, frame.retain());
+        assertEquals(2, frame.referenceCount());
+        assertFalse(frame.release());
+        assertTrue(frame.release());
+    }
+
+    @Test
+    void testReleasedFrameRejectsUse() {
+        FramePool pool = new FramePool(1, 16, 4);
+        CoefficientFrame frame = pool.acquire(16, 1);
+        frame.release();
+
+        assertThrows(InvalidStateException.class, frame::release);
+        assertThrows(InvalidStateException.class, frame::retain);
+        assertThrows(InvalidStateException.class, () -> frame.row(0));
+    }
+
+    @Test
+    void testFullPoolDropsReturnedFrames() {
+        FramePool pool = new FramePool(1, 8, 2);
+        CoefficientFrame[] frames = new CoefficientFrame[4];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = pool.acquire(8, 1);
+        }
+        for (CoefficientFrame frame : frames) {
+            frame.release();
+        }
+
+        assertEquals(2, pool.getPooledCount());
+        assertEquals(4, pool.getCreatedCount());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(InvalidArgumentException.class, () -> new FramePool(0, 8, 2));
+        assertThrows(InvalidArgumentException.class, () -> new FramePool(1, 0, 2));
+        assertThrows(InvalidArgumentException.class, () -> new FramePool(1, 8, 0));
+
+        FramePool pool = new FramePool(2, 8, 2);
+        assertThrows(InvalidArgumentException.class, () -> pool.acquire(9, 1));
+        assertThrows(InvalidArgumentException.class, () -> pool.acquire(8, 0));
+        assertThrows(InvalidArgumentException.class, () -> pool.acquire(8, 1).row(2));
+    }
+}
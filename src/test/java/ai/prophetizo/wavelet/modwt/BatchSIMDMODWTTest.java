@@ -3,9 +3,12 @@ package ai.prophetizo.wavelet.modwt;
 import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.Haar;
 import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.exception.InvalidSignalException;
 import ai.prophetizo.wavelet.util.ThreadLocalManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.Random;
 
@@ -208,4 +211,61 @@ class BatchSIMDMODWTTest {
             assertEquals(signalLength, results[b].detailCoeffs().length);
         }
     }
+    
+    @ParameterizedTest
+    @EnumSource(value = BoundaryMode.class, names = {"PERIODIC", "ZERO_PADDING", "SYMMETRIC"})
+    void testBatchMatchesSingleSignalTransforms(BoundaryMode mode) {
+        MODWTTransform transform = new MODWTTransform(Daubechies.DB4, mode);
+        
+        // Not a multiple of the group size, so the last group uses padding lanes
+        int batchSize = BatchSIMDMODWT.GROUP_SIZE + 3;
+        int signalLength = 100;
+        double[][] signals = new double[batchSize][signalLength];
+        Random random = new Random(7);
+        for (double[] signal : signals) {
+            for (int t = 0; t < signalLength; t++) {
+                signal[t] = random.nextGaussian();
+            }
+        }
+        
+        MODWTResult[] results = transform.forwardBatch(signals);
+        double[][] reconstructed = transform.inverseBatch(results);
+        
+        for (int b = 0; b < batchSize; b++) {
+            MODWTResult expected = transform.forward(signals[b]);
+            assertArrayEquals(expected.approximationCoeffs(), results[b].approximationCoeffs(), EPSILON);
+            assertArrayEquals(expected.detailCoeffs(), results[b].detailCoeffs(), EPSILON);
+            assertArrayEquals(transform.inverse(results[b]), reconstructed[b], EPSILON);
+        }
+    }
+    
+    @Test
+    void testLargeBatchUsesParallelGroups() {
+        MODWTTransform transform = new MODWTTransform(new Haar(), BoundaryMode.PERIODIC);
+        
+        int signalLength = 1024;
+        int batchSize = MODWTTransform.PARALLEL_BATCH_THRESHOLD / signalLength + 5;
+        double[][] signals = new double[batchSize][signalLength];
+        Random random = new Random(11);
+        for (double[] signal : signals) {
+            for (int t = 0; t < signalLength; t++) {
+                signal[t] = random.nextGaussian();
+            }
+        }
+        
+        double[][] reconstructed = transform.inverseBatch(transform.forwardBatch(signals));
+        
+        for (int b = 0; b < batchSize; b++) {
+            assertArrayEquals(signals[b], reconstructed[b], EPSILON);
+        }
+    }
+    
+    @Test
+    void testBatchRejectsNonFiniteSignal() {
+        MODWTTransform transform = new MODWTTransform(Daubechies.DB4, BoundaryMode.PERIODIC);
+        double[][] signals = new double[8][64];
+        signals[5][10] = Double.NaN;
+        
+        assertThrows(InvalidSignalException.class, () -> transform.forwardBatch(signals));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package ai.prophetizo.wavelet.modwt;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.api.Symlet;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.internal.ScalarOps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the cache-blocked multi-level MODWT schedule.
+ */
+@DisplayName("CacheBlockedMODWTCascade Test Suite")
+class CacheBlockedMODWTCascadeTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @ParameterizedTest
+    @EnumSource(value = BoundaryMode.class, names = {"PERIODIC", "ZERO_PADDING", "SYMMETRIC"})
+    @DisplayName("Blocked cascade matches the level-by-level cascade")
+    void testMatchesLevelByLevel(BoundaryMode mode) {
+        // The odd length leaves a partial last tile
+        for (int n : new int[]{CacheBlockedMODWTCascade.MIN_SIGNAL_LENGTH, 300_007}) {
+            for (Wavelet wavelet : new Wavelet[]{new Haar(), Daubechies.DB4, Symlet.SYM8}) {
+                for (int levels : new int[]{2, 6}) {
+                    MODWTFilterBank bank = MODWTFilterBank.of(wavelet);
+                    assertTrue(CacheBlockedMODWTCascade.isApplicable(n, levels,
+                        bank.decomposition(1).maxLength(), mode));
+                    assertCascadeMatches(bank, mode, randomSignal(n, n + levels), levels,
+                        wavelet.name() + ", n=" + n + ", levels=" + levels);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Transforms use the blocked cascade for long signals")
+    void testTransformUsesBlockedCascade() {
+        int n = 1 << 18;
+        int levels = 5;
+        BoundaryMode mode = BoundaryMode.PERIODIC;
+        double[] signal = randomSignal(n, 11);
+        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(Daubechies.DB4, mode);
+
+        MultiLevelMODWTResult result = transform.decompose(signal, levels);
+        MutableMultiLevelMODWTResult buffered = new MutableMultiLevelMODWTResultImpl(n, levels);
+        transform.decompose(signal, buffered);
+
+        double[][] expectedDetails = new double[levels][n];
+        double[] expectedApprox = new double[n];
+        levelByLevel(MODWTFilterBank.of(Daubechies.DB4), mode, signal, levels, expectedDetails, expectedApprox);
+        for (int level = 1; level <= levels; level++) {
+            assertArrayEquals(expectedDetails[level - 1], result.getDetailCoeffsAtLevel(level), EPSILON);
+            assertArrayEquals(expectedDetails[level - 1], buffered.getMutableDetailCoeffs(level), EPSILON);
+        }
+        assertArrayEquals(expectedApprox, result.getApproximationCoeffs(), EPSILON);
+        assertArrayEquals(expectedApprox, buffered.getMutableApproximationCoeffs(), EPSILON);
+
+        // Periodic MODWT is invertible, also from the blocked coefficients
+        assertArrayEquals(signal, transform.reconstruct(result), 1e-8);
+    }
+
+    @Test
+    @DisplayName("Short signals, single levels and FFT-routed filters keep the level schedule")
+    void testSelection() {
+        int n = 1 << 20;
+        assertFalse(CacheBlockedMODWTCascade.isApplicable(
+            CacheBlockedMODWTCascade.MIN_SIGNAL_LENGTH - 1, 4, 8, BoundaryMode.PERIODIC));
+        assertFalse(CacheBlockedMODWTCascade.isApplicable(n, 1, 8, BoundaryMode.PERIODIC));
+        assertTrue(CacheBlockedMODWTCascade.isApplicable(n, 4, 8, BoundaryMode.PERIODIC));
+        // Long symmetric filters take the FFT path, which needs whole signals
+        assertFalse(CacheBlockedMODWTCascade.isApplicable(n, 4, 76, BoundaryMode.SYMMETRIC));
+    }
+
+    @Test
+    @DisplayName("Tiles cover twice the deepest halo")
+    void testTileSize() {
+        for (int levels = 2; levels <= 10; levels++) {
+            for (int filterLength : new int[]{2, 8, 20}) {
+                int halo = (filterLength - 1) << (levels - 1);
+                int tile = CacheBlockedMODWTCascade.tileSize(levels, halo);
+                assertTrue(tile >= 2 * halo, "tile " + tile + " for halo " + halo);
+                assertEquals(0, tile % 8);
+            }
+        }
+    }
+
+    private static void assertCascadeMatches(MODWTFilterBank bank, BoundaryMode mode, double[] signal,
+                                             int levels, String label) {
+        int n = signal.length;
+        double[][] details = new double[levels][n];
+        double[] approximation = new double[n];
+        CacheBlockedMODWTCascade.decompose(signal, bank, mode, levels, details, approximation);
+
+        double[][] expectedDetails = new double[levels][n];
+        double[] expectedApprox = new double[n];
+        levelByLevel(bank, mode, signal, levels, expectedDetails, expectedApprox);
+
+        for (int level = 1; level <= levels; level++) {
+            assertArrayEquals(expectedDetails[level - 1], details[level - 1], EPSILON,
+                label + ", detail level " + level);
+        }
+        assertArrayEquals(expectedApprox, approximation, EPSILON, label + ", approximation");
+    }
+
+    private static void levelByLevel(MODWTFilterBank bank, BoundaryMode mode, double[] signal, int levels,
+                                     double[][] details, double[] approximation) {
+        double[] low = bank.decomposition(1).lowPass();
+        double[] high = bank.decomposition(1).highPass();
+        double[] current = signal;
+        for (int level = 1; level <= levels; level++) {
+            double[] next = level == levels ? approximation : new double[signal.length];
+            int dilation = 1 << (level - 1);
+            if (mode == BoundaryMode.PERIODIC) {
+                ScalarOps.circularConvolveMODWTDilatedFused(current, low, high, next, details[level - 1], dilation);
+            } else if (mode == BoundaryMode.ZERO_PADDING) {
+                ScalarOps.zeroPaddingConvolveMODWTDilatedFused(current, low, high, next, details[level - 1], dilation);
+            } else {
+                ScalarOps.symmetricConvolveMODWTDilatedFused(current, low, high, next, details[level - 1], dilation);
+            }
+            current = next;
+        }
+    }
+
+    private static double[] randomSignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 500.0) + 0.5 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
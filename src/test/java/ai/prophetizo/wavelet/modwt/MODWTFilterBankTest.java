@@ -0,0 +1,127 @@
+package ai.prophetizo.wavelet.modwt;
+
+import ai.prophetizo.wavelet.api.BiorthogonalSpline;
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the precomputed MODWT filter bank.
+ */
+class MODWTFilterBankTest {
+
+    private static final double TOLERANCE = 1e-15;
+
+    @Test
+    void testBankIsSharedPerWavelet() {
+        MODWTFilterBank first = MODWTFilterBank.of(Daubechies.DB4);
+        MODWTFilterBank second = MODWTFilterBank.of(Daubechies.DB4);
+
+        assertSame(first, second);
+        assertEquals(Daubechies.DB4.name(), first.getWaveletName());
+    }
+
+    @Test
+    void testLevelFiltersAreReusedAcrossLookups() {
+        MODWTFilterBank bank = MODWTFilterBank.of(Daubechies.DB4);
+
+        assertSame(bank.decomposition(3), bank.decomposition(3));
+        assertSame(bank.reconstruction(3), bank.filters(3, MODWTFilterBank.Direction.RECONSTRUCTION));
+    }
+
+    @Test
+    void testFiltersAreScaledBySqrtTwo() {
+        Wavelet wavelet = Daubechies.DB4;
+        MODWTFilterBank.LevelFilters filters = MODWTFilterBank.of(wavelet).decomposition(1);
+
+        double[] low = wavelet.lowPassDecomposition();
+        double[] high = wavelet.highPassDecomposition();
+        double scale = 1.0 / Math.sqrt(2.0);
+
+        double[] scaledLow = filters.lowPass();
+        double[] scaledHigh = filters.highPass();
+        assertEquals(low.length, scaledLow.length);
+        for (int i = 0; i < low.length; i++) {
+            assertEquals(low[i] * scale, scaledLow[i], TOLERANCE);
+            assertEquals(high[i] * scale, scaledHigh[i], TOLERANCE);
+        }
+    }
+
+    @Test
+    void testDilationDoublesPerLevel() {
+        MODWTFilterBank bank = MODWTFilterBank.of(new Haar());
+
+        for (int level = 1; level <= 10; level++) {
+            MODWTFilterBank.LevelFilters filters = bank.decomposition(level);
+            assertEquals(level, filters.level());
+            assertEquals(1 << (level - 1), filters.dilation());
+            assertEquals(MODWTFilterBank.Direction.DECOMPOSITION, filters.direction());
+            assertEquals(2, filters.maxLength());
+        }
+    }
+
+    @Test
+    void testReconstructionUsesSynthesisFilters() {
+        BiorthogonalSpline wavelet = BiorthogonalSpline.BIOR1_3;
+        MODWTFilterBank.LevelFilters filters = MODWTFilterBank.of(wavelet).reconstruction(2);
+
+        double[] lowRec = wavelet.lowPassReconstruction();
+        double[] scaled = filters.lowPass();
+        assertEquals(MODWTFilterBank.Direction.RECONSTRUCTION, filters.direction());
+        assertEquals(lowRec.length, scaled.length);
+        for (int i = 0; i < lowRec.length; i++) {
+            assertEquals(lowRec[i] / Math.sqrt(2.0), scaled[i], TOLERANCE);
+        }
+    }
+
+    @Test
+    void testReturnedFiltersAreDefensiveCopies() {
+        MODWTFilterBank.LevelFilters filters = MODWTFilterBank.of(Daubechies.DB4).decomposition(1);
+
+        double[] copy = filters.lowPass();
+        double original = copy[0];
+        copy[0] = 42.0;
+
+        assertEquals(original, filters.lowPass()[0], TOLERANCE);
+        assertNotSame(filters.lowPass(), filters.lowPass());
+    }
+
+    @Test
+    void testInvalidLevelsRejected() {
+        MODWTFilterBank bank = MODWTFilterBank.of(Daubechies.DB4);
+
+        assertThrows(InvalidArgumentException.class, () -> bank.decomposition(0));
+        assertThrows(InvalidArgumentException.class, () -> bank.reconstruction(-1));
+        assertThrows(InvalidArgumentException.class, () -> bank.decomposition(32));
+        assertThrows(NullPointerException.class, () -> bank.filters(1, null));
+        assertThrows(NullPointerException.class, () -> MODWTFilterBank.of(null));
+    }
+
+    @Test
+    void testTransformOutputUnchangedAfterCacheClear() {
+        double[] signal = new double[64];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 16.0) + 0.1 * i;
+        }
+
+        MultiLevelMODWTTransform before = new MultiLevelMODWTTransform(
+            Daubechies.DB4, BoundaryMode.PERIODIC);
+        MultiLevelMODWTResult expected = before.decompose(signal, 3);
+
+        MODWTFilterBank.clearCache();
+        MultiLevelMODWTTransform after = new MultiLevelMODWTTransform(
+            Daubechies.DB4, BoundaryMode.PERIODIC);
+        MultiLevelMODWTResult actual = after.decompose(signal, 3);
+
+        for (int level = 1; level <= 3; level++) {
+            assertArrayEquals(expected.getDetailCoeffsAtLevel(level),
+                actual.getDetailCoeffsAtLevel(level), TOLERANCE);
+        }
+        assertArrayEquals(expected.getApproximationCoeffs(), actual.getApproximationCoeffs(), TOLERANCE);
+    }
+}
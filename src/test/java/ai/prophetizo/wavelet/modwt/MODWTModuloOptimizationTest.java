@@ -78,6 +78,58 @@ class MODWTModuloOptimizationTest {
             "Optimized and original level-based formulas should produce identical results");
     }
     
+    @Test
+    void testWrapFreeSplitMatchesModuloReference() {
+        double[] filter = {0.3, -0.5, 0.8, 0.1, -0.2, 0.4};
+        
+        // Signal lengths below, at and above the filter length, and wide enough for vectors
+        for (int signalLen : new int[]{3, 6, 7, 37, 256}) {
+            double[] signal = new double[signalLen];
+            double[] details = new double[signalLen];
+            for (int i = 0; i < signalLen; i++) {
+                signal[i] = Math.sin(i * 0.3) + 0.1 * i;
+                details[i] = Math.cos(i * 0.7);
+            }
+            
+            double[] output = new double[signalLen];
+            ScalarOps.circularConvolveMODWT(signal, filter, output);
+            assertArrayEquals(circularReference(signal, filter, 1, -1), output, 1e-12,
+                "forward, length " + signalLen);
+            
+            for (int dilation : new int[]{1, 2, 4}) {
+                int taps = Math.min(filter.length, (signalLen - 1) / dilation + 1);
+                double[] truncated = java.util.Arrays.copyOf(filter, taps);
+                
+                ScalarOps.circularConvolveMODWTDilated(signal, filter, output, dilation);
+                assertArrayEquals(circularReference(signal, truncated, dilation, -1), output, 1e-12,
+                    "dilated forward, length " + signalLen + ", dilation " + dilation);
+                
+                ScalarOps.circularInverseMODWTDilated(signal, details, filter, filter, output, dilation);
+                double[] expected = circularReference(signal, truncated, dilation, 1);
+                double[] expectedDetails = circularReference(details, truncated, dilation, 1);
+                for (int t = 0; t < signalLen; t++) {
+                    expected[t] += expectedDetails[t];
+                }
+                assertArrayEquals(expected, output, 1e-12,
+                    "dilated inverse, length " + signalLen + ", dilation " + dilation);
+            }
+        }
+    }
+    
+    /**
+     * Reference circular convolution with a modulo per tap: Σ h_k * x_{(t + sign·k·d) mod N}.
+     */
+    private static double[] circularReference(double[] x, double[] filter, int dilation, int sign) {
+        int n = x.length;
+        double[] out = new double[n];
+        for (int t = 0; t < n; t++) {
+            for (int k = 0; k < filter.length; k++) {
+                out[t] += filter[k] * x[Math.floorMod(t + sign * k * dilation, n)];
+            }
+        }
+        return out;
+    }
+    
     @Test
     @EnabledIfSystemProperty(named = "runBenchmarks", matches = "true")
     void benchmarkModuloOptimization() {
@@ -174,4 +174,63 @@ class MODWTTransformTest {
         assertNotNull(result2);
         assertEquals(result1.getSignalLength(), result2.getSignalLength());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testForwardIntoBuffersMatchesAllocatingForward() {
+        double[] signal = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0};
+        double[] approx = new double[signal.length];
+        double[] detail = new double[signal.length];
+
+        MODWTResult expected = modwtTransform.forward(signal);
+        modwtTransform.forward(signal, approx, detail);
+
+        assertArrayEquals(expected.approximationCoeffs(), approx, TOLERANCE);
+        assertArrayEquals(expected.detailCoeffs(), detail, TOLERANCE);
+
+        // Buffers are fully overwritten on reuse
+        double[] other = {7.0, 6.0, 5.0, 4.0, 3.0, 2.0, 1.0};
+        modwtTransform.forward(other, approx, detail);
+        MODWTResult expectedOther = modwtTransform.forward(other);
+        assertArrayEquals(expectedOther.approximationCoeffs(), approx, TOLERANCE);
+        assertArrayEquals(expectedOther.detailCoeffs(), detail, TOLERANCE);
+    }
+
+    @Test
+    void testInverseIntoBufferReconstructsSignal() {
+        double[] signal = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0};
+        double[] approx = new double[signal.length];
+        double[] detail = new double[signal.length];
+        double[] reconstructed = new double[signal.length];
+
+        modwtTransform.forward(signal, approx, detail);
+        modwtTransform.inverse(approx, detail, reconstructed);
+
+        assertArrayEquals(signal, reconstructed, TOLERANCE);
+        assertArrayEquals(modwtTransform.inverse(MODWTResult.create(approx, detail)),
+            reconstructed, TOLERANCE);
+    }
+
+    @Test
+    void testBufferVariantsValidation() {
+        double[] signal = {1.0, 2.0, 3.0, 4.0};
+        double[] buffer = new double[4];
+
+        assertThrows(NullPointerException.class,
+            () -> modwtTransform.forward(signal, null, buffer));
+        assertThrows(InvalidArgumentException.class,
+            () -> modwtTransform.forward(signal, new double[3], buffer));
+        assertThrows(InvalidArgumentException.class,
+            () -> modwtTransform.forward(signal, buffer, buffer));
+        assertThrows(InvalidArgumentException.class,
+            () -> modwtTransform.forward(signal, signal, buffer));
+
+        assertThrows(InvalidSignalException.class,
+            () -> modwtTransform.inverse(signal, new double[3], buffer));
+        assertThrows(InvalidArgumentException.class,
+            () -> modwtTransform.inverse(signal, buffer, new double[5]));
+        assertThrows(InvalidArgumentException.class,
+            () -> modwtTransform.inverse(signal, buffer, buffer));
+        assertThrows(InvalidSignalException.class,
+            () -> modwtTransform.inverse(new double[]{1.0, Double.NaN, 3.0, 4.0}, buffer, new double[4]));
+    }
+}
@@ -1,6 +1,7 @@
 package ai.prophetizo.wavelet.modwt;
 
 import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
 import ai.prophetizo.wavelet.api.Haar;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
 import org.junit.jupiter.api.Test;
@@ -38,47 +39,21 @@ class MultiLevelMODWTBitShiftOverflowTest {
     }
     
     @Test
-    void testUpsampleFiltersForLevelWithHighLevel() throws Exception {
-        Haar haar = new Haar();
-        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(haar, BoundaryMode.PERIODIC);
-        
-        // Access private upsampleFiltersForLevel method via reflection
-        Method upsampleFiltersForLevel = MultiLevelMODWTTransform.class
-            .getDeclaredMethod("upsampleFiltersForLevel", double[].class, double[].class, int.class);
-        upsampleFiltersForLevel.setAccessible(true);
-        
-        double[] lowFilter = {0.7071, 0.7071};
-        double[] highFilter = {0.7071, -0.7071};
+    void testFilterBankWithHighLevel() {
+        MODWTFilterBank bank = MODWTFilterBank.of(new Haar());
         
         // Test with level that would cause overflow (32 or higher)
-        assertThrows(Exception.class, () -> {
-            upsampleFiltersForLevel.invoke(transform, lowFilter, highFilter, 32);
+        assertThrows(InvalidArgumentException.class, () -> {
+            bank.reconstruction(32);
         }, "Should throw exception for level >= 32");
         
-        // Test with maximum safe level (31)
-        // This should also throw because it would create massive arrays
-        assertThrows(Exception.class, () -> {
-            upsampleFiltersForLevel.invoke(transform, lowFilter, highFilter, 31);
-        }, "Should throw exception for level 31");
-    }
-    
-    @Test
-    void testScaleFiltersForLevelWithHighLevel() throws Exception {
-        Haar haar = new Haar();
-        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(haar, BoundaryMode.PERIODIC);
-        
-        // Access private scaleFiltersForLevel method via reflection
-        Method scaleFiltersForLevel = MultiLevelMODWTTransform.class
-            .getDeclaredMethod("scaleFiltersForLevel", double[].class, double[].class, int.class);
-        scaleFiltersForLevel.setAccessible(true);
+        // Maximum safe level (31) only needs the tap spacing, not a 2^30-element filter
+        assertEquals(1 << 30, bank.reconstruction(31).dilation());
         
-        double[] lowFilter = {0.7071, 0.7071};
-        double[] highFilter = {0.7071, -0.7071};
-        
-        // Test with level that would cause overflow
-        assertThrows(Exception.class, () -> {
-            scaleFiltersForLevel.invoke(transform, lowFilter, highFilter, 32);
-        }, "Should throw exception for level >= 32");
+        // But a longer filter at that level would overflow the dilated span
+        assertThrows(InvalidArgumentException.class, () -> {
+            MODWTFilterBank.of(Daubechies.DB2).reconstruction(31);
+        }, "Should throw exception when (L-1) * 2^30 + 1 overflows");
     }
     
     @Test
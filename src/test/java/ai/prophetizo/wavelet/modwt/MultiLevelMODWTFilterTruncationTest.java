@@ -2,11 +2,9 @@ package ai.prophetizo.wavelet.modwt;
 
 import ai.prophetizo.wavelet.api.BoundaryMode;
 import ai.prophetizo.wavelet.api.Haar;
-import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.WaveletOperations;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Method;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -15,54 +13,43 @@ import static org.junit.jupiter.api.Assertions.*;
 class MultiLevelMODWTFilterTruncationTest {
     
     @Test
-    void testGetTruncatedFilterValidation() throws Exception {
-        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(
-            new Haar(), BoundaryMode.PERIODIC);
-        
-        // Access private getTruncatedFilter method via reflection
-        Method getTruncatedFilter = MultiLevelMODWTTransform.class
-            .getDeclaredMethod("getTruncatedFilter", double[].class, int.class, 
-                             Class.forName("ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform$FilterType"));
-        getTruncatedFilter.setAccessible(true);
-        
-        // Get FilterType enum
-        Class<?> filterTypeClass = Class.forName("ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform$FilterType");
-        Object lowFilterType = filterTypeClass.getEnumConstants()[0]; // LOW
-        
-        double[] filter = {1.0, 2.0, 3.0, 4.0, 5.0};
-        
-        // Test valid truncation
-        double[] truncated = (double[]) getTruncatedFilter.invoke(transform, filter, 3, lowFilterType);
-        assertEquals(3, truncated.length);
-        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, truncated);
-        
-        // Test truncation to same length (should work)
-        truncated = (double[]) getTruncatedFilter.invoke(transform, filter, 5, lowFilterType);
-        assertEquals(5, truncated.length);
-        assertArrayEquals(filter, truncated);
-        
-        // Test invalid cases
-        
-        // Negative target length
-        Exception ex = assertThrows(Exception.class, () -> {
-            getTruncatedFilter.invoke(transform, filter, -1, lowFilterType);
-        });
-        assertTrue(ex.getCause() instanceof IllegalArgumentException);
-        assertTrue(ex.getCause().getMessage().contains("Target length must be positive"));
-        
-        // Zero target length
-        ex = assertThrows(Exception.class, () -> {
-            getTruncatedFilter.invoke(transform, filter, 0, lowFilterType);
-        });
-        assertTrue(ex.getCause() instanceof IllegalArgumentException);
-        assertTrue(ex.getCause().getMessage().contains("Target length must be positive"));
-        
-        // Target length exceeds filter length
-        ex = assertThrows(Exception.class, () -> {
-            getTruncatedFilter.invoke(transform, filter, 10, lowFilterType);
-        });
-        assertTrue(ex.getCause() instanceof IllegalArgumentException);
-        assertTrue(ex.getCause().getMessage().contains("exceeds filter length"));
+    void testDilatedTapsBeyondSignalLengthAreDropped() {
+        // Dilated kernels must behave like the zero-stuffed filter truncated to the signal length
+        double[] signal = {1.0, -2.0, 3.0, 0.5, -1.5};
+        double[] filter = {0.4, 0.3, 0.2, 0.1};
+        int dilation = 2; // Upsampled span = 7 > signal length
+        
+        double[] truncated = {0.4, 0.0, 0.3, 0.0, 0.2}; // Upsampled filter cut to 5 samples
+        double[] expected = new double[signal.length];
+        WaveletOperations.circularConvolveMODWT(signal, truncated, expected);
+        
+        double[] actual = new double[signal.length];
+        WaveletOperations.circularConvolveMODWTDilated(signal, filter, actual, dilation);
+        assertArrayEquals(expected, actual, 1e-12);
+        
+        // Same for the inverse direction
+        double[] details = {0.25, 0.5, -0.75, 1.0, -1.25};
+        double[] inverse = new double[signal.length];
+        WaveletOperations.circularInverseMODWTDilated(signal, details, filter, filter, inverse, dilation);
+        for (int t = 0; t < signal.length; t++) {
+            double sum = 0.0;
+            for (int l = 0; l < truncated.length; l++) {
+                int idx = (t + l) % signal.length;
+                sum += truncated[l] * (signal[idx] + details[idx]);
+            }
+            assertEquals(sum, inverse[t], 1e-12);
+        }
+    }
+    
+    @Test
+    void testInvalidDilationRejected() {
+        double[] signal = {1.0, 2.0, 3.0, 4.0};
+        double[] filter = {0.5, 0.5};
+        double[] output = new double[signal.length];
+        
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+            WaveletOperations.circularConvolveMODWTDilated(signal, filter, output, 0));
+        assertTrue(ex.getMessage().contains("Dilation must be positive"));
     }
     
     @Test
@@ -86,33 +73,4 @@ class MultiLevelMODWTFilterTruncationTest {
             assertArrayEquals(shortSignal, reconstructed, 1e-10);
         });
     }
-    
-    @Test
-    void testCacheEfficiency() throws Exception {
-        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(
-            new Haar(), BoundaryMode.PERIODIC);
-        
-        // Access private method and cache via reflection
-        Method getTruncatedFilter = MultiLevelMODWTTransform.class
-            .getDeclaredMethod("getTruncatedFilter", double[].class, int.class, 
-                             Class.forName("ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform$FilterType"));
-        getTruncatedFilter.setAccessible(true);
-        
-        Class<?> filterTypeClass = Class.forName("ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform$FilterType");
-        Object lowFilterType = filterTypeClass.getEnumConstants()[0]; // LOW
-        
-        double[] filter = {1.0, 2.0, 3.0, 4.0, 5.0};
-        
-        // Call multiple times with same parameters
-        double[] result1 = (double[]) getTruncatedFilter.invoke(transform, filter, 3, lowFilterType);
-        double[] result2 = (double[]) getTruncatedFilter.invoke(transform, filter, 3, lowFilterType);
-        
-        // Should return the same cached instance
-        assertSame(result1, result2, "Cache should return the same instance");
-        
-        // Different target length should create new instance
-        double[] result3 = (double[]) getTruncatedFilter.invoke(transform, filter, 4, lowFilterType);
-        assertNotSame(result1, result3);
-        assertEquals(4, result3.length);
-    }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package ai.prophetizo.wavelet.modwt;
 
 import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
 import ai.prophetizo.wavelet.api.Haar;
 import ai.prophetizo.wavelet.api.Wavelet;
 import ai.prophetizo.wavelet.exception.InvalidArgumentException;
@@ -38,61 +39,22 @@ class MultiLevelMODWTOverflowTest {
     }
     
     @Test
-    void testScaleFiltersForLevelOverflowProtection() throws Exception {
-        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(
-            new Haar(), BoundaryMode.PERIODIC);
-        
-        // Access private method via reflection
-        Method scaleFiltersForLevel = MultiLevelMODWTTransform.class
-            .getDeclaredMethod("scaleFiltersForLevel", double[].class, double[].class, int.class);
-        scaleFiltersForLevel.setAccessible(true);
-        
-        double[] lowFilter = {1.0, 2.0};
-        double[] highFilter = {1.0, -2.0};
+    void testFilterBankLevelOverflowProtection() {
+        MODWTFilterBank haarBank = MODWTFilterBank.of(new Haar());
         
         // Test normal levels
-        assertDoesNotThrow(() -> {
-            scaleFiltersForLevel.invoke(transform, lowFilter, highFilter, 1);
-            scaleFiltersForLevel.invoke(transform, lowFilter, highFilter, 5);
-            scaleFiltersForLevel.invoke(transform, lowFilter, highFilter, 10);
-        });
+        assertEquals(1, haarBank.decomposition(1).dilation());
+        assertEquals(16, haarBank.decomposition(5).dilation());
+        assertEquals(512, haarBank.decomposition(10).dilation());
         
         // Test level that would cause overflow
-        // At level 31, upFactor = 1 << 30 = 1073741824
-        // With a longer filter, this could overflow
-        double[] longLowFilter = new double[1000];
-        double[] longHighFilter = new double[1000];
-        assertThrows(Exception.class, () -> {
-            scaleFiltersForLevel.invoke(transform, longLowFilter, longHighFilter, 31);
-        });
-    }
-    
-    @Test
-    void testUpsampleFiltersForLevelOverflowProtection() throws Exception {
-        MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(
-            new Haar(), BoundaryMode.PERIODIC);
-        
-        // Access private method via reflection
-        Method upsampleFiltersForLevel = MultiLevelMODWTTransform.class
-            .getDeclaredMethod("upsampleFiltersForLevel", double[].class, double[].class, int.class);
-        upsampleFiltersForLevel.setAccessible(true);
-        
-        double[] lowFilter = {1.0, 2.0};
-        double[] highFilter = {1.0, -2.0};
-        
-        // Test normal levels
-        assertDoesNotThrow(() -> {
-            upsampleFiltersForLevel.invoke(transform, lowFilter, highFilter, 1);
-            upsampleFiltersForLevel.invoke(transform, lowFilter, highFilter, 5);
-            upsampleFiltersForLevel.invoke(transform, lowFilter, highFilter, 10);
-        });
+        // At level 31, dilation = 1 << 30 = 1073741824
+        // With a longer filter, the dilated span (L-1) * 2^30 + 1 overflows
+        MODWTFilterBank db4Bank = MODWTFilterBank.of(Daubechies.DB4);
+        assertThrows(InvalidArgumentException.class, () -> db4Bank.decomposition(31));
         
-        // Test level that would cause overflow with a long filter
-        double[] longLowFilter = new double[1000];
-        double[] longHighFilter = new double[1000];
-        assertThrows(Exception.class, () -> {
-            upsampleFiltersForLevel.invoke(transform, longLowFilter, longHighFilter, 31);
-        });
+        // Level 32 would overflow the bit shift itself
+        assertThrows(InvalidArgumentException.class, () -> haarBank.decomposition(32));
     }
     
     @Test
@@ -290,6 +290,143 @@ class MultiLevelMODWTTransformTest {
         assertEquals(10, MultiLevelMODWTTransform.getMaxDecompositionLevels());
     }
     
+    @Test
+    void testDecomposeIntoBufferMatchesAllocatingDecompose() {
+        double[] signal = new double[100];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 16) + 0.3 * Math.cos(2 * Math.PI * i / 5);
+        }
+
+        for (BoundaryMode mode : new BoundaryMode[]{
+                BoundaryMode.PERIODIC, BoundaryMode.ZERO_PADDING, BoundaryMode.SYMMETRIC}) {
+            MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(Daubechies.DB4, mode);
+            for (int levels = 1; levels <= 3; levels++) {
+                MultiLevelMODWTResult expected = transform.decompose(signal, levels);
+                MutableMultiLevelMODWTResult buffer =
+                    new MutableMultiLevelMODWTResultImpl(signal.length, levels);
+
+                // Decompose twice to check that reused buffers are fully overwritten
+                transform.decompose(new double[signal.length], buffer);
+                transform.decompose(signal, buffer);
+
+                for (int level = 1; level <= levels; level++) {
+                    assertArrayEquals(expected.getDetailCoeffsAtLevel(level),
+                        buffer.getDetailCoeffsAtLevel(level), 1e-12);
+                }
+                assertArrayEquals(expected.getApproximationCoeffs(),
+                    buffer.getApproximationCoeffs(), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void testDecomposeIntoBufferReusesArrays() {
+        double[] signal = new double[64];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = i % 7;
+        }
+        MutableMultiLevelMODWTResult buffer = new MutableMultiLevelMODWTResultImpl(64, 3);
+
+        db4Transform.decompose(signal, buffer);
+        double[] details = buffer.getMutableDetailCoeffs(2);
+        double[] approx = buffer.getMutableApproximationCoeffs();
+        db4Transform.decompose(signal, buffer);
+
+        assertSame(details, buffer.getMutableDetailCoeffs(2));
+        assertSame(approx, buffer.getMutableApproximationCoeffs());
+    }
+
+    @Test
+    void testReconstructIntoBuffer() {
+        double[] signal = new double[128];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 32) + 0.1 * i;
+        }
+
+        for (int levels = 1; levels <= 4; levels++) {
+            MultiLevelMODWTResult result = db4Transform.decompose(signal, levels);
+            double[] output = new double[signal.length];
+            db4Transform.reconstruct(result, output);
+
+            assertArrayEquals(db4Transform.reconstruct(result), output, 1e-12);
+            // The ramp reaches ~13 and the DB4 filter norm is exact to ~1e-12,
+            // so the round-trip error grows to ~1e-9 at level 4
+            assertArrayEquals(signal, output, 1e-8);
+
+            MutableMultiLevelMODWTResult buffer =
+                new MutableMultiLevelMODWTResultImpl(signal.length, levels);
+            db4Transform.decompose(signal, buffer);
+            db4Transform.reconstruct(buffer, output);
+            assertArrayEquals(signal, output, 1e-8);
+        }
+    }
+
+    @Test
+    void testBufferVariantsValidation() {
+        double[] signal = new double[64];
+        MutableMultiLevelMODWTResult buffer = new MutableMultiLevelMODWTResultImpl(64, 2);
+
+        assertThrows(NullPointerException.class, () -> db4Transform.decompose(signal, null));
+        assertThrows(InvalidArgumentException.class,
+            () -> db4Transform.decompose(new double[32], buffer));
+        assertThrows(InvalidArgumentException.class,
+            () -> db4Transform.decompose(new double[64], new MutableMultiLevelMODWTResultImpl(64, 9)));
+
+        db4Transform.decompose(signal, buffer);
+        assertThrows(InvalidArgumentException.class,
+            () -> db4Transform.decompose(buffer.getMutableDetailCoeffs(1), buffer));
+        assertThrows(InvalidArgumentException.class,
+            () -> db4Transform.reconstruct(buffer, new double[63]));
+        assertThrows(InvalidArgumentException.class,
+            () -> db4Transform.reconstruct(buffer, buffer.getMutableApproximationCoeffs()));
+        assertThrows(NullPointerException.class,
+            () -> db4Transform.reconstruct(buffer, null));
+    }
+    
+    @Test
+    void testBatchDecompositionMatchesSingleSignal() {
+        for (BoundaryMode mode : new BoundaryMode[]{
+                BoundaryMode.PERIODIC, BoundaryMode.ZERO_PADDING, BoundaryMode.SYMMETRIC}) {
+            MultiLevelMODWTTransform transform = new MultiLevelMODWTTransform(Daubechies.DB4, mode);
+            double[][] signals = new double[11][200];
+            for (int b = 0; b < signals.length; b++) {
+                for (int t = 0; t < signals[b].length; t++) {
+                    signals[b][t] = Math.sin(0.05 * (b + 1) * t) + 0.1 * (t % 7);
+                }
+            }
+            
+            MultiLevelMODWTResult[] results = transform.decomposeBatch(signals, 3);
+            double[][] reconstructed = transform.reconstructBatch(results);
+            
+            for (int b = 0; b < signals.length; b++) {
+                MultiLevelMODWTResult expected = transform.decompose(signals[b], 3);
+                for (int level = 1; level <= 3; level++) {
+                    assertArrayEquals(expected.getDetailCoeffsAtLevel(level),
+                        results[b].getDetailCoeffsAtLevel(level), 1e-12, mode + " level " + level);
+                }
+                assertArrayEquals(expected.getApproximationCoeffs(),
+                    results[b].getApproximationCoeffs(), 1e-12, mode.toString());
+                assertArrayEquals(transform.reconstruct(expected), reconstructed[b], 1e-12, mode.toString());
+            }
+        }
+    }
+    
+    @Test
+    void testBatchDecompositionWithMixedLengths() {
+        double[][] signals = {new double[64], new double[128], new double[96]};
+        signals[1][5] = 1.0;
+        
+        MultiLevelMODWTResult[] results = db4Transform.decomposeBatch(signals, 2);
+        double[][] reconstructed = db4Transform.reconstructBatch(results);
+        
+        for (int b = 0; b < signals.length; b++) {
+            assertEquals(signals[b].length, results[b].getSignalLength());
+            assertArrayEquals(signals[b], reconstructed[b], 1e-10);
+        }
+        assertThrows(InvalidArgumentException.class,
+            () -> db4Transform.decomposeBatch(new double[][]{new double[64]}, 20));
+    }
+    
     // Helper methods
     
     private double computeVariance(double[] data) {
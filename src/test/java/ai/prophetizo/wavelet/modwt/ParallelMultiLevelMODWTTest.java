@@ -221,4 +221,70 @@ class ParallelMultiLevelMODWTTest {
         assertThrows(InvalidArgumentException.class, () ->
             transform.decompose(signal, new Haar(), BoundaryMode.PERIODIC, 10));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testChunkedMatchesSequentialAllModes() {
+        double[] signal = new double[1000];
+        Random random = new Random(7);
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = random.nextGaussian();
+        }
+        
+        // Tiny chunks force many splits, including chunks shorter than the filter halo
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ParallelMultiLevelMODWT chunked = new ParallelMultiLevelMODWT(pool, 7);
+            for (BoundaryMode mode : new BoundaryMode[]{
+                    BoundaryMode.PERIODIC, BoundaryMode.ZERO_PADDING, BoundaryMode.SYMMETRIC}) {
+                MultiLevelMODWTResult expected = new MultiLevelMODWTTransform(Daubechies.DB4, mode)
+                    .decompose(signal, 5);
+                MultiLevelMODWTResult actual = chunked.decomposeChunked(signal, Daubechies.DB4, mode, 5);
+                
+                assertArrayEquals(expected.getApproximationCoeffs(),
+                    actual.getApproximationCoeffs(), EPSILON, "Approximation for " + mode);
+                for (int level = 1; level <= 5; level++) {
+                    assertArrayEquals(expected.getDetailCoeffsAtLevel(level),
+                        actual.getDetailCoeffsAtLevel(level), EPSILON,
+                        "Details at level " + level + " for " + mode);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    void testChunkedWithDefaultChunkSize() {
+        double[] signal = new double[50_000];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 128.0);
+        }
+        
+        MultiLevelMODWTResult expected = new MultiLevelMODWTTransform(new Haar(), BoundaryMode.PERIODIC)
+            .decompose(signal, 4);
+        MultiLevelMODWTResult actual = parallelTransform.decomposeChunked(
+            signal, new Haar(), BoundaryMode.PERIODIC, 4);
+        
+        assertArrayEquals(expected.getApproximationCoeffs(), actual.getApproximationCoeffs(), EPSILON);
+        assertArrayEquals(expected.getDetailCoeffsAtLevel(4), actual.getDetailCoeffsAtLevel(4), EPSILON);
+    }
+    
+    @Test
+    void testChunkedValidation() {
+        double[] signal = new double[64];
+        
+        assertThrows(InvalidArgumentException.class,
+            () -> new ParallelMultiLevelMODWT(ForkJoinPool.commonPool(), 0));
+        assertThrows(InvalidArgumentException.class,
+            () -> parallelTransform.decomposeChunked(signal, new Haar(), BoundaryMode.CONSTANT, 2));
+        assertThrows(InvalidArgumentException.class,
+            () -> parallelTransform.decomposeChunked(signal, new Haar(), BoundaryMode.PERIODIC, 0));
+        assertThrows(InvalidSignalException.class,
+            () -> parallelTransform.decomposeChunked(new double[0], new Haar(), BoundaryMode.PERIODIC, 1));
+        
+        // Chunks are fork/join tasks; a plain executor is rejected rather than bypassed
+        ParallelMultiLevelMODWT plainExecutor = new ParallelMultiLevelMODWT(Runnable::run, 64);
+        assertThrows(InvalidArgumentException.class,
+            () -> plainExecutor.decomposeChunked(signal, new Haar(), BoundaryMode.PERIODIC, 2));
+    }
+}
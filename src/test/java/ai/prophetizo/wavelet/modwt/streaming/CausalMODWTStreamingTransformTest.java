@@ -0,0 +1,217 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.api.Symlet;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import ai.prophetizo.wavelet.modwt.MODWTTransformFactory;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the causal, sample-by-sample streaming MODWT.
+ */
+@DisplayName("CausalMODWTStreamingTransform Test Suite")
+class CausalMODWTStreamingTransformTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    @DisplayName("Per-sample coefficients equal a zero-padding MODWT of the samples seen")
+    void testMatchesZeroPaddingTransform() {
+        int n = 512;
+        double[] signal = randomSignal(n, 7);
+        for (Wavelet wavelet : new Wavelet[]{new Haar(), Daubechies.DB4, Symlet.SYM8}) {
+            for (int levels = 1; levels <= 4; levels++) {
+                MultiLevelMODWTResult expected = new MultiLevelMODWTTransform(wavelet, BoundaryMode.ZERO_PADDING)
+                    .decompose(signal, levels);
+
+                try (CausalMODWTStreamingTransform transform =
+                         MODWTTransformFactory.createCausalStreaming(wavelet, levels)) {
+                    double[] details = new double[levels];
+                    for (int t = 0; t < n; t++) {
+                        double approximation = transform.processSample(signal[t], details);
+                        for (int level = 1; level <= levels; level++) {
+                            assertEquals(expected.getDetailCoeffsAtLevel(level)[t], details[level - 1], EPSILON,
+                                wavelet.name() + " level " + level + " t=" + t);
+                        }
+                        assertEquals(expected.getApproximationCoeffs()[t], approximation, EPSILON);
+                        assertEquals(approximation, transform.getApproximation(levels));
+                    }
+                    assertEquals(n, transform.getSampleCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Settled coefficients do not depend on the initial history")
+    void testSettledCoefficientsMatchPeriodicInterior() {
+        int n = 1024;
+        int levels = 3;
+        double[] signal = randomSignal(n, 13);
+        MultiLevelMODWTResult periodic = new MultiLevelMODWTTransform(Daubechies.DB4, BoundaryMode.PERIODIC)
+            .decompose(signal, levels);
+
+        try (CausalMODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(Daubechies.DB4, levels)) {
+            assertEquals(7L * 7, transform.getSettlingSamples());
+            for (int t = 0; t < n; t++) {
+                transform.processSample(signal[t]);
+                if (t >= transform.getSettlingSamples()) {
+                    for (int level = 1; level <= levels; level++) {
+                        assertEquals(periodic.getDetailCoeffsAtLevel(level)[t], transform.getDetail(level), EPSILON);
+                    }
+                    assertEquals(periodic.getApproximationCoeffs()[t], transform.getApproximation(), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Reset restores the zero initial history")
+    void testReset() {
+        double[] signal = randomSignal(300, 3);
+        CausalMODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(Symlet.SYM8, 2);
+        double[] first = new double[signal.length];
+        for (int t = 0; t < signal.length; t++) {
+            transform.processSample(signal[t]);
+            first[t] = transform.getDetail(2);
+        }
+
+        transform.reset();
+        assertEquals(0, transform.getSampleCount());
+        for (int t = 0; t < signal.length; t++) {
+            transform.processSample(signal[t]);
+            assertEquals(first[t], transform.getDetail(2));
+        }
+        transform.close();
+    }
+
+    @Test
+    @DisplayName("Subscribers receive one result per level for every block")
+    void testPublishedBlocks() throws InterruptedException {
+        int levels = 2;
+        int blockSize = 128;
+        double[] signal = randomSignal(300, 5);
+        List<MODWTResult> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        CausalMODWTStreamingTransform transform =
+            MODWTStreamingTransform.createCausal(Daubechies.DB4, levels, blockSize);
+        transform.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MODWTResult item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        double[][] expectedDetails = new double[levels][signal.length];
+        for (int t = 0; t < signal.length; t++) {
+            transform.processSample(signal[t]);
+            for (int level = 1; level <= levels; level++) {
+                expectedDetails[level - 1][t] = transform.getDetail(level);
+            }
+        }
+        assertEquals(signal.length % blockSize, transform.getBufferLevel());
+        transform.close();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+
+        // Two full blocks and the partial block published on close
+        assertEquals(3 * levels, received.size());
+        for (int block = 0; block < 3; block++) {
+            int offset = block * blockSize;
+            for (int level = 1; level <= levels; level++) {
+                double[] detail = received.get(block * levels + level - 1).detailCoeffs();
+                assertEquals(Math.min(blockSize, signal.length - offset), detail.length);
+                for (int i = 0; i < detail.length; i++) {
+                    assertEquals(expectedDetails[level - 1][offset + i], detail[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The per-sample path does not allocate")
+    void testNoAllocationPerSample() {
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        CausalMODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(Daubechies.DB4, 5);
+        double[] details = new double[5];
+        double[] signal = randomSignal(100_000, 1);
+        for (double sample : signal) {
+            transform.processSample(sample, details);
+        }
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (double sample : signal) {
+            transform.processSample(sample, details);
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+        transform.close();
+
+        // Allow for the measurement itself, far below one byte per sample
+        assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Invalid arguments and closed transforms are rejected")
+    void testValidation() {
+        assertThrows(InvalidArgumentException.class, () -> MODWTStreamingTransform.createCausal(null, 2));
+        assertThrows(InvalidArgumentException.class, () -> MODWTStreamingTransform.createCausal(new Haar(), 0));
+        assertThrows(InvalidArgumentException.class, () -> MODWTStreamingTransform.createCausal(new Haar(), 2, 0));
+        // The deepest delay line would not fit in memory
+        assertThrows(InvalidArgumentException.class, () -> MODWTStreamingTransform.createCausal(Daubechies.DB20, 25));
+
+        CausalMODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(new Haar(), 3);
+        assertThrows(InvalidArgumentException.class, () -> transform.processSample(1.0, new double[2]));
+        assertThrows(InvalidArgumentException.class, () -> transform.getDetail(4));
+        transform.close();
+        assertTrue(transform.isClosed());
+        assertThrows(InvalidStateException.class, () -> transform.processSample(1.0));
+    }
+
+    private static double[] randomSignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 64.0) + 0.5 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -0,0 +1,207 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for pooled frame publication from the streaming transforms.
+ */
+@DisplayName("FramePublisher Test Suite")
+class FramePublisherTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    @DisplayName("Frames carry the same coefficients as MODWTResults")
+    void testFramesMatchResults() throws Exception {
+        int bufferSize = 128;
+        double[] signal = randomSignal(bufferSize * 6, 3);
+
+        List<MODWTResult> results = Collections.synchronizedList(new ArrayList<>());
+        List<double[][]> frames = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch resultsDone = new CountDownLatch(1);
+        CountDownLatch framesDone = new CountDownLatch(1);
+        try (MODWTStreamingTransform transform =
+                 MODWTStreamingTransform.create(Daubechies.DB4, BoundaryMode.PERIODIC, bufferSize)) {
+            transform.subscribe(new Collector<>(results::add, resultsDone));
+            transform.subscribeFrames(new Collector<>(frame -> {
+                frames.add(new double[][]{
+                    java.util.Arrays.copyOf(frame.row(0), frame.length()),
+                    java.util.Arrays.copyOf(frame.row(1), frame.length())});
+                frame.release();
+            }, framesDone));
+
+            transform.process(signal);
+        }
+        // Closing the transform completes both subscribers
+        assertTrue(resultsDone.await(5, TimeUnit.SECONDS));
+        assertTrue(framesDone.await(5, TimeUnit.SECONDS));
+
+        assertFalse(results.isEmpty());
+        assertEquals(results.size(), frames.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertArrayEquals(results.get(i).approximationCoeffs(), frames.get(i)[0], EPSILON);
+            assertArrayEquals(results.get(i).detailCoeffs(), frames.get(i)[1], EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("Causal transform frames hold every level, including a trimmed last block")
+    void testCausalFramesMatchPerSampleCoefficients() throws Exception {
+        int levels = 3;
+        int blockSize = 64;
+        double[] signal = randomSignal(blockSize * 4 + 10, 5);
+
+        double[][] expectedApprox = new double[levels][signal.length];
+        double[][] expectedDetail = new double[levels][signal.length];
+        try (CausalMODWTStreamingTransform reference = MODWTStreamingTransform.createCausal(Daubechies.DB4, levels)) {
+            for (int t = 0; t < signal.length; t++) {
+                reference.processSample(signal[t]);
+                for (int j = 0; j < levels; j++) {
+                    expectedApprox[j][t] = reference.getApproximation(j + 1);
+                    expectedDetail[j][t] = reference.getDetail(j + 1);
+                }
+            }
+        }
+
+        List<double[][]> frames = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        try (CausalMODWTStreamingTransform transform =
+                 MODWTStreamingTransform.createCausal(Daubechies.DB4, levels, blockSize)) {
+            transform.subscribeFrames(new Collector<>(frame -> {
+                double[][] rows = new double[frame.rowCount()][];
+                for (int row = 0; row < rows.length; row++) {
+                    rows[row] = java.util.Arrays.copyOf(frame.row(row), frame.length());
+                }
+                frames.add(rows);
+                frame.release();
+            }, done));
+            // Mix chunked and per-sample input
+            transform.process(java.util.Arrays.copyOf(signal, blockSize * 2 + 7));
+            for (int t = blockSize * 2 + 7; t < signal.length; t++) {
+                transform.processSample(signal[t]);
+            }
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(5, frames.size());
+        assertEquals(10, frames.get(4)[0].length);
+        int t0 = 0;
+        for (double[][] rows : frames) {
+            assertEquals(2 * levels, rows.length);
+            for (int j = 0; j < levels; j++) {
+                for (int i = 0; i < rows[0].length; i++) {
+                    assertEquals(expectedApprox[j][t0 + i], rows[2 * j][i], EPSILON);
+                    assertEquals(expectedDetail[j][t0 + i], rows[2 * j + 1][i], EPSILON);
+                }
+            }
+            t0 += rows[0].length;
+        }
+    }
+
+    @Test
+    @DisplayName("Released frames are reused instead of allocated")
+    void testFramesAreRecycled() throws Exception {
+        int blocks = 200;
+        Set<CoefficientFrame> seen = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        Semaphore released = new Semaphore(0);
+        CountDownLatch done = new CountDownLatch(1);
+        try (CausalMODWTStreamingTransform transform =
+                 MODWTStreamingTransform.createCausal(Daubechies.DB4, 2, 32)) {
+            transform.subscribeFrames(new Collector<>(frame -> {
+                seen.add(frame);
+                frame.release();
+                released.release();
+            }, done));
+            double[] chunk = randomSignal(32, 9);
+            for (int i = 0; i < blocks; i++) {
+                transform.process(chunk);
+                // A subscriber that keeps up: each frame is back before the next block
+                assertTrue(released.tryAcquire(5, TimeUnit.SECONDS));
+            }
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, seen.size());
+    }
+
+    @Test
+    @DisplayName("Every subscriber holds its own reference")
+    void testOneReferencePerSubscriber() throws Exception {
+        FramePublisher publisher = new FramePublisher(1, 8);
+        List<CoefficientFrame> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2);
+        publisher.subscribe(new Collector<>(received::add, done));
+        publisher.subscribe(new Collector<>(received::add, done));
+
+        CoefficientFrame frame = publisher.acquire(8);
+        publisher.publish(frame);
+        publisher.close();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(2, received.size());
+        assertEquals(2, frame.referenceCount());
+        assertFalse(received.get(0).release());
+        assertTrue(received.get(1).release());
+        assertEquals(1, publisher.getPool().getPooledCount());
+    }
+
+    private static double[] randomSignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = random.nextGaussian();
+        }
+        return signal;
+    }
+
+    /**
+     * Subscriber that hands every item to a callback and counts down on completion.
+     */
+    private static final class Collector<T> implements Flow.Subscriber<T> {
+        private final java.util.function.Consumer<T> onItem;
+        private final CountDownLatch done;
+
+        Collector(java.util.function.Consumer<T> onItem, CountDownLatch done) {
+            this.onItem = onItem;
+            this.done = done;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            onItem.accept(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdMethod;
+import ai.prophetizo.wavelet.denoising.WaveletDenoiser.ThresholdType;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.util.SlidingWindowMedian;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the single-transform denoising pipeline gives the same output as
+ * denoising each block with {@link WaveletDenoiser}.
+ */
+class MODWTStreamingDenoiserPipelineTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    void testMatchesWaveletDenoiserForEveryMethod() {
+        WaveletDenoiser reference = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+        for (ThresholdMethod method : new ThresholdMethod[]{
+                ThresholdMethod.UNIVERSAL, ThresholdMethod.SURE, ThresholdMethod.MINIMAX, ThresholdMethod.BAYES}) {
+            for (ThresholdType type : ThresholdType.values()) {
+                MODWTStreamingDenoiser denoiser = new MODWTStreamingDenoiser.Builder()
+                    .wavelet(Daubechies.DB4)
+                    .thresholdMethod(method)
+                    .thresholdType(type)
+                    .build();
+                for (int block = 0; block < 3; block++) {
+                    double[] samples = noisySignal(256, block);
+                    assertArrayEquals(reference.denoise(samples, method, type), denoiser.denoise(samples),
+                        EPSILON, method + "/" + type + " block " + block);
+                }
+                denoiser.close();
+            }
+        }
+    }
+
+    @Test
+    void testMultiplierScalesStreamingThreshold() {
+        double multiplier = 1.5;
+        MODWTStreamingDenoiser denoiser = new MODWTStreamingDenoiser.Builder()
+            .wavelet(Daubechies.DB4)
+            .thresholdMethod(ThresholdMethod.UNIVERSAL)
+            .thresholdType(ThresholdType.SOFT)
+            .thresholdMultiplier(multiplier)
+            .noiseWindowSize(128)
+            .build();
+        WaveletDenoiser reference = new WaveletDenoiser(Daubechies.DB4, BoundaryMode.PERIODIC);
+
+        double[] samples = noisySignal(256, 11);
+        double[] denoised = denoiser.denoise(samples);
+
+        double sigma = denoiser.getEstimatedNoiseLevel();
+        assertTrue(sigma > 0);
+        double threshold = sigma * Math.sqrt(2.0 * Math.log(samples.length)) * multiplier;
+        assertArrayEquals(reference.denoiseFixed(samples, threshold, ThresholdType.SOFT), denoised, EPSILON);
+        denoiser.close();
+    }
+
+    @Test
+    void testDenoiseIntoBuffer() {
+        MODWTStreamingDenoiser allocating = new MODWTStreamingDenoiser.Builder().build();
+        MODWTStreamingDenoiser buffered = new MODWTStreamingDenoiser.Builder().build();
+        double[] output = new double[256];
+        for (int block = 0; block < 4; block++) {
+            double[] samples = noisySignal(256, block);
+            double[] expected = allocating.denoise(samples);
+
+            buffered.denoise(samples, output);
+            assertArrayEquals(expected, output, EPSILON);
+        }
+
+        // The output may replace the input
+        double[] samples = noisySignal(256, 9);
+        double[] expected = allocating.denoise(samples);
+        buffered.denoise(samples, samples);
+        assertArrayEquals(expected, samples, EPSILON);
+
+        assertThrows(InvalidArgumentException.class, () -> buffered.denoise(new double[256], new double[128]));
+        allocating.close();
+        buffered.close();
+    }
+
+    @Test
+    void testApproximateNoiseWindowTracksExact() {
+        MODWTStreamingDenoiser exact = new MODWTStreamingDenoiser.Builder()
+            .noiseWindowSize(2048)
+            .build();
+        MODWTStreamingDenoiser approximate = new MODWTStreamingDenoiser.Builder()
+            .noiseWindowSize(2048)
+            .noiseWindowMode(SlidingWindowMedian.Mode.APPROXIMATE)
+            .build();
+        for (int block = 0; block < 40; block++) {
+            double[] samples = noisySignal(256, block);
+            exact.denoise(samples);
+            approximate.denoise(samples);
+        }
+
+        double expected = exact.getEstimatedNoiseLevel();
+        assertTrue(expected > 0);
+        assertEquals(expected, approximate.getEstimatedNoiseLevel(), 0.2 * expected);
+        exact.close();
+        approximate.close();
+    }
+
+    private static double[] noisySignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 64.0) + 0.3 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -0,0 +1,170 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.BiorthogonalSpline;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.api.Wavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link MultiChannelStreamingTransform} matches one causal transform per channel.
+ */
+class MultiChannelStreamingTransformTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    void testMatchesCausalTransformPerChannel() {
+        for (Wavelet wavelet : new Wavelet[] {new Haar(), Daubechies.DB4, BiorthogonalSpline.BIOR1_3}) {
+            // An odd channel count leaves a scalar tail after the vector lanes
+            int channels = 13;
+            int levels = 3;
+            MultiChannelStreamingTransform multi = new MultiChannelStreamingTransform(wavelet, levels, channels);
+            CausalMODWTStreamingTransform[] single = new CausalMODWTStreamingTransform[channels];
+            for (int c = 0; c < channels; c++) {
+                single[c] = MODWTStreamingTransform.createCausal(wavelet, levels);
+            }
+
+            Random random = new Random(17);
+            double[] tick = new double[channels];
+            double[] row = new double[channels];
+            for (int t = 0; t < 300; t++) {
+                for (int c = 0; c < channels; c++) {
+                    tick[c] = random.nextGaussian() + c;
+                    single[c].processSample(tick[c]);
+                }
+                multi.tick(tick);
+
+                for (int level = 1; level <= levels; level++) {
+                    multi.copyDetails(level, row);
+                    for (int c = 0; c < channels; c++) {
+                        assertEquals(single[c].getDetail(level), row[c], EPSILON,
+                            wavelet.name() + " tick " + t + " channel " + c + " level " + level);
+                        assertEquals(single[c].getApproximation(level),
+                            multi.getApproximation(c, level), EPSILON);
+                    }
+                }
+            }
+            assertEquals(300, multi.getSampleCount());
+            assertEquals(single[0].getSettlingSamples(), multi.getSettlingSamples());
+            multi.close();
+            for (CausalMODWTStreamingTransform transform : single) {
+                transform.close();
+            }
+        }
+    }
+
+    @Test
+    void testStructureOfArraysChunk() {
+        int channels = 8;
+        MultiChannelStreamingTransform chunked = new MultiChannelStreamingTransform(Daubechies.DB4, 2, channels);
+        MultiChannelStreamingTransform ticked = new MultiChannelStreamingTransform(Daubechies.DB4, 2, channels);
+        Random random = new Random(3);
+        int ticks = 50;
+        double[] soa = new double[ticks * channels];
+        for (int i = 0; i < soa.length; i++) {
+            soa[i] = random.nextGaussian();
+        }
+
+        chunked.process(soa, ticks);
+        double[] tick = new double[channels];
+        for (int t = 0; t < ticks; t++) {
+            System.arraycopy(soa, t * channels, tick, 0, channels);
+            ticked.tick(tick);
+        }
+
+        for (int c = 0; c < channels; c++) {
+            assertEquals(ticked.getDetail(c, 2), chunked.getDetail(c, 2), 0.0);
+        }
+        chunked.close();
+        ticked.close();
+    }
+
+    @Test
+    void testChannelSubscriberReceivesFrames() throws Exception {
+        int channels = 5;
+        int blockSize = 16;
+        MultiChannelStreamingTransform multi =
+            new MultiChannelStreamingTransform(Daubechies.DB4, 2, channels, blockSize);
+        CausalMODWTStreamingTransform reference = MODWTStreamingTransform.createCausal(Daubechies.DB4, 2);
+
+        List<double[]> details = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        multi.subscribe(3, new Flow.Subscriber<CoefficientFrame>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(CoefficientFrame frame) {
+                double[] level2 = new double[frame.length()];
+                System.arraycopy(frame.row(3), 0, level2, 0, frame.length());
+                details.add(level2);
+                frame.release();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        Random random = new Random(5);
+        double[] tick = new double[channels];
+        double[] expected = new double[40];
+        for (int t = 0; t < expected.length; t++) {
+            for (int c = 0; c < channels; c++) {
+                tick[c] = random.nextGaussian();
+            }
+            multi.tick(tick);
+            double[] out = new double[2];
+            reference.processSample(tick[3], out);
+            expected[t] = out[1];
+        }
+        multi.close();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        // Two full blocks and the partial block published on close
+        assertEquals(3, details.size());
+        assertEquals(8, details.get(2).length);
+        int t = 0;
+        for (double[] block : details) {
+            for (double value : block) {
+                assertEquals(expected[t++], value, EPSILON);
+            }
+        }
+        reference.close();
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(InvalidArgumentException.class, () -> new MultiChannelStreamingTransform(null, 2, 4));
+        assertThrows(InvalidArgumentException.class, () -> new MultiChannelStreamingTransform(Daubechies.DB4, 0, 4));
+        assertThrows(InvalidArgumentException.class, () -> new MultiChannelStreamingTransform(Daubechies.DB4, 2, 0));
+
+        MultiChannelStreamingTransform multi = new MultiChannelStreamingTransform(Daubechies.DB4, 2, 4);
+        assertThrows(InvalidArgumentException.class, () -> multi.tick(new double[3]));
+        assertThrows(InvalidArgumentException.class, () -> multi.getDetail(4, 1));
+        assertThrows(InvalidArgumentException.class, () -> multi.getDetail(0, 3));
+        multi.close();
+        assertThrows(InvalidStateException.class, () -> multi.tick(new double[4]));
+    }
+}
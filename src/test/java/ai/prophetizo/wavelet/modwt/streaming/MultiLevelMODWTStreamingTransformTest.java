@@ -0,0 +1,238 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.api.Haar;
+import ai.prophetizo.wavelet.api.Symlet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTTransform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the pyramid multi-level streaming MODWT.
+ */
+@DisplayName("MultiLevelMODWTStreamingTransform Test Suite")
+class MultiLevelMODWTStreamingTransformTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    @DisplayName("Published blocks form one continuous causal transform")
+    void testBlocksMatchContinuousTransform() throws InterruptedException {
+        int levels = 3;
+        int bufferSize = 100;
+        double[] signal = randomSignal(1000, 21);
+        MultiLevelMODWTResult expected = new MultiLevelMODWTTransform(Symlet.SYM8, BoundaryMode.ZERO_PADDING)
+            .decompose(signal, levels);
+
+        MODWTStreamingTransform transform =
+            MODWTStreamingTransform.createMultiLevel(Symlet.SYM8, BoundaryMode.PERIODIC, bufferSize, levels);
+        List<MODWTResult> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = subscribe(transform, received);
+
+        // Chunks that start and end inside blocks, plus single samples
+        int t = 0;
+        for (int chunk : new int[]{37, 250, 1, 13, 199}) {
+            double[] data = new double[chunk];
+            System.arraycopy(signal, t, data, 0, chunk);
+            transform.process(data);
+            t += chunk;
+        }
+        while (t < signal.length) {
+            transform.processSample(signal[t++]);
+        }
+        transform.close();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+
+        assertEquals(signal.length / bufferSize * levels, received.size());
+        for (int block = 0; block < signal.length / bufferSize; block++) {
+            for (int level = 1; level <= levels; level++) {
+                MODWTResult result = received.get(block * levels + level - 1);
+                double[] detail = result.detailCoeffs();
+                assertEquals(bufferSize, result.getSignalLength());
+                for (int i = 0; i < bufferSize; i++) {
+                    assertEquals(expected.getDetailCoeffsAtLevel(level)[block * bufferSize + i], detail[i],
+                        EPSILON, "block " + block + " level " + level + " i=" + i);
+                }
+                if (level == levels) {
+                    double[] approx = result.approximationCoeffs();
+                    for (int i = 0; i < bufferSize; i++) {
+                        assertEquals(expected.getApproximationCoeffs()[block * bufferSize + i], approx[i], EPSILON);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Chunked and per-sample processing give the same coefficients")
+    void testChunkedMatchesPerSample() {
+        // Deep levels have histories longer than a chunk
+        int levels = 8;
+        double[] signal = randomSignal(5000, 4);
+        CausalMODWTStreamingTransform perSample = MODWTStreamingTransform.createCausal(Daubechies.DB4, levels);
+        CausalMODWTStreamingTransform chunked = MODWTStreamingTransform.createCausal(Daubechies.DB4, levels);
+
+        for (double sample : signal) {
+            perSample.processSample(sample);
+        }
+        // Longer than the internal chunk of a pyramid without subscribers
+        chunked.process(signal);
+
+        assertEquals(perSample.getSampleCount(), chunked.getSampleCount());
+        for (int level = 1; level <= levels; level++) {
+            assertEquals(perSample.getDetail(level), chunked.getDetail(level), EPSILON);
+            assertEquals(perSample.getApproximation(level), chunked.getApproximation(level), EPSILON);
+        }
+
+        // Both continue from the same history
+        perSample.processSample(0.25);
+        chunked.process(new double[]{0.25});
+        assertEquals(perSample.getApproximation(), chunked.getApproximation(), EPSILON);
+        perSample.close();
+        chunked.close();
+    }
+
+    @Test
+    @DisplayName("Statistics report latency and processing time per level")
+    void testPerLevelStatistics() {
+        int levels = 5;
+        MODWTStreamingTransform haar =
+            MODWTStreamingTransform.createMultiLevel(new Haar(), BoundaryMode.PERIODIC, 256, levels);
+        MODWTStreamingTransform.StreamingStatistics stats = haar.getStatistics();
+        assertEquals(levels, stats.getLevelCount());
+        for (int level = 1; level <= levels; level++) {
+            // Haar equivalent filters are linear phase, centred on their support
+            assertEquals(((1 << level) - 1) / 2.0, stats.getLevelLatencySamples(level), 1e-9);
+        }
+        assertEquals(0.0, stats.getLevelLatencySamples(levels + 1));
+
+        haar.process(randomSignal(4096, 2));
+        for (int level = 1; level <= levels; level++) {
+            assertTrue(stats.getLevelProcessingTimeNanos(level) > 0.0);
+        }
+        haar.close();
+
+        MODWTStreamingTransform db4 =
+            MODWTStreamingTransform.createMultiLevel(Daubechies.DB4, BoundaryMode.PERIODIC, 256, levels);
+        double previous = 0.0;
+        for (int level = 1; level <= levels; level++) {
+            double latency = db4.getStatistics().getLevelLatencySamples(level);
+            double support = 7.0 * ((1 << level) - 1);
+            assertTrue(latency > previous && latency < support, "level " + level + ": " + latency);
+            previous = latency;
+        }
+        db4.close();
+    }
+
+    @Test
+    @DisplayName("Concurrent producers do not corrupt the pyramid")
+    void testConcurrentProducers() throws InterruptedException {
+        int levels = 3;
+        int bufferSize = 64;
+        int threads = 4;
+        int chunksPerThread = 200;
+        MODWTStreamingTransform transform =
+            MODWTStreamingTransform.createMultiLevel(new Haar(), BoundaryMode.PERIODIC, bufferSize, levels);
+        List<MODWTResult> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = subscribe(transform, received);
+
+        // A constant signal keeps every settled coefficient constant, whatever the interleaving
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] producers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            producers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int c = 0; c < chunksPerThread; c++) {
+                    transform.process(new double[]{1.0, 1.0, 1.0});
+                    transform.processSample(1.0);
+                }
+            });
+            producers[i].start();
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        transform.close();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+
+        int samples = threads * chunksPerThread * 4;
+        assertEquals(samples, transform.getStatistics().getSamplesProcessed());
+        assertEquals(samples / bufferSize * levels, received.size());
+        for (int block = 1; block < received.size() / levels; block++) {
+            for (int j = 0; j < levels; j++) {
+                MODWTResult result = received.get(block * levels + j);
+                assertEquals(bufferSize, result.getSignalLength());
+                for (double d : result.detailCoeffs()) {
+                    assertEquals(0.0, d, EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testValidation() {
+        assertThrows(InvalidArgumentException.class,
+            () -> MODWTStreamingTransform.createMultiLevel(null, BoundaryMode.PERIODIC, 256, 2));
+        assertThrows(InvalidArgumentException.class,
+            () -> MODWTStreamingTransform.createMultiLevel(new Haar(), null, 256, 2));
+        assertThrows(InvalidArgumentException.class,
+            () -> MODWTStreamingTransform.createMultiLevel(new Haar(), BoundaryMode.PERIODIC, 0, 2));
+        assertThrows(InvalidArgumentException.class,
+            () -> MODWTStreamingTransform.createMultiLevel(new Haar(), BoundaryMode.PERIODIC, 256, 0));
+    }
+
+    private static CountDownLatch subscribe(MODWTStreamingTransform transform, List<MODWTResult> received) {
+        CountDownLatch completed = new CountDownLatch(1);
+        transform.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MODWTResult item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        return completed;
+    }
+
+    private static double[] randomSignal(int n, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 64.0) + 0.5 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
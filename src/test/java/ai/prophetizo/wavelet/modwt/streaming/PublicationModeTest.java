@@ -0,0 +1,124 @@
+package ai.prophetizo.wavelet.modwt.streaming;
+
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import ai.prophetizo.wavelet.modwt.MODWTResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PublicationMode} across the streaming publishers.
+ */
+class PublicationModeTest {
+
+    @Test
+    void testSynchronousDeliversBeforeProcessReturns() {
+        CausalMODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(
+            Daubechies.DB4, 2, 32, PublicationMode.synchronous());
+        List<Thread> threads = new ArrayList<>();
+        int[] frames = new int[1];
+        transform.subscribe(new Collector<>(item -> threads.add(Thread.currentThread())));
+        transform.subscribeFrames(new Collector<CoefficientFrame>(frame -> {
+            frames[0]++;
+            frame.release();
+        }));
+
+        transform.process(new double[64]);
+
+        // Two blocks, one result per level, all on this thread
+        assertEquals(4, threads.size());
+        for (Thread thread : threads) {
+            assertSame(Thread.currentThread(), thread);
+        }
+        assertEquals(2, frames[0]);
+        transform.close();
+    }
+
+    @Test
+    void testExecutorAndVirtualThreadModes() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "dedicated-subscriber"));
+        try {
+            assertEquals("dedicated-subscriber", deliveryThread(PublicationMode.executor(executor)).getName());
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(deliveryThread(PublicationMode.virtualThreads()).isVirtual());
+    }
+
+    @Test
+    void testDenoiserPublicationMode() {
+        MODWTStreamingDenoiser denoiser = new MODWTStreamingDenoiser.Builder()
+            .bufferSize(64)
+            .publicationMode(PublicationMode.synchronous())
+            .build();
+        List<double[]> blocks = new ArrayList<>();
+        denoiser.subscribe(new Collector<>(blocks::add));
+
+        denoiser.denoise(new double[64]);
+
+        assertEquals(1, blocks.size());
+        denoiser.close();
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(InvalidArgumentException.class, () -> PublicationMode.executor(null));
+        assertThrows(InvalidArgumentException.class, () -> PublicationMode.executor(Runnable::run, 0));
+        assertThrows(InvalidArgumentException.class,
+            () -> MODWTStreamingTransform.createCausal(Daubechies.DB4, 2, 32, null));
+        assertTrue(PublicationMode.synchronous().isSynchronous());
+        assertFalse(PublicationMode.commonPool().isSynchronous());
+    }
+
+    private static Thread deliveryThread(PublicationMode mode) throws InterruptedException {
+        MODWTStreamingTransform transform = MODWTStreamingTransform.createCausal(Daubechies.DB4, 1, 16, mode);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        transform.subscribe(new Collector<MODWTResult>(item -> {
+            thread.set(Thread.currentThread());
+            delivered.countDown();
+        }));
+        transform.process(new double[16]);
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        transform.close();
+        return thread.get();
+    }
+
+    private static final class Collector<T> implements Flow.Subscriber<T> {
+        private final Consumer<T> consumer;
+
+        Collector(Consumer<T> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            consumer.accept(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
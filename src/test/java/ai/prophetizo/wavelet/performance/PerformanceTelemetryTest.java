@@ -0,0 +1,116 @@
+package ai.prophetizo.wavelet.performance;
+
+import ai.prophetizo.wavelet.api.BoundaryMode;
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.modwt.MODWTTransform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the sampled, opt-in performance telemetry.
+ */
+@DisplayName("PerformanceTelemetry Test Suite")
+class PerformanceTelemetryTest {
+
+    @AfterEach
+    void tearDown() {
+        PerformanceTelemetry.flush();
+        PerformanceTelemetry.disable();
+    }
+
+    @Test
+    @DisplayName("Disabled telemetry never samples and records nothing from transforms")
+    void testDisabledByDefaultPath() {
+        PerformanceTelemetry.disable();
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(PerformanceTelemetry.sample());
+        }
+
+        PerformanceTelemetry.flush();
+        long before = PerformanceTelemetry.getMergedCount();
+        MODWTTransform transform = new MODWTTransform(Daubechies.DB4, BoundaryMode.PERIODIC);
+        double[] signal = new double[4096];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(i * 0.01);
+        }
+        for (int i = 0; i < 100; i++) {
+            transform.forward(signal);
+        }
+        PerformanceTelemetry.flush();
+        assertEquals(before, PerformanceTelemetry.getMergedCount());
+    }
+
+    @Test
+    @DisplayName("Sampling interval is rounded up to a power of two and validated")
+    void testSamplingInterval() {
+        PerformanceTelemetry.enable(3);
+        assertEquals(4, PerformanceTelemetry.getSamplingInterval());
+        PerformanceTelemetry.enable(64);
+        assertEquals(64, PerformanceTelemetry.getSamplingInterval());
+        PerformanceTelemetry.enable();
+        assertEquals(PerformanceTelemetry.DEFAULT_SAMPLING_INTERVAL, PerformanceTelemetry.getSamplingInterval());
+
+        assertThrows(IllegalArgumentException.class, () -> PerformanceTelemetry.enable(0));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceTelemetry.enable(-8));
+    }
+
+    @Test
+    @DisplayName("One call in every sampling interval is sampled per thread")
+    void testSamplingRate() {
+        PerformanceTelemetry.enable(8);
+        int sampled = 0;
+        for (int i = 0; i < 800; i++) {
+            if (PerformanceTelemetry.sample()) {
+                sampled++;
+            }
+        }
+        assertEquals(100, sampled);
+    }
+
+    @Test
+    @DisplayName("Buffered measurements are merged on flush")
+    void testFlushMergesBufferedMeasurements() {
+        PerformanceTelemetry.enable(1);
+        PerformanceTelemetry.flush();
+        long before = PerformanceTelemetry.getMergedCount();
+
+        for (int i = 0; i < 40; i++) {
+            PerformanceTelemetry.record("MODWT", 1024, 50_000, false);
+        }
+        PerformanceTelemetry.flush();
+
+        assertEquals(before + 40, PerformanceTelemetry.getMergedCount());
+    }
+
+    @Test
+    @DisplayName("Full per-thread batches from many threads are all merged")
+    void testConcurrentRecording() throws InterruptedException {
+        PerformanceTelemetry.enable(1);
+        PerformanceTelemetry.flush();
+        long before = PerformanceTelemetry.getMergedCount() + PerformanceTelemetry.getDroppedCount();
+
+        int threads = 4;
+        int perThread = 64; // two full batches per thread
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (PerformanceTelemetry.sample()) {
+                        PerformanceTelemetry.record("MODWT", 2048, 80_000, true);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        PerformanceTelemetry.flush();
+
+        assertEquals(before + (long) threads * perThread,
+            PerformanceTelemetry.getMergedCount() + PerformanceTelemetry.getDroppedCount());
+    }
+}
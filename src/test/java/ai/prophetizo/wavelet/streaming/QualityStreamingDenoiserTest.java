@@ -0,0 +1,172 @@
+package ai.prophetizo.wavelet.streaming;
+
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.memory.CoefficientFrame;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the weighted overlap-add stage of {@link QualityStreamingDenoiser}.
+ */
+class QualityStreamingDenoiserTest {
+
+    @Test
+    void testOutputMatchesInputLengthAfterFlush() throws Exception {
+        StreamingDenoiserConfig config = new StreamingDenoiserConfig.Builder()
+            .wavelet(Daubechies.DB4)
+            .blockSize(256)
+            .hopSize(64)
+            .build();
+        double[] signal = new double[1000];
+        Random random = new Random(3);
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = random.nextGaussian();
+        }
+
+        double[] output = run(config, signal, 100);
+
+        assertEquals(signal.length, output.length);
+    }
+
+    @Test
+    void testConstantSignalPassesThrough() throws Exception {
+        StreamingDenoiserConfig config = new StreamingDenoiserConfig.Builder()
+            .wavelet(Daubechies.DB4)
+            .blockSize(128)
+            .overlapFactor(0.5)
+            .build();
+        double[] signal = new double[1024];
+        Arrays.fill(signal, 2.5);
+
+        double[] output = run(config, signal, 128);
+
+        // Away from the zero-padded start and end, the overlapped windows sum to one
+        for (int i = 128; i < signal.length - 128; i++) {
+            assertEquals(2.5, output[i], 1e-9, "Sample " + i);
+        }
+    }
+
+    @Test
+    void testOverlapReducesError() throws Exception {
+        double[] clean = new double[4096];
+        double[] noisy = new double[clean.length];
+        Random random = new Random(11);
+        for (int i = 0; i < clean.length; i++) {
+            clean[i] = Math.sin(2 * Math.PI * i / 300.0);
+            noisy[i] = clean[i] + 0.2 * random.nextGaussian();
+        }
+
+        double[] blocked = run(new StreamingDenoiserConfig.Builder()
+            .blockSize(256).overlapFactor(0.0).build(), noisy, 256);
+        double[] overlapped = run(new StreamingDenoiserConfig.Builder()
+            .blockSize(256).overlapFactor(0.75).build(), noisy, 256);
+
+        assertEquals(noisy.length, overlapped.length);
+        assertTrue(rmse(overlapped, clean, 256) < rmse(blocked, clean, 256),
+            "Overlap-add should not be worse than independent blocks");
+    }
+
+    @Test
+    void testFramesCarrySameOutputAsArrays() throws Exception {
+        StreamingDenoiserConfig config = new StreamingDenoiserConfig.Builder()
+            .blockSize(128)
+            .overlapFactor(0.5)
+            .build();
+        double[] signal = new double[640];
+        Random random = new Random(5);
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = random.nextGaussian();
+        }
+
+        double[] fromArrays = run(config, signal, 64);
+
+        double[] fromFrames = new double[signal.length];
+        int[] received = new int[1];
+        CountDownLatch done = new CountDownLatch(1);
+        QualityStreamingDenoiser denoiser = new QualityStreamingDenoiser(config);
+        denoiser.subscribeFrames(new Flow.Subscriber<CoefficientFrame>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(CoefficientFrame frame) {
+                System.arraycopy(frame.row(0), 0, fromFrames, received[0], frame.length());
+                received[0] += frame.length();
+                frame.release();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        denoiser.process(signal);
+        denoiser.flush();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(signal.length, received[0]);
+        assertArrayEquals(fromArrays, fromFrames, 1e-12);
+    }
+
+    private static double[] run(StreamingDenoiserConfig config, double[] signal, int chunk)
+            throws InterruptedException {
+        double[] output = new double[signal.length + 1];
+        int[] received = new int[1];
+        CountDownLatch done = new CountDownLatch(1);
+        QualityStreamingDenoiser denoiser = new QualityStreamingDenoiser(config);
+        denoiser.subscribe(new Flow.Subscriber<double[]>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(double[] item) {
+                int n = Math.min(item.length, output.length - received[0]);
+                System.arraycopy(item, 0, output, received[0], n);
+                received[0] += item.length;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        for (int pos = 0; pos < signal.length; pos += chunk) {
+            denoiser.process(Arrays.copyOfRange(signal, pos, Math.min(pos + chunk, signal.length)));
+        }
+        denoiser.flush();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        return Arrays.copyOf(output, received[0]);
+    }
+
+    private static double rmse(double[] actual, double[] expected, int margin) {
+        double sum = 0;
+        int count = 0;
+        for (int i = margin; i < expected.length - margin; i++) {
+            double d = actual[i] - expected[i];
+            sum += d * d;
+            count++;
+        }
+        return Math.sqrt(sum / count);
+    }
+}
@@ -261,6 +261,22 @@ public class StreamingDenoiserConfigTest {
         assertTrue(str.contains("1.00"));
     }
     
+    @Test
+    @DisplayName("Test hop size derived from overlap and set explicitly")
+    void testHopSize() {
+        assertEquals(128, new StreamingDenoiserConfig.Builder()
+            .blockSize(256).overlapFactor(0.5).build().getHopSize());
+        assertEquals(256, new StreamingDenoiserConfig.Builder()
+            .blockSize(256).overlapFactor(0.0).build().getHopSize());
+        assertEquals(64, new StreamingDenoiserConfig.Builder()
+            .blockSize(256).hopSize(64).build().getHopSize());
+        
+        assertThrows(InvalidArgumentException.class, () ->
+            new StreamingDenoiserConfig.Builder().hopSize(0));
+        assertThrows(InvalidArgumentException.class, () ->
+            new StreamingDenoiserConfig.Builder().blockSize(256).hopSize(512).build());
+    }
+    
     @Test
     @DisplayName("Test valid overlap factors")
     void testValidOverlapFactors() {
@@ -0,0 +1,122 @@
+package ai.prophetizo.wavelet.streaming;
+
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.concurrent.BackpressurePolicy;
+import ai.prophetizo.wavelet.exception.InvalidStateException;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StreamingIngestor}.
+ */
+class StreamingIngestorTest {
+
+    @Test
+    void testTransformMatchesDirectFeeding() {
+        double[] signal = new double[5000];
+        Random random = new Random(7);
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = random.nextGaussian();
+        }
+
+        try (CausalMODWTStreamingTransform direct = MODWTStreamingTransform.createCausal(Daubechies.DB4, 3);
+             CausalMODWTStreamingTransform ingested = MODWTStreamingTransform.createCausal(Daubechies.DB4, 3)) {
+            for (double sample : signal) {
+                direct.processSample(sample);
+            }
+            try (StreamingIngestor ingestor = StreamingIngestor.builder(ingested)
+                    .capacity(256)
+                    .chunkSize(64)
+                    .policy(BackpressurePolicy.BLOCK)
+                    .build()) {
+                for (double sample : signal) {
+                    assertTrue(ingestor.offer(sample));
+                }
+            }
+
+            assertEquals(signal.length, ingested.getSampleCount());
+            for (int level = 1; level <= 3; level++) {
+                assertEquals(direct.getDetail(level), ingested.getDetail(level), 1e-12);
+                assertEquals(direct.getApproximation(level), ingested.getApproximation(level), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void testFullChunksOnlyForDenoiser() throws Exception {
+        StreamingDenoiserConfig config = new StreamingDenoiserConfig.Builder()
+            .wavelet(Daubechies.DB4)
+            .blockSize(128)
+            .overlapFactor(0.0)
+            .build();
+        List<Integer> blockLengths = new ArrayList<>();
+        StreamingDenoiserStrategy denoiser = StreamingDenoiserFactory.getInstance().create(config);
+        StreamingDenoiserStrategy recording = new StreamingDenoiserStrategy() {
+            @Override
+            public void process(double[] samples) {
+                blockLengths.add(samples.length);
+                denoiser.process(samples);
+            }
+            @Override
+            public void flush() { denoiser.flush(); }
+            @Override
+            public PerformanceProfile getPerformanceProfile() { return denoiser.getPerformanceProfile(); }
+            @Override
+            public MODWTStreamingTransform.StreamingStatistics getStatistics() { return denoiser.getStatistics(); }
+            @Override
+            public void subscribe(java.util.concurrent.Flow.Subscriber<? super double[]> subscriber) {
+                denoiser.subscribe(subscriber);
+            }
+            @Override
+            public void close() { denoiser.close(); }
+        };
+
+        try (recording) {
+            try (StreamingIngestor ingestor = StreamingIngestor.builder(recording)
+                    .chunkSize(128)
+                    .policy(BackpressurePolicy.BLOCK)
+                    .build()) {
+                for (int i = 0; i < 1000; i++) {
+                    ingestor.offer(Math.sin(i * 0.05));
+                }
+            }
+        }
+
+        // 7 full blocks, then the 104-sample remainder on close
+        assertEquals(8, blockLengths.size());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(128, blockLengths.get(i).intValue());
+        }
+        assertEquals(104, blockLengths.get(7).intValue());
+    }
+
+    @Test
+    void testSinkFailureIsRecordedAndDrainingContinues() {
+        List<Double> received = new ArrayList<>();
+        RuntimeException boom = new RuntimeException("boom");
+        StreamingIngestor ingestor = StreamingIngestor.builder((samples, length) -> {
+                for (int i = 0; i < length; i++) {
+                    received.add(samples[i]);
+                }
+                throw boom;
+            })
+            .policy(BackpressurePolicy.BLOCK)
+            .build();
+        for (int i = 0; i < 100; i++) {
+            ingestor.offer(i);
+        }
+        ingestor.close();
+
+        assertSame(boom, ingestor.getFailure());
+        assertEquals(100, received.size());
+        assertEquals(0, ingestor.getQueuedCount());
+        assertThrows(InvalidStateException.class, () -> ingestor.offer(1.0));
+    }
+}
@@ -0,0 +1,158 @@
+package ai.prophetizo.wavelet.streaming;
+
+import ai.prophetizo.wavelet.api.Daubechies;
+import ai.prophetizo.wavelet.cwt.CWTConfig;
+import ai.prophetizo.wavelet.cwt.CWTResult;
+import ai.prophetizo.wavelet.cwt.CWTTransform;
+import ai.prophetizo.wavelet.cwt.MorletWavelet;
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import ai.prophetizo.wavelet.modwt.MultiLevelMODWTResult;
+import ai.prophetizo.wavelet.modwt.streaming.CausalMODWTStreamingTransform;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingDenoiser;
+import ai.prophetizo.wavelet.modwt.streaming.MODWTStreamingTransform;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the lazy chunked stages in {@link WaveletStreams}.
+ */
+class WaveletStreamsTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    void testModwtMatchesCausalTransform() {
+        double[] signal = randomSignal(1000, 7);
+        int levels = 3;
+        CausalMODWTStreamingTransform reference = MODWTStreamingTransform.createCausal(Daubechies.DB4, levels);
+        double[][] expected = new double[levels][signal.length];
+        double[] details = new double[levels];
+        for (int t = 0; t < signal.length; t++) {
+            reference.processSample(signal[t], details);
+            for (int level = 0; level < levels; level++) {
+                expected[level][t] = details[level];
+            }
+        }
+        reference.close();
+
+        List<MultiLevelMODWTResult> streamed =
+            WaveletStreams.modwt(WaveletStreams.chunks(DoubleStream.of(signal), 96), Daubechies.DB4, levels).toList();
+        List<MultiLevelMODWTResult> parallel =
+            WaveletStreams.modwt(signal, Daubechies.DB4, levels, 96).parallel().toList();
+
+        assertEquals(11, streamed.size());
+        assertEquals(11, parallel.size());
+        int t = 0;
+        for (int chunk = 0; chunk < streamed.size(); chunk++) {
+            int length = streamed.get(chunk).getSignalLength();
+            for (int level = 1; level <= levels; level++) {
+                double[] sequential = streamed.get(chunk).getDetailCoeffsAtLevel(level);
+                assertArrayEquals(sequential, parallel.get(chunk).getDetailCoeffsAtLevel(level), 0.0);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(expected[level - 1][t + i], sequential[i], EPSILON);
+                }
+            }
+            assertArrayEquals(streamed.get(chunk).getApproximationCoeffs(),
+                parallel.get(chunk).getApproximationCoeffs(), 0.0);
+            t += length;
+        }
+        assertEquals(signal.length, t);
+    }
+
+    @Test
+    void testChunksAreLazy() {
+        Random random = new Random(1);
+        // An unbounded source: only the chunks actually consumed are ever generated
+        List<MultiLevelMODWTResult> first = WaveletStreams.modwt(
+                WaveletStreams.chunks(DoubleStream.generate(random::nextGaussian), 64), Daubechies.DB4, 2)
+            .limit(3)
+            .toList();
+
+        assertEquals(3, first.size());
+        assertEquals(64, first.get(2).getSignalLength());
+    }
+
+    @Test
+    void testCwtMatchesWholeSignalAnalysis() {
+        double[] signal = randomSignal(700, 11);
+        double[] scales = {2, 4, 8};
+        CWTTransform transform = new CWTTransform(new MorletWavelet(),
+            CWTConfig.builder().enableFFT(false).build());
+        double[][] expected = transform.analyze(signal, scales).getCoefficients();
+
+        List<CWTResult> streamed =
+            WaveletStreams.cwt(WaveletStreams.chunks(DoubleStream.of(signal), 50), transform, scales).toList();
+        List<CWTResult> parallel = WaveletStreams.cwt(signal, transform, scales, 50).parallel().toList();
+
+        assertEquals(14, streamed.size());
+        assertEquals(14, parallel.size());
+        for (int s = 0; s < scales.length; s++) {
+            int scale = s;
+            double[] joined = streamed.stream()
+                .flatMapToDouble(result -> Arrays.stream(result.getCoefficients()[scale]))
+                .toArray();
+            double[] joinedParallel = parallel.stream()
+                .flatMapToDouble(result -> Arrays.stream(result.getCoefficients()[scale]))
+                .toArray();
+            assertArrayEquals(expected[s], joined, EPSILON);
+            assertArrayEquals(expected[s], joinedParallel, EPSILON);
+        }
+    }
+
+    @Test
+    void testAnalyzeStreamHonorsStreamGatherersFlag() {
+        double[] signal = randomSignal(300, 13);
+        double[] scales = {2, 4};
+
+        CWTTransform lazy = new CWTTransform(new MorletWavelet(), CWTConfig.forRealTimeProcessing());
+        assertEquals(6, lazy.analyzeStream(WaveletStreams.chunks(DoubleStream.of(signal), 50), scales).count());
+
+        CWTTransform batch = new CWTTransform(new MorletWavelet(), CWTConfig.forBatchProcessing());
+        List<CWTResult> whole = batch.analyzeStream(WaveletStreams.chunks(DoubleStream.of(signal), 50), scales).toList();
+        assertEquals(1, whole.size());
+        assertEquals(signal.length, whole.get(0).getCoefficients()[0].length);
+    }
+
+    @Test
+    void testDenoiseMatchesDenoiser() {
+        double[] signal = randomSignal(512, 17);
+        MODWTStreamingDenoiser streamed = new MODWTStreamingDenoiser.Builder().bufferSize(128).build();
+        MODWTStreamingDenoiser direct = new MODWTStreamingDenoiser.Builder().bufferSize(128).build();
+
+        List<double[]> blocks = WaveletStreams.denoise(
+            WaveletStreams.chunks(DoubleStream.of(signal), 128), streamed).toList();
+
+        assertEquals(4, blocks.size());
+        for (int b = 0; b < blocks.size(); b++) {
+            double[] expected = direct.denoise(Arrays.copyOfRange(signal, b * 128, (b + 1) * 128));
+            assertArrayEquals(expected, blocks.get(b), 0.0);
+        }
+        streamed.close();
+        direct.close();
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(InvalidArgumentException.class, () -> WaveletStreams.chunks(DoubleStream.empty(), 0));
+        assertThrows(InvalidArgumentException.class, () -> WaveletStreams.modwt(new double[0], Daubechies.DB4, 2, 8));
+        assertThrows(InvalidArgumentException.class, () -> WaveletStreams.denoise(Stream.empty(), null));
+        assertThrows(InvalidArgumentException.class,
+            () -> WaveletStreams.cwt(Stream.empty(), new CWTTransform(new MorletWavelet()), new double[0]));
+    }
+
+    private static double[] randomSignal(int length, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * i / 37.0) + 0.3 * random.nextGaussian();
+        }
+        return signal;
+    }
+}
@@ -1,6 +1,10 @@
 package ai.prophetizo.wavelet.util;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MathUtilsTest {
@@ -167,4 +171,56 @@ class MathUtilsTest {
         assertThrows(IllegalArgumentException.class, 
             () -> MathUtils.standardDeviation(new double[]{1.0}));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSelectionMatchesSort() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 300; trial++) {
+            int n = 1 + random.nextInt(trial < 150 ? 40 : 5000);
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                // Every third trial draws from a handful of values to exercise ties
+                values[i] = trial % 3 == 0 ? random.nextInt(4) : random.nextGaussian();
+            }
+            if (trial % 7 == 0) {
+                // NaN orders above everything, as in Arrays.sort
+                values[random.nextInt(n)] = Double.NaN;
+            }
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expectedMedian = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+            int k = random.nextInt(n);
+            
+            assertEquals(sorted[k], MathUtils.select(values.clone(), 0, n, k), 0.0);
+            assertEquals(expectedMedian, MathUtils.medianInPlace(values.clone(), 0, n), 0.0);
+            
+            double[] deviations = new double[n];
+            for (int i = 0; i < n; i++) {
+                deviations[i] = Math.abs(values[i] - expectedMedian);
+            }
+            Arrays.sort(deviations);
+            double expectedMad = n % 2 == 1 ? deviations[n / 2] : (deviations[n / 2 - 1] + deviations[n / 2]) / 2.0;
+            assertEquals(expectedMad, MathUtils.medianAbsoluteDeviationInPlace(values.clone(), 0, n), 0.0);
+        }
+    }
+    
+    @Test
+    void testInPlaceRangesAndAbs() {
+        double[] values = {100.0, 3.0, -1.0, 2.0, 5.0, -100.0};
+        // Only [1, 5) takes part: {3, -1, 2, 5}
+        assertEquals(2.5, MathUtils.medianInPlace(values, 1, 5), DELTA);
+        assertEquals(100.0, values[0], 0.0);
+        assertEquals(-100.0, values[5], 0.0);
+        
+        double[] source = {-1.5, 2.0, -0.0, -3.0, 4.0, -5.0, 6.0, -7.0, 8.0, -9.0, 10.0};
+        double[] abs = new double[source.length];
+        MathUtils.abs(source, abs, source.length);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(Math.abs(source[i]), abs[i], 0.0);
+        }
+        
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.medianInPlace(values, 3, 3));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.select(values, 0, 4, 4));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.abs(source, new double[2], 3));
+    }
+}
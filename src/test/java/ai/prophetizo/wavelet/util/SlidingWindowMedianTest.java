@@ -0,0 +1,108 @@
+package ai.prophetizo.wavelet.util;
+
+import ai.prophetizo.wavelet.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowMedianTest {
+
+    private static final double DELTA = 1e-12;
+
+    @Test
+    void testExactMatchesRecomputation() {
+        for (int windowSize : new int[] {1, 2, 5, 64, 257}) {
+            SlidingWindowMedian window = new SlidingWindowMedian(windowSize);
+            double[] recent = new double[windowSize];
+            Random random = new Random(windowSize);
+            for (int i = 0; i < 1500; i++) {
+                // Rounded values exercise duplicates
+                double value = Math.rint(random.nextGaussian() * 8) / 4;
+                window.add(value);
+                recent[i % windowSize] = value;
+
+                int n = Math.min(i + 1, windowSize);
+                double[] contents = Arrays.copyOf(recent, n);
+                assertEquals(n, window.size());
+                assertEquals(MathUtils.median(contents.clone()), window.median(), DELTA);
+                assertEquals(MathUtils.medianAbsoluteDeviation(contents),
+                    window.medianAbsoluteDeviation(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    void testEmptyAndClear() {
+        SlidingWindowMedian window = new SlidingWindowMedian(8);
+        assertEquals(0.0, window.median());
+        assertEquals(0.0, window.medianAbsoluteDeviation());
+
+        window.add(new double[] {3, 1, 2}, 0, 3);
+        assertEquals(2.0, window.median());
+        window.clear();
+        assertEquals(0, window.size());
+        window.add(5);
+        assertEquals(5.0, window.median());
+    }
+
+    @Test
+    void testNonFiniteValues() {
+        SlidingWindowMedian window = new SlidingWindowMedian(4);
+        window.add(Double.NaN);
+        assertEquals(0, window.size());
+        window.add(Double.POSITIVE_INFINITY);
+        window.add(1.0);
+        window.add(2.0);
+        assertEquals(2.0, window.median());
+    }
+
+    @Test
+    void testApproximateTracksGaussianScale() {
+        SlidingWindowMedian window = new SlidingWindowMedian(4096, SlidingWindowMedian.Mode.APPROXIMATE);
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            window.add(Math.abs(2.0 * random.nextGaussian()));
+        }
+        // Median of |N(0, 4)| is 0.6745 * 2
+        assertEquals(0.6745 * 2.0, window.median(), 0.1);
+
+        // A change of scale is picked up within one window
+        for (int i = 0; i < 4096; i++) {
+            window.add(Math.abs(0.5 * random.nextGaussian()));
+        }
+        assertEquals(0.6745 * 0.5, window.median(), 0.05);
+        assertTrue(window.medianAbsoluteDeviation() > 0);
+    }
+
+    @Test
+    void testApproximateIsExactDuringWarmUp() {
+        // A window too small for the estimators is summarized exactly
+        SlidingWindowMedian small = new SlidingWindowMedian(3, SlidingWindowMedian.Mode.APPROXIMATE);
+        small.add(new double[] {0, 1, 2}, 0, 3);
+        assertEquals(1.0, small.median(), DELTA);
+        assertEquals(1.0, small.medianAbsoluteDeviation(), DELTA);
+        // The completed window answers until the next one is half full
+        small.add(10);
+        assertEquals(1.0, small.median(), DELTA);
+        assertEquals(1.0, small.medianAbsoluteDeviation(), DELTA);
+
+        // Up to and including the fifth value, every query equals the exact statistics
+        SlidingWindowMedian window = new SlidingWindowMedian(64, SlidingWindowMedian.Mode.APPROXIMATE);
+        double[] values = {4, -1, 7, 2, 3};
+        for (int n = 1; n <= values.length; n++) {
+            window.add(values[n - 1]);
+            double[] contents = Arrays.copyOf(values, n);
+            assertEquals(MathUtils.median(contents.clone()), window.median(), DELTA);
+            assertEquals(MathUtils.medianAbsoluteDeviation(contents), window.medianAbsoluteDeviation(), DELTA);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(InvalidArgumentException.class, () -> new SlidingWindowMedian(0));
+        assertThrows(InvalidArgumentException.class, () -> new SlidingWindowMedian(8, null));
+    }
+}